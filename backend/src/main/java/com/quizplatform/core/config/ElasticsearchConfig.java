@@ -11,19 +11,19 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
-import org.springframework.data.elasticsearch.repository.config.EnableElasticsearchRepositories;
 
 /**
  * Elasticsearch 검색 엔진 설정 클래스
  * 
  * <p>Elasticsearch 연결 및 검색 기능 사용을 위한 설정을 담당합니다.
- * REST 클라이언트, 트랜스포트, 클라이언트, 템플릿 등을 구성합니다.</p>
+ * REST 클라이언트, 트랜스포트, 클라이언트, 템플릿 등을 구성합니다.
+ * 퀴즈 검색 색인은 Spring Data 리포지토리 대신 {@link ElasticsearchClient}를 직접 사용합니다.
+ * (quiz.search.engine=elasticsearch)</p>
  * 
  * @author 채기훈
  * @since JDK 21 eclipse temurin 21.0.6
  */
 @Configuration
-@EnableElasticsearchRepositories(basePackages = "com.quizplatform.modules.search.domain.out.persistence")
 public class ElasticsearchConfig {
 
     @Value("${spring.elasticsearch.uris}")
@@ -0,0 +1,74 @@
+package com.quizplatform.core.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * 스케줄링 스레드 풀 설정 클래스
+ * 
+ * <p>{@code @Scheduled} 작업이 WebSocket 하트비트 스케줄러(단일 스레드)를 함께 쓰지 않도록 전용 스케줄러를 등록합니다.</p>
+ * <ul>
+ *     <li>taskScheduler: 주기가 짧고 가벼운 작업 (재접속 만료, 관전 브로드캐스트, 토너먼트 진행, 각종 flush/poll)</li>
+ *     <li>batchTaskScheduler: 전체 테이블을 읽거나 갱신하는 무거운 재계산 작업 (인기 순위, 이웃 모델)
+ *     - {@code @Scheduled(scheduler = "batchTaskScheduler")}로 지정</li>
+ * </ul>
+ * 
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+@Configuration
+@Slf4j
+public class SchedulingConfig implements SchedulingConfigurer {
+
+    /**
+     * 배치 스케줄러 빈 이름
+     */
+    public static final String BATCH_TASK_SCHEDULER = "batchTaskScheduler";
+
+    @Value("${scheduling.pool-size:8}")
+    private int poolSize;
+
+    @Value("${scheduling.batch-pool-size:2}")
+    private int batchPoolSize;
+
+    /**
+     * 기본 {@code @Scheduled} 작업 스케줄러
+     * 
+     * @return ThreadPoolTaskScheduler
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        return buildScheduler(poolSize, "scheduled-");
+    }
+
+    /**
+     * 무거운 재계산 작업 전용 스케줄러 (가벼운 주기 작업의 지연을 막기 위해 분리)
+     * 
+     * @return ThreadPoolTaskScheduler
+     */
+    @Bean(name = BATCH_TASK_SCHEDULER)
+    public ThreadPoolTaskScheduler batchTaskScheduler() {
+        return buildScheduler(batchPoolSize, "batch-");
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.setTaskScheduler(taskScheduler());
+    }
+
+    private ThreadPoolTaskScheduler buildScheduler(int size, String threadNamePrefix) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(size);
+        scheduler.setThreadNamePrefix(threadNamePrefix);
+        // 한 작업의 예외가 스케줄러 스레드를 멈추지 않도록 로그만 남김
+        scheduler.setErrorHandler(throwable -> log.error("예약 작업 실패: {}", throwable.getMessage(), throwable));
+        scheduler.setWaitForTasksToCompleteOnShutdown(false);
+        log.info("스케줄러 생성: prefix={}, poolSize={}", threadNamePrefix, size);
+        return scheduler;
+    }
+}
@@ -64,6 +64,7 @@ public class SecurityConfig {
             "/api/quizzes/**",
             "/oauth2/**",
             "/ws-battle/**",  // WebSocket 엔드포인트
+            "/ws-battle-native/**",  // 네이티브 WebSocket 엔드포인트 (SockJS 미사용)
             "/topic/**",      // STOMP 구독 경로
             "/app/**"         // STOMP 메시지 발행 경로
     };
@@ -0,0 +1,141 @@
+package com.quizplatform.core.config.websocket;
+
+import com.quizplatform.core.dto.battle.BattleNextQuestionResponse;
+import com.quizplatform.core.dto.battle.BattleProgressResponse;
+import org.springframework.util.MimeType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 배틀 메시지 축약(compact) 인코딩 스키마
+ * 
+ * <p>필드명을 제거한 위치 기반 JSON 배열로 배틀 메시지를 표현합니다.
+ * SockJS 텍스트 프레임에서도 그대로 전송 가능하며, 지원하지 않는 타입은 JSON으로 전송됩니다.</p>
+ * 
+ * <ul>
+ *     <li>진행 상황: {@code [roomId, questionIndex, totalQuestions, remainingSeconds, status,
+ *     [[userId, score, correctAnswers, answeredCurrent(0/1), streak], ...]]}
+ *     (사용자 이름은 참가자 목록 메시지로 이미 전달되므로 생략)</li>
+ *     <li>다음 문제: {@code [questionId, questionText, questionType, options, timeLimit, points, flags]}
+ *     (flags: 1=마지막 문제, 2=게임 종료)</li>
+ * </ul>
+ * 
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+public final class BattleCompactCodec {
+
+    /**
+     * 축약 인코딩 MIME 타입
+     */
+    public static final MimeType COMPACT_MIME_TYPE = new MimeType("application", "vnd.quiz.battle-compact+json");
+
+    /**
+     * 클라이언트가 SUBSCRIBE 시 인코딩을 지정하는 STOMP 헤더
+     */
+    public static final String ENCODING_HEADER = "x-battle-encoding";
+
+    /**
+     * 축약 인코딩 헤더 값
+     */
+    public static final String COMPACT_ENCODING = "compact";
+
+    /**
+     * 축약 인코딩 구독자용 목적지 접미사
+     */
+    public static final String COMPACT_DESTINATION_SUFFIX = ".compact";
+
+    /**
+     * 축약 인코딩을 지원하는 배틀 하위 토픽
+     */
+    private static final Set<String> COMPACT_TOPICS = Set.of("progress", "question");
+
+    private static final String BATTLE_TOPIC_PREFIX = "/topic/battle/";
+
+    private static final int FLAG_LAST_QUESTION = 1;
+    private static final int FLAG_GAME_OVER = 2;
+
+    private BattleCompactCodec() {
+    }
+
+    /**
+     * 축약 인코딩 지원 여부 확인
+     * 
+     * @param payloadType 페이로드 타입
+     * @return 지원하면 true
+     */
+    public static boolean supports(Class<?> payloadType) {
+        return BattleProgressResponse.class.isAssignableFrom(payloadType)
+                || BattleNextQuestionResponse.class.isAssignableFrom(payloadType);
+    }
+
+    /**
+     * 축약 인코딩으로 구독 가능한 목적지인지 확인
+     * 
+     * @param destination 구독 목적지 (예: /topic/battle/1/progress)
+     * @return 축약 인코딩을 지원하는 배틀 토픽이면 true
+     */
+    public static boolean isCompactDestination(String destination) {
+        if (destination == null || !destination.startsWith(BATTLE_TOPIC_PREFIX)) {
+            return false;
+        }
+        String topic = destination.substring(destination.lastIndexOf('/') + 1);
+        return COMPACT_TOPICS.contains(topic);
+    }
+
+    /**
+     * 페이로드를 위치 기반 배열로 변환
+     * 
+     * @param payload 배틀 메시지
+     * @return 위치 기반 배열, 지원하지 않는 타입이면 null
+     */
+    public static List<Object> encode(Object payload) {
+        if (payload instanceof BattleProgressResponse progress) {
+            return encodeProgress(progress);
+        }
+        if (payload instanceof BattleNextQuestionResponse question) {
+            return encodeQuestion(question);
+        }
+        return null;
+    }
+
+    private static List<Object> encodeProgress(BattleProgressResponse progress) {
+        List<Object> participants = new ArrayList<>();
+        if (progress.getParticipantProgress() != null) {
+            progress.getParticipantProgress().values().forEach(p -> participants.add(Arrays.asList(
+                    p.getUserId(),
+                    p.getCurrentScore(),
+                    p.getCorrectAnswers(),
+                    p.isHasAnsweredCurrent() ? 1 : 0,
+                    p.getCurrentStreak()
+            )));
+        }
+
+        return Arrays.asList(
+                progress.getRoomId(),
+                progress.getCurrentQuestionIndex(),
+                progress.getTotalQuestions(),
+                progress.getRemainingTimeSeconds(),
+                progress.getStatus() != null ? progress.getStatus().name() : null,
+                participants
+        );
+    }
+
+    private static List<Object> encodeQuestion(BattleNextQuestionResponse question) {
+        int flags = (question.isLastQuestion() ? FLAG_LAST_QUESTION : 0)
+                | (question.isGameOver() ? FLAG_GAME_OVER : 0);
+
+        return Arrays.asList(
+                question.getQuestionId(),
+                question.getQuestionText(),
+                question.getQuestionType(),
+                question.getOptions(),
+                question.getTimeLimit(),
+                question.getPoints(),
+                flags
+        );
+    }
+}
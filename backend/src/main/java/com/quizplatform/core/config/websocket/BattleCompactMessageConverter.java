@@ -0,0 +1,51 @@
+package com.quizplatform.core.config.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.AbstractMessageConverter;
+import org.springframework.messaging.converter.MessageConversionException;
+
+/**
+ * 배틀 메시지 축약 인코딩 변환기
+ * 
+ * <p>contentType 헤더가 {@link BattleCompactCodec#COMPACT_MIME_TYPE}인 경우에만 동작하며,
+ * 배틀 진행 상황/다음 문제 메시지를 위치 기반 JSON 배열로 직렬화합니다.
+ * 헤더가 없는 메시지는 기존 Jackson 변환기가 그대로 처리합니다.</p>
+ * 
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+@Slf4j
+public class BattleCompactMessageConverter extends AbstractMessageConverter {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public BattleCompactMessageConverter() {
+        super(BattleCompactCodec.COMPACT_MIME_TYPE);
+        // contentType 헤더가 없는 메시지는 JSON 변환기로 넘김
+        setStrictContentTypeMatch(true);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return BattleCompactCodec.supports(clazz);
+    }
+
+    @Override
+    protected boolean canConvertFrom(Message<?> message, Class<?> targetClass) {
+        // 축약 인코딩은 서버 → 클라이언트 방향으로만 사용
+        return false;
+    }
+
+    @Override
+    protected Object convertToInternal(Object payload, MessageHeaders headers, Object conversionHint) {
+        try {
+            return objectMapper.writeValueAsBytes(BattleCompactCodec.encode(payload));
+        } catch (JsonProcessingException e) {
+            throw new MessageConversionException("배틀 메시지 축약 인코딩 실패: " + e.getOriginalMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.quizplatform.core.config.websocket;
+
+import com.quizplatform.core.service.battle.BattleSpectatorBroadcaster;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 배틀 메시지 인코딩 협상 인터셉터
+ * 
+ * <p>클라이언트가 배틀 진행 상황/문제 토픽 구독 시 {@code x-battle-encoding: compact} 헤더를 보내면
+ * 구독 목적지를 축약 인코딩 전용 목적지({@code .compact} 접미사)로 바꿉니다.
+ * 헤더가 없으면 기존과 동일하게 JSON 목적지를 구독합니다.</p>
+ * <p>관전자 토픽({@code /spectate}) 구독도 함께 등록하여 관전자가 있는 방에만 스냅샷을 보내도록 합니다.</p>
+ * 
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BattleEncodingInterceptor implements ChannelInterceptor {
+
+    private final BattleSubscriptionRegistry subscriptionRegistry;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        StompCommand command = accessor.getCommand();
+
+        if (command == null) {
+            return message;
+        }
+
+        switch (command) {
+            case SUBSCRIBE -> {
+                String destination = accessor.getDestination();
+                String encoding = accessor.getFirstNativeHeader(BattleCompactCodec.ENCODING_HEADER);
+
+                // 축약 인코딩을 지원하지 않는 토픽(status, end 등)은 헤더가 있어도 JSON으로 구독
+                if (BattleCompactCodec.isCompactDestination(destination)
+                        && BattleCompactCodec.COMPACT_ENCODING.equalsIgnoreCase(encoding)) {
+                    String compactDestination = destination + BattleCompactCodec.COMPACT_DESTINATION_SUFFIX;
+                    accessor.setDestination(compactDestination);
+                    subscriptionRegistry.register(accessor.getSessionId(), accessor.getSubscriptionId(), compactDestination);
+                    log.debug("축약 인코딩 구독: sessionId={}, destination={}", accessor.getSessionId(), compactDestination);
+                    return MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders());
+                }
+
+                if (isSpectateDestination(destination)) {
+                    subscriptionRegistry.register(accessor.getSessionId(), accessor.getSubscriptionId(), destination);
+                    log.debug("관전 구독: sessionId={}, destination={}", accessor.getSessionId(), destination);
+                }
+            }
+            case UNSUBSCRIBE -> subscriptionRegistry.unregister(accessor.getSessionId(), accessor.getSubscriptionId());
+            case DISCONNECT -> subscriptionRegistry.unregisterSession(accessor.getSessionId());
+            default -> {
+            }
+        }
+
+        return message;
+    }
+
+    private boolean isSpectateDestination(String destination) {
+        return destination != null && destination.startsWith("/topic/battle/")
+                && destination.endsWith("/" + BattleSpectatorBroadcaster.SPECTATE_TOPIC);
+    }
+}
@@ -0,0 +1,113 @@
+package com.quizplatform.core.config.websocket;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 배틀 목적지별 축약 인코딩/관전 구독 현황 관리 컴포넌트
+ * 
+ * <p>축약 인코딩 구독자나 관전자가 있는 목적지에만 메시지를 추가 전송하기 위해
+ * 세션/구독 ID별 목적지와 목적지별 구독자 수를 메모리에서 추적합니다.</p>
+ * 
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+@Component
+public class BattleSubscriptionRegistry {
+
+    /**
+     * 구독 정보 (sessionId:subscriptionId → 목적지)
+     */
+    private final Map<String, String> subscriptions = new ConcurrentHashMap<>();
+
+    /**
+     * 목적지별 구독자 수
+     */
+    private final Map<String, AtomicInteger> subscriberCounts = new ConcurrentHashMap<>();
+
+    /**
+     * 구독 등록
+     * 
+     * @param sessionId 웹소켓 세션 ID
+     * @param subscriptionId STOMP 구독 ID
+     * @param destination 구독 목적지
+     */
+    public void register(String sessionId, String subscriptionId, String destination) {
+        String previous = subscriptions.put(key(sessionId, subscriptionId), destination);
+        if (previous != null) {
+            decrement(previous);
+        }
+        subscriberCounts.computeIfAbsent(destination, d -> new AtomicInteger()).incrementAndGet();
+    }
+
+    /**
+     * 구독 해제
+     * 
+     * @param sessionId 웹소켓 세션 ID
+     * @param subscriptionId STOMP 구독 ID
+     */
+    public void unregister(String sessionId, String subscriptionId) {
+        String destination = subscriptions.remove(key(sessionId, subscriptionId));
+        if (destination != null) {
+            decrement(destination);
+        }
+    }
+
+    /**
+     * 세션의 모든 구독 해제
+     * 
+     * @param sessionId 웹소켓 세션 ID
+     */
+    public void unregisterSession(String sessionId) {
+        String prefix = sessionId + ":";
+        subscriptions.entrySet().removeIf(entry -> {
+            if (entry.getKey().startsWith(prefix)) {
+                decrement(entry.getValue());
+                return true;
+            }
+            return false;
+        });
+    }
+
+    /**
+     * 목적지에 구독자가 있는지 확인
+     * 
+     * @param destination 목적지
+     * @return 구독자가 한 명 이상이면 true
+     */
+    public boolean hasSubscribers(String destination) {
+        AtomicInteger count = subscriberCounts.get(destination);
+        return count != null && count.get() > 0;
+    }
+
+    /**
+     * 목적지의 구독자 수
+     * 
+     * @param destination 목적지
+     * @return 구독자 수
+     */
+    public int getSubscriberCount(String destination) {
+        AtomicInteger count = subscriberCounts.get(destination);
+        return count != null ? count.get() : 0;
+    }
+
+    /**
+     * 추적 중인 구독 수 (모니터링 용도)
+     * 
+     * @return 구독 수
+     */
+    public int getSubscriptionCount() {
+        return subscriptions.size();
+    }
+
+    private void decrement(String destination) {
+        subscriberCounts.computeIfPresent(destination, (d, count) -> count.decrementAndGet() <= 0 ? null : count);
+    }
+
+    private String key(String sessionId, String subscriptionId) {
+        return sessionId + ":" + subscriptionId;
+    }
+}
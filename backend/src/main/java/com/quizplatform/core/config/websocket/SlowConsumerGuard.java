@@ -0,0 +1,192 @@
+package com.quizplatform.core.config.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 느린 클라이언트(slow consumer) 보호 컴포넌트
+ * 
+ * <p>세션별로 아웃바운드 채널에 들어왔지만 아직 소켓으로 전송되지 않은 메시지 수를 추적합니다.
+ * 대기 메시지가 한도를 넘은 세션에는 진행 상황(progress)/관전 스냅샷처럼 최신 값만 의미 있는 메시지를 버리고,
+ * 문제/상태/종료처럼 유실되면 안 되는 메시지는 그대로 전송합니다.</p>
+ * 
+ * <ul>
+ *     <li>아웃바운드 채널 인터셉터: 메시지 적재 시 대기 수 증가, 한도 초과 시 버릴 수 있는 메시지 폐기</li>
+ *     <li>WebSocket 핸들러 데코레이터: 실제 소켓 전송 시 대기 수 감소</li>
+ * </ul>
+ * <p>송신 버퍼/시간 한도를 넘는 경우의 세션 종료는 기존과 같이 Spring의 전송 설정이 담당합니다.</p>
+ * 
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+@Slf4j
+@Component
+public class SlowConsumerGuard implements ChannelInterceptor, WebSocketHandlerDecoratorFactory {
+
+    /**
+     * 버릴 수 있는(최신 값으로 대체 가능한) 배틀 하위 토픽 접미사
+     */
+    private static final String[] DROPPABLE_SUFFIXES = {
+            "/progress",
+            "/progress" + BattleCompactCodec.COMPACT_DESTINATION_SUFFIX,
+            "/spectate"
+    };
+
+    /**
+     * 세션별 전송 대기 메시지 수
+     */
+    private final Map<String, AtomicInteger> pendingMessages = new ConcurrentHashMap<>();
+
+    private final LongAdder droppedMessages = new LongAdder();
+
+    /**
+     * 버릴 수 있는 메시지를 폐기하기 시작하는 세션별 대기 메시지 수
+     */
+    @Value("${battle.websocket.slow-consumer.max-pending-messages:32}")
+    private int maxPendingMessages;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE) {
+            return message;
+        }
+
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+        AtomicInteger pending = sessionId != null ? pendingMessages.get(sessionId) : null;
+        if (pending == null) {
+            return message;
+        }
+
+        if (pending.get() >= maxPendingMessages && isDroppable(SimpMessageHeaderAccessor.getDestination(headers))) {
+            droppedMessages.increment();
+            log.debug("느린 클라이언트 메시지 폐기: sessionId={}, 대기메시지={}, destination={}",
+                    sessionId, pending.get(), SimpMessageHeaderAccessor.getDestination(headers));
+            return null;
+        }
+
+        pending.incrementAndGet();
+        return message;
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                AtomicInteger pending = new AtomicInteger();
+                pendingMessages.put(session.getId(), pending);
+                super.afterConnectionEstablished(new PendingTrackingSession(session, pending));
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                pendingMessages.remove(session.getId());
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    /**
+     * 느린 클라이언트 관련 통계 조회
+     * 
+     * @return 추적 세션 수, 전체/최대 대기 메시지 수, 느린 세션 수, 폐기 메시지 수
+     */
+    public Map<String, Object> snapshot() {
+        int buffered = 0;
+        int maxBuffered = 0;
+        int slowSessions = 0;
+        for (AtomicInteger pending : pendingMessages.values()) {
+            int value = pending.get();
+            buffered += value;
+            maxBuffered = Math.max(maxBuffered, value);
+            if (value >= maxPendingMessages) {
+                slowSessions++;
+            }
+        }
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("trackedSessions", pendingMessages.size());
+        stats.put("bufferedMessages", buffered);
+        stats.put("maxBufferedMessages", maxBuffered);
+        stats.put("slowSessions", slowSessions);
+        stats.put("droppedMessages", droppedMessages.sum());
+        stats.put("maxPendingMessages", maxPendingMessages);
+        return stats;
+    }
+
+    private boolean isDroppable(String destination) {
+        if (destination == null) {
+            return false;
+        }
+        for (String suffix : DROPPABLE_SUFFIXES) {
+            if (destination.endsWith(suffix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 실제 소켓 전송 시점에 대기 메시지 수를 감소시키는 세션 데코레이터
+     */
+    private static class PendingTrackingSession extends WebSocketSessionDecorator {
+
+        private final AtomicInteger pending;
+
+        PendingTrackingSession(WebSocketSession session, AtomicInteger pending) {
+            super(session);
+            this.pending = pending;
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            try {
+                super.sendMessage(message);
+            } finally {
+                if (isMessageFrame(message)) {
+                    pending.updateAndGet(value -> value > 0 ? value - 1 : 0);
+                }
+            }
+        }
+
+        /**
+         * STOMP MESSAGE 프레임 여부 확인 (서버 프레임 중 "ME"로 시작하는 것은 MESSAGE뿐)
+         */
+        private boolean isMessageFrame(WebSocketMessage<?> message) {
+            if (message instanceof TextMessage textMessage) {
+                return textMessage.getPayload().startsWith("MESSAGE");
+            }
+            if (message instanceof BinaryMessage binaryMessage) {
+                ByteBuffer payload = binaryMessage.getPayload();
+                int position = payload.position();
+                return payload.remaining() > 1 && payload.get(position) == 'M' && payload.get(position + 1) == 'E';
+            }
+            return false;
+        }
+    }
+}
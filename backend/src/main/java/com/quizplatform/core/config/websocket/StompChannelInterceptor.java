@@ -2,6 +2,7 @@ package com.quizplatform.core.config.websocket;
 
 
 import com.quizplatform.core.dto.battle.BattleLeaveRequest;
+import com.quizplatform.core.service.battle.BattleReconnectManager;
 import com.quizplatform.core.service.battle.BattleService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,7 +21,8 @@ import jakarta.annotation.PostConstruct;
  * STOMP 채널 인터셉터 - 클라이언트 연결/해제 처리
  * 
  * <p>WebSocket 연결 시작/종료 이벤트를 감지하고 처리합니다.
- * 특히 사용자 연결 해제 시, 해당 사용자가 참여 중이던 배틀룸에서 자동으로 나가도록 처리합니다.</p>
+ * 사용자 연결 해제 시 즉시 배틀룸에서 나가지 않고 재연결 유예 상태로 전환하며,
+ * 유예 시간 내에 재접속하지 않은 경우에만 {@link BattleReconnectManager}가 나가기 처리를 수행합니다.</p>
  * 
  * @author 채기훈
  * @since JDK 21 eclipse temurin 21.0.6
@@ -39,6 +41,11 @@ public class StompChannelInterceptor implements ChannelInterceptor {
      */
     private final BattleService battleService;
 
+    /**
+     * 배틀 재연결 관리자
+     */
+    private final BattleReconnectManager battleReconnectManager;
+
     /**
      * 생성자
      * 
@@ -46,18 +53,22 @@ public class StompChannelInterceptor implements ChannelInterceptor {
      * 
      * @param applicationContext 애플리케이션 컨텍스트
      * @param battleService 배틀 서비스
+     * @param battleReconnectManager 배틀 재연결 관리자
      */
     @Autowired
-    public StompChannelInterceptor(ApplicationContext applicationContext, @Lazy BattleService battleService) {
+    public StompChannelInterceptor(ApplicationContext applicationContext, @Lazy BattleService battleService,
+                                   @Lazy BattleReconnectManager battleReconnectManager) {
         this.applicationContext = applicationContext;
         this.battleService = battleService;
+        this.battleReconnectManager = battleReconnectManager;
         log.info("StompChannelInterceptor: BattleService 지연 주입 설정 완료");
     }
 
     /**
      * 메시지 전송 완료 후 처리
      * 
-     * <p>클라이언트 연결 해제 시 호출되며, 사용자가 배틀룸에서 나가는 처리를 수행합니다.</p>
+     * <p>클라이언트 연결 해제 시 호출되며, 참가자를 재연결 유예 상태로 전환합니다.
+     * 세션 바인딩이 없는 경우에만 즉시 배틀룸 나가기 처리를 수행합니다.</p>
      * 
      * @param message 메시지
      * @param channel 메시지 채널
@@ -86,7 +97,12 @@ public class StompChannelInterceptor implements ChannelInterceptor {
                 log.info("사용자 연결 해제 처리: userId={}, roomId={}", userIdLong, roomIdLong);
 
                 try {
-                    // 배틀룸 나가기 처리
+                    // 재연결 유예 상태로 전환 (DB 반영 없음)
+                    if (battleReconnectManager.suspend(roomIdLong, userIdLong, sessionId)) {
+                        return;
+                    }
+
+                    // 세션 바인딩이 없으면 즉시 배틀룸 나가기 처리
                     BattleLeaveRequest request = new BattleLeaveRequest(roomIdLong, userIdLong);
                     battleService.leaveBattle(request, sessionId);
                 } catch (Exception e) {
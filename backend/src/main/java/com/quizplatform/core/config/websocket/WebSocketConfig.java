@@ -1,7 +1,9 @@
 package com.quizplatform.core.config.websocket;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.converter.MessageConverter;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.scheduling.TaskScheduler;
@@ -9,8 +11,11 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 import org.springframework.web.socket.server.support.HttpSessionHandshakeInterceptor;
 
+import java.util.List;
+
 /**
  * WebSocket 통신 설정 클래스
  * 
@@ -25,18 +30,80 @@ import org.springframework.web.socket.server.support.HttpSessionHandshakeInterce
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    /**
+     * SockJS 엔드포인트 (레거시 클라이언트용)
+     */
+    public static final String SOCKJS_ENDPOINT = "/ws-battle";
+
+    /**
+     * 네이티브 WebSocket 엔드포인트 (SockJS 폴백 없이 직접 연결)
+     */
+    public static final String NATIVE_ENDPOINT = "/ws-battle-native";
+
+    /**
+     * 허용된 Origin 목록
+     */
+    private static final String[] ALLOWED_ORIGINS = {
+            "http://localhost:5173",
+            "http://localhost:3000",
+            "http://ec2-13-125-187-28.ap-northeast-2.compute.amazonaws.com",
+            "http://13.125.187.28"
+    };
+
+    /**
+     * 수신 메시지 최대 크기 (바이트)
+     */
+    @Value("${battle.websocket.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    /**
+     * 세션별 송신 버퍼 최대 크기 (바이트)
+     */
+    @Value("${battle.websocket.send-buffer-size-limit:131072}")
+    private int sendBufferSizeLimit;
+
+    /**
+     * 단일 메시지 송신 최대 허용 시간 (밀리초)
+     */
+    @Value("${battle.websocket.send-time-limit:10000}")
+    private int sendTimeLimit;
+
     /**
      * STOMP 채널 인터셉터
      */
     private final StompChannelInterceptor stompChannelInterceptor;
 
+    /**
+     * 배틀 메시지 인코딩 협상 인터셉터
+     */
+    private final BattleEncodingInterceptor battleEncodingInterceptor;
+
+    /**
+     * WebSocket 아웃바운드 메시지 통계 수집기
+     */
+    private final WebSocketMetrics webSocketMetrics;
+
+    /**
+     * 느린 클라이언트 보호 컴포넌트
+     */
+    private final SlowConsumerGuard slowConsumerGuard;
+
     /**
      * 생성자
      * 
      * @param stompChannelInterceptor STOMP 채널 인터셉터
+     * @param battleEncodingInterceptor 배틀 메시지 인코딩 협상 인터셉터
+     * @param webSocketMetrics WebSocket 아웃바운드 메시지 통계 수집기
+     * @param slowConsumerGuard 느린 클라이언트 보호 컴포넌트
      */
-    public WebSocketConfig(StompChannelInterceptor stompChannelInterceptor) {
+    public WebSocketConfig(StompChannelInterceptor stompChannelInterceptor,
+                           BattleEncodingInterceptor battleEncodingInterceptor,
+                           WebSocketMetrics webSocketMetrics,
+                           SlowConsumerGuard slowConsumerGuard) {
         this.stompChannelInterceptor = stompChannelInterceptor;
+        this.battleEncodingInterceptor = battleEncodingInterceptor;
+        this.webSocketMetrics = webSocketMetrics;
+        this.slowConsumerGuard = slowConsumerGuard;
     }
 
     /**
@@ -64,36 +131,60 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     /**
      * 하트비트 스케줄러 등록
+     * STOMP 하트비트 전용이며, {@code @Scheduled} 작업은 {@code SchedulingConfig}의 스케줄러에서 실행됩니다.
      *
      * @return ThreadPoolTaskScheduler
      */
     @Bean
     public TaskScheduler heartbeatScheduler() {
-        return new ThreadPoolTaskScheduler();
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(2);
+        scheduler.setThreadNamePrefix("ws-heartbeat-");
+        return scheduler;
     }
 
     /**
      * STOMP 엔드포인트 등록
      * 
-     * <p>클라이언트가 WebSocket 연결을 맺을 수 있는 엔드포인트를 등록합니다.</p>
+     * <p>클라이언트가 WebSocket 연결을 맺을 수 있는 엔드포인트를 등록합니다.
+     * 최신 클라이언트는 네이티브 엔드포인트로 직접 연결하며(permessage-deflate 압축 협상),
+     * SockJS 엔드포인트는 레거시 클라이언트를 위해 유지합니다.</p>
      * 
      * @param registry STOMP 엔드포인트 레지스트리
      */
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
-        registry.addEndpoint("/ws-battle")
-                .setAllowedOrigins(
-                    "http://localhost:5173", 
-                    "http://localhost:3000",
-                    "http://ec2-13-125-187-28.ap-northeast-2.compute.amazonaws.com",
-                    "http://13.125.187.28"
-                )
+        // 네이티브 WebSocket 엔드포인트 (xhr-streaming/polling 폴백 없음)
+        registry.addEndpoint(NATIVE_ENDPOINT)
+                .setAllowedOrigins(ALLOWED_ORIGINS)
+                .addInterceptors(new HttpSessionHandshakeInterceptor());
+
+        // SockJS 엔드포인트 (레거시 클라이언트용)
+        registry.addEndpoint(SOCKJS_ENDPOINT)
+                .setAllowedOrigins(ALLOWED_ORIGINS)
                 .addInterceptors(new HttpSessionHandshakeInterceptor())
                 .withSockJS()
                 .setDisconnectDelay(30 * 1000)
                 .setClientLibraryUrl("https://cdn.jsdelivr.net/npm/sockjs-client@1/dist/sockjs.min.js");
     }
 
+    /**
+     * WebSocket 전송 설정
+     * 
+     * <p>메시지 크기, 세션별 송신 버퍼 크기, 송신 시간 제한을 설정합니다.
+     * 송신 버퍼를 줄여 느린 클라이언트가 서버 메모리를 과도하게 점유하지 않도록 하고,
+     * 세션별 전송 대기 메시지 추적을 위해 {@link SlowConsumerGuard}를 핸들러 데코레이터로 등록합니다.</p>
+     * 
+     * @param registration 전송 설정 등록 객체
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setMessageSizeLimit(messageSizeLimit)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setSendTimeLimit(sendTimeLimit)
+                .addDecoratorFactory(slowConsumerGuard);
+    }
+
     /**
      * 클라이언트 인바운드 채널 설정
      * 
@@ -103,6 +194,34 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
      */
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(stompChannelInterceptor);
+        registration.interceptors(stompChannelInterceptor, battleEncodingInterceptor);
+    }
+
+    /**
+     * 클라이언트 아웃바운드 채널 설정
+     * 
+     * <p>느린 클라이언트에 대한 메시지 폐기를 먼저 적용한 뒤,
+     * 실제로 전송되는 메시지의 인코딩별 크기 통계를 수집합니다.</p>
+     * 
+     * @param registration 채널 등록 객체
+     */
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(slowConsumerGuard, webSocketMetrics);
+    }
+
+    /**
+     * 메시지 변환기 설정
+     * 
+     * <p>배틀 메시지 축약 인코딩 변환기를 추가합니다.
+     * contentType이 축약 인코딩인 메시지에만 적용되며, 기본 JSON 변환기는 그대로 유지됩니다.</p>
+     * 
+     * @param messageConverters 메시지 변환기 목록
+     * @return 기본 변환기 추가 여부
+     */
+    @Override
+    public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
+        messageConverters.add(new BattleCompactMessageConverter());
+        return true;
     }
 }
\ No newline at end of file
@@ -0,0 +1,69 @@
+package com.quizplatform.core.config.websocket;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * WebSocket 아웃바운드 메시지 통계 수집기
+ * 
+ * <p>클라이언트 아웃바운드 채널 인터셉터로 등록되어, 클라이언트에게 실제로 전송되는
+ * MESSAGE 프레임의 수와 페이로드 크기를 인코딩(JSON/축약)별로 집계합니다.</p>
+ * 
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+@Component
+public class WebSocketMetrics implements ChannelInterceptor {
+
+    private final LongAdder jsonMessages = new LongAdder();
+    private final LongAdder jsonBytes = new LongAdder();
+    private final LongAdder compactMessages = new LongAdder();
+    private final LongAdder compactBytes = new LongAdder();
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        if (accessor.getMessageType() != SimpMessageType.MESSAGE || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+
+        MimeType contentType = accessor.getContentType();
+        if (contentType != null && BattleCompactCodec.COMPACT_MIME_TYPE.equalsTypeAndSubtype(contentType)) {
+            compactMessages.increment();
+            compactBytes.add(payload.length);
+        } else {
+            jsonMessages.increment();
+            jsonBytes.add(payload.length);
+        }
+        return message;
+    }
+
+    /**
+     * 인코딩별 전송 통계 조회
+     * 
+     * @return 인코딩별 메시지 수, 총 바이트, 평균 크기
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("json", encodingStats(jsonMessages.sum(), jsonBytes.sum()));
+        stats.put("compact", encodingStats(compactMessages.sum(), compactBytes.sum()));
+        return stats;
+    }
+
+    private Map<String, Object> encodingStats(long messages, long bytes) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("messages", messages);
+        stats.put("bytes", bytes);
+        stats.put("averageBytes", messages > 0 ? bytes / messages : 0);
+        return stats;
+    }
+}
@@ -0,0 +1,40 @@
+package com.quizplatform.core.controller.admin;
+
+import com.quizplatform.core.dto.common.CommonApiResponse;
+import com.quizplatform.core.service.quiz.search.QuizSearchIndexer;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 퀴즈 검색 색인 관리 컨트롤러
+ * 
+ * <p>전체 재색인 등 검색 색인 상태를 변경하는 관리자 전용 API를 제공합니다.</p>
+ */
+@RestController
+@RequestMapping("/api/v1/admin/search")
+@RequiredArgsConstructor
+@Tag(name = "검색 색인 관리", description = "퀴즈 검색 색인 관리자 API")
+@PreAuthorize("hasRole('ADMIN')")
+public class SearchIndexAdminController {
+
+    private final QuizSearchIndexer quizSearchIndexer;
+
+    /**
+     * 전체 재색인을 백그라운드로 시작합니다.
+     * 
+     * @return 시작 여부 (이미 진행 중이면 false)
+     */
+    @Operation(summary = "전체 재색인", description = "전체 퀴즈 검색 색인을 백그라운드로 다시 만듭니다")
+    @PostMapping("/reindex")
+    public ResponseEntity<CommonApiResponse<Map<String, Boolean>>> reindex() {
+        return ResponseEntity.ok(CommonApiResponse.success(Map.of("started", quizSearchIndexer.startRebuild())));
+    }
+}
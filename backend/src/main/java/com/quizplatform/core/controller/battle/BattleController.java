@@ -1,6 +1,8 @@
 package com.quizplatform.core.controller.battle;
 
 import com.quizplatform.core.config.security.UserPrincipal;
+import com.quizplatform.core.dto.battle.BattleJoinTicketResponse;
+import com.quizplatform.core.dto.battle.BattleReplayResponse;
 import com.quizplatform.core.dto.battle.BattleRoomCreateRequest;
 import com.quizplatform.core.dto.battle.BattleRoomResponse;
 import com.quizplatform.core.dto.common.CommonApiResponse;
@@ -124,10 +126,12 @@ public class BattleController {
     /**
      * 배틀방 참가 API
      * 
-     * <p>특정 배틀방에 참가합니다. 배틀방은 WAITING 상태여야 합니다.</p>
+     * <p>특정 배틀방에 참가합니다. 배틀방은 WAITING 상태여야 합니다.
+     * 방 코드로 입장하는 경우 발급받은 입장 티켓을 함께 전달합니다.</p>
      * 
      * @param userPrincipal 인증된 사용자 정보
      * @param roomId 참가할 배틀방 ID
+     * @param ticket 방 코드 입장 티켓 (선택)
      * @return 참가 후 배틀방 정보
      * @throws BusinessException 인증되지 않은 사용자 또는 방 참가 불가 상태일 경우
      */
@@ -140,17 +144,51 @@ public class BattleController {
     @PostMapping("/{roomId}/join")
     public ResponseEntity<CommonApiResponse<BattleRoomResponse>> joinBattleRoom(
             @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal userPrincipal,
-            @Parameter(description = "대결방 ID") @PathVariable Long roomId) {
+            @Parameter(description = "대결방 ID") @PathVariable Long roomId,
+            @Parameter(description = "방 코드 입장 티켓") @RequestParam(required = false) String ticket) {
 
         // 사용자 인증 확인
         if (userPrincipal == null) {
             throw new BusinessException(ErrorCode.UNAUTHORIZED, "인증이 필요합니다.");
         }
 
-        BattleRoomResponse battleRoom = battleService.joinBattleRoom(roomId, userPrincipal.getUser());
+        BattleRoomResponse battleRoom = ticket != null
+                ? battleService.joinBattleRoom(roomId, userPrincipal.getUser(), ticket)
+                : battleService.joinBattleRoom(roomId, userPrincipal.getUser());
         return ResponseEntity.ok(CommonApiResponse.success(battleRoom));
     }
 
+    /**
+     * 방 코드 입장 티켓 발급 API
+     * 
+     * <p>초대 링크의 방 코드로 입장 가능 여부(대기 상태, 정원)를 확인하고 1회용 입장 티켓을 발급합니다.
+     * 방 코드 색인만 사용하므로 DB를 조회하지 않습니다.</p>
+     * 
+     * @param userPrincipal 인증된 사용자 정보
+     * @param roomCode 배틀방 코드
+     * @return 방 ID와 입장 티켓
+     * @throws BusinessException 인증되지 않은 사용자 또는 방 참가 불가 상태일 경우
+     */
+    @Operation(summary = "방 코드 입장 티켓 발급", description = "방 코드로 입장 가능 여부를 확인하고 입장 티켓을 발급합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "입장 티켓이 발급되었습니다."),
+            @ApiResponse(responseCode = "400", description = "입장할 수 없는 대결방입니다."),
+            @ApiResponse(responseCode = "404", description = "대결방을 찾을 수 없습니다.")
+    })
+    @PostMapping("/code/{roomCode}/ticket")
+    public ResponseEntity<CommonApiResponse<BattleJoinTicketResponse>> issueJoinTicket(
+            @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Parameter(description = "대결방 코드") @PathVariable String roomCode) {
+
+        // 사용자 인증 확인
+        if (userPrincipal == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED, "인증이 필요합니다.");
+        }
+
+        BattleJoinTicketResponse ticket = battleService.issueJoinTicket(roomCode, userPrincipal.getUser());
+        return ResponseEntity.ok(CommonApiResponse.success(ticket));
+    }
+
     /**
      * 배틀 준비 상태 토글 API
      * 
@@ -268,4 +306,24 @@ public class BattleController {
         
         return ResponseEntity.ok(CommonApiResponse.success(battleRoom));
     }
+
+    /**
+     * 배틀 리플레이 조회 API
+     * 
+     * <p>배틀 이벤트 로그를 재생하여 이벤트 순서와 문제별 점수 변화를 조회합니다.</p>
+     * 
+     * @param roomId 조회할 배틀방 ID
+     * @return 배틀 리플레이 정보
+     */
+    @Operation(summary = "대결 리플레이 조회", description = "대결 이벤트 로그를 재생한 진행 타임라인을 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "리플레이가 성공적으로 조회되었습니다."),
+            @ApiResponse(responseCode = "404", description = "대결방을 찾을 수 없습니다.")
+    })
+    @GetMapping("/{roomId}/replay")
+    public ResponseEntity<CommonApiResponse<BattleReplayResponse>> getBattleReplay(
+            @Parameter(description = "대결방 ID") @PathVariable Long roomId) {
+
+        return ResponseEntity.ok(CommonApiResponse.success(battleService.getBattleReplay(roomId)));
+    }
 }
\ No newline at end of file
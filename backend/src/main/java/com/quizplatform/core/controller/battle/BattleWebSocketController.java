@@ -6,6 +6,8 @@ import com.quizplatform.core.dto.battle.*;
 import com.quizplatform.core.dto.common.CommonApiResponse;
 import com.quizplatform.core.exception.BusinessException;
 import com.quizplatform.core.exception.ErrorCode;
+import com.quizplatform.core.service.battle.BattleMessageSender;
+import com.quizplatform.core.service.battle.BattleReconnectManager;
 import com.quizplatform.core.service.battle.BattleService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -50,6 +52,16 @@ public class BattleWebSocketController {
      */
     private final SimpMessagingTemplate messagingTemplate;
 
+    /**
+     * 배틀 재연결 관리자
+     */
+    private final BattleReconnectManager battleReconnectManager;
+
+    /**
+     * 배틀 토픽 메시지 전송 컴포넌트 (인코딩 협상 포함)
+     */
+    private final BattleMessageSender battleMessageSender;
+
     /**
      * 게임 세션 맵 (방 ID → 세션 ID)
      */
@@ -109,6 +121,9 @@ public class BattleWebSocketController {
                         "/queue/battle/join",
                         response
                 );
+
+                // 재접속 토큰 전송 (개인)
+                sendSessionInfo(request.getRoomId(), request.getUserId(), sessionId);
                 
                 return;
             }
@@ -117,22 +132,25 @@ public class BattleWebSocketController {
             BattleJoinResponse response = battleService.joinBattle(request, sessionId);
 
             // 대결방의 모든 참가자에게 새로운 참가자 알림
-            messagingTemplate.convertAndSend(
-                    "/topic/battle/" + request.getRoomId() + "/participants",
+            battleMessageSender.send(
+                    request.getRoomId(), "participants",
                     response
             );
 
             log.info("배틀 입장 처리 완료: roomId={}, userId={}, 참가자 수={}",
                     request.getRoomId(), request.getUserId(), response.getParticipants().size());
 
+            // 재접속 토큰 전송 (개인)
+            sendSessionInfo(request.getRoomId(), request.getUserId(), sessionId);
+
             // 대결 시작 조건 확인
             if (battleService.isReadyToStart(request.getRoomId())) {
                 // 자동 시작 대신 5초 지연 후 시작하도록 수정
                 log.info("모든 참가자 준비 완료. 5초 후 배틀 시작: roomId={}", request.getRoomId());
                 
                 // 대기 상태 메시지 전송
-                messagingTemplate.convertAndSend(
-                        "/topic/battle/" + request.getRoomId() + "/status",
+                battleMessageSender.send(
+                        request.getRoomId(), "status",
                         new BattleRoomStatusChangeResponse(request.getRoomId(), BattleRoomStatus.READY)
                 );
                 
@@ -158,6 +176,79 @@ public class BattleWebSocketController {
         }
     }
 
+    /**
+     * 배틀방 재접속 처리
+     * 
+     * <p>연결이 끊겼던 참가자가 재연결 유예 시간 내에 재접속 토큰으로 새 세션을 연결합니다.
+     * 전체 입장 절차를 다시 거치지 않고, 축약된 배틀 상태 스냅샷 하나만 전송합니다.</p>
+     * 
+     * @param request 재접속 요청 정보
+     * @param sessionId 새 웹소켓 세션 ID
+     * @param headerAccessor 헤더 접근자
+     */
+    @MessageMapping("/battle/resume")
+    public void resumeBattle(
+            BattleResumeRequest request,
+            @Header("simpSessionId") String sessionId,
+            SimpMessageHeaderAccessor headerAccessor
+    ) {
+        log.info("배틀 재접속 요청: roomId={}, userId={}, sessionId={}",
+                request.getRoomId(), request.getUserId(), sessionId);
+
+        try {
+            BattleResumeResponse response = battleService.resumeBattle(request, sessionId);
+
+            // 재접속 성공 시 새 세션에도 사용자 정보 저장 (다음 연결 해제 처리용)
+            if (response.isSuccess()) {
+                headerAccessor.getSessionAttributes().put("userId", request.getUserId());
+                headerAccessor.getSessionAttributes().put("roomId", request.getRoomId());
+            }
+
+            messagingTemplate.convertAndSendToUser(
+                    sessionId,
+                    "/queue/battle/resume",
+                    response
+            );
+
+            log.info("배틀 재접속 처리 완료: roomId={}, userId={}, 성공여부={}",
+                    request.getRoomId(), request.getUserId(), response.isSuccess());
+        } catch (Exception e) {
+            log.error("배틀 재접속 처리 중 오류 발생: roomId={}, userId={}", request.getRoomId(), request.getUserId(), e);
+            messagingTemplate.convertAndSendToUser(
+                    sessionId,
+                    "/queue/errors",
+                    "배틀 재접속 중 오류가 발생했습니다: " + e.getMessage()
+            );
+        }
+    }
+
+    /**
+     * 재접속 토큰 전송
+     * 
+     * <p>입장한 참가자에게만 재접속 토큰과 유예 시간을 개별 전송합니다.</p>
+     * 
+     * @param roomId 배틀방 ID
+     * @param userId 사용자 ID
+     * @param sessionId 웹소켓 세션 ID
+     */
+    private void sendSessionInfo(Long roomId, Long userId, String sessionId) {
+        String resumeToken = battleReconnectManager.getResumeToken(roomId, userId);
+        if (resumeToken == null) {
+            return;
+        }
+
+        messagingTemplate.convertAndSendToUser(
+                sessionId,
+                "/queue/battle/session",
+                BattleSessionResponse.builder()
+                        .roomId(roomId)
+                        .userId(userId)
+                        .resumeToken(resumeToken)
+                        .graceSeconds(battleReconnectManager.getGraceSeconds())
+                        .build()
+        );
+    }
+
     /**
      * 다음 문제로 진행
      * 
@@ -184,8 +275,8 @@ public class BattleWebSocketController {
                 log.info("게임 종료 감지 (isGameOver=true): roomId={}", roomId);
 
                 // 게임 종료 상태 메시지 전송
-                messagingTemplate.convertAndSend(
-                        "/topic/battle/" + roomId + "/status",
+                battleMessageSender.send(
+                        roomId, "status",
                         new BattleRoomStatusChangeResponse(roomId, BattleRoomStatus.FINISHED)
                 );
 
@@ -195,10 +286,7 @@ public class BattleWebSocketController {
             }
 
             // 4. 웹소켓을 통해 다음 문제 전송
-            messagingTemplate.convertAndSend(
-                    "/topic/battle/" + roomId + "/question",
-                    response
-            );
+            battleMessageSender.send(roomId, "question", response);
             log.info("다음 문제 메시지 전송 완료: roomId={}", roomId);
         } catch (Exception e) {
             log.error("다음 문제 준비 중 오류 발생: roomId={}", roomId, e);
@@ -234,10 +322,7 @@ public class BattleWebSocketController {
 
             // 전체 진행 상황 업데이트
             BattleProgressResponse progress = battleService.getBattleProgress(request.getRoomId());
-            messagingTemplate.convertAndSend(
-                    "/topic/battle/" + request.getRoomId() + "/progress",
-                    progress
-            );
+            battleMessageSender.send(request.getRoomId(), "progress", progress);
             log.info("진행 상황 업데이트 전송 완료: roomId={}, 현재문제={}/{}",
                     request.getRoomId(), progress.getCurrentQuestionIndex() + 1, progress.getTotalQuestions());
 
@@ -307,8 +392,8 @@ public class BattleWebSocketController {
             BattleStartResponse response = battleService.startBattle(roomId);
 
             // 대결 시작 알림 전송
-            messagingTemplate.convertAndSend(
-                    "/topic/battle/" + roomId + "/start",
+            battleMessageSender.send(
+                    roomId, "start",
                     response
             );
 
@@ -321,8 +406,8 @@ public class BattleWebSocketController {
             roomQuestionIndexMap.remove(roomId);
             
             // 오류 메시지 전달
-            messagingTemplate.convertAndSend(
-                    "/topic/battle/" + roomId + "/error",
+            battleMessageSender.send(
+                    roomId, "error",
                     "배틀 시작 중 오류가 발생했습니다: " + e.getMessage()
             );
         }
@@ -341,8 +426,8 @@ public class BattleWebSocketController {
 
         try {
             // 1. 상태 변경 메시지 전송
-            messagingTemplate.convertAndSend(
-                    "/topic/battle/" + roomId + "/status",
+            battleMessageSender.send(
+                    roomId, "status",
                     new BattleRoomStatusChangeResponse(roomId, BattleRoomStatus.FINISHED)
             );
             log.info("배틀 종료 상태 메시지 전송 완료: roomId={}", roomId);
@@ -351,8 +436,8 @@ public class BattleWebSocketController {
             BattleEndResponse response = battleService.endBattle(roomId);
 
             // 3. 최종 결과 전송
-            messagingTemplate.convertAndSend(
-                    "/topic/battle/" + roomId + "/end",
+            battleMessageSender.send(
+                    roomId, "end",
                     response
             );
             log.info("배틀 종료 결과 전송 완료: roomId={}", roomId);
@@ -368,14 +453,14 @@ public class BattleWebSocketController {
                     Thread.sleep(3000);
 
                     // 종료 상태 메시지 재전송
-                    messagingTemplate.convertAndSend(
-                            "/topic/battle/" + roomId + "/status",
+                    battleMessageSender.send(
+                            roomId, "status",
                             new BattleRoomStatusChangeResponse(roomId, BattleRoomStatus.FINISHED)
                     );
 
                     // 종료 결과 재전송
-                    messagingTemplate.convertAndSend(
-                            "/topic/battle/" + roomId + "/end",
+                    battleMessageSender.send(
+                            roomId, "end",
                             response
                     );
 
@@ -411,8 +496,8 @@ public class BattleWebSocketController {
             BattleLeaveResponse response = battleService.leaveBattle(request, sessionId);
 
             // 대결방의 모든 참가자에게 나가기 알림
-            messagingTemplate.convertAndSend(
-                    "/topic/battle/" + request.getRoomId() + "/participants",
+            battleMessageSender.send(
+                    request.getRoomId(), "participants",
                     response
             );
 
@@ -422,8 +507,8 @@ public class BattleWebSocketController {
             // 방 상태 확인
             if (!battleService.isValidBattleRoom(request.getRoomId())) {
                 // 방이 유효하지 않으면 해당 방에 대한 상태 변경 알림
-                messagingTemplate.convertAndSend(
-                        "/topic/battle/" + request.getRoomId() + "/status",
+                battleMessageSender.send(
+                        request.getRoomId(), "status",
                         new BattleRoomStatusChangeResponse(
                                 request.getRoomId(),
                                 response.getStatus() // BattleStatus 사용
@@ -473,8 +558,8 @@ public class BattleWebSocketController {
             BattleReadyResponse response = battleService.toggleReadyState(request, sessionId);
 
             // 모든 참가자에게 준비 상태 변경 알림
-            messagingTemplate.convertAndSend(
-                    "/topic/battle/" + request.getRoomId() + "/ready",
+            battleMessageSender.send(
+                    request.getRoomId(), "ready",
                     response
             );
             log.info("준비 상태 토글 전송 완료: roomId={}, 준비완료 인원={}/{}",
@@ -485,8 +570,8 @@ public class BattleWebSocketController {
                 log.info("모든 참가자 준비 완료. 자동 시작 조건 충족: roomId={}", request.getRoomId());
                 
                 // 준비 상태 메시지 전송
-                messagingTemplate.convertAndSend(
-                        "/topic/battle/" + request.getRoomId() + "/status",
+                battleMessageSender.send(
+                        request.getRoomId(), "status",
                         new BattleRoomStatusChangeResponse(request.getRoomId(), BattleRoomStatus.READY)
                 );
                 
@@ -558,8 +643,8 @@ public class BattleWebSocketController {
             }
             
             // 모든 참가자에게 강제 진행 메시지 전송
-            messagingTemplate.convertAndSend(
-                    "/topic/battle/" + request.getRoomId() + "/notification",
+            battleMessageSender.send(
+                    request.getRoomId(), "notification",
                     "방장에 의해 다음 문제로 강제 진행합니다."
             );
             
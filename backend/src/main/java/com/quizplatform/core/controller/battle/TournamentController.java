@@ -0,0 +1,129 @@
+package com.quizplatform.core.controller.battle;
+
+import com.quizplatform.core.config.security.UserPrincipal;
+import com.quizplatform.core.dto.battle.TournamentCreateRequest;
+import com.quizplatform.core.dto.battle.TournamentResponse;
+import com.quizplatform.core.dto.common.CommonApiResponse;
+import com.quizplatform.core.exception.BusinessException;
+import com.quizplatform.core.exception.ErrorCode;
+import com.quizplatform.core.service.battle.tournament.Tournament;
+import com.quizplatform.core.service.battle.tournament.TournamentManager;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 토너먼트 컨트롤러 클래스
+ * 
+ * <p>토너먼트 생성, 참가 신청, 시작, 조회 API를 제공합니다.
+ * 라운드별 대결방은 서버에서 자동 생성되며, 대진 변경은 /topic/tournament/{id}로 알림됩니다.</p>
+ * 
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+@RestController
+@RequestMapping("/api/tournaments")
+@RequiredArgsConstructor
+@Tag(name = "Tournament Controller", description = "퀴즈 대결 토너먼트 관련 API를 제공합니다.")
+public class TournamentController {
+
+    private static final int DEFAULT_ROUND_INTERVAL_SECONDS = 30;
+
+    /**
+     * 토너먼트 대진 엔진
+     */
+    private final TournamentManager tournamentManager;
+
+    /**
+     * 토너먼트 생성 API
+     * 
+     * @param userPrincipal 인증된 사용자 정보
+     * @param request 토너먼트 생성 요청 데이터
+     * @return 생성된 토너먼트 정보
+     */
+    @Operation(summary = "토너먼트 생성", description = "싱글 엘리미네이션 또는 스위스 방식 토너먼트를 생성합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "토너먼트가 성공적으로 생성되었습니다."),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터입니다."),
+            @ApiResponse(responseCode = "404", description = "퀴즈를 찾을 수 없습니다.")
+    })
+    @PostMapping
+    public ResponseEntity<CommonApiResponse<TournamentResponse>> createTournament(
+            @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestBody TournamentCreateRequest request) {
+
+        Long userId = requireUserId(userPrincipal);
+        Tournament tournament = tournamentManager.create(
+                request.getName(),
+                request.getQuizId(),
+                request.getFormat(),
+                userId,
+                request.getEntrantIds(),
+                request.getRoundIntervalSeconds() != null ? request.getRoundIntervalSeconds() : DEFAULT_ROUND_INTERVAL_SECONDS
+        );
+
+        return ResponseEntity.ok(CommonApiResponse.success(tournamentManager.toResponse(tournament)));
+    }
+
+    /**
+     * 토너먼트 참가 신청 API
+     * 
+     * @param userPrincipal 인증된 사용자 정보
+     * @param tournamentId 토너먼트 ID
+     * @return 갱신된 토너먼트 정보
+     */
+    @Operation(summary = "토너먼트 참가 신청", description = "참가 신청 중인 토너먼트에 참가합니다.")
+    @PostMapping("/{tournamentId}/register")
+    public ResponseEntity<CommonApiResponse<TournamentResponse>> register(
+            @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Parameter(description = "토너먼트 ID") @PathVariable Long tournamentId) {
+
+        Tournament tournament = tournamentManager.register(tournamentId, requireUserId(userPrincipal));
+        return ResponseEntity.ok(CommonApiResponse.success(tournamentManager.toResponse(tournament)));
+    }
+
+    /**
+     * 토너먼트 시작 API
+     * 
+     * @param userPrincipal 인증된 사용자 정보
+     * @param tournamentId 토너먼트 ID
+     * @return 갱신된 토너먼트 정보
+     */
+    @Operation(summary = "토너먼트 시작", description = "토너먼트를 시작합니다. 생성자만 가능합니다.")
+    @PostMapping("/{tournamentId}/start")
+    public ResponseEntity<CommonApiResponse<TournamentResponse>> start(
+            @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Parameter(description = "토너먼트 ID") @PathVariable Long tournamentId) {
+
+        Tournament tournament = tournamentManager.start(tournamentId, requireUserId(userPrincipal));
+        return ResponseEntity.ok(CommonApiResponse.success(tournamentManager.toResponse(tournament)));
+    }
+
+    /**
+     * 토너먼트 조회 API
+     * 
+     * @param tournamentId 토너먼트 ID
+     * @return 토너먼트 정보 (현재 라운드 대진 포함)
+     */
+    @Operation(summary = "토너먼트 조회", description = "토너먼트 상태와 현재 라운드 대진을 조회합니다.")
+    @GetMapping("/{tournamentId}")
+    public ResponseEntity<CommonApiResponse<TournamentResponse>> getTournament(
+            @Parameter(description = "토너먼트 ID") @PathVariable Long tournamentId) {
+
+        Tournament tournament = tournamentManager.get(tournamentId);
+        return ResponseEntity.ok(CommonApiResponse.success(tournamentManager.toResponse(tournament)));
+    }
+
+    private Long requireUserId(UserPrincipal userPrincipal) {
+        if (userPrincipal == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED, "인증이 필요합니다.");
+        }
+        return userPrincipal.getUser().getId();
+    }
+}
@@ -0,0 +1,33 @@
+package com.quizplatform.core.controller.debug;
+
+import com.quizplatform.core.service.quiz.search.QuizSearchIndexer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 퀴즈 검색 색인 디버깅을 위한 컨트롤러
+ * 
+ * <p>색인 동기화 지연 통계 확인 API를 제공합니다. (조회 전용, 전체 재색인은 관리자 API 사용)</p>
+ * <p>개발 및 테스트 환경에서만 활성화해야 합니다.</p>
+ */
+@RestController
+@RequestMapping("/api/debug")
+@RequiredArgsConstructor
+public class SearchIndexDebugController {
+
+    private final QuizSearchIndexer quizSearchIndexer;
+
+    /**
+     * 검색 색인 동기화 통계를 반환합니다.
+     * 
+     * @return 대기 행 수, 색인 지연, 누적 색인 수 등
+     */
+    @GetMapping("/search/stats")
+    public Map<String, Object> getSearchIndexStats() {
+        return quizSearchIndexer.snapshot();
+    }
+}
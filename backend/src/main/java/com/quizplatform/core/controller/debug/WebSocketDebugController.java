@@ -0,0 +1,44 @@
+package com.quizplatform.core.controller.debug;
+
+import com.quizplatform.core.config.websocket.BattleSubscriptionRegistry;
+import com.quizplatform.core.config.websocket.SlowConsumerGuard;
+import com.quizplatform.core.config.websocket.WebSocketMetrics;
+import com.quizplatform.core.service.battle.BattleSpectatorBroadcaster;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * WebSocket 디버깅을 위한 컨트롤러
+ * 
+ * <p>WebSocket 메시지 전송 통계를 확인할 수 있는 API를 제공합니다.</p>
+ * <p>개발 및 테스트 환경에서만 활성화해야 합니다.</p>
+ */
+@RestController
+@RequestMapping("/api/debug")
+@RequiredArgsConstructor
+public class WebSocketDebugController {
+
+    private final WebSocketMetrics webSocketMetrics;
+    private final BattleSubscriptionRegistry subscriptionRegistry;
+    private final SlowConsumerGuard slowConsumerGuard;
+    private final BattleSpectatorBroadcaster spectatorBroadcaster;
+
+    /**
+     * 인코딩별 WebSocket 메시지 전송 통계를 반환합니다.
+     * 
+     * @return 인코딩별 메시지 수 및 크기, 느린 클라이언트 버퍼/폐기 통계
+     */
+    @GetMapping("/websocket/stats")
+    public Map<String, Object> getWebSocketStats() {
+        Map<String, Object> stats = new LinkedHashMap<>(webSocketMetrics.snapshot());
+        stats.put("compactSubscriptions", subscriptionRegistry.getSubscriptionCount());
+        stats.put("slowConsumer", slowConsumerGuard.snapshot());
+        stats.put("spectatedRooms", spectatorBroadcaster.getTrackedRoomCount());
+        return stats;
+    }
+}
@@ -2,7 +2,9 @@ package com.quizplatform.core.controller.quiz;
 
 import com.quizplatform.core.config.security.UserPrincipal;
 import com.quizplatform.core.dto.common.CommonApiResponse;
+import com.quizplatform.core.dto.common.CursorResponse;
 import com.quizplatform.core.dto.common.PageResponse;
+import com.quizplatform.core.dto.common.SliceResponse;
 import com.quizplatform.core.dto.quiz.*;
 import com.quizplatform.core.service.quiz.QuizService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,6 +17,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
@@ -146,6 +149,79 @@ public class QuizController {
         return ResponseEntity.ok(CommonApiResponse.success(PageResponse.of(quizzesDto)));
     }
 
+    /**
+     * 퀴즈 검색 API (전체 개수 미포함)
+     * 
+     * <p>일반 검색과 같지만 전체 개수를 계산하지 않고 다음 페이지 존재 여부만 반환합니다.
+     * 무한 스크롤처럼 총 페이지 수가 필요 없는 화면에서 사용합니다.</p>
+     * 
+     * @param request 검색 조건
+     * @param pageable 페이지 정보
+     * @return 검색된 퀴즈 목록 (슬라이스)
+     */
+    @Operation(summary = "퀴즈 검색 (전체 개수 미포함)", description = "전체 개수 없이 다음 페이지 존재 여부와 함께 퀴즈를 검색합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "퀴즈 목록이 성공적으로 조회되었습니다."),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청입니다.")
+    })
+    @GetMapping("/search/slice")
+    public ResponseEntity<CommonApiResponse<SliceResponse<QuizSummaryResponse>>> searchQuizzesSlice(
+            @ModelAttribute QuizSearchRequest request,
+            Pageable pageable) {
+        Slice<QuizSummaryResponse> quizzes = quizService.searchQuizzesSlice(request.toCondition(), pageable);
+        return ResponseEntity.ok(CommonApiResponse.success(SliceResponse.of(quizzes)));
+    }
+
+    /**
+     * 퀴즈 전문 검색 API
+     * 
+     * <p>검색어를 제목, 설명, 문제 내용, 태그 이름/동의어에서 형태소 단위로 찾아 관련도 순으로 반환합니다.
+     * 난이도, 유형, 태그(하위 태그 포함) 필터를 적용할 수 있으며 필터별 일치 건수(패싯)를 함께 제공합니다.</p>
+     * 
+     * @param request 검색 조건 (title을 검색어로 사용)
+     * @param page 페이지 번호 (0부터)
+     * @param size 페이지 크기 (최대 100)
+     * @return 관련도 순 퀴즈 목록과 패싯
+     */
+    @Operation(summary = "퀴즈 전문 검색", description = "검색어와 관련도가 높은 순으로 퀴즈를 검색하고 필터 패싯을 함께 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "퀴즈 목록이 성공적으로 조회되었습니다."),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청입니다.")
+    })
+    @GetMapping("/search/text")
+    public ResponseEntity<CommonApiResponse<QuizTextSearchResponse>> searchQuizzesByText(
+            @ModelAttribute QuizSearchRequest request,
+            @Parameter(description = "페이지 번호") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
+        QuizTextSearchResponse result = quizService.searchQuizzesByText(request.toCondition(), page, size);
+        return ResponseEntity.ok(CommonApiResponse.success(result));
+    }
+
+    /**
+     * 퀴즈 커서 검색 API
+     * 
+     * <p>검색 조건은 일반 검색과 같으며, OFFSET 대신 이전 응답의 nextCursor로 다음 페이지를 조회합니다.
+     * 전체 개수는 제공하지 않으며 깊은 페이지도 일정한 비용으로 조회됩니다.</p>
+     * 
+     * @param request 검색 조건
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (최대 100)
+     * @return 검색된 퀴즈 목록 (커서 페이지)
+     */
+    @Operation(summary = "퀴즈 커서 검색", description = "커서 기반 페이지네이션으로 퀴즈를 검색합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "퀴즈 목록이 성공적으로 조회되었습니다."),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 또는 커서입니다.")
+    })
+    @GetMapping("/search/cursor")
+    public ResponseEntity<CommonApiResponse<CursorResponse<QuizSummaryResponse>>> searchQuizzesByCursor(
+            @ModelAttribute QuizSearchRequest request,
+            @Parameter(description = "이전 응답의 nextCursor") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
+        CursorResponse<QuizSummaryResponse> quizzes = quizService.searchQuizzesByCursor(request.toCondition(), cursor, size);
+        return ResponseEntity.ok(CommonApiResponse.success(quizzes));
+    }
+
     /**
      * 데일리 퀴즈 조회 API
      * 
@@ -209,6 +285,31 @@ public class QuizController {
         return ResponseEntity.ok(CommonApiResponse.success(PageResponse.of(quizzes)));
     }
 
+    /**
+     * 태그별 퀴즈 커서 조회 API
+     * 
+     * <p>특정 태그에 속한 퀴즈 목록을 최신순으로, 이전 응답의 nextCursor 이후부터 조회합니다.</p>
+     * 
+     * @param tagId 조회할 태그의 ID
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (최대 100)
+     * @return 태그에 속한 퀴즈 목록 (커서 페이지)
+     */
+    @Operation(summary = "태그별 퀴즈 커서 조회", description = "커서 기반 페이지네이션으로 특정 태그의 퀴즈 목록을 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "태그별 퀴즈 목록이 성공적으로 조회되었습니다."),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서입니다."),
+            @ApiResponse(responseCode = "404", description = "태그를 찾을 수 없습니다.")
+    })
+    @GetMapping("/tags/{tagId}/cursor")
+    public ResponseEntity<CommonApiResponse<CursorResponse<QuizSummaryResponse>>> getQuizzesByTagCursor(
+            @Parameter(description = "조회할 태그의 ID") @PathVariable Long tagId,
+            @Parameter(description = "이전 응답의 nextCursor") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
+        CursorResponse<QuizSummaryResponse> quizzes = quizService.getQuizzesByTagCursor(tagId, cursor, size);
+        return ResponseEntity.ok(CommonApiResponse.success(quizzes));
+    }
+
     /**
      * 퀴즈 통계 조회 API
      * 
@@ -4,6 +4,7 @@ import com.quizplatform.core.dto.common.CommonApiResponse;
 import com.quizplatform.core.dto.common.PageResponse;
 import com.quizplatform.core.dto.tag.TagCreateRequest;
 import com.quizplatform.core.dto.tag.TagResponse;
+import com.quizplatform.core.dto.tag.TagSuggestionResponse;
 import com.quizplatform.core.service.tag.TagService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -77,6 +78,29 @@ public class TagController {
         return ResponseEntity.ok(CommonApiResponse.success(tags));
     }
 
+    /**
+     * 태그 자동완성 API
+     * 
+     * <p>입력 중인 검색어로 시작하는 태그를 퀴즈 수가 많은 순으로 반환합니다.
+     * 이름과 동의어, 입력 중인 자모("잡"), 초성("ㅈㅂ")으로 찾을 수 있으며,
+     * 여러 단어로 된 태그는 중간 단어로도 찾습니다.</p>
+     * 
+     * @param query 검색어
+     * @param limit 최대 개수 (최대 10)
+     * @return 자동완성 후보 목록
+     */
+    @Operation(summary = "태그 자동완성", description = "입력 중인 검색어로 태그 후보를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "태그 자동완성 후보 조회 성공")
+    })
+    @GetMapping("/autocomplete")
+    public ResponseEntity<CommonApiResponse<List<TagSuggestionResponse>>> autocompleteTags(
+            @Parameter(description = "검색어") @RequestParam("q") String query,
+            @Parameter(description = "최대 개수") @RequestParam(defaultValue = "10") int limit) {
+        List<TagSuggestionResponse> suggestions = tagService.autocompleteTags(query, limit);
+        return ResponseEntity.ok(CommonApiResponse.success(suggestions));
+    }
+
     /**
      * 태그 상세 조회 API
      * 
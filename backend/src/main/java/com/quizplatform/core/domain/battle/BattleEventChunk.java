@@ -0,0 +1,83 @@
+package com.quizplatform.core.domain.battle;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배틀 이벤트 로그 청크 엔티티 클래스
+ * 
+ * <p>한 배틀방에서 일정 시간 동안 발생한 이벤트들을 바이너리로 인코딩해 한 행에 저장합니다.
+ * 추가만 하고 수정하지 않으며(append-only), 운영 테이블(battle_participants, battle_answers)과 분리되어
+ * 리플레이나 분석 조회가 실시간 배틀 처리에 영향을 주지 않습니다.</p>
+ * 
+ * <p>시퀀스 ID(allocationSize 50)를 사용하여 여러 청크를 JDBC 배치 INSERT로 저장할 수 있습니다.</p>
+ * 
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+@Entity
+@Table(name = "battle_event_chunks",
+        indexes = @Index(name = "idx_battle_event_chunks_room", columnList = "room_id, first_event_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BattleEventChunk {
+
+    /**
+     * 청크 ID
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "battle_event_chunk_seq")
+    @SequenceGenerator(name = "battle_event_chunk_seq", sequenceName = "battle_event_chunk_seq", allocationSize = 50)
+    private Long id;
+
+    /**
+     * 배틀방 ID (운영 테이블과의 결합을 피하기 위해 FK 없이 저장)
+     */
+    @Column(name = "room_id", nullable = false)
+    private Long roomId;
+
+    /**
+     * 배틀방 내 청크 순번
+     */
+    @Column(name = "chunk_seq", nullable = false)
+    private int chunkSeq;
+
+    /**
+     * 첫 이벤트 발생 시각 (epoch millis, 청크 내 이벤트 시각의 기준값)
+     */
+    @Column(name = "first_event_at", nullable = false)
+    private long firstEventAt;
+
+    /**
+     * 청크에 포함된 이벤트 수
+     */
+    @Column(name = "event_count", nullable = false)
+    private int eventCount;
+
+    /**
+     * 인코딩된 이벤트 데이터
+     */
+    @Column(name = "data", nullable = false)
+    private byte[] data;
+
+    /**
+     * 배틀 이벤트 로그 청크 생성자
+     * 
+     * @param roomId 배틀방 ID
+     * @param chunkSeq 배틀방 내 청크 순번
+     * @param firstEventAt 첫 이벤트 발생 시각
+     * @param eventCount 이벤트 수
+     * @param data 인코딩된 이벤트 데이터
+     */
+    @Builder
+    public BattleEventChunk(Long roomId, int chunkSeq, long firstEventAt, int eventCount, byte[] data) {
+        this.roomId = roomId;
+        this.chunkSeq = chunkSeq;
+        this.firstEventAt = firstEventAt;
+        this.eventCount = eventCount;
+        this.data = data;
+    }
+}
@@ -0,0 +1,87 @@
+package com.quizplatform.core.domain.battle;
+
+import lombok.Getter;
+
+/**
+ * 배틀 이벤트 로그 유형 열거형 클래스
+ * 
+ * <p>리플레이/분쟁 확인용 이벤트 로그에 기록되는 이벤트 종류입니다.
+ * 바이너리 로그에는 {@link #getCode()} 값 1바이트로 저장되므로 기존 코드 값은 변경하면 안 됩니다.</p>
+ * 
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+@Getter
+public enum BattleEventType {
+    /**
+     * 참가자 입장
+     */
+    JOIN(1),
+
+    /**
+     * 준비 상태 변경 (value: 1=준비, 0=해제)
+     */
+    READY(2),
+
+    /**
+     * 배틀 시작 (value: 참가자 수)
+     */
+    START(3),
+
+    /**
+     * 문제 시작
+     */
+    QUESTION_START(4),
+
+    /**
+     * 답변 제출 (value: 획득 점수)
+     */
+    ANSWER(5),
+
+    /**
+     * 시간 초과 자동 오답
+     */
+    TIMEOUT(6),
+
+    /**
+     * 참가자 퇴장/이탈
+     */
+    LEAVE(7),
+
+    /**
+     * 참가자 재접속
+     */
+    RESUME(8),
+
+    /**
+     * 배틀 종료 (userId: 승자)
+     */
+    END(9);
+
+    private static final BattleEventType[] BY_CODE = new BattleEventType[16];
+
+    static {
+        for (BattleEventType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    /**
+     * 바이너리 로그 저장 코드
+     */
+    private final int code;
+
+    BattleEventType(int code) {
+        this.code = code;
+    }
+
+    /**
+     * 코드 값으로 이벤트 유형 조회
+     * 
+     * @param code 저장 코드
+     * @return 이벤트 유형, 알 수 없는 코드면 null
+     */
+    public static BattleEventType fromCode(int code) {
+        return code > 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    }
+}
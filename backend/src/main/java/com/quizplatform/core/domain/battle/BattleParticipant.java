@@ -256,10 +256,23 @@ public class BattleParticipant {
      * @return 생성된 답변 객체
      */
     public BattleAnswer submitAnswer(Question question, String answer, int timeSpentSeconds) {
+        return submitAnswer(question, answer, timeSpentSeconds, question.isCorrectAnswer(answer));
+    }
+
+    /**
+     * 정답 여부가 이미 판정된 문제 답변 제출 (캐시된 정답 판정기 사용 시)
+     * 
+     * @param question 답변할 문제
+     * @param answer 제출할 답변
+     * @param timeSpentSeconds 소요 시간(초)
+     * @param correct 정답 여부
+     * @return 생성된 답변 객체
+     */
+    public BattleAnswer submitAnswer(Question question, String answer, int timeSpentSeconds, boolean correct) {
         validateAnswerSubmission(question, timeSpentSeconds);
 
         BattleAnswer battleAnswer = createBattleAnswer(question, answer, timeSpentSeconds);
-        processAnswerResult(battleAnswer);
+        processAnswerResult(battleAnswer, correct);
         updateActivityStatus();
 
         return battleAnswer;
@@ -305,14 +318,14 @@ public class BattleParticipant {
      * 답변 결과 처리
      * 
      * @param battleAnswer 처리할 답변 객체
+     * @param isCorrect 정답 여부
      */
-    private void processAnswerResult(BattleAnswer battleAnswer) {
+    private void processAnswerResult(BattleAnswer battleAnswer, boolean isCorrect) {
         Question question = battleAnswer.getQuestion();
         
         log.info("답변 처리 시작: userId={}, 문제ID={}, 제출답변=[{}]",
                 this.user.getId(), question.getId(), battleAnswer.getAnswer());
         
-        boolean isCorrect = question.isCorrectAnswer(battleAnswer.getAnswer());
         battleAnswer.setCorrect(isCorrect);
         
         log.info("답변 정답 여부 결정: userId={}, 문제ID={}, 제출답변=[{}], 정답=[{}], 결과={}",
@@ -30,7 +30,9 @@ import java.util.*;
  * @since JDK 21 eclipse temurin 21.0.6
  */
 @Entity
-@Table(name = "battle_rooms")
+@Table(name = "battle_rooms", indexes = {
+        @Index(name = "idx_battle_rooms_room_code", columnList = "room_code")
+})
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -29,7 +29,11 @@ import java.util.*;
  * @since JDK 21 eclipse temurin 21.0.6
  */
 @Entity
-@Table(name = "quizzes")
+@Table(name = "quizzes", indexes = {
+        @Index(name = "idx_quizzes_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_quizzes_avg_score_id", columnList = "avg_score, id"),
+        @Index(name = "idx_quizzes_attempt_count_id", columnList = "attempt_count, id")
+})
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -106,6 +110,12 @@ public class Quiz {
     @Column(name = "avg_score")
     private double avgScore = 0.0;
 
+    /**
+     * 인기도 점수 (인기 순위 주기 작업이 시간 감쇠를 적용해 계산, JPA로는 기록하지 않음)
+     */
+    @Column(name = "popularity_score", columnDefinition = "double precision not null default 0", insertable = false, updatable = false)
+    private double popularityScore;
+
     /**
      * 퀴즈 유효 기간 (주로 데일리 퀴즈에서 사용)
      */
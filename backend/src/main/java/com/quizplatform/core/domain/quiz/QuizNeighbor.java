@@ -0,0 +1,58 @@
+package com.quizplatform.core.domain.quiz;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 퀴즈 이웃 엔티티 클래스
+ * 
+ * <p>함께 시도된 퀴즈 쌍과 그 유사도를 한 행으로 저장합니다. (협업 필터링 추천 모델)
+ * 계산과 저장은 {@code QuizNeighborJdbcRepository}(JDBC)가 담당하며,
+ * 이 엔티티는 스키마(테이블, 복합 기본 키)를 정의하기 위해 매핑합니다.</p>
+ * 
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+@Entity
+@Table(name = "quiz_neighbors")
+@IdClass(QuizNeighbor.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class QuizNeighbor {
+
+    /**
+     * 기준 퀴즈 ID
+     */
+    @Id
+    @Column(name = "quiz_id")
+    private Long quizId;
+
+    /**
+     * 이웃 퀴즈 ID
+     */
+    @Id
+    @Column(name = "neighbor_id")
+    private Long neighborId;
+
+    /**
+     * 유사도 (코사인, 0 ~ 1)
+     */
+    @Column(name = "similarity", nullable = false)
+    private double similarity;
+
+    /**
+     * 복합 기본 키 (quiz_id, neighbor_id)
+     */
+    @Getter
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long quizId;
+        private Long neighborId;
+    }
+}
@@ -30,6 +30,21 @@ public class QuizStatistics {
      */
     private double averageScore;
     
+    /**
+     * 점수 표준편차
+     */
+    private double scoreStandardDeviation;
+    
+    /**
+     * 점수 중앙값
+     */
+    private int medianScore;
+    
+    /**
+     * 10점 단위 점수 분포 (0~9점, 10~19점, ..., 90~100점)
+     */
+    private List<Long> scoreDistribution;
+    
     /**
      * 퀴즈 완료율
      */
@@ -40,6 +55,16 @@ public class QuizStatistics {
      */
     private int averageTimeSeconds;
     
+    /**
+     * 풀이 시간 중앙값 (초 단위, 근사값)
+     */
+    private int medianTimeSeconds;
+    
+    /**
+     * 풀이 시간 90번째 백분위수 (초 단위, 근사값)
+     */
+    private int p90TimeSeconds;
+    
     /**
      * 난이도별 문제 분포
      */
@@ -0,0 +1,69 @@
+package com.quizplatform.core.domain.quiz;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * 퀴즈 통계 집계 스냅샷 엔티티 클래스
+ * 
+ * <p>퀴즈별 병합 가능한 통계 집계(시도/완료 수, 점수·소요 시간 누적 통계, 히스토그램, 문제별 통계)를
+ * JSON으로 직렬화해 한 행에 보관합니다. 서버별로 모인 증분이 주기적으로 이 행에 병합되며,
+ * 통계 조회는 시도 기록을 읽지 않고 이 행만 사용합니다.</p>
+ * 
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+@Entity
+@Table(name = "quiz_stats_snapshots")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class QuizStatsSnapshot {
+
+    /**
+     * 퀴즈 ID
+     */
+    @Id
+    @Column(name = "quiz_id")
+    private Long quizId;
+
+    /**
+     * 직렬화된 통계 집계 (JSON)
+     */
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "data", columnDefinition = "jsonb", nullable = false)
+    private String data;
+
+    /**
+     * 마지막 병합 시각
+     */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * 퀴즈 통계 집계 스냅샷 생성자
+     * 
+     * @param quizId 퀴즈 ID
+     * @param data 직렬화된 통계 집계
+     */
+    public QuizStatsSnapshot(Long quizId, String data) {
+        this.quizId = quizId;
+        this.data = data;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 병합된 통계 집계로 갱신
+     * 
+     * @param data 직렬화된 통계 집계
+     */
+    public void update(String data) {
+        this.data = data;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,50 @@
+package com.quizplatform.core.domain.quiz;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 색인 변경 대기열(outbox) 엔티티 클래스
+ * 
+ * <p>퀴즈/태그 변경을 원 쓰기 트랜잭션과 함께 한 행으로 기록합니다.
+ * 기록과 선점/삭제는 {@code SearchIndexOutboxRepository}(JDBC)가 담당하며,
+ * 이 엔티티는 스키마(테이블, 인덱스)를 정의하기 위해 매핑합니다.</p>
+ * 
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+@Entity
+@Table(name = "search_index_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SearchIndexOutbox {
+
+    /**
+     * 대기 행 ID (기록 순서)
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 대상 유형 (QUIZ, TAG)
+     */
+    @Column(name = "aggregate_type", length = 20, nullable = false)
+    private String aggregateType;
+
+    /**
+     * 대상 ID
+     */
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    /**
+     * 기록 시각
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
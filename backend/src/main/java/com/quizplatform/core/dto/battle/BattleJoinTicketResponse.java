@@ -0,0 +1,49 @@
+package com.quizplatform.core.dto.battle;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 방 코드 입장 티켓 응답 DTO
+ * 
+ * <p>방 코드(초대 링크)로 입장 가능 여부를 확인한 뒤 발급되는 1회용 입장 티켓입니다.
+ * 클라이언트는 유효 시간 내에 티켓과 함께 참가 API를 호출합니다.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BattleJoinTicketResponse {
+
+    /**
+     * 배틀룸 ID
+     */
+    private Long roomId;
+
+    /**
+     * 배틀룸 코드
+     */
+    private String roomCode;
+
+    /**
+     * 입장 티켓
+     */
+    private String ticket;
+
+    /**
+     * 티켓 유효 시간 (초)
+     */
+    private long expiresInSeconds;
+
+    /**
+     * 현재 참가자 수
+     */
+    private int participantCount;
+
+    /**
+     * 최대 참가자 수
+     */
+    private int maxParticipants;
+}
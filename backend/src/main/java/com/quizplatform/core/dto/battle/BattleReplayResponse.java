@@ -0,0 +1,76 @@
+package com.quizplatform.core.dto.battle;
+
+import com.quizplatform.core.domain.battle.BattleEventType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 배틀 리플레이 응답 DTO
+ * 
+ * <p>이벤트 로그를 재생하여 만든 이벤트 목록과 문제별 점수 타임라인입니다.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BattleReplayResponse {
+
+    /**
+     * 배틀룸 ID
+     */
+    private Long roomId;
+
+    /**
+     * 첫 이벤트 발생 시각 (epoch millis)
+     */
+    private long startedAt;
+
+    /**
+     * 발생 순서의 이벤트 목록
+     */
+    private List<EventEntry> events;
+
+    /**
+     * 문제 시작 시점 및 종료 시점의 점수 스냅샷
+     */
+    private List<ScoreSnapshot> timeline;
+
+    /**
+     * 재생으로 계산한 최종 점수 (사용자 ID → 점수)
+     */
+    private Map<Long, Integer> finalScores;
+
+    /**
+     * 이벤트 항목
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class EventEntry {
+        private BattleEventType type;
+        private long offsetMillis;
+        private Long userId;
+        private int questionIndex;
+        private int value;
+        private boolean correct;
+    }
+
+    /**
+     * 점수 스냅샷
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ScoreSnapshot {
+        private int questionIndex;
+        private long offsetMillis;
+        private Map<Long, Integer> scores;
+    }
+}
@@ -0,0 +1,33 @@
+package com.quizplatform.core.dto.battle;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배틀 재접속 요청 DTO
+ * 
+ * <p>연결이 끊긴 참가자가 유예 시간 내에 새 세션으로 재접속할 때 전송하는 요청 객체입니다.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BattleResumeRequest {
+
+    /**
+     * 배틀룸 ID
+     */
+    private Long roomId;
+
+    /**
+     * 사용자 ID
+     */
+    private Long userId;
+
+    /**
+     * 입장 시 발급받은 재접속 토큰
+     */
+    private String resumeToken;
+}
@@ -0,0 +1,51 @@
+package com.quizplatform.core.dto.battle;
+
+import com.quizplatform.core.domain.battle.BattleRoomStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 배틀 재접속 응답 DTO
+ * 
+ * <p>재접속에 성공한 참가자에게 한 번 전송되는 축약된 배틀 상태 스냅샷입니다.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BattleResumeResponse {
+
+    /**
+     * 배틀룸 ID
+     */
+    private Long roomId;
+
+    /**
+     * 재접속 성공 여부
+     */
+    private boolean success;
+
+    /**
+     * 교체된 재접속 토큰 (다음 재접속 시 사용)
+     */
+    private String resumeToken;
+
+    /**
+     * 현재 배틀룸 상태
+     */
+    private BattleRoomStatus status;
+
+    /**
+     * 현재 문제 인덱스
+     */
+    private int currentQuestionIndex;
+
+    /**
+     * 참가자별 실시간 점수 (사용자 ID → 점수)
+     */
+    private Map<Long, Integer> scores;
+}
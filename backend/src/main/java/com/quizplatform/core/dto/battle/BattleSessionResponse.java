@@ -0,0 +1,38 @@
+package com.quizplatform.core.dto.battle;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배틀 세션 정보 응답 DTO
+ * 
+ * <p>입장한 참가자에게만 개별 전송되는 재접속 토큰 정보입니다.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BattleSessionResponse {
+
+    /**
+     * 배틀룸 ID
+     */
+    private Long roomId;
+
+    /**
+     * 사용자 ID
+     */
+    private Long userId;
+
+    /**
+     * 재접속 토큰
+     */
+    private String resumeToken;
+
+    /**
+     * 재연결 유예 시간 (초)
+     */
+    private long graceSeconds;
+}
@@ -0,0 +1,67 @@
+package com.quizplatform.core.dto.battle;
+
+import com.quizplatform.core.domain.battle.BattleRoomStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 배틀 관전 스냅샷 응답 DTO
+ * 
+ * <p>관전자 토픽(/topic/battle/{roomId}/spectate)으로 주기적으로 전송되는 진행 상황 요약입니다.
+ * 방 단위로 한 번만 생성되어 모든 관전자에게 공유됩니다.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BattleSpectateResponse {
+
+    /**
+     * 배틀룸 ID
+     */
+    private Long roomId;
+
+    /**
+     * 스냅샷 순번 (방 단위 증가, 클라이언트의 순서 확인용)
+     */
+    private long sequence;
+
+    /**
+     * 현재 문제 인덱스
+     */
+    private int currentQuestionIndex;
+
+    /**
+     * 전체 문제 수
+     */
+    private int totalQuestions;
+
+    /**
+     * 남은 시간 (초)
+     */
+    private int remainingTimeSeconds;
+
+    /**
+     * 배틀룸 상태
+     */
+    private BattleRoomStatus status;
+
+    /**
+     * 점수 순으로 정렬된 참가자 진행 상황
+     */
+    private List<BattleProgressResponse.ParticipantProgress> ranking;
+
+    /**
+     * 현재 관전자 수
+     */
+    private int spectatorCount;
+
+    /**
+     * 스냅샷 생성 시각 (epoch millis)
+     */
+    private long timestamp;
+}
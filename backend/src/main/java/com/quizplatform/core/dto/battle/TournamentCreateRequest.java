@@ -0,0 +1,44 @@
+package com.quizplatform.core.dto.battle;
+
+import com.quizplatform.core.service.battle.tournament.TournamentFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 토너먼트 생성 요청 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TournamentCreateRequest {
+
+    /**
+     * 토너먼트 이름
+     */
+    private String name;
+
+    /**
+     * 경기에 사용할 퀴즈 ID
+     */
+    private Long quizId;
+
+    /**
+     * 진행 방식 (SINGLE_ELIMINATION, SWISS)
+     */
+    private TournamentFormat format;
+
+    /**
+     * 사전 등록 참가자 사용자 ID (시드 순서, 선택)
+     */
+    private List<Long> entrantIds;
+
+    /**
+     * 라운드 간 대기 시간 (초, 기본 30초)
+     */
+    private Integer roundIntervalSeconds;
+}
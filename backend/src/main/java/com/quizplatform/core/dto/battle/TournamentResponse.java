@@ -0,0 +1,97 @@
+package com.quizplatform.core.dto.battle;
+
+import com.quizplatform.core.service.battle.tournament.Tournament;
+import com.quizplatform.core.service.battle.tournament.TournamentFormat;
+import com.quizplatform.core.service.battle.tournament.TournamentMatch;
+import com.quizplatform.core.service.battle.tournament.TournamentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 토너먼트 정보 응답 DTO
+ * 
+ * <p>현재 라운드의 대진과 (스위스 방식의 경우) 승점을 포함합니다.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TournamentResponse {
+
+    private Long id;
+    private String name;
+    private Long quizId;
+    private TournamentFormat format;
+    private TournamentStatus status;
+    private int entrantCount;
+    private int currentRound;
+    private int totalRounds;
+
+    /**
+     * 다음 라운드 시작 예정 시각 (epoch millis, 예정 없으면 0)
+     */
+    private long nextRoundAt;
+
+    /**
+     * 현재 라운드 대진
+     */
+    private List<MatchInfo> matches;
+
+    /**
+     * 참가자별 승점 (스위스 방식)
+     */
+    private Map<Long, Integer> points;
+
+    private Long championId;
+
+    /**
+     * 대진 정보
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MatchInfo {
+        private int round;
+        private int slot;
+        private List<Long> players;
+        private Long roomId;
+        private Long winnerId;
+        private boolean walkover;
+    }
+
+    public static TournamentResponse from(Tournament tournament) {
+        List<MatchInfo> matches = new ArrayList<>();
+        for (TournamentMatch match : tournament.getCurrentRoundMatches()) {
+            matches.add(MatchInfo.builder()
+                    .round(match.getRound())
+                    .slot(match.getSlot())
+                    .players(List.copyOf(match.getPlayers()))
+                    .roomId(match.getRoomId())
+                    .winnerId(match.getWinnerId())
+                    .walkover(match.isWalkover())
+                    .build());
+        }
+
+        return TournamentResponse.builder()
+                .id(tournament.getId())
+                .name(tournament.getName())
+                .quizId(tournament.getQuizId())
+                .format(tournament.getFormat())
+                .status(tournament.getStatus())
+                .entrantCount(tournament.getEntrants().size())
+                .currentRound(tournament.getCurrentRound())
+                .totalRounds(tournament.getTotalRounds())
+                .nextRoundAt(tournament.getNextRoundAt())
+                .matches(matches)
+                .points(Map.copyOf(tournament.getPoints()))
+                .championId(tournament.getChampionId())
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.quizplatform.core.dto.common;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반(seek) 페이지 응답
+ *
+ * <p>전체 개수를 세지 않고 다음 페이지 존재 여부와 다음 커서만 전달합니다.
+ * 조회 시 요청 크기보다 1건 더 가져와 다음 페이지 존재 여부를 판단합니다.</p>
+ *
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+@Getter
+public class CursorResponse<T> {
+    private final List<T> content;
+    private final int size;
+    private final boolean hasNext;
+    private final String nextCursor;
+
+    private CursorResponse(List<T> content, int size, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * 요청 크기 + 1건으로 조회한 결과로부터 응답을 생성합니다.
+     *
+     * @param rows 조회 결과 (최대 size + 1건)
+     * @param size 요청 페이지 크기
+     * @param cursorOf 마지막 항목으로부터 다음 커서를 만드는 함수
+     * @return 커서 페이지 응답
+     */
+    public static <T> CursorResponse<T> of(List<T> rows, int size, Function<T, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null;
+        return new CursorResponse<>(content, size, hasNext, nextCursor);
+    }
+}
@@ -0,0 +1,33 @@
+package com.quizplatform.core.dto.common;
+
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * 전체 개수 없는 페이지 응답 (다음 페이지 존재 여부만 포함)
+ *
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+@Getter
+public class SliceResponse<T> {
+    private final List<T> content;
+    private final int page;
+    private final int size;
+    private final boolean first;
+    private final boolean hasNext;
+
+    private SliceResponse(Slice<T> slice) {
+        this.content = slice.getContent();
+        this.page = slice.getNumber();
+        this.size = slice.getSize();
+        this.first = slice.isFirst();
+        this.hasNext = slice.hasNext();
+    }
+
+    public static <T> SliceResponse<T> of(Slice<T> slice) {
+        return new SliceResponse<>(slice);
+    }
+}
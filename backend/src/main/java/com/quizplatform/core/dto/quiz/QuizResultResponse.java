@@ -25,6 +25,9 @@ public class QuizResultResponse {
     private Integer timeTaken;
     private LocalDateTime completedAt;
 
+    // 순위 정보 (이 점수보다 낮은 점수를 받은 플레이어 비율 %, 비교 기록이 없으면 null)
+    private Double percentile;
+
     // 경험치 정보
     private Integer experienceGained;
     private Integer newTotalExperience;
@@ -0,0 +1,125 @@
+package com.quizplatform.core.dto.quiz;
+
+import com.quizplatform.core.exception.BusinessException;
+import com.quizplatform.core.exception.ErrorCode;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 퀴즈 목록 커서 (정렬 키 값 + 퀴즈 ID)
+ *
+ * <p>마지막으로 받은 항목의 정렬 키 값과 ID를 담아, 다음 페이지를 OFFSET 없이
+ * "(정렬 키, ID)가 이 값 다음인 행"으로 조회하는 데 사용합니다.
+ * 클라이언트에는 불투명한 문자열(Base64 URL)로 전달됩니다.</p>
+ *
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+@Getter
+public class QuizSearchCursor {
+
+    public static final String SORT_CREATED_AT = "createdat";
+    public static final String SORT_AVG_SCORE = "avgscore";
+    public static final String SORT_ATTEMPT_COUNT = "attemptcount";
+    public static final String SORT_DIFFICULTY = "difficulty";
+
+    private static final String DELIMITER = "|";
+
+    /**
+     * 정규화된 정렬 키
+     */
+    private final String sortKey;
+
+    /**
+     * 마지막 항목의 정렬 키 값 (문자열)
+     */
+    private final String value;
+
+    /**
+     * 마지막 항목의 퀴즈 ID (동일 값 정렬 기준)
+     */
+    private final Long id;
+
+    private QuizSearchCursor(String sortKey, String value, Long id) {
+        this.sortKey = sortKey;
+        this.value = value;
+        this.id = id;
+    }
+
+    /**
+     * 정렬 기준 문자열을 커서 정렬 키로 정규화합니다.
+     *
+     * @param orderBy 정렬 기준 (null이면 최신순)
+     * @return 정규화된 정렬 키
+     */
+    public static String normalizeSortKey(String orderBy) {
+        if (orderBy == null) {
+            return SORT_CREATED_AT;
+        }
+        return switch (orderBy.toLowerCase()) {
+            case SORT_AVG_SCORE -> SORT_AVG_SCORE;
+            case SORT_ATTEMPT_COUNT -> SORT_ATTEMPT_COUNT;
+            case SORT_DIFFICULTY, "difficultylevel" -> SORT_DIFFICULTY;
+            default -> SORT_CREATED_AT;
+        };
+    }
+
+    /**
+     * 페이지의 마지막 항목으로부터 다음 커서를 생성합니다.
+     *
+     * @param sortKey 정규화된 정렬 키
+     * @param last 마지막 항목
+     * @return 커서
+     */
+    public static QuizSearchCursor of(String sortKey, QuizSummaryResponse last) {
+        String value = switch (sortKey) {
+            case SORT_AVG_SCORE -> String.valueOf(last.getAvgScore());
+            case SORT_ATTEMPT_COUNT -> String.valueOf(last.getAttemptCount());
+            case SORT_DIFFICULTY -> last.getDifficultyLevel().name();
+            default -> last.getCreatedAt().toString();
+        };
+        return new QuizSearchCursor(sortKey, value, last.getId());
+    }
+
+    /**
+     * 클라이언트가 전달한 커서 문자열을 해석합니다.
+     *
+     * @param encoded 커서 문자열 (null이거나 비어 있으면 첫 페이지)
+     * @param sortKey 현재 요청의 정규화된 정렬 키
+     * @return 커서, 첫 페이지면 null
+     * @throws BusinessException 형식이 잘못되었거나 정렬 기준이 다른 커서인 경우
+     */
+    public static QuizSearchCursor decode(String encoded, String sortKey) {
+        if (encoded == null || encoded.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            int first = decoded.indexOf(DELIMITER);
+            int last = decoded.lastIndexOf(DELIMITER);
+            if (first < 0 || first == last) {
+                throw new IllegalArgumentException("구분자 누락");
+            }
+            String cursorSortKey = decoded.substring(0, first);
+            if (!cursorSortKey.equals(sortKey)) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "정렬 기준이 다른 커서입니다.");
+            }
+            return new QuizSearchCursor(cursorSortKey, decoded.substring(first + 1, last),
+                    Long.parseLong(decoded.substring(last + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 커서입니다.");
+        }
+    }
+
+    /**
+     * 클라이언트에 전달할 커서 문자열로 변환합니다.
+     *
+     * @return Base64 URL 인코딩된 커서
+     */
+    public String encode() {
+        String raw = sortKey + DELIMITER + value + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
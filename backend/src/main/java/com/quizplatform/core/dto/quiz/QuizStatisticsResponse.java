@@ -15,8 +15,13 @@ import java.util.stream.Collectors;
 public class QuizStatisticsResponse {
     private int totalAttempts;
     private double averageScore;
+    private double scoreStandardDeviation;
+    private int medianScore;
+    private List<Long> scoreDistribution;
     private double completionRate;
     private int averageTimeSeconds;
+    private int medianTimeSeconds;
+    private int p90TimeSeconds;
     private Map<DifficultyLevel, Integer> difficultyDistribution;
     private List<QuestionStatistics> questionStatistics;
 
@@ -38,8 +43,13 @@ public class QuizStatisticsResponse {
         return QuizStatisticsResponse.builder()
                 .totalAttempts(statistics.getTotalAttempts())
                 .averageScore(statistics.getAverageScore())
+                .scoreStandardDeviation(statistics.getScoreStandardDeviation())
+                .medianScore(statistics.getMedianScore())
+                .scoreDistribution(statistics.getScoreDistribution())
                 .completionRate(statistics.getCompletionRate())
                 .averageTimeSeconds(statistics.getAverageTimeSeconds())
+                .medianTimeSeconds(statistics.getMedianTimeSeconds())
+                .p90TimeSeconds(statistics.getP90TimeSeconds())
                 .difficultyDistribution(statistics.getDifficultyDistribution())
                 .questionStatistics(
                         statistics.getQuestionStatistics().stream()
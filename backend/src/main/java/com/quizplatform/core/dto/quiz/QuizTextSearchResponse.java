@@ -0,0 +1,27 @@
+package com.quizplatform.core.dto.quiz;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 퀴즈 전문 검색 응답 (관련도 순 결과와 필터 패싯)
+ *
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+@Getter
+@Builder
+public class QuizTextSearchResponse {
+    private final List<QuizSummaryResponse> content;
+    private final int page;
+    private final int size;
+    private final long totalElements;
+
+    /**
+     * 패싯 (Key: difficulty / type / tag, Value: 값별 일치 건수)
+     */
+    private final Map<String, Map<String, Long>> facets;
+}
@@ -19,10 +19,15 @@ public class TagResponse {
     private String name;
     private String description;
     private int quizCount;
+    private int totalQuizCount; // 하위 태그까지 포함한 퀴즈 수
     private Set<String> synonyms;
     private Long parentId; // 부모 태그 ID 추가
 
     public static TagResponse from(Tag tag, int quizCount) {
+        return from(tag, quizCount, quizCount);
+    }
+
+    public static TagResponse from(Tag tag, int quizCount, int totalQuizCount) {
         // 지연 로딩된 컬렉션을 명시적으로 초기화하고 일반 Java Set으로 변환
         Set<String> synonymsSet = new HashSet<>();
         if (tag.getSynonyms() != null) {
@@ -42,6 +47,7 @@ public class TagResponse {
                 .name(tag.getName())
                 .description(tag.getDescription())
                 .quizCount(quizCount)
+                .totalQuizCount(totalQuizCount)
                 .synonyms(synonymsSet) // 일반 Java Set 사용
                 .parentId(parentTagId) // 부모 태그 ID 추가
                 .build();
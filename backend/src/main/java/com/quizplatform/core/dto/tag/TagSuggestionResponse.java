@@ -0,0 +1,19 @@
+package com.quizplatform.core.dto.tag;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 태그 자동완성 후보 응답
+ *
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+@Getter
+@AllArgsConstructor
+public class TagSuggestionResponse {
+    private final Long id;
+    private final String name;
+    private final Long parentId;
+    private final int quizCount;
+}
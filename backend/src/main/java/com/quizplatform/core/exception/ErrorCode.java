@@ -63,6 +63,7 @@ public enum ErrorCode {
     NOT_READY_TO_START(HttpStatus.FORBIDDEN, "B011", "모든 참가자가 준비되지 않았습니다."),
     PARTICIPANT_NOT_FOUND(HttpStatus.NOT_FOUND, "B012", "참가자를 찾을 수 없습니다."),
     NO_PARTICIPANTS(HttpStatus.BAD_REQUEST, "B013", "참가자가 없습니다."),
+    INVALID_JOIN_TICKET(HttpStatus.BAD_REQUEST, "B014", "유효하지 않은 입장 티켓입니다."),
 
     // Answer Related Errors (답변 관련 오류)
     INVALID_QUESTION_SEQUENCE(HttpStatus.BAD_REQUEST, "B020", "잘못된 문제 순서입니다."),
@@ -82,6 +83,11 @@ public enum ErrorCode {
     INVALID_BATTLE_SETTINGS(HttpStatus.BAD_REQUEST, "B051", "잘못된 배틀 설정입니다."),
     BATTLE_VALIDATION_ERROR(HttpStatus.BAD_REQUEST, "B052", "배틀 검증 오류가 발생했습니다."),
 
+    // Tournament Related Errors (토너먼트 관련 오류)
+    TOURNAMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "B070", "토너먼트를 찾을 수 없습니다."),
+    INVALID_TOURNAMENT_STATE(HttpStatus.CONFLICT, "B071", "토너먼트 상태가 올바르지 않습니다."),
+    INVALID_TOURNAMENT_SETTINGS(HttpStatus.BAD_REQUEST, "B072", "잘못된 토너먼트 설정입니다."),
+
     // Tag Related Errors (태그 관련 오류)
     TAG_NOT_FOUND(HttpStatus.BAD_REQUEST, "T001", "태그가 존재하지 않습니다"),
 
@@ -0,0 +1,131 @@
+package com.quizplatform.core.filter;
+
+import com.quizplatform.core.config.websocket.WebSocketConfig;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+
+/**
+ * WebSocket permessage-deflate 압축 협상 필터
+ * 
+ * <p>네이티브 WebSocket 엔드포인트의 핸드셰이크 요청에서 {@code Sec-WebSocket-Extensions} 헤더를 조정합니다.
+ * Tomcat은 클라이언트가 제안한 permessage-deflate를 그대로 수락하므로, 요청 헤더 단계에서 정책을 적용합니다.</p>
+ * <ul>
+ *     <li>압축 비활성화 시: permessage-deflate 제안을 제거</li>
+ *     <li>server_no_context_takeover 활성화 시: 메시지마다 압축 컨텍스트를 초기화하도록 파라미터 추가
+ *     (세션별 압축 사전을 유지하지 않아 연결당 메모리 사용량 감소)</li>
+ * </ul>
+ * 
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+@Component
+@Slf4j
+public class WebSocketCompressionFilter extends OncePerRequestFilter {
+
+    private static final String EXTENSIONS_HEADER = "Sec-WebSocket-Extensions";
+    private static final String PERMESSAGE_DEFLATE = "permessage-deflate";
+    private static final String SERVER_NO_CONTEXT_TAKEOVER = "server_no_context_takeover";
+
+    @Value("${battle.websocket.compression.enabled:true}")
+    private boolean compressionEnabled;
+
+    @Value("${battle.websocket.compression.server-no-context-takeover:true}")
+    private boolean serverNoContextTakeover;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(WebSocketConfig.NATIVE_ENDPOINT)
+                || request.getHeader(EXTENSIONS_HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String extensions = rewriteExtensions(Collections.list(request.getHeaders(EXTENSIONS_HEADER)));
+        log.debug("WebSocket 확장 협상 조정: 요청={}, 적용={}", request.getHeader(EXTENSIONS_HEADER), extensions);
+        filterChain.doFilter(new ExtensionsHeaderRequest(request, extensions), response);
+    }
+
+    /**
+     * 압축 정책에 따라 확장 제안 목록을 재작성합니다.
+     * 
+     * @param headerValues 원본 헤더 값 목록
+     * @return 재작성된 헤더 값, 남은 확장이 없으면 null
+     */
+    private String rewriteExtensions(List<String> headerValues) {
+        List<String> offers = new ArrayList<>();
+        for (String headerValue : headerValues) {
+            for (String offer : headerValue.split(",")) {
+                String trimmed = offer.trim();
+                if (trimmed.isEmpty()) {
+                    continue;
+                }
+
+                if (trimmed.toLowerCase().startsWith(PERMESSAGE_DEFLATE)) {
+                    if (!compressionEnabled) {
+                        continue;
+                    }
+                    if (serverNoContextTakeover && !trimmed.contains(SERVER_NO_CONTEXT_TAKEOVER)) {
+                        trimmed = trimmed + "; " + SERVER_NO_CONTEXT_TAKEOVER;
+                    }
+                }
+                offers.add(trimmed);
+            }
+        }
+        return offers.isEmpty() ? null : String.join(", ", offers);
+    }
+
+    /**
+     * {@code Sec-WebSocket-Extensions} 헤더만 교체하는 요청 래퍼
+     */
+    private static class ExtensionsHeaderRequest extends HttpServletRequestWrapper {
+
+        private final String extensions;
+
+        ExtensionsHeaderRequest(HttpServletRequest request, String extensions) {
+            super(request);
+            this.extensions = extensions;
+        }
+
+        @Override
+        public String getHeader(String name) {
+            if (EXTENSIONS_HEADER.equalsIgnoreCase(name)) {
+                return extensions;
+            }
+            return super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            if (EXTENSIONS_HEADER.equalsIgnoreCase(name)) {
+                return extensions != null
+                        ? Collections.enumeration(List.of(extensions))
+                        : Collections.emptyEnumeration();
+            }
+            return super.getHeaders(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaderNames() {
+            List<String> names = Collections.list(super.getHeaderNames());
+            if (!StringUtils.hasText(extensions)) {
+                names.removeIf(EXTENSIONS_HEADER::equalsIgnoreCase);
+            }
+            return Collections.enumeration(names);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.quizplatform.core.repository.battle;
+
+import com.quizplatform.core.domain.battle.BattleEventChunk;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 배틀 이벤트 로그 청크에 대한 데이터 접근 인터페이스
+ * 
+ * <p>이벤트 로그는 추가와 배틀방 단위 순차 조회만 수행합니다.</p>
+ * 
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+@Repository
+public interface BattleEventChunkRepository extends JpaRepository<BattleEventChunk, Long> {
+
+    /**
+     * 배틀방의 이벤트 로그 청크를 기록 순서대로 조회
+     * 
+     * @param roomId 배틀방 ID
+     * @return 청크 목록 (첫 이벤트 시각, 청크 순번 순)
+     */
+    List<BattleEventChunk> findByRoomIdOrderByFirstEventAtAscChunkSeqAsc(Long roomId);
+}
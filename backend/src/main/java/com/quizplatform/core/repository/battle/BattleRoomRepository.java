@@ -78,6 +78,17 @@ public interface BattleRoomRepository extends JpaRepository<BattleRoom, Long> {
             "WHERE br.id = :id")
     Optional<BattleRoom> findByIdWithDetails(@Param("id") Long id);
 
+    /**
+     * 방 코드로 참가자 정보까지 로드하는 쿼리 (방 코드 색인 미스 시 사용)
+     * 
+     * @param roomCode 대결방 코드
+     * @return 참가자 정보가 포함된 대결방 Optional 객체
+     */
+    @Query("SELECT DISTINCT br FROM BattleRoom br " +
+            "LEFT JOIN FETCH br.participants " +
+            "WHERE br.roomCode = :roomCode")
+    Optional<BattleRoom> findByRoomCodeWithParticipants(@Param("roomCode") String roomCode);
+
     /**
      * 퀴즈 문제까지 로드하는 쿼리
      * 
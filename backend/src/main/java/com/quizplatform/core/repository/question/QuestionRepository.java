@@ -0,0 +1,14 @@
+package com.quizplatform.core.repository.question;
+
+import com.quizplatform.core.domain.question.Question;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * Question 엔티티에 대한 데이터 접근을 처리하는 리포지토리 인터페이스입니다.
+ * 문제 내용은 주로 퀴즈 집합 캐시를 통해 조회하며, 답변 기록 연결 등 엔티티 참조가 필요할 때 사용합니다.
+ *
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+public interface QuestionRepository extends JpaRepository<Question, Long> {
+}
@@ -2,12 +2,15 @@ package com.quizplatform.core.repository.quiz;
 
 import com.quizplatform.core.domain.quiz.DifficultyLevel;
 import com.quizplatform.core.domain.quiz.Quiz;
+import com.quizplatform.core.domain.quiz.QuizType;
 import com.quizplatform.core.domain.tag.Tag;
 // QuizSubmitRequest 내부의 QuizSearchCondition 사용 가정이지만, DTO 위치 확인 필요
+import com.quizplatform.core.dto.quiz.QuizSearchCursor;
 import com.quizplatform.core.dto.quiz.QuizSubmitRequest;
 import com.quizplatform.core.dto.quiz.QuizSummaryResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Set;
@@ -42,6 +45,45 @@ public interface CustomQuizRepository {
      */
     Page<QuizSummaryResponse> searchQuizSummaryResponse(QuizSubmitRequest.QuizSearchCondition condition, Pageable pageable);
 
+    /**
+     * 다양한 검색 조건을 이용하여 퀴즈를 검색하고 전체 개수 없이 다음 페이지 존재 여부만 반환합니다.
+     *
+     * @param condition 검색 조건을 담고 있는 객체
+     * @param pageable  페이징 정보 (페이지 번호, 크기)
+     * @return 검색 조건에 맞는 QuizSummaryResponse DTO 슬라이스 객체
+     */
+    Slice<QuizSummaryResponse> searchQuizSummarySlice(QuizSubmitRequest.QuizSearchCondition condition, Pageable pageable);
+
+    /**
+     * 검색 조건에 맞는 퀴즈를 커서 이후부터 (정렬 키, ID) 순으로 조회합니다. (keyset 페이지네이션)
+     * OFFSET과 전체 개수 쿼리 없이 인덱스 범위 탐색으로 다음 페이지를 가져옵니다.
+     *
+     * @param condition 검색 조건을 담고 있는 객체
+     * @param cursor    이전 페이지의 마지막 항목 커서 (첫 페이지면 null)
+     * @param limit     조회할 최대 개수 (다음 페이지 판단을 위해 보통 페이지 크기 + 1)
+     * @return 검색 조건에 맞는 QuizSummaryResponse DTO 리스트
+     */
+    List<QuizSummaryResponse> searchQuizSummaryAfter(QuizSubmitRequest.QuizSearchCondition condition, QuizSearchCursor cursor, int limit);
+
+    /**
+     * 특정 태그를 포함하는 퀴즈를 커서 이후부터 최신순으로 조회합니다. (keyset 페이지네이션)
+     *
+     * @param tagId  태그 ID
+     * @param cursor 이전 페이지의 마지막 항목 커서 (첫 페이지면 null)
+     * @param limit  조회할 최대 개수 (다음 페이지 판단을 위해 보통 페이지 크기 + 1)
+     * @return 해당 태그를 포함하는 QuizSummaryResponse DTO 리스트
+     */
+    List<QuizSummaryResponse> findQuizSummaryByTagAfter(Long tagId, QuizSearchCursor cursor, int limit);
+
+    /**
+     * ID 목록에 해당하는 퀴즈 요약 정보를 주어진 ID 순서대로 조회합니다.
+     * 검색 엔진이 반환한 관련도 순 ID 목록을 화면용 DTO로 조립할 때 사용합니다.
+     *
+     * @param quizIds 조회할 퀴즈 ID 목록 (반환 순서)
+     * @return 퀴즈 요약 DTO 리스트 (존재하지 않는 ID는 제외)
+     */
+    List<QuizSummaryResponse> findQuizSummaryByIds(List<Long> quizIds);
+
     /**
      * 주어진 태그 목록 및 난이도를 기반으로 추천 퀴즈 목록을 조회합니다.
      * 추천 로직은 구현 클래스에서 정의되며, 일반적으로 관련성 높은 퀴즈를 찾아 반환합니다.
@@ -62,4 +104,14 @@ public interface CustomQuizRepository {
      * @return 추천된 QuizSummaryResponse DTO 리스트
      */
     List<QuizSummaryResponse> findRecommendedQuizSummaryResponses(Set<Tag> tags, DifficultyLevel difficulty, int limit);
+
+    /**
+     * 주어진 유형과 난이도의 공개 퀴즈를 무작위로 조회합니다.
+     *
+     * @param quizType   퀴즈 유형
+     * @param difficulty 난이도
+     * @param limit      조회할 최대 퀴즈 개수
+     * @return 무작위 순서의 퀴즈 요약 DTO 리스트
+     */
+    List<QuizSummaryResponse> findRandomQuizSummaries(QuizType quizType, DifficultyLevel difficulty, int limit);
 }
\ No newline at end of file
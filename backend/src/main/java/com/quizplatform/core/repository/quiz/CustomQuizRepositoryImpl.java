@@ -4,29 +4,40 @@ import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.quizplatform.core.domain.quiz.DifficultyLevel;
 import com.quizplatform.core.domain.quiz.QQuiz; // QueryDSL 생성 Q클래스
 import com.quizplatform.core.domain.quiz.Quiz;
+import com.quizplatform.core.domain.quiz.QuizType;
 import com.quizplatform.core.domain.tag.QTag; // QueryDSL 생성 Q클래스
 import com.quizplatform.core.domain.tag.Tag;
-import com.quizplatform.core.domain.user.QUser;
+import com.quizplatform.core.dto.quiz.QuizSearchCursor;
 import com.quizplatform.core.dto.quiz.QuizSubmitRequest; // 위치 확인 필요
 import com.quizplatform.core.dto.quiz.QuizSummaryResponse;
 
 import com.quizplatform.core.dto.tag.TagDto;
 import com.quizplatform.core.dto.tag.TagResponse;
-import com.quizplatform.core.repository.tag.TagRepository;
+import com.quizplatform.core.exception.BusinessException;
+import com.quizplatform.core.exception.ErrorCode;
+import com.quizplatform.core.repository.tag.TagHierarchyCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -40,7 +51,9 @@ import java.util.stream.Collectors;
 @Slf4j
 public class CustomQuizRepositoryImpl implements CustomQuizRepository {
     private final JPAQueryFactory queryFactory; // QueryDSL 팩토리
-    private final TagRepository tagRepository; // 태그 계층 구조 조회를 위해 사용
+    private final TagHierarchyCache tagHierarchyCache; // 태그 계층 구조 조회를 위해 사용
+    private final QuizFacetIndex quizFacetIndex; // 태그 조건을 퀴즈 ID 목록으로 바꾸기 위한 역색인
+    private final QuizSearchCountCache quizSearchCountCache; // 검색 결과 전체 개수 캐시
 
     /**
      * 다양한 검색 조건(제목, 난이도, 타입, 태그, 문제 수 등)을 조합하여 퀴즈를 검색하고
@@ -97,6 +110,7 @@ public class CustomQuizRepositoryImpl implements CustomQuizRepository {
     /**
      * 다양한 검색 조건을 이용하여 퀴즈를 검색하고 페이징 처리된 결과를 DTO로 직접 반환합니다.
      * N+1 문제를 방지하기 위해 DTO 직접 조회 방식을 사용합니다.
+     * 전체 개수는 마지막 페이지에서 계산 가능하면 생략하고, 그 외에는 검색 조건별 캐시(짧은 TTL)를 사용합니다.
      *
      * @param condition 검색 조건을 담고 있는 객체
      * @param pageable  페이징 정보 (페이지 번호, 크기, 정렬 등)
@@ -104,70 +118,290 @@ public class CustomQuizRepositoryImpl implements CustomQuizRepository {
      */
     @Override
     public Page<QuizSummaryResponse> searchQuizSummaryResponse(QuizSubmitRequest.QuizSearchCondition condition, Pageable pageable) {
-        QQuiz quiz = QQuiz.quiz;
-        QTag tag = QTag.tag;
-        QUser creator = QUser.user;
-
         // 검색 조건 유효성 검사
         condition.validate();
 
         // 검색 조건 생성
         BooleanBuilder builder = createSearchCondition(condition);
 
-        // 카운트 쿼리 먼저 실행
-        Long total = queryFactory
-                .select(quiz.countDistinct())
+        // 1단계: 태그를 제외한 기본 정보 DTO로 직접 조회
+        List<QuizSummaryResponse> baseContent = selectQuizSummary()
+                .where(builder)
+                .orderBy(getOrderSpecifier(condition.getOrderBy()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        // 2단계: 별도 쿼리로 태그 정보 로드 후 합침
+        List<QuizSummaryResponse> content = attachTags(baseContent);
+
+        // 3단계: 첫/마지막 페이지처럼 결과로 개수를 알 수 있으면 COUNT 쿼리 생략
+        return PageableExecutionUtils.getPage(content, pageable, () -> countSearchResults(condition, builder));
+    }
+
+    /**
+     * 다양한 검색 조건을 이용하여 퀴즈를 검색하고 전체 개수 없이 다음 페이지 존재 여부만 반환합니다.
+     * 페이지 크기 + 1건을 조회하여 다음 페이지 여부를 판단하므로 COUNT 쿼리를 실행하지 않습니다.
+     *
+     * @param condition 검색 조건을 담고 있는 객체
+     * @param pageable  페이징 정보 (페이지 번호, 크기)
+     * @return 검색 조건에 맞는 QuizSummaryResponse DTO 슬라이스 객체
+     */
+    @Override
+    public Slice<QuizSummaryResponse> searchQuizSummarySlice(QuizSubmitRequest.QuizSearchCondition condition, Pageable pageable) {
+        condition.validate();
+
+        List<QuizSummaryResponse> baseContent = selectQuizSummary()
+                .where(createSearchCondition(condition))
+                .orderBy(getOrderSpecifier(condition.getOrderBy()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+
+        boolean hasNext = baseContent.size() > pageable.getPageSize();
+        if (hasNext) {
+            baseContent = baseContent.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(attachTags(baseContent), pageable, hasNext);
+    }
+
+    /**
+     * 검색 결과 전체 개수를 조회합니다. (검색 조건별 캐시)
+     * 필터 없는 목록은 테이블 통계 기반 추정치를 사용할 수 있습니다.
+     *
+     * @param condition 검색 조건 객체
+     * @param builder   검색 조건으로 생성된 WHERE 절
+     * @return 전체 개수
+     */
+    private long countSearchResults(QuizSubmitRequest.QuizSearchCondition condition, BooleanBuilder builder) {
+        QQuiz quiz = QQuiz.quiz;
+
+        // 태그 조건은 EXISTS 서브쿼리이므로 태그 조인/DISTINCT 불필요
+        Supplier<Long> exactCount = () -> queryFactory
+                .select(quiz.count())
                 .from(quiz)
-                .leftJoin(quiz.tags, tag) // Count 쿼리에도 조건 조인이 필요할 수 있음
                 .where(builder)
                 .fetchOne();
 
-        if (total == null || total == 0) {
-            return new PageImpl<>(Collections.emptyList(), pageable, 0);
+        String conditionKey = countKey(condition);
+        if (isUnfiltered(condition)) {
+            return quizSearchCountCache.getUnfilteredCount(conditionKey, exactCount);
         }
+        return quizSearchCountCache.getCount(conditionKey, exactCount);
+    }
 
-        // 1단계: 태그를 제외한 기본 정보 DTO로 직접 조회
-        List<QuizSummaryResponse> baseContent = queryFactory
+    /**
+     * 전체 개수 캐시 키를 생성합니다. (정렬 기준 제외, 제목 대소문자/공백 및 태그 순서 정규화)
+     *
+     * @param condition 검색 조건 객체
+     * @return 정규화된 검색 조건 키
+     */
+    private String countKey(QuizSubmitRequest.QuizSearchCondition condition) {
+        String title = normalizedTitle(condition);
+        List<Long> tagIds = condition.getTagIds() == null ? List.of()
+                : condition.getTagIds().stream().distinct().sorted().collect(Collectors.toList());
+        return String.join("|",
+                title == null ? "" : title.toLowerCase(),
+                String.valueOf(condition.getDifficultyLevel()),
+                String.valueOf(condition.getQuizType()),
+                tagIds.toString(),
+                String.valueOf(condition.getMinQuestions()),
+                String.valueOf(condition.getMaxQuestions()));
+    }
+
+    /**
+     * 제목 검색어를 앞뒤 공백을 제거해 반환합니다. (검색 조건과 개수 캐시 키가 같은 값을 사용)
+     *
+     * @param condition 검색 조건 객체
+     * @return 정규화된 제목 검색어 (없으면 null)
+     */
+    private String normalizedTitle(QuizSubmitRequest.QuizSearchCondition condition) {
+        return StringUtils.hasText(condition.getTitle()) ? condition.getTitle().trim() : null;
+    }
+
+    /**
+     * 공개 여부 외의 필터가 없는 검색인지 확인합니다.
+     *
+     * @param condition 검색 조건 객체
+     * @return 필터 없음 여부
+     */
+    private boolean isUnfiltered(QuizSubmitRequest.QuizSearchCondition condition) {
+        return !StringUtils.hasText(condition.getTitle())
+                && condition.getDifficultyLevel() == null
+                && condition.getQuizType() == null
+                && (condition.getTagIds() == null || condition.getTagIds().isEmpty())
+                && condition.getMinQuestions() == null
+                && condition.getMaxQuestions() == null;
+    }
+
+    /**
+     * 검색 조건에 맞는 퀴즈를 커서 이후부터 (정렬 키, ID) 순으로 DTO로 조회합니다.
+     * 정렬 키가 같은 행은 ID로 순서를 고정하여 페이지 경계에서 누락/중복이 없도록 합니다.
+     *
+     * @param condition 검색 조건을 담고 있는 객체
+     * @param cursor    이전 페이지의 마지막 항목 커서 (첫 페이지면 null)
+     * @param limit     조회할 최대 개수
+     * @return 검색 조건에 맞는 QuizSummaryResponse DTO 리스트
+     */
+    @Override
+    public List<QuizSummaryResponse> searchQuizSummaryAfter(QuizSubmitRequest.QuizSearchCondition condition,
+                                                            QuizSearchCursor cursor, int limit) {
+        condition.validate();
+
+        String sortKey = QuizSearchCursor.normalizeSortKey(condition.getOrderBy());
+        BooleanBuilder builder = createSearchCondition(condition);
+        if (cursor != null) {
+            builder.and(seekCondition(sortKey, cursor));
+        }
+
+        return attachTags(selectQuizSummary()
+                .where(builder)
+                .orderBy(seekOrderSpecifiers(sortKey))
+                .limit(limit)
+                .fetch());
+    }
+
+    /**
+     * 특정 태그를 포함하는 퀴즈를 커서 이후부터 최신순으로 DTO로 조회합니다.
+     * 태그 조건은 EXISTS 서브쿼리로 처리하여 컬렉션 fetch join 없이 DB에서 페이지를 자릅니다.
+     *
+     * @param tagId  태그 ID
+     * @param cursor 이전 페이지의 마지막 항목 커서 (첫 페이지면 null)
+     * @param limit  조회할 최대 개수
+     * @return 해당 태그를 포함하는 QuizSummaryResponse DTO 리스트
+     */
+    @Override
+    public List<QuizSummaryResponse> findQuizSummaryByTagAfter(Long tagId, QuizSearchCursor cursor, int limit) {
+        QQuiz quiz = QQuiz.quiz;
+
+        BooleanBuilder builder = new BooleanBuilder(quiz.tags.any().id.eq(tagId));
+        if (cursor != null) {
+            builder.and(seekCondition(QuizSearchCursor.SORT_CREATED_AT, cursor));
+        }
+
+        return attachTags(selectQuizSummary()
+                .where(builder)
+                .orderBy(seekOrderSpecifiers(QuizSearchCursor.SORT_CREATED_AT))
+                .limit(limit)
+                .fetch());
+    }
+
+    /**
+     * ID 목록에 해당하는 퀴즈 요약 정보를 주어진 ID 순서대로 조회합니다. (검색 엔진 결과 조립용)
+     *
+     * @param quizIds 조회할 퀴즈 ID 목록 (반환 순서)
+     * @return 퀴즈 요약 DTO 리스트 (존재하지 않는 ID는 제외)
+     */
+    @Override
+    public List<QuizSummaryResponse> findQuizSummaryByIds(List<Long> quizIds) {
+        if (quizIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        QQuiz quiz = QQuiz.quiz;
+
+        Map<Long, QuizSummaryResponse> byId = attachTags(selectQuizSummary()
+                .where(quiz.id.in(quizIds))
+                .fetch())
+                .stream()
+                .collect(Collectors.toMap(QuizSummaryResponse::getId, dto -> dto));
+        return quizIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 퀴즈 요약 DTO 프로젝션 쿼리를 생성합니다. (태그는 빈 목록, {@link #attachTags}로 채움)
+     *
+     * @return 퀴즈 요약 DTO 조회 쿼리
+     */
+    private JPAQuery<QuizSummaryResponse> selectQuizSummary() {
+        QQuiz quiz = QQuiz.quiz;
+        return queryFactory
                 .select(Projections.constructor(QuizSummaryResponse.class,
-                        quiz.id,                  // Long
-                        quiz.title,               // String
-                        quiz.quizType,            // QuizType
-                        quiz.difficultyLevel,     // DifficultyLevel
-                        quiz.questionCount,       // int
-                        quiz.attemptCount,        // int
-                        quiz.avgScore,            // double
-                        Expressions.constant(Collections.emptyList()), // List<TagResponse>
-                        quiz.createdAt            // LocalDateTime
+                        quiz.id,
+                        quiz.title,
+                        quiz.quizType,
+                        quiz.difficultyLevel,
+                        quiz.questionCount,
+                        quiz.attemptCount,
+                        quiz.avgScore,
+                        Expressions.constant(Collections.emptyList()),
+                        quiz.createdAt
                 ))
-                .from(quiz)
-                .leftJoin(quiz.creator, creator) // 조인은 필요
-                .where(builder)
-                .orderBy(getOrderSpecifier(condition.getOrderBy()))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
+                .from(quiz);
+    }
+
+    /**
+     * 조회된 퀴즈 요약 DTO에 태그 정보를 한 번의 IN 쿼리로 채웁니다.
+     *
+     * @param baseContent 태그가 비어 있는 퀴즈 요약 DTO 목록
+     * @return 태그가 채워진 퀴즈 요약 DTO 목록
+     */
+    private List<QuizSummaryResponse> attachTags(List<QuizSummaryResponse> baseContent) {
+        if (baseContent.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Set<Long> quizIds = baseContent.stream()
+                .map(QuizSummaryResponse::getId)
+                .collect(Collectors.toSet());
+        Map<Long, List<TagResponse>> quizTagsMap = loadQuizTagsAsResponse(quizIds);
+        return baseContent.stream()
+                .map(dto -> dto.toBuilder()
+                        .tags(quizTagsMap.getOrDefault(dto.getId(), Collections.emptyList()))
+                        .build())
+                .collect(Collectors.toList());
+    }
 
-        // 2단계: 별도 쿼리로 태그 정보 로드 (Map<QuizId, List<TagResponse>>)
-        List<QuizSummaryResponse> finalContent; // 최종 결과를 담을 리스트
-        if (!baseContent.isEmpty()) {
-            Set<Long> quizIds = baseContent.stream()
-                    .map(QuizSummaryResponse::getId)
-                    .collect(Collectors.toSet());
-
-            // 수정된 loadQuizTags 호출 (TagResponse 반환)
-            Map<Long, List<TagResponse>> quizTagsMap = loadQuizTagsAsResponse(quizIds); // 새 메서드 사용
-
-            // 3단계: 기본 DTO와 태그 정보를 합쳐 최종 DTO 생성
-            finalContent = baseContent.stream()
-                    .map(dto -> dto.toBuilder() // 기존 DTO 기반으로 빌더 생성
-                            .tags(quizTagsMap.getOrDefault(dto.getId(), Collections.emptyList())) // 태그 설정
-                            .build()) // 새로운 DTO 객체 생성
-                    .collect(Collectors.toList());
-        } else {
-            finalContent = Collections.emptyList();
+    /**
+     * 커서 이후 행만 남기는 seek 조건을 생성합니다.
+     * 내림차순 정렬은 (키 &lt; 값) 또는 (키 = 값 그리고 ID &lt; 마지막 ID), 오름차순은 그 반대입니다.
+     *
+     * @param sortKey 정규화된 정렬 키
+     * @param cursor  이전 페이지의 마지막 항목 커서
+     * @return seek 조건
+     */
+    private BooleanExpression seekCondition(String sortKey, QuizSearchCursor cursor) {
+        QQuiz quiz = QQuiz.quiz;
+        Long lastId = cursor.getId();
+        try {
+            switch (sortKey) {
+                case QuizSearchCursor.SORT_AVG_SCORE: {
+                    double value = Double.parseDouble(cursor.getValue());
+                    return quiz.avgScore.lt(value).or(quiz.avgScore.eq(value).and(quiz.id.lt(lastId)));
+                }
+                case QuizSearchCursor.SORT_ATTEMPT_COUNT: {
+                    int value = Integer.parseInt(cursor.getValue());
+                    return quiz.attemptCount.lt(value).or(quiz.attemptCount.eq(value).and(quiz.id.lt(lastId)));
+                }
+                case QuizSearchCursor.SORT_DIFFICULTY: {
+                    DifficultyLevel value = DifficultyLevel.valueOf(cursor.getValue());
+                    return quiz.difficultyLevel.gt(value).or(quiz.difficultyLevel.eq(value).and(quiz.id.gt(lastId)));
+                }
+                default: {
+                    LocalDateTime value = LocalDateTime.parse(cursor.getValue());
+                    return quiz.createdAt.lt(value).or(quiz.createdAt.eq(value).and(quiz.id.lt(lastId)));
+                }
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 커서입니다.");
         }
+    }
 
-        return new PageImpl<>(finalContent, pageable, total);
+    /**
+     * seek 페이지네이션용 정렬 조건 (정렬 키 + 같은 방향의 ID)
+     *
+     * @param sortKey 정규화된 정렬 키
+     * @return 정렬 조건 배열
+     */
+    private OrderSpecifier<?>[] seekOrderSpecifiers(String sortKey) {
+        QQuiz quiz = QQuiz.quiz;
+        return switch (sortKey) {
+            case QuizSearchCursor.SORT_AVG_SCORE -> new OrderSpecifier<?>[]{quiz.avgScore.desc(), quiz.id.desc()};
+            case QuizSearchCursor.SORT_ATTEMPT_COUNT -> new OrderSpecifier<?>[]{quiz.attemptCount.desc(), quiz.id.desc()};
+            case QuizSearchCursor.SORT_DIFFICULTY -> new OrderSpecifier<?>[]{quiz.difficultyLevel.asc(), quiz.id.asc()};
+            default -> new OrderSpecifier<?>[]{quiz.createdAt.desc(), quiz.id.desc()};
+        };
     }
 
     /**
@@ -247,26 +481,23 @@ public class CustomQuizRepositoryImpl implements CustomQuizRepository {
         }
         
         QQuiz quiz = QQuiz.quiz;
-        QTag tag = QTag.tag; // 사용되지는 않지만 조인을 위해 선언
 
-        // 추천 퀴즈 조회 쿼리
-        List<Quiz> quizzes = queryFactory
+        // 1. 조건에 맞는 퀴즈 ID를 무작위로 limit개만 선택
+        List<Long> quizIds = sampleRecommendedQuizIds(tags, difficulty, limit);
+        if (quizIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // 2. 선택된 퀴즈만 조회하고 무작위 순서를 유지
+        Map<Long, Quiz> byId = queryFactory
                 .selectFrom(quiz)
-                .leftJoin(quiz.tags, tag) // 태그 정보 조인을 위해 필요
-                .where(
-                        quiz.isPublic.isTrue() // 공개된 퀴즈
-                                .and(quiz.difficultyLevel.eq(difficulty)) // 지정된 난이도
-                                .and(quiz.tags.any().in(tags)) // 주어진 태그 중 하나라도 포함
-                )
-                .distinct() // 태그 중복으로 인한 퀴즈 중복 제거
-                .fetch();
-        
-        // 애플리케이션 레벨에서 랜덤하게 섞기 (DB의 ORDER BY random() 대신)
-        Collections.shuffle(quizzes);
-        
-        // 제한된 개수만큼 반환
-        return quizzes.stream()
-                .limit(limit)
+                .where(quiz.id.in(quizIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(Quiz::getId, found -> found));
+        return quizIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
 
@@ -295,77 +526,83 @@ public class CustomQuizRepositoryImpl implements CustomQuizRepository {
             throw new IllegalArgumentException("Difficulty level cannot be null");
         }
         
+        // 조건에 맞는 퀴즈 ID를 무작위로 limit개만 선택한 뒤 요약 정보와 태그를 한 번에 조회
+        return findQuizSummaryByIds(sampleRecommendedQuizIds(tags, difficulty, limit));
+    }
+
+    /**
+     * 주어진 유형과 난이도의 공개 퀴즈를 무작위로 최대 limit개 조회합니다.
+     *
+     * @param quizType   퀴즈 유형
+     * @param difficulty 난이도
+     * @param limit      조회할 최대 퀴즈 개수
+     * @return 무작위 순서의 퀴즈 요약 DTO 리스트
+     */
+    @Override
+    public List<QuizSummaryResponse> findRandomQuizSummaries(QuizType quizType, DifficultyLevel difficulty, int limit) {
         QQuiz quiz = QQuiz.quiz;
-        QTag tag = QTag.tag;
-        QUser creator = QUser.user;
+        List<Long> quizIds = sampleQuizIds(
+                QuizFacetIndex.Filter.builder()
+                        .quizType(quizType)
+                        .difficulty(difficulty)
+                        .publicOnly(true)
+                        .build(),
+                quiz.isPublic.isTrue()
+                        .and(quiz.quizType.eq(quizType))
+                        .and(quiz.difficultyLevel.eq(difficulty)),
+                limit);
+        return findQuizSummaryByIds(quizIds);
+    }
 
-        // 태그 ID 목록 추출
+    /**
+     * 주어진 태그 중 하나라도 포함하고 난이도가 일치하는 공개 퀴즈 ID를 무작위로 선택합니다.
+     */
+    private List<Long> sampleRecommendedQuizIds(Set<Tag> tags, DifficultyLevel difficulty, int limit) {
+        QQuiz quiz = QQuiz.quiz;
         Set<Long> tagIds = tags.stream()
                 .map(Tag::getId)
                 .collect(Collectors.toSet());
+        return sampleQuizIds(
+                QuizFacetIndex.Filter.builder()
+                        .tagGroup(tagIds)
+                        .difficulty(difficulty)
+                        .publicOnly(true)
+                        .build(),
+                quiz.isPublic.isTrue()
+                        .and(quiz.difficultyLevel.eq(difficulty))
+                        .and(quiz.tags.any().id.in(tagIds)),
+                limit);
+    }
 
-        // 1단계: 태그를 제외한 기본 정보 DTO로 직접 조회
-        // QuizSummaryResponse 생성자에 맞게 필드 순서/타입 조정 및 임시 값 추가
-        List<QuizSummaryResponse> baseResult = queryFactory
-                .select(Projections.constructor(QuizSummaryResponse.class,
-                        quiz.id,
-                        quiz.title,
-                        quiz.quizType,
-                        quiz.difficultyLevel,
-                        quiz.questionCount,
-                        quiz.attemptCount,
-                        quiz.avgScore,
-                        Expressions.constant(Collections.emptyList()), // tags 임시 빈 리스트
-                        quiz.createdAt
-                ))
-                .from(quiz)
-                // .leftJoin(quiz.creator, creator) // 생성자에 creator 정보 없으므로 조인 불필요할 수 있음 (쿼리 조건에 따라 판단)
-                .where(
-                        quiz.isPublic.isTrue()
-                                .and(quiz.difficultyLevel.eq(difficulty))
-                                .and(quiz.id.in(
-                                        // 서브쿼리: 태그 중 하나라도 포함하는 퀴즈 ID 목록
-                                        queryFactory.select(quiz.id)
-                                                .from(quiz)
-                                                .join(quiz.tags, tag)
-                                                .where(tag.id.in(tagIds))
-                                                .groupBy(quiz.id)
-                                ))
-                )
-                .fetch();
-
-        // 애플리케이션 레벨에서 랜덤하게 섞기
-        Collections.shuffle(baseResult);
-
-        // 결과 크기 제한
-        List<QuizSummaryResponse> limitedResult;
-        if (baseResult.size() > limit) {
-            limitedResult = baseResult.subList(0, limit);
-        } else {
-            limitedResult = baseResult;
+    /**
+     * 조건에 맞는 퀴즈 ID를 중복 없이 무작위로 최대 limit개 선택합니다.
+     * 역색인이 적재되어 있으면 비트맵에서 바로 뽑고, 아니면 조건에 맞는 ID만 조회해 앞쪽 limit개까지만 섞습니다.
+     * 어느 쪽이든 퀴즈 엔티티 전체를 읽어 섞지 않습니다.
+     *
+     * @param filter    역색인 조건
+     * @param condition 역색인을 쓸 수 없을 때의 동일한 DB 조건
+     * @param limit     최대 개수
+     * @return 무작위 순서의 퀴즈 ID 목록
+     */
+    private List<Long> sampleQuizIds(QuizFacetIndex.Filter filter, BooleanExpression condition, int limit) {
+        Optional<QuizFacetIndex.Match> match = quizFacetIndex.match(filter);
+        if (match.isPresent()) {
+            return match.get().randomSample(limit);
         }
 
-        // 2단계: 별도 쿼리로 태그 정보 로드 (TagResponse 사용)
-        List<QuizSummaryResponse> finalResult; // 최종 결과를 담을 리스트
-        if (!limitedResult.isEmpty()) {
-            Set<Long> quizIds = limitedResult.stream()
-                    .map(QuizSummaryResponse::getId)
-                    .collect(Collectors.toSet());
-
-            // 수정된 loadQuizTagsAsResponse 호출
-            Map<Long, List<TagResponse>> quizTagsMap = loadQuizTagsAsResponse(quizIds);
-
-            // 3단계: 기본 DTO와 태그 정보를 합쳐 최종 DTO 생성 (toBuilder 사용)
-            finalResult = limitedResult.stream()
-                    .map(dto -> dto.toBuilder() // 기존 DTO 기반으로 빌더 생성
-                            .tags(quizTagsMap.getOrDefault(dto.getId(), Collections.emptyList())) // 태그 설정
-                            .build()) // 새로운 DTO 객체 생성
-                    .collect(Collectors.toList());
-        } else {
-            finalResult = Collections.emptyList();
+        QQuiz quiz = QQuiz.quiz;
+        List<Long> quizIds = queryFactory
+                .select(quiz.id)
+                .from(quiz)
+                .where(condition)
+                .fetch();
+        // 부분 Fisher-Yates 셔플: 앞쪽 sampleSize개 자리만 무작위로 채움
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int sampleSize = Math.min(Math.max(limit, 0), quizIds.size());
+        for (int i = 0; i < sampleSize; i++) {
+            Collections.swap(quizIds, i, i + random.nextInt(quizIds.size() - i));
         }
-
-        return finalResult;
+        return new ArrayList<>(quizIds.subList(0, sampleSize));
     }
 
 // loadQuizTagsAsResponse 메서드는 이전에 정의된 것을 사용합니다.
@@ -419,8 +656,9 @@ public class CustomQuizRepositoryImpl implements CustomQuizRepository {
         builder.and(quiz.isPublic.isTrue());
 
         // 제목 검색 조건 (null 또는 빈 문자열이 아닐 경우)
-        if (StringUtils.hasText(condition.getTitle())) {
-            builder.and(quiz.title.containsIgnoreCase(condition.getTitle())); // 대소문자 무시 포함 검색
+        String title = normalizedTitle(condition);
+        if (title != null) {
+            builder.and(quiz.title.containsIgnoreCase(title)); // 대소문자 무시 포함 검색
         }
 
         // 난이도 필터 조건
@@ -436,7 +674,7 @@ public class CustomQuizRepositoryImpl implements CustomQuizRepository {
         // 태그 필터 조건 (태그 ID 목록이 null이 아니고 비어있지 않을 경우)
         if (condition.getTagIds() != null && !condition.getTagIds().isEmpty()) {
             // 태그 검색 로직 처리 (하위 태그 포함 및 다중 태그 OR 조건)
-            handleTagSearch(builder, quiz, condition.getTagIds());
+            handleTagSearch(builder, quiz, condition);
         }
 
         // 최소 문제 수 필터 조건
@@ -453,64 +691,36 @@ public class CustomQuizRepositoryImpl implements CustomQuizRepository {
 
     /**
      * 태그 기반 검색 조건을 QueryDSL BooleanBuilder에 추가합니다. (내부 헬퍼 메서드)
-     * 단일 태그 검색 시 해당 태그 및 모든 하위 태그를 포함하여 검색합니다.
-     * 복수 태그 검색 시 각 태그(및 하위 태그) 중 하나라도 포함하는 퀴즈를 검색합니다 (OR 조건).
+     * 각 태그를 모든 하위 태그까지 확장한 뒤, 그 중 하나라도 포함하는 퀴즈를 검색합니다 (OR 조건).
+     * 태그별 OR 조건은 확장된 ID 합집합에 대한 IN 조건 하나와 같으므로 하나로 합쳐 적용합니다.
      *
-     * @param builder QueryDSL BooleanBuilder 객체
-     * @param quiz    QQuiz 객체 (퀴즈 Q클래스)
-     * @param tagIds  검색할 태그 ID 목록
-     */
-    private void handleTagSearch(BooleanBuilder builder, QQuiz quiz, List<Long> tagIds) {
-        if (tagIds.size() == 1) {
-            // --- 단일 태그 검색 ---
-            Long singleTagId = tagIds.get(0);
-            // 해당 태그 ID와 그 하위 태그 ID들을 모두 가져옴
-            Set<Long> expandedIds = expandTagId(singleTagId);
-            // 퀴즈가 가진 태그 중 하나라도 expandedIds에 포함되는지 확인 (AND 조건)
-            builder.and(quiz.tags.any().id.in(expandedIds));
-            log.debug("Single tag search applied: tagId={} (including descendants)", singleTagId);
-        } else {
-            // --- 복수 태그 검색 (OR 조건) ---
-            BooleanBuilder tagCondition = new BooleanBuilder(); // 태그 조건만을 위한 별도 Builder
-            for (Long tagId : tagIds) {
-                // 각 태그 ID와 그 하위 태그 ID들을 모두 가져옴
-                Set<Long> expandedIds = expandTagId(tagId);
-                // 해당 태그(및 하위 태그)를 포함하는 조건을 OR로 추가
-                tagCondition.or(quiz.tags.any().id.in(expandedIds));
-                log.debug("Multi-tag search condition added (OR): tagId={} (including descendants)", tagId);
-            }
-            // 생성된 태그 OR 조건을 메인 builder에 AND로 추가
-            builder.and(tagCondition);
-            log.debug("Multi-tag search applied: searching for quizzes containing at least one of the specified tags (OR condition)");
-        }
-    }
-
-    /**
-     * 주어진 태그 ID에 해당하는 태그와 그 모든 하위 태그들의 ID를 Set으로 반환합니다. (내부 헬퍼 메서드)
-     * TagRepository를 사용하여 하위 태그 목록을 조회합니다.
+     * <p>역색인으로 태그/난이도/유형/공개 조건에 맞는 퀴즈 ID를 먼저 계산해 그 수가 기준 이하이면
+     * 태그 조인(EXISTS 서브쿼리) 대신 퀴즈 ID IN 조건을 사용합니다. 역색인이 준비되지 않았거나
+     * 결과가 많으면 기존 태그 조인 조건을 사용합니다.</p>
      *
-     * @param tagId 확장할 기준 태그 ID
-     * @return 기준 태그 ID와 모든 하위 태그 ID들을 포함하는 Set
+     * @param builder   QueryDSL BooleanBuilder 객체
+     * @param quiz      QQuiz 객체 (퀴즈 Q클래스)
+     * @param condition 검색 조건 (태그 ID 목록, 난이도, 유형)
      */
-    private Set<Long> expandTagId(Long tagId) {
-        log.debug("Expanding tag ID: {}", tagId);
-        Set<Long> expandedIds = new HashSet<>();
-        expandedIds.add(tagId); // 자기 자신 ID 추가
-
-        try {
-            // TagRepository를 통해 해당 태그와 모든 자식 태그 엔티티 조회
-            List<Tag> childTags = tagRepository.findTagAndAllDescendants(tagId);
-            // 조회된 태그들의 ID를 expandedIds Set에 추가
-            for (Tag childTag : childTags) {
-                expandedIds.add(childTag.getId());
-            }
-        } catch (Exception e) {
-            // 하위 태그 조회 중 오류 발생 시 로그 기록 (예: DB 오류)
-            log.error("Error expanding tag ID {}: {}", tagId, e.getMessage(), e);
+    private void handleTagSearch(BooleanBuilder builder, QQuiz quiz, QuizSubmitRequest.QuizSearchCondition condition) {
+        List<Long> tagIds = condition.getTagIds();
+        // 태그 계층 캐시에서 깊이 제한 없이 하위 태그까지 확장 (DB 조회 없음)
+        Set<Long> expandedIds = tagHierarchyCache.expandWithDescendants(tagIds);
+
+        Optional<QuizFacetIndex.Match> match = quizFacetIndex.match(QuizFacetIndex.Filter.builder()
+                .tagGroup(expandedIds)
+                .difficulty(condition.getDifficultyLevel())
+                .quizType(condition.getQuizType())
+                .publicOnly(true)
+                .build());
+        if (match.isPresent() && match.get().count() <= quizFacetIndex.getMaxIdListSize()) {
+            builder.and(quiz.id.in(match.get().ids()));
+            log.debug("Tag search applied via facet index: tagIds={}, candidates={}", tagIds, match.get().count());
+            return;
         }
 
-        log.debug("Tag ID {} expanded to: {}", tagId, expandedIds);
-        return expandedIds;
+        builder.and(quiz.tags.any().id.in(expandedIds));
+        log.debug("Tag search applied: tagIds={} expanded to {} tags (including descendants)", tagIds, expandedIds.size());
     }
 
     /**
@@ -535,6 +745,7 @@ public class CustomQuizRepositoryImpl implements CustomQuizRepository {
             case "attemptcount":
                 return quiz.attemptCount.desc(); // 시도 횟수 내림차순
             case "difficulty":
+            case "difficultylevel":
                 return quiz.difficultyLevel.asc(); // 난이도 오름차순 (쉬운 것부터)
             // 다른 정렬 기준 추가 가능 (예: "viewcount", "title")
             // case "viewcount":
@@ -1,7 +1,9 @@
 package com.quizplatform.core.repository.quiz;
 
+import com.quizplatform.core.domain.quiz.DifficultyLevel;
 import com.quizplatform.core.domain.quiz.Quiz;
 import com.quizplatform.core.domain.quiz.QuizType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.query.Param;
@@ -90,4 +92,23 @@ public interface DailyQuizRepository extends Repository<Quiz, Long> {
             ") " +
             "ORDER BY q.createdAt DESC")
     List<Quiz> findEligibleQuizzesForDaily(@Param("since") LocalDateTime since);
+
+    /**
+     * 난이도가 일치하는 공개 일반 퀴즈를 인기도 점수 순으로 조회합니다. (데일리 퀴즈 후보군)
+     * 인기도 부분 인덱스를 순서대로 읽으므로 전체 퀴즈를 적재하지 않습니다.
+     *
+     * @param difficulty   난이도
+     * @param minQuestions 최소 문제 수
+     * @param pageable     후보군 크기
+     * @return 인기도 순 Quiz 엔티티 리스트
+     */
+    @Query("SELECT q FROM Quiz q " +
+            "WHERE q.quizType = com.quizplatform.core.domain.quiz.QuizType.REGULAR " +
+            "AND q.isPublic = true " +
+            "AND q.difficultyLevel = :difficulty " +
+            "AND q.questionCount >= :minQuestions " +
+            "ORDER BY q.popularityScore DESC, q.id DESC")
+    List<Quiz> findPopularDailyCandidates(@Param("difficulty") DifficultyLevel difficulty,
+                                          @Param("minQuestions") int minQuestions,
+                                          Pageable pageable);
 }
\ No newline at end of file
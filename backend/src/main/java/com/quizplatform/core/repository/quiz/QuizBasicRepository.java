@@ -2,16 +2,20 @@ package com.quizplatform.core.repository.quiz;
 
 import com.quizplatform.core.domain.quiz.Quiz;
 import com.quizplatform.core.dto.quiz.QuizDetailResponse;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Quiz 엔티티의 기본 CRUD 및 조회 기능을 제공하는 리포지토리 인터페이스
@@ -105,4 +109,23 @@ public interface QuizBasicRepository extends JpaRepository<Quiz, Long> {
      */
     @Query("SELECT q FROM Quiz q WHERE q.creator.id = :creatorId")
     Page<Quiz> findByCreatorId(@Param("creatorId") Long creatorId, Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * 특정 태그 중 하나라도 가진 퀴즈 ID를 조회합니다. (태그 변경 시 검색 색인 갱신 대상)
+     *
+     * @param tagIds 태그 ID 목록
+     * @return 퀴즈 ID 목록
+     */
+    @Query("SELECT DISTINCT q.id FROM Quiz q JOIN q.tags t WHERE t.id IN :tagIds")
+    List<Long> findIdsByTagIds(@Param("tagIds") Collection<Long> tagIds);
+
+    /**
+     * 전체 퀴즈를 ID 순으로 스트리밍 조회합니다. (검색 색인 전체 재구축용, 트랜잭션 내에서 소비 필요)
+     * 서버 측 커서로 fetch size만큼씩 읽으므로 퀴즈 수와 관계없이 결과 전체를 메모리에 올리지 않습니다.
+     *
+     * @return 퀴즈 스트림 (사용 후 닫아야 함)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT q FROM Quiz q ORDER BY q.id")
+    Stream<Quiz> streamAllOrderById();
+}
@@ -0,0 +1,52 @@
+package com.quizplatform.core.repository.quiz;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 퀴즈 카운터 일괄 반영 리포지토리 (JDBC)
+ * 
+ * 주요 기능:
+ * - 메모리/Redis에 모아 둔 퀴즈별 증가분을 한 번의 UPDATE ... FROM (VALUES ...) 문으로 반영
+ * - 퀴즈 행마다 UPDATE를 실행하지 않으므로 인기 퀴즈 행의 잠금 대기가 발생하지 않음
+ * 
+ * @author 채기훈
+ */
+@Repository
+@RequiredArgsConstructor
+public class QuizCounterJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 퀴즈별 조회수 증가분을 일괄 반영합니다.
+     * 퀴즈 ID 순으로 정렬된 입력을 권장합니다. (동시 실행 시 잠금 순서 고정)
+     *
+     * @param deltas 퀴즈 ID별 조회수 증가분
+     * @return 업데이트된 행의 수
+     */
+    public int addViewCounts(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder sql = new StringBuilder(
+                "UPDATE quizzes q SET view_count = q.view_count + v.delta FROM (VALUES ");
+        List<Object> params = new ArrayList<>(deltas.size() * 2);
+        boolean first = true;
+        for (Map.Entry<Long, Long> entry : deltas.entrySet()) {
+            sql.append(first ? "" : ", ").append("(CAST(? AS BIGINT), CAST(? AS INTEGER))");
+            params.add(entry.getKey());
+            params.add(entry.getValue());
+            first = false;
+        }
+        sql.append(") AS v(id, delta) WHERE q.id = v.id");
+
+        return jdbcTemplate.update(sql.toString(), params.toArray());
+    }
+}
@@ -0,0 +1,457 @@
+package com.quizplatform.core.repository.quiz;
+
+import com.quizplatform.core.domain.quiz.DifficultyLevel;
+import com.quizplatform.core.domain.quiz.QuizType;
+import com.quizplatform.core.service.event.QuizCreatedEvent;
+import com.quizplatform.core.service.event.QuizUpdatedEvent;
+import com.quizplatform.core.service.event.TagChangedEvent;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 퀴즈 속성별 역색인 (압축 비트맵)
+ *
+ * 주요 기능:
+ * - 태그 ID, 난이도, 퀴즈 유형, 공개 여부별로 해당 퀴즈 ID 집합을 Roaring 비트맵으로 메모리에 보관
+ * - 태그 그룹 안은 OR, 그룹 사이와 나머지 속성은 AND로 조합한 퀴즈 ID 집합을 DB 조회 없이 계산
+ * - 기동 시 quizzes, quiz_tags 테이블을 한 번씩 읽어 적재하고, 퀴즈 생성/수정 커밋 후 해당 퀴즈만 다시 읽어 반영
+ * - 태그 생성/수정/삭제 커밋 후 해당 태그의 비트맵만 quiz_tags에서 다시 읽어 교체
+ *
+ * <p>조회는 읽기 잠금 안에서 새 비트맵으로 결과를 만들어 반환하므로, 반환된 결과는 이후 변경과 무관하게 안전하게 읽을 수 있습니다.
+ * 적재 전이거나 퀴즈 ID가 32비트 범위를 넘으면 결과 없음(Optional.empty)을 반환하며, 호출 측은 DB 조회로 대체합니다.</p>
+ *
+ * @author 채기훈
+ */
+@Component
+@Slf4j
+public class QuizFacetIndex {
+
+    private static final String SELECT_QUIZZES = "SELECT id, difficulty_level, quiz_type, is_public FROM quizzes";
+    private static final String SELECT_QUIZ_TAGS = "SELECT quiz_id, tag_id FROM quiz_tags";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * ID 목록(IN 조건)으로 넘겨도 되는 최대 결과 수 (초과하면 호출 측이 기존 조인 쿼리 사용)
+     */
+    @Getter
+    private final int maxIdListSize;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 현재 비트맵 (잠금으로 보호, null이면 적재 전)
+     */
+    private Bitmaps bitmaps;
+
+    /**
+     * 적재 중에 커밋된 변경 퀴즈 ID (적재 완료 후 다시 반영)
+     */
+    private final Set<Long> pendingQuizIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 적재 중에 커밋된 변경 태그 ID (적재 완료 후 다시 반영)
+     */
+    private final Set<Long> pendingTagIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 범위를 넘는 퀴즈 ID로 비활성화되었는지 여부 (이후 변경은 기록하지 않음)
+     */
+    private volatile boolean disabled;
+
+    @Autowired
+    public QuizFacetIndex(JdbcTemplate jdbcTemplate,
+                          @Value("${quiz.facet-index.max-id-list-size:1000}") int maxIdListSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxIdListSize = maxIdListSize;
+    }
+
+    /**
+     * 기동 시 전체 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * 전체 퀴즈와 태그 연결을 읽어 비트맵을 새로 만들고 교체합니다.
+     * 적재 중 커밋된 변경은 교체 후 다시 반영합니다.
+     */
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        Bitmaps loaded = new Bitmaps();
+        try {
+            jdbcTemplate.query(SELECT_QUIZZES, rs -> {
+                loaded.addAttributes(toIndex(rs.getLong("id")),
+                        rs.getString("difficulty_level"), rs.getString("quiz_type"), rs.getBoolean("is_public"));
+            });
+            jdbcTemplate.query(SELECT_QUIZ_TAGS, rs -> {
+                loaded.addTag(toIndex(rs.getLong("quiz_id")), rs.getLong("tag_id"));
+            });
+        } catch (ArithmeticException e) {
+            disable(null);
+            return;
+        } catch (RuntimeException e) {
+            log.error("퀴즈 역색인 적재 실패, DB 조회로 대체합니다: {}", e.getMessage(), e);
+            return;
+        }
+        loaded.runOptimize();
+
+        lock.writeLock().lock();
+        try {
+            bitmaps = loaded;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("퀴즈 역색인 적재: quizzes={}, tags={}, sizeBytes={}, elapsedMs={}",
+                loaded.all.getCardinality(), loaded.byTag.size(), loaded.sizeInBytes(), System.currentTimeMillis() - started);
+
+        List<Long> pending = new ArrayList<>(pendingQuizIds);
+        pendingQuizIds.removeAll(pending);
+        pending.forEach(this::refresh);
+
+        List<Long> pendingTags = new ArrayList<>(pendingTagIds);
+        pendingTagIds.removeAll(pendingTags);
+        pendingTags.forEach(this::refreshTag);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onQuizCreated(QuizCreatedEvent event) {
+        refresh(event.getQuizId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onQuizUpdated(QuizUpdatedEvent event) {
+        refresh(event.getQuizId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTagChanged(TagChangedEvent event) {
+        refreshTag(event.getTagId());
+    }
+
+    /**
+     * 태그 하나의 퀴즈 연결을 DB에서 다시 읽어 해당 태그 비트맵을 교체합니다. (연결이 없으면 비트맵 제거)
+     *
+     * @param tagId 태그 ID
+     */
+    public void refreshTag(Long tagId) {
+        if (disabled) {
+            return;
+        }
+        RoaringBitmap tagged = new RoaringBitmap();
+        try {
+            jdbcTemplate.query("SELECT quiz_id FROM quiz_tags WHERE tag_id = ?",
+                    rs -> {
+                        tagged.add(toIndex(rs.getLong("quiz_id")));
+                    }, tagId);
+        } catch (ArithmeticException e) {
+            disable(null);
+            return;
+        }
+        tagged.runOptimize();
+
+        lock.writeLock().lock();
+        try {
+            if (bitmaps == null) {
+                pendingTagIds.add(tagId);
+                return;
+            }
+            if (tagged.isEmpty()) {
+                bitmaps.byTag.remove(tagId);
+            } else {
+                bitmaps.byTag.put(tagId, tagged);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 퀴즈 하나를 DB에서 다시 읽어 비트맵에 반영합니다. (삭제된 퀴즈는 모든 비트맵에서 제거)
+     *
+     * @param quizId 퀴즈 ID
+     */
+    public void refresh(Long quizId) {
+        if (disabled) {
+            return;
+        }
+        int index;
+        try {
+            index = toIndex(quizId);
+        } catch (ArithmeticException e) {
+            disable(quizId);
+            return;
+        }
+
+        List<Object[]> rows = jdbcTemplate.query(SELECT_QUIZZES + " WHERE id = ?",
+                (rs, rowNum) -> new Object[]{rs.getString("difficulty_level"), rs.getString("quiz_type"), rs.getBoolean("is_public")},
+                quizId);
+        List<Long> tagIds = jdbcTemplate.queryForList("SELECT tag_id FROM quiz_tags WHERE quiz_id = ?", Long.class, quizId);
+
+        lock.writeLock().lock();
+        try {
+            if (bitmaps == null) {
+                pendingQuizIds.add(quizId);
+                return;
+            }
+            bitmaps.remove(index);
+            if (!rows.isEmpty()) {
+                Object[] row = rows.get(0);
+                bitmaps.addAttributes(index, (String) row[0], (String) row[1], (Boolean) row[2]);
+                tagIds.forEach(tagId -> bitmaps.addTag(index, tagId));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 필터에 맞는 퀴즈 ID 집합을 계산합니다.
+     *
+     * @param filter 태그/난이도/유형/공개 여부 조건
+     * @return 일치하는 퀴즈 ID 집합 (적재 전이면 empty)
+     */
+    public Optional<Match> match(Filter filter) {
+        lock.readLock().lock();
+        try {
+            if (bitmaps == null) {
+                return Optional.empty();
+            }
+            RoaringBitmap result = null;
+            for (Collection<Long> group : filter.getTagGroups()) {
+                List<RoaringBitmap> tagged = new ArrayList<>(group.size());
+                for (Long tagId : group) {
+                    RoaringBitmap quizzes = bitmaps.byTag.get(tagId);
+                    if (quizzes != null) {
+                        tagged.add(quizzes);
+                    }
+                }
+                result = intersect(result, RoaringBitmap.or(tagged.iterator()));
+            }
+            if (filter.getDifficulty() != null) {
+                result = intersect(result, bitmaps.byDifficulty.getOrDefault(filter.getDifficulty().name(), new RoaringBitmap()));
+            }
+            if (filter.getQuizType() != null) {
+                result = intersect(result, bitmaps.byType.getOrDefault(filter.getQuizType().name(), new RoaringBitmap()));
+            }
+            if (filter.isPublicOnly()) {
+                result = intersect(result, bitmaps.publicQuizzes);
+            }
+            return Optional.of(new Match(result != null ? result : bitmaps.all.clone()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 두 집합의 교집합을 새 비트맵으로 반환합니다. (공유 비트맵은 변경하지 않음)
+     */
+    private static RoaringBitmap intersect(RoaringBitmap current, RoaringBitmap other) {
+        return current == null ? other.clone() : RoaringBitmap.and(current, other);
+    }
+
+    /**
+     * 비트맵은 32비트 정수만 담으므로 범위를 넘는 퀴즈 ID가 생기면 역색인을 끕니다.
+     */
+    private static int toIndex(long quizId) {
+        return Math.toIntExact(quizId);
+    }
+
+    private void disable(Long quizId) {
+        disabled = true;
+        pendingQuizIds.clear();
+        pendingTagIds.clear();
+        lock.writeLock().lock();
+        try {
+            bitmaps = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.error("퀴즈 ID가 역색인 범위를 넘어 역색인을 비활성화합니다: quizId={}", quizId);
+    }
+
+    /**
+     * 역색인 조회 조건
+     */
+    @Getter
+    @Builder
+    public static class Filter {
+        /**
+         * 태그 조건 (그룹 안에서는 OR, 그룹 사이에는 AND)
+         */
+        @Singular
+        private final List<Collection<Long>> tagGroups;
+        private final DifficultyLevel difficulty;
+        private final QuizType quizType;
+        private final boolean publicOnly;
+    }
+
+    /**
+     * 역색인 조회 결과 (이후 변경과 무관한 복사본)
+     */
+    public static final class Match {
+        private final RoaringBitmap ids;
+
+        Match(RoaringBitmap ids) {
+            this.ids = ids;
+        }
+
+        /**
+         * 일치하는 퀴즈 수
+         *
+         * @return 퀴즈 수
+         */
+        public int count() {
+            return ids.getCardinality();
+        }
+
+        /**
+         * 퀴즈가 결과에 포함되는지 확인합니다.
+         *
+         * @param quizId 퀴즈 ID
+         * @return 포함 여부
+         */
+        public boolean contains(Long quizId) {
+            return quizId >= 0 && quizId <= Integer.MAX_VALUE && ids.contains(quizId.intValue());
+        }
+
+        /**
+         * 일치하는 퀴즈 ID 전체 (오름차순)
+         *
+         * @return 퀴즈 ID 목록
+         */
+        public List<Long> ids() {
+            int[] values = ids.toArray();
+            List<Long> result = new ArrayList<>(values.length);
+            for (int id : values) {
+                result.add((long) id);
+            }
+            return result;
+        }
+
+        /**
+         * ID 내림차순(최신순)으로 한 페이지의 퀴즈 ID를 반환합니다.
+         *
+         * @param offset 건너뛸 개수
+         * @param limit 최대 개수
+         * @return 퀴즈 ID 목록
+         */
+        public List<Long> idsDescending(long offset, int limit) {
+            List<Long> result = new ArrayList<>(Math.min(limit, ids.getCardinality()));
+            IntIterator iterator = ids.getReverseIntIterator();
+            for (long skipped = 0; skipped < offset && iterator.hasNext(); skipped++) {
+                iterator.next();
+            }
+            while (result.size() < limit && iterator.hasNext()) {
+                result.add((long) iterator.next());
+            }
+            return result;
+        }
+
+        /**
+         * 일치하는 퀴즈 중 최대 limit개를 중복 없이 무작위로 뽑습니다.
+         * 순위(rank)를 Floyd 방식으로 limit번만 뽑아 비트맵에서 찾으므로 전체 ID를 펼치지 않습니다.
+         *
+         * @param limit 최대 개수
+         * @return 무작위 순서의 퀴즈 ID 목록
+         */
+        public List<Long> randomSample(int limit) {
+            int size = ids.getCardinality();
+            int sampleSize = Math.min(Math.max(limit, 0), size);
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            Set<Integer> ranks = new HashSet<>(sampleSize * 2);
+            for (int bound = size - sampleSize; bound < size; bound++) {
+                int rank = random.nextInt(bound + 1);
+                if (!ranks.add(rank)) {
+                    ranks.add(bound);
+                }
+            }
+            List<Long> result = new ArrayList<>(sampleSize);
+            for (int rank : ranks) {
+                result.add((long) ids.select(rank));
+            }
+            Collections.shuffle(result, random);
+            return result;
+        }
+    }
+
+    /**
+     * 속성별 비트맵 묶음 (난이도/유형은 DB에 저장된 enum 이름을 키로 사용)
+     */
+    private static final class Bitmaps {
+        private final RoaringBitmap all = new RoaringBitmap();
+        private final RoaringBitmap publicQuizzes = new RoaringBitmap();
+        private final Map<String, RoaringBitmap> byDifficulty = new HashMap<>();
+        private final Map<String, RoaringBitmap> byType = new HashMap<>();
+        private final Map<Long, RoaringBitmap> byTag = new HashMap<>();
+
+        private void addAttributes(int quiz, String difficulty, String quizType, boolean isPublic) {
+            all.add(quiz);
+            if (isPublic) {
+                publicQuizzes.add(quiz);
+            }
+            if (difficulty != null) {
+                byDifficulty.computeIfAbsent(difficulty, key -> new RoaringBitmap()).add(quiz);
+            }
+            if (quizType != null) {
+                byType.computeIfAbsent(quizType, key -> new RoaringBitmap()).add(quiz);
+            }
+        }
+
+        private void addTag(int quiz, Long tagId) {
+            byTag.computeIfAbsent(tagId, key -> new RoaringBitmap()).add(quiz);
+        }
+
+        /**
+         * 퀴즈를 모든 비트맵에서 제거합니다. 태그 비트맵은 태그 수만큼 확인합니다.
+         */
+        private void remove(int quiz) {
+            all.remove(quiz);
+            publicQuizzes.remove(quiz);
+            byDifficulty.values().forEach(bitmap -> bitmap.remove(quiz));
+            byType.values().forEach(bitmap -> bitmap.remove(quiz));
+            byTag.values().forEach(bitmap -> bitmap.remove(quiz));
+        }
+
+        private void runOptimize() {
+            all.runOptimize();
+            publicQuizzes.runOptimize();
+            byDifficulty.values().forEach(RoaringBitmap::runOptimize);
+            byType.values().forEach(RoaringBitmap::runOptimize);
+            byTag.values().forEach(RoaringBitmap::runOptimize);
+        }
+
+        private long sizeInBytes() {
+            long size = all.getLongSizeInBytes() + publicQuizzes.getLongSizeInBytes();
+            for (RoaringBitmap bitmap : byDifficulty.values()) {
+                size += bitmap.getLongSizeInBytes();
+            }
+            for (RoaringBitmap bitmap : byType.values()) {
+                size += bitmap.getLongSizeInBytes();
+            }
+            for (RoaringBitmap bitmap : byTag.values()) {
+                size += bitmap.getLongSizeInBytes();
+            }
+            return size;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.quizplatform.core.repository.quiz;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 퀴즈 이웃(함께 시도된 퀴즈) 목록 리포지토리 (JDBC)
+ *
+ * 주요 기능:
+ * - 최근 기간의 (사용자, 퀴즈) 시도 쌍을 사용자 순으로 스트리밍 조회 (공개 일반 퀴즈만, 사용자별 최근 시도 순)
+ * - 계산된 퀴즈별 이웃 목록을 통째로 교체 저장하고, 저장된 목록 전체를 순회
+ *
+ * <p>스트리밍 조회와 교체 저장은 트랜잭션 안에서 호출해야 합니다. (fetch size 적용, 교체 중 이전 목록 유지)</p>
+ *
+ * @author 채기훈
+ */
+@Repository
+@RequiredArgsConstructor
+public class QuizNeighborJdbcRepository {
+
+    private static final int FETCH_SIZE = 1000;
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String SELECT_USER_QUIZ_PAIRS = """
+        SELECT a.user_id, a.quiz_id
+        FROM quiz_attempts a
+        JOIN quizzes q ON q.id = a.quiz_id
+        WHERE a.created_at > now() - (? * INTERVAL '1 day')
+          AND q.quiz_type = 'REGULAR' AND q.is_public = true
+        GROUP BY a.user_id, a.quiz_id
+        ORDER BY a.user_id, MAX(a.created_at) DESC
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 최근 기간의 (user_id, quiz_id) 쌍을 사용자 ID 순, 사용자 안에서는 최근 시도 순으로 순회합니다.
+     *
+     * @param windowDays 집계할 기간(일)
+     * @param handler 행 처리기
+     */
+    public void streamUserQuizPairs(int windowDays, RowCallbackHandler handler) {
+        jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(SELECT_USER_QUIZ_PAIRS);
+            statement.setFetchSize(FETCH_SIZE);
+            statement.setInt(1, windowDays);
+            return statement;
+        }, handler);
+    }
+
+    /**
+     * 저장된 이웃 목록 전체를 퀴즈별 유사도 내림차순으로 순회합니다. (quiz_id, neighbor_id, similarity)
+     *
+     * @param handler 행 처리기
+     */
+    public void streamAll(RowCallbackHandler handler) {
+        jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(
+                    "SELECT quiz_id, neighbor_id, similarity FROM quiz_neighbors ORDER BY quiz_id, similarity DESC");
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, handler);
+    }
+
+    /**
+     * 이웃 목록 전체를 새 목록으로 교체합니다.
+     *
+     * @param rows (quiz_id, neighbor_id, similarity) 행 목록
+     */
+    public void replaceAll(List<Object[]> rows) {
+        jdbcTemplate.update("DELETE FROM quiz_neighbors");
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO quiz_neighbors (quiz_id, neighbor_id, similarity) VALUES (?, ?, ?)",
+                    rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+    }
+}
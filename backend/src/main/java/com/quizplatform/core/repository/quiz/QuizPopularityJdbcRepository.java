@@ -0,0 +1,85 @@
+package com.quizplatform.core.repository.quiz;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 퀴즈 인기도 점수 리포지토리 (JDBC)
+ *
+ * 주요 기능:
+ * - 전체 일반 퀴즈의 인기도 점수를 한 번의 UPDATE 문으로 다시 계산 (값이 바뀐 행만 기록)
+ * - 인기도 순위 상위 퀴즈 ID를 부분 인덱스(idx_quizzes_popularity_regular_public)로 조회
+ *
+ * <p>점수 = 누적 점수 × (1 - 최근 가중치) + 최근 시도 점수 × 최근 가중치</p>
+ * <ul>
+ *     <li>누적 점수: 조회수(1000회 상한) 0.4 + 시도 횟수(100회 상한) 0.3 + 평균 점수 0.3 (추천 서비스의 인기도 기준과 동일)</li>
+ *     <li>최근 시도 점수: 최근 N일 시도마다 경과 시간에 따라 반감기로 줄어드는 가중치를 더한 값 (포화 기준으로 1 상한)</li>
+ * </ul>
+ *
+ * @author 채기훈
+ */
+@Repository
+@RequiredArgsConstructor
+public class QuizPopularityJdbcRepository {
+
+    private static final String RECOMPUTE_SQL = """
+        WITH trend AS (
+            SELECT quiz_id,
+                   SUM(POWER(0.5, EXTRACT(EPOCH FROM (now() - created_at)) / 3600.0 / ?)) AS weight
+            FROM quiz_attempts
+            WHERE created_at > now() - (? * INTERVAL '1 day')
+            GROUP BY quiz_id
+        ), scored AS (
+            SELECT q.id,
+                   CAST(ROUND(CAST(
+                       (LEAST(q.view_count / 1000.0, 1.0) * 0.4
+                        + LEAST(q.attempt_count / 100.0, 1.0) * 0.3
+                        + q.avg_score / 100.0 * 0.3) * (1 - ?)
+                       + LEAST(COALESCE(t.weight, 0) / ?, 1.0) * ?
+                   AS NUMERIC), 6) AS DOUBLE PRECISION) AS score
+            FROM quizzes q
+            LEFT JOIN trend t ON t.quiz_id = q.id
+            WHERE q.quiz_type = 'REGULAR'
+        )
+        UPDATE quizzes q
+        SET popularity_score = s.score
+        FROM scored s
+        WHERE q.id = s.id AND q.popularity_score <> s.score
+        """;
+
+    private static final String TOP_SQL = """
+        SELECT id FROM quizzes
+        WHERE quiz_type = 'REGULAR' AND is_public = true AND question_count >= ?
+        ORDER BY popularity_score DESC, id DESC
+        LIMIT ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 일반 퀴즈의 인기도 점수를 다시 계산합니다.
+     *
+     * @param halfLifeHours 최근 시도 가중치가 절반이 되는 시간
+     * @param windowDays 최근 시도로 집계할 기간(일)
+     * @param trendWeight 최근 시도 점수의 비중 (0 ~ 1)
+     * @param trendSaturation 최근 시도 점수가 1이 되는 가중치 합
+     * @return 점수가 바뀐 행의 수
+     */
+    public int recomputeScores(double halfLifeHours, int windowDays, double trendWeight, double trendSaturation) {
+        return jdbcTemplate.update(RECOMPUTE_SQL, halfLifeHours, windowDays, trendWeight, trendSaturation, trendWeight);
+    }
+
+    /**
+     * 인기도 점수 상위의 공개 일반 퀴즈 ID를 조회합니다.
+     *
+     * @param minQuestions 최소 문제 수
+     * @param limit 최대 개수
+     * @return 순위 순 퀴즈 ID 목록
+     */
+    public List<Long> findTopIds(int minQuestions, int limit) {
+        return jdbcTemplate.queryForList(TOP_SQL, Long.class, minQuestions, limit);
+    }
+}
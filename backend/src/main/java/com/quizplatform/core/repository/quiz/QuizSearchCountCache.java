@@ -0,0 +1,109 @@
+package com.quizplatform.core.repository.quiz;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 퀴즈 검색 전체 개수 캐시
+ *
+ * 주요 기능:
+ * - 정규화된 검색 조건(정렬/페이지 제외)별 전체 개수를 짧은 TTL로 캐시하여 페이지 이동마다 COUNT 쿼리 반복 방지
+ * - 필터 없는 공개 퀴즈 목록은 플래너 추정치(pg_class.reltuples 기반)로 대체 (추정치가 기준 이상일 때만)
+ *
+ * @author 채기훈
+ */
+@Component
+@Slf4j
+public class QuizSearchCountCache {
+
+    private static final String PUBLIC_QUIZ_ESTIMATE_SQL =
+            "EXPLAIN (FORMAT JSON) SELECT 1 FROM quizzes WHERE is_public = true";
+
+    private final Cache<String, Long> counts;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 추정치를 사용할 최소 행 수 (이보다 작으면 정확한 COUNT도 충분히 빠름)
+     */
+    private final long estimateThreshold;
+
+    @Autowired
+    public QuizSearchCountCache(JdbcTemplate jdbcTemplate,
+                                ObjectMapper objectMapper,
+                                @Value("${quiz.search.count-cache.ttl-seconds:30}") long ttlSeconds,
+                                @Value("${quiz.search.count-cache.max-size:1000}") long maxSize,
+                                @Value("${quiz.search.count-cache.estimate-threshold:10000}") long estimateThreshold) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.estimateThreshold = estimateThreshold;
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * 검색 조건의 전체 개수를 조회합니다. 캐시에 없으면 정확한 개수를 계산해 저장합니다.
+     *
+     * @param conditionKey 정규화된 검색 조건 키
+     * @param exactCount 정확한 개수 계산 함수 (COUNT 쿼리)
+     * @return 전체 개수
+     */
+    public long getCount(String conditionKey, Supplier<Long> exactCount) {
+        return counts.get(conditionKey, key -> {
+            Long count = exactCount.get();
+            return count != null ? count : 0L;
+        });
+    }
+
+    /**
+     * 필터 없는 공개 퀴즈 목록의 전체 개수를 조회합니다.
+     * 플래너 추정치가 기준 이상이면 추정치를, 아니면 정확한 개수를 사용합니다.
+     *
+     * @param conditionKey 정규화된 검색 조건 키
+     * @param exactCount 정확한 개수 계산 함수 (COUNT 쿼리)
+     * @return 전체 개수 (추정치일 수 있음)
+     */
+    public long getUnfilteredCount(String conditionKey, Supplier<Long> exactCount) {
+        return counts.get(conditionKey, key -> {
+            long estimate = estimatePublicQuizCount();
+            if (estimate >= estimateThreshold) {
+                return estimate;
+            }
+            Long count = exactCount.get();
+            return count != null ? count : 0L;
+        });
+    }
+
+    /**
+     * 캐시된 개수를 모두 제거합니다. (퀴즈 생성/삭제 등 목록 변경 시)
+     */
+    public void invalidateAll() {
+        counts.invalidateAll();
+    }
+
+    /**
+     * 공개 퀴즈 수의 플래너 추정치를 조회합니다. (테이블 통계가 없거나 실패하면 -1)
+     */
+    private long estimatePublicQuizCount() {
+        try {
+            String plan = jdbcTemplate.queryForObject(PUBLIC_QUIZ_ESTIMATE_SQL, String.class);
+            JsonNode planRows = objectMapper.readTree(plan).path(0).path("Plan").path("Plan Rows");
+            return planRows.isNumber() ? planRows.asLong() : -1;
+        } catch (Exception e) {
+            log.warn("공개 퀴즈 수 추정 실패, 정확한 개수 사용: {}", e.getMessage());
+            return -1;
+        }
+    }
+}
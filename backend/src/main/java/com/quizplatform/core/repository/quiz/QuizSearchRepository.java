@@ -10,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -28,16 +29,48 @@ public interface QuizSearchRepository extends Repository<Quiz, Long> {
 
     /**
      * 특정 태그를 포함하는 퀴즈 목록을 페이징 처리하여 조회합니다.
+     * 컬렉션 fetch join 없이 DB에서 페이지를 자르며, 태그는 배치 로딩(default_batch_fetch_size)으로 초기화됩니다.
      *
      * @param tag      조회할 대상 태그 객체
      * @param pageable 페이징 정보
      * @return 해당 태그를 포함하는 Quiz 엔티티 페이지 객체
      */
-    @Query("SELECT DISTINCT q FROM Quiz q " +
-            "JOIN FETCH q.tags t " +
-            "WHERE :tag MEMBER OF q.tags")
+    @Query(value = "SELECT q FROM Quiz q " +
+            "JOIN q.tags t " +
+            "WHERE t = :tag",
+            countQuery = "SELECT COUNT(q) FROM Quiz q " +
+            "JOIN q.tags t " +
+            "WHERE t = :tag")
     Page<Quiz> findByTags(@Param("tag") Tag tag, Pageable pageable);
 
+    /**
+     * 지정한 태그 중 하나라도 가진 공개 퀴즈를 시도 횟수 순으로 조회합니다.
+     * 태그별로 나누어 조회하지 않고 태그 ID 목록 하나로 조회하며, 여러 태그를 가진 퀴즈는 한 번만 반환됩니다.
+     *
+     * @param tagIds   태그 ID 목록 (하위 태그 확장은 호출 측에서 수행)
+     * @param quizType 퀴즈 유형
+     * @param pageable 페이징 정보 (조회할 후보 수)
+     * @return 퀴즈 목록
+     */
+    @Query("SELECT q FROM Quiz q " +
+            "WHERE q.quizType = :quizType " +
+            "AND q.isPublic = true " +
+            "AND q.id IN (SELECT tq.id FROM Quiz tq JOIN tq.tags t WHERE t.id IN :tagIds) " +
+            "ORDER BY q.attemptCount DESC, q.id DESC")
+    List<Quiz> findPublicByTagIds(@Param("tagIds") Collection<Long> tagIds,
+                                  @Param("quizType") QuizType quizType,
+                                  Pageable pageable);
+
+    /**
+     * 퀴즈 ID 목록 중 시도 횟수가 많은 순으로 조회합니다. (역색인으로 후보 ID를 먼저 구한 경우)
+     *
+     * @param ids      퀴즈 ID 목록
+     * @param pageable 페이징 정보 (조회할 후보 수)
+     * @return 퀴즈 목록
+     */
+    @Query("SELECT q FROM Quiz q WHERE q.id IN :ids ORDER BY q.attemptCount DESC, q.id DESC")
+    List<Quiz> findByIdsOrderByAttemptCount(@Param("ids") Collection<Long> ids, Pageable pageable);
+
     /**
      * 데일리 퀴즈 후보를 찾습니다.
      * 최근에 사용된 태그나 난이도를 제외하고 공개된 일반 퀴즈를 반환합니다.
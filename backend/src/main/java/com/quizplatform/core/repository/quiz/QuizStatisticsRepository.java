@@ -47,17 +47,6 @@ public interface QuizStatisticsRepository extends Repository<Quiz, Long> {
 
     // ===== 동시성 처리를 위한 원자적 업데이트 메서드들 =====
 
-    /**
-     * 퀴즈 조회수를 원자적으로 1 증가시킵니다.
-     * 여러 사용자가 동시에 같은 퀴즈를 조회해도 안전하게 카운트됩니다.
-     *
-     * @param quizId 조회수를 증가시킬 퀴즈 ID
-     * @return 업데이트된 행의 수 (성공 시 1)
-     */
-    @Modifying
-    @Query("UPDATE Quiz q SET q.viewCount = q.viewCount + 1 WHERE q.id = :quizId")
-    int incrementViewCountAtomic(@Param("quizId") Long quizId);
-
     /**
      * 퀴즈 시도 횟수를 원자적으로 1 증가시킵니다.
      * 여러 사용자가 동시에 같은 퀴즈를 시도해도 안전하게 카운트됩니다.
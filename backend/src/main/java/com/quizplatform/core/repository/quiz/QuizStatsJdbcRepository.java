@@ -0,0 +1,58 @@
+package com.quizplatform.core.repository.quiz;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 퀴즈 통계 재구성용 스트리밍 조회 리포지토리 (JDBC)
+ * 
+ * 주요 기능:
+ * - 통계 스냅샷이 없는 퀴즈의 시도 기록을 엔티티로 적재하지 않고 행 단위로 순회
+ * - fetch size를 지정하여 시도 수와 관계없이 일정한 메모리로 처리 (트랜잭션 내 호출 필요)
+ * 
+ * @author 채기훈
+ */
+@Repository
+@RequiredArgsConstructor
+public class QuizStatsJdbcRepository {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 퀴즈 시도 기록을 순회합니다. (is_completed, score, time_taken)
+     *
+     * @param quizId 퀴즈 ID
+     * @param handler 행 처리기
+     */
+    public void streamQuizAttempts(Long quizId, RowCallbackHandler handler) {
+        jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(
+                    "SELECT is_completed, score, time_taken FROM quiz_attempts WHERE quiz_id = ?");
+            statement.setFetchSize(FETCH_SIZE);
+            statement.setLong(1, quizId);
+            return statement;
+        }, handler);
+    }
+
+    /**
+     * 퀴즈의 문제 답변 기록을 순회합니다. (question_id, is_correct, time_taken)
+     *
+     * @param quizId 퀴즈 ID
+     * @param handler 행 처리기
+     */
+    public void streamQuestionAttempts(Long quizId, RowCallbackHandler handler) {
+        jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(
+                    "SELECT qa.question_id, qa.is_correct, qa.time_taken " +
+                    "FROM question_attempts qa JOIN quiz_attempts a ON a.id = qa.quiz_attempt_id " +
+                    "WHERE a.quiz_id = ?");
+            statement.setFetchSize(FETCH_SIZE);
+            statement.setLong(1, quizId);
+            return statement;
+        }, handler);
+    }
+}
@@ -0,0 +1,32 @@
+package com.quizplatform.core.repository.quiz;
+
+import com.quizplatform.core.domain.quiz.QuizStatsSnapshot;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * 퀴즈 통계 집계 스냅샷에 대한 데이터 접근 인터페이스
+ * 
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+@Repository
+public interface QuizStatsSnapshotRepository extends JpaRepository<QuizStatsSnapshot, Long> {
+
+    /**
+     * 증분 병합을 위해 스냅샷을 쓰기 잠금으로 조회
+     * 여러 서버가 같은 퀴즈의 증분을 동시에 병합해도 누락되지 않도록 합니다.
+     * 
+     * @param quizId 퀴즈 ID
+     * @return 스냅샷 Optional 객체
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM QuizStatsSnapshot s WHERE s.quizId = :quizId")
+    Optional<QuizStatsSnapshot> findByIdForUpdate(@Param("quizId") Long quizId);
+}
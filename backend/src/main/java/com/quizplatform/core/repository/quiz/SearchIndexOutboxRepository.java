@@ -0,0 +1,107 @@
+package com.quizplatform.core.repository.quiz;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 검색 색인 변경 대기열(outbox) 리포지토리 (JDBC)
+ * 
+ * 주요 기능:
+ * - 쓰기 트랜잭션 안에서 변경 대상(퀴즈/태그)을 한 행으로 기록
+ * - 색인기가 다른 인스턴스와 겹치지 않게 일괄 선점(FOR UPDATE SKIP LOCKED)
+ * - 반영 완료 행 삭제 및 대기 현황 조회
+ * 
+ * @author 채기훈
+ */
+@Repository
+@RequiredArgsConstructor
+public class SearchIndexOutboxRepository {
+
+    /** 대상 유형: 퀴즈 */
+    public static final String TYPE_QUIZ = "QUIZ";
+
+    /** 대상 유형: 태그 (태그 및 하위 태그를 가진 퀴즈 전체) */
+    public static final String TYPE_TAG = "TAG";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 변경 대상을 기록합니다. (호출한 트랜잭션과 함께 커밋)
+     *
+     * @param aggregateType 대상 유형
+     * @param aggregateId 대상 ID
+     */
+    public void enqueue(String aggregateType, Long aggregateId) {
+        jdbcTemplate.update(
+                "INSERT INTO search_index_outbox (aggregate_type, aggregate_id, created_at) VALUES (?, ?, ?)",
+                aggregateType, aggregateId, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    /**
+     * 오래된 순으로 대기 행을 선점합니다. 다른 트랜잭션이 선점한 행은 건너뜁니다. (트랜잭션 내 호출 필요)
+     *
+     * @param limit 최대 행 수
+     * @return 선점한 대기 행 목록
+     */
+    public List<OutboxEntry> claimBatch(int limit) {
+        return jdbcTemplate.query(
+                "SELECT id, aggregate_type, aggregate_id, created_at FROM search_index_outbox " +
+                "ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED",
+                (rs, rowNum) -> new OutboxEntry(
+                        rs.getLong("id"),
+                        rs.getString("aggregate_type"),
+                        rs.getLong("aggregate_id"),
+                        rs.getTimestamp("created_at").toLocalDateTime()),
+                limit);
+    }
+
+    /**
+     * 반영이 끝난 대기 행을 삭제합니다.
+     *
+     * @param ids 대기 행 ID 목록
+     */
+    public void deleteByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("DELETE FROM search_index_outbox WHERE id = ?",
+                ids.stream().map(id -> new Object[]{id}).toList());
+    }
+
+    /**
+     * 대기 행 수를 조회합니다.
+     *
+     * @return 대기 행 수
+     */
+    public long countPending() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM search_index_outbox", Long.class);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * 가장 오래된 대기 행의 기록 시각을 조회합니다.
+     *
+     * @return 기록 시각, 대기 행이 없으면 null
+     */
+    public LocalDateTime findOldestCreatedAt() {
+        Timestamp oldest = jdbcTemplate.queryForObject("SELECT MIN(created_at) FROM search_index_outbox", Timestamp.class);
+        return oldest != null ? oldest.toLocalDateTime() : null;
+    }
+
+    /**
+     * 검색 색인 대기 행
+     *
+     * @param id 대기 행 ID
+     * @param aggregateType 대상 유형
+     * @param aggregateId 대상 ID
+     * @param createdAt 기록 시각
+     */
+    public record OutboxEntry(long id, String aggregateType, long aggregateId, LocalDateTime createdAt) {
+    }
+}
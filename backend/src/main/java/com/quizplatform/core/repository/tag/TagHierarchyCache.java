@@ -0,0 +1,294 @@
+package com.quizplatform.core.repository.tag;
+
+import com.quizplatform.core.service.event.TagChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+/**
+ * 태그 계층 구조 캐시
+ *
+ * 주요 기능:
+ * - 전체 태그의 (ID, 부모 ID)를 한 번에 읽어 불변 계층 스냅샷을 구성
+ * - 깊이 제한 없이 태그와 모든 하위 태그 ID, 상위 태그 ID, 상하위 관계를 DB 조회 없이 반환
+ * - 태그 변경 커밋 후 스냅샷을 새로 만들어 한 번에 교체
+ *
+ * <p>태그는 부모가 하나뿐인 트리(포레스트)이므로 루트부터 전위 순회한 순서로 태그를 배열하면
+ * 한 태그의 하위 태그 전체가 배열의 연속 구간 [시작 위치, 시작 위치 + 하위 트리 크기)가 됩니다.
+ * 태그별로 이 구간만 저장하여 하위 태그 조회와 상하위 판정을 태그 수만큼의 메모리로 처리합니다.</p>
+ *
+ * @author 채기훈
+ */
+@Component
+@Slf4j
+public class TagHierarchyCache {
+
+    private final TagRepository tagRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    /**
+     * 현재 스냅샷 (null이면 다음 조회에서 적재)
+     */
+    private volatile TagHierarchy hierarchy;
+
+    @Autowired
+    public TagHierarchyCache(TagRepository tagRepository, PlatformTransactionManager transactionManager) {
+        this.tagRepository = tagRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        // 커밋 후 리스너에서도 호출되므로 항상 새 트랜잭션에서 읽음
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 태그와 모든 하위 태그의 ID를 반환합니다. (깊이 제한 없음)
+     *
+     * @param tagId 기준 태그 ID
+     * @return 기준 태그를 포함한 하위 태그 ID 목록 (없는 태그면 기준 태그 ID만)
+     */
+    public List<Long> getSelfAndDescendantIds(Long tagId) {
+        return current().selfAndDescendants(tagId);
+    }
+
+    /**
+     * 여러 태그를 각각의 하위 태그까지 확장한 ID 집합을 반환합니다.
+     *
+     * @param tagIds 기준 태그 ID 목록
+     * @return 기준 태그와 모든 하위 태그 ID 집합
+     */
+    public Set<Long> expandWithDescendants(Collection<Long> tagIds) {
+        return current().expand(tagIds);
+    }
+
+    /**
+     * 태그의 상위 태그 ID를 가까운 순으로 반환합니다.
+     *
+     * @param tagId 기준 태그 ID
+     * @return 부모부터 루트까지의 태그 ID 목록 (루트 태그나 없는 태그면 빈 목록)
+     */
+    public List<Long> getAncestorIds(Long tagId) {
+        return current().ancestors(tagId);
+    }
+
+    /**
+     * 태그가 기준 태그 자신이거나 그 하위 태그인지 확인합니다.
+     *
+     * @param ancestorId 기준 태그 ID
+     * @param tagId 확인할 태그 ID
+     * @return 자신이거나 하위 태그이면 true
+     */
+    public boolean isSelfOrDescendant(Long ancestorId, Long tagId) {
+        return current().contains(ancestorId, tagId);
+    }
+
+    /**
+     * 태그 변경 커밋 후 스냅샷을 다시 만들어 교체합니다.
+     * 실패하면 스냅샷을 버리고 다음 조회에서 다시 적재합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTagChanged(TagChangedEvent event) {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            hierarchy = null;
+            log.warn("태그 계층 재구성 실패, 다음 조회에서 재적재: {}", e.getMessage());
+        }
+    }
+
+    private TagHierarchy current() {
+        TagHierarchy loaded = hierarchy;
+        return loaded != null ? loaded : reload();
+    }
+
+    /**
+     * 커밋된 태그 관계를 읽어 스냅샷을 교체합니다.
+     * 직렬화되므로 나중에 끝난 적재가 항상 더 최신 상태를 반영합니다.
+     */
+    private synchronized TagHierarchy reload() {
+        long started = System.currentTimeMillis();
+        List<Object[]> links = readOnlyTransaction.execute(status -> tagRepository.findAllParentLinks());
+        TagHierarchy rebuilt = TagHierarchy.build(links != null ? links : List.of());
+        hierarchy = rebuilt;
+        log.debug("태그 계층 적재: tags={}, elapsedMs={}", rebuilt.size(), System.currentTimeMillis() - started);
+        return rebuilt;
+    }
+
+    /**
+     * 불변 태그 계층 스냅샷 (전위 순회 배열과 태그별 하위 트리 구간)
+     */
+    private static final class TagHierarchy {
+
+        /**
+         * 전위 순회 순서의 태그 ID
+         */
+        private final Long[] order;
+
+        /**
+         * 태그 ID별 전위 순회 위치
+         */
+        private final Map<Long, Integer> positions;
+
+        /**
+         * 위치별 하위 트리 크기 (자신 포함)
+         */
+        private final int[] subtreeSizes;
+
+        /**
+         * 위치별 부모 위치 (루트는 -1)
+         */
+        private final int[] parents;
+
+        private TagHierarchy(Long[] order, Map<Long, Integer> positions, int[] subtreeSizes, int[] parents) {
+            this.order = order;
+            this.positions = positions;
+            this.subtreeSizes = subtreeSizes;
+            this.parents = parents;
+        }
+
+        /**
+         * [태그 ID, 부모 태그 ID] 목록으로 스냅샷을 만듭니다.
+         * 부모가 없거나 부모를 찾을 수 없는 태그는 루트로 취급하고,
+         * 순환 참조로 루트에서 닿지 않는 태그는 하위 태그가 없는 단독 루트로 둡니다.
+         */
+        private static TagHierarchy build(List<Object[]> links) {
+            Map<Long, Long> parentIds = new HashMap<>();
+            Map<Long, List<Long>> children = new HashMap<>();
+            List<Long> roots = new ArrayList<>();
+            for (Object[] link : links) {
+                Long tagId = ((Number) link[0]).longValue();
+                parentIds.put(tagId, link[1] != null ? ((Number) link[1]).longValue() : null);
+            }
+            for (Map.Entry<Long, Long> entry : parentIds.entrySet()) {
+                Long parentId = entry.getValue();
+                if (parentId == null || !parentIds.containsKey(parentId)) {
+                    roots.add(entry.getKey());
+                } else {
+                    children.computeIfAbsent(parentId, id -> new ArrayList<>()).add(entry.getKey());
+                }
+            }
+            // 순회 순서를 매번 같게 유지 (ID 오름차순)
+            Collections.sort(roots);
+            children.values().forEach(Collections::sort);
+
+            int size = parentIds.size();
+            Long[] order = new Long[size];
+            Map<Long, Integer> positions = new HashMap<>(size * 2);
+            int[] subtreeSizes = new int[size];
+            int[] parents = new int[size];
+
+            int next = 0;
+            for (Long root : roots) {
+                next = visit(root, next, children, order, positions, subtreeSizes, parents);
+            }
+            if (next < size) {
+                log.warn("태그 계층에 순환 참조가 있어 {}개 태그를 단독 루트로 처리합니다.", size - next);
+                for (Long tagId : parentIds.keySet()) {
+                    if (!positions.containsKey(tagId)) {
+                        order[next] = tagId;
+                        positions.put(tagId, next);
+                        subtreeSizes[next] = 1;
+                        parents[next] = -1;
+                        next++;
+                    }
+                }
+            }
+            return new TagHierarchy(order, positions, subtreeSizes, parents);
+        }
+
+        /**
+         * 루트 하나에서 전위 순회하며 위치, 부모 위치, 하위 트리 크기를 채웁니다.
+         * 깊은 계층에서도 스택이 넘치지 않도록 명시적 스택을 사용합니다.
+         *
+         * @return 다음 빈 위치
+         */
+        private static int visit(Long root, int next, Map<Long, List<Long>> children,
+                                 Long[] order, Map<Long, Integer> positions, int[] subtreeSizes, int[] parents) {
+            Deque<long[]> stack = new ArrayDeque<>();
+            stack.push(new long[]{root, -1});
+            List<Integer> visited = new ArrayList<>();
+            while (!stack.isEmpty()) {
+                long[] frame = stack.pop();
+                Long tagId = frame[0];
+                int position = next++;
+                order[position] = tagId;
+                positions.put(tagId, position);
+                parents[position] = (int) frame[1];
+                subtreeSizes[position] = 1;
+                visited.add(position);
+                List<Long> kids = children.getOrDefault(tagId, List.of());
+                // 작은 ID가 먼저 꺼내지도록 역순으로 적재
+                for (int i = kids.size() - 1; i >= 0; i--) {
+                    stack.push(new long[]{kids.get(i), position});
+                }
+            }
+            // 전위 순서의 역순으로 하위 트리 크기를 부모에 누적
+            for (int i = visited.size() - 1; i >= 0; i--) {
+                int position = visited.get(i);
+                int parent = parents[position];
+                if (parent >= 0) {
+                    subtreeSizes[parent] += subtreeSizes[position];
+                }
+            }
+            return next;
+        }
+
+        private int size() {
+            return order.length;
+        }
+
+        private List<Long> selfAndDescendants(Long tagId) {
+            Integer position = positions.get(tagId);
+            if (position == null) {
+                return List.of(tagId);
+            }
+            return Collections.unmodifiableList(
+                    Arrays.asList(order).subList(position, position + subtreeSizes[position]));
+        }
+
+        private Set<Long> expand(Collection<Long> tagIds) {
+            // 겹치는 하위 트리를 한 번만 담기 위해 위치 구간을 비트셋으로 합침
+            BitSet covered = new BitSet(order.length);
+            Set<Long> unknown = new HashSet<>();
+            for (Long tagId : tagIds) {
+                Integer position = positions.get(tagId);
+                if (position == null) {
+                    unknown.add(tagId);
+                } else {
+                    covered.set(position, position + subtreeSizes[position]);
+                }
+            }
+            Set<Long> expanded = new LinkedHashSet<>(covered.cardinality() + unknown.size());
+            covered.stream().forEach(position -> expanded.add(order[position]));
+            expanded.addAll(unknown);
+            return expanded;
+        }
+
+        private List<Long> ancestors(Long tagId) {
+            Integer position = positions.get(tagId);
+            if (position == null) {
+                return List.of();
+            }
+            List<Long> ancestors = new ArrayList<>();
+            for (int parent = parents[position]; parent >= 0; parent = parents[parent]) {
+                ancestors.add(order[parent]);
+            }
+            return ancestors;
+        }
+
+        private boolean contains(Long ancestorId, Long tagId) {
+            Integer ancestor = positions.get(ancestorId);
+            Integer position = positions.get(tagId);
+            if (ancestor == null || position == null) {
+                return Objects.equals(ancestorId, tagId);
+            }
+            return ancestor <= position && position < ancestor + subtreeSizes[ancestor];
+        }
+    }
+}
@@ -133,13 +133,38 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
     List<Object[]> findTopTagsByQuizCount(int limit);
 
     /**
-     * 태그별 퀴즈 개수를 조회합니다.
-     * 
-     * @param tagId 태그 ID
-     * @return 태그에 연결된 퀴즈 수
+     * 모든 태그의 직접 퀴즈 수와 하위 태그까지 포함한 퀴즈 수를 한 번에 조회합니다.
+     * 태그별 (자신, 상위 태그) 쌍을 재귀로 펼친 뒤 상위 태그 기준으로 퀴즈를 중복 없이 셉니다.
+     *
+     * @return [태그 ID, 부모 태그 ID, 직접 퀴즈 수, 하위 포함 퀴즈 수] 배열 목록 (퀴즈가 없는 태그는 0)
      */
-    @Query("SELECT COUNT(q) FROM Quiz q JOIN q.tags t WHERE t.id = :tagId")
-    int countQuizzesForTag(@Param("tagId") Long tagId);
+    @Query(value = """
+        WITH RECURSIVE ancestry(tag_id, ancestor_id) AS (
+            SELECT id, id FROM tags
+            UNION
+            SELECT a.tag_id, t.parent_id
+            FROM ancestry a
+            JOIN tags t ON t.id = a.ancestor_id
+            WHERE t.parent_id IS NOT NULL
+        )
+        SELECT t.id, t.parent_id,
+               COUNT(DISTINCT qt.quiz_id) FILTER (WHERE a.tag_id = t.id) AS direct_count,
+               COUNT(DISTINCT qt.quiz_id) AS total_count
+        FROM tags t
+        JOIN ancestry a ON a.ancestor_id = t.id
+        LEFT JOIN quiz_tags qt ON qt.tag_id = a.tag_id
+        GROUP BY t.id, t.parent_id
+        """, nativeQuery = true)
+    List<Object[]> countQuizzesWithDescendantsGroupByTag();
+
+    /**
+     * 퀴즈에 연결된 태그 ID 목록을 조회합니다.
+     *
+     * @param quizId 퀴즈 ID
+     * @return 태그 ID 목록
+     */
+    @Query("SELECT t.id FROM Quiz q JOIN q.tags t WHERE q.id = :quizId")
+    List<Long> findTagIdsByQuizId(@Param("quizId") Long quizId);
 
     /**
      * 동의어로 태그를 검색합니다.
@@ -169,13 +194,10 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
     List<Tag> findByParentId(Long parentId);
 
     /**
-     * 해당 태그와 모든 하위 태그를 조회합니다.
-     * 
-     * <p>지정된 태그 및 그 태그의 자식, 손자 태그까지 최대 3단계 깊이로 조회합니다.</p>
-     * 
-     * @param tagId 태그 ID
-     * @return 태그와 모든 하위 태그 목록
+     * 모든 태그의 부모 관계를 조회합니다. (태그 계층 캐시 적재용)
+     *
+     * @return [태그 ID, 부모 태그 ID(없으면 null)] 배열 목록
      */
-    @Query("SELECT t FROM Tag t WHERE t.id = :tagId OR t.parent.id = :tagId OR t.parent.parent.id = :tagId")
-    List<Tag> findTagAndAllDescendants(@Param("tagId") Long tagId);
-}
\ No newline at end of file
+    @Query("SELECT t.id, p.id FROM Tag t LEFT JOIN t.parent p")
+    List<Object[]> findAllParentLinks();
+}
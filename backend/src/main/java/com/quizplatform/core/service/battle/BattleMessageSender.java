@@ -0,0 +1,73 @@
+package com.quizplatform.core.service.battle;
+
+import com.quizplatform.core.config.websocket.BattleCompactCodec;
+import com.quizplatform.core.config.websocket.BattleSubscriptionRegistry;
+import com.quizplatform.core.dto.battle.BattleEndResponse;
+import com.quizplatform.core.dto.battle.BattleProgressResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 배틀 토픽 메시지 전송 컴포넌트
+ * 
+ * 주요 기능:
+ * - 배틀 토픽(/topic/battle/{roomId}/...) 브로드캐스트 일원화
+ * - 기본 JSON 전송 + 축약 인코딩 구독자가 있을 때만 축약 메시지 추가 전송
+ * - 진행 상황/종료 메시지를 관전자 스냅샷 브로드캐스터에 전달
+ * 
+ * @author 채기훈
+ */
+@Component
+@Slf4j
+public class BattleMessageSender {
+
+    private static final String BATTLE_TOPIC_PREFIX = "/topic/battle/";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final BattleSubscriptionRegistry subscriptionRegistry;
+    private final BattleSpectatorBroadcaster spectatorBroadcaster;
+
+    @Autowired
+    public BattleMessageSender(@Lazy SimpMessagingTemplate messagingTemplate,
+                               BattleSubscriptionRegistry subscriptionRegistry,
+                               BattleSpectatorBroadcaster spectatorBroadcaster) {
+        this.messagingTemplate = messagingTemplate;
+        this.subscriptionRegistry = subscriptionRegistry;
+        this.spectatorBroadcaster = spectatorBroadcaster;
+    }
+
+    /**
+     * 배틀 토픽으로 메시지를 전송합니다.
+     * 
+     * @param roomId 배틀 방 ID
+     * @param topic 하위 토픽 (예: progress, question)
+     * @param payload 전송할 메시지
+     */
+    public void send(Long roomId, String topic, Object payload) {
+        String destination = BATTLE_TOPIC_PREFIX + roomId + "/" + topic;
+
+        // 기본(JSON) 전송 - 모든 기존 클라이언트 대상
+        messagingTemplate.convertAndSend(destination, payload);
+
+        // 축약 인코딩 구독자가 있는 경우에만 추가 전송
+        String compactDestination = destination + BattleCompactCodec.COMPACT_DESTINATION_SUFFIX;
+        if (BattleCompactCodec.supports(payload.getClass()) && subscriptionRegistry.hasSubscribers(compactDestination)) {
+            SimpMessageHeaderAccessor headerAccessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            headerAccessor.setContentType(BattleCompactCodec.COMPACT_MIME_TYPE);
+            headerAccessor.setLeaveMutable(true);
+            messagingTemplate.convertAndSend(compactDestination, payload, headerAccessor.getMessageHeaders());
+        }
+
+        // 관전자 스냅샷은 병합 후 주기적으로 전송
+        if (payload instanceof BattleProgressResponse progress) {
+            spectatorBroadcaster.offer(progress);
+        } else if ("end".equals(topic) && payload instanceof BattleEndResponse result) {
+            spectatorBroadcaster.closeRoom(roomId, result);
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.quizplatform.core.service.battle;
+
+import com.quizplatform.core.dto.battle.BattleLeaveRequest;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 배틀 참가자의 WebSocket 세션 바인딩과 재연결 유예 시간을 메모리에서 관리하는 컴포넌트
+ *
+ * 주요 기능:
+ * - 참가자별 재접속 토큰(resume token) 발급
+ * - 연결 해제 시 즉시 퇴장시키지 않고 유예 상태(suspended)로 전환
+ * - 유예 시간 내 재접속 시 새 세션을 기존 참가자에 다시 연결
+ * - 유예 시간이 지난 참가자만 실제 퇴장 처리 (DB 반영)
+ *
+ * @author 채기훈
+ */
+@Component
+@Slf4j
+public class BattleReconnectManager {
+
+    /**
+     * 참가자 세션 바인딩 정보
+     * Key: roomId:userId, Value: 세션 바인딩
+     */
+    private final ConcurrentHashMap<String, SessionBinding> bindings = new ConcurrentHashMap<>();
+
+    /**
+     * 배틀 서비스 (순환 참조 방지를 위해 지연 주입)
+     */
+    private final BattleService battleService;
+
+    /**
+     * 재연결 유예 시간 (초)
+     */
+    private final long graceSeconds;
+
+    @Autowired
+    public BattleReconnectManager(@Lazy BattleService battleService,
+                                  @Value("${battle.reconnect.grace-seconds:20}") long graceSeconds) {
+        this.battleService = battleService;
+        this.graceSeconds = graceSeconds;
+    }
+
+    /**
+     * 참가자와 세션을 연결하고 재접속 토큰을 반환합니다.
+     * 같은 세션으로 다시 호출되면 기존 토큰을 그대로 유지합니다.
+     *
+     * @param roomId 배틀 방 ID
+     * @param userId 사용자 ID
+     * @param participantId 참가자 ID
+     * @param sessionId WebSocket 세션 ID
+     * @return 재접속 토큰
+     */
+    public String bind(Long roomId, Long userId, Long participantId, String sessionId) {
+        SessionBinding binding = bindings.compute(key(roomId, userId), (k, existing) -> {
+            if (existing != null && sessionId.equals(existing.getSessionId()) && !existing.isSuspended()) {
+                return existing;
+            }
+            return new SessionBinding(roomId, userId, participantId, sessionId, newToken());
+        });
+        return binding.getResumeToken();
+    }
+
+    /**
+     * 현재 발급된 재접속 토큰을 조회합니다.
+     *
+     * @param roomId 배틀 방 ID
+     * @param userId 사용자 ID
+     * @return 재접속 토큰, 바인딩이 없으면 null
+     */
+    public String getResumeToken(Long roomId, Long userId) {
+        SessionBinding binding = bindings.get(key(roomId, userId));
+        return binding != null ? binding.getResumeToken() : null;
+    }
+
+    /**
+     * 연결이 끊긴 참가자를 유예 상태로 전환합니다.
+     * 이미 다른 세션으로 재접속한 경우(늦게 도착한 DISCONNECT)는 무시합니다.
+     *
+     * @param roomId 배틀 방 ID
+     * @param userId 사용자 ID
+     * @param sessionId 끊어진 WebSocket 세션 ID
+     * @return 유예 상태로 전환(또는 이미 재접속 완료)되었으면 true, 바인딩이 없어 즉시 퇴장 처리가 필요하면 false
+     */
+    public boolean suspend(Long roomId, Long userId, String sessionId) {
+        SessionBinding binding = bindings.get(key(roomId, userId));
+        if (binding == null) {
+            return false;
+        }
+
+        synchronized (binding) {
+            if (!sessionId.equals(binding.getSessionId())) {
+                log.info("이전 세션의 연결 해제 무시: roomId={}, userId={}, sessionId={}", roomId, userId, sessionId);
+                return true;
+            }
+            binding.suspendedAt = System.currentTimeMillis();
+        }
+
+        log.info("참가자 재연결 대기 상태 전환: roomId={}, userId={}, 유예시간={}초", roomId, userId, graceSeconds);
+        return true;
+    }
+
+    /**
+     * 재접속 토큰을 검증하고 새 세션을 참가자에 다시 연결합니다.
+     * 성공 시 토큰은 새로 발급(교체)됩니다.
+     *
+     * @param roomId 배틀 방 ID
+     * @param userId 사용자 ID
+     * @param resumeToken 클라이언트가 보관하던 재접속 토큰
+     * @param sessionId 새 WebSocket 세션 ID
+     * @return 재연결된 바인딩 정보 (이전 세션 ID 포함), 토큰이 유효하지 않거나 만료되었으면 null
+     */
+    public ResumeResult resume(Long roomId, Long userId, String resumeToken, String sessionId) {
+        SessionBinding binding = bindings.get(key(roomId, userId));
+        if (binding == null || resumeToken == null) {
+            return null;
+        }
+
+        synchronized (binding) {
+            if (!resumeToken.equals(binding.getResumeToken()) || isExpired(binding, System.currentTimeMillis())) {
+                return null;
+            }
+
+            String previousSessionId = binding.getSessionId();
+            long suspendedMillis = binding.isSuspended() ? System.currentTimeMillis() - binding.suspendedAt : 0;
+
+            binding.sessionId = sessionId;
+            binding.resumeToken = newToken();
+            binding.suspendedAt = 0;
+
+            log.info("참가자 세션 재연결: roomId={}, userId={}, 이전세션={}, 새세션={}, 끊김시간={}ms",
+                    roomId, userId, previousSessionId, sessionId, suspendedMillis);
+            return new ResumeResult(binding.getParticipantId(), previousSessionId, binding.getResumeToken(), suspendedMillis);
+        }
+    }
+
+    /**
+     * 참가자의 세션 바인딩을 제거합니다. (명시적 퇴장 또는 배틀 종료 시)
+     *
+     * @param roomId 배틀 방 ID
+     * @param userId 사용자 ID
+     */
+    public void release(Long roomId, Long userId) {
+        bindings.remove(key(roomId, userId));
+    }
+
+    /**
+     * 배틀 방의 모든 세션 바인딩을 제거합니다.
+     *
+     * @param roomId 배틀 방 ID
+     */
+    public void releaseRoom(Long roomId) {
+        bindings.values().removeIf(binding -> binding.getRoomId().equals(roomId));
+    }
+
+    /**
+     * 재연결 유예 시간(초)을 반환합니다.
+     *
+     * @return 유예 시간(초)
+     */
+    public long getGraceSeconds() {
+        return graceSeconds;
+    }
+
+    /**
+     * 현재 유예 상태인 참가자 수를 반환합니다. (모니터링 용도)
+     *
+     * @return 유예 상태 참가자 수
+     */
+    public long getSuspendedCount() {
+        return bindings.values().stream().filter(SessionBinding::isSuspended).count();
+    }
+
+    /**
+     * 유예 시간이 지난 참가자를 실제로 퇴장 처리합니다.
+     * 1초 간격으로 실행되며, 만료된 참가자만 DB에 반영합니다.
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void expireSuspendedSessions() {
+        long now = System.currentTimeMillis();
+        List<SessionBinding> expired = new ArrayList<>();
+
+        bindings.forEach((key, binding) -> {
+            synchronized (binding) {
+                if (isExpired(binding, now) && bindings.remove(key, binding)) {
+                    expired.add(binding);
+                }
+            }
+        });
+
+        for (SessionBinding binding : expired) {
+            log.info("재연결 유예 시간 만료, 배틀룸 나가기 처리: roomId={}, userId={}",
+                    binding.getRoomId(), binding.getUserId());
+            try {
+                battleService.leaveBattle(new BattleLeaveRequest(binding.getRoomId(), binding.getUserId()),
+                        binding.getSessionId());
+            } catch (Exception e) {
+                log.error("유예 만료 참가자 나가기 처리 중 오류 발생: roomId={}, userId={}",
+                        binding.getRoomId(), binding.getUserId(), e);
+            }
+        }
+    }
+
+    private boolean isExpired(SessionBinding binding, long now) {
+        return binding.isSuspended() && now - binding.suspendedAt > graceSeconds * 1000;
+    }
+
+    private String key(Long roomId, Long userId) {
+        return roomId + ":" + userId;
+    }
+
+    private String newToken() {
+        return UUID.randomUUID().toString();
+    }
+
+    /**
+     * 참가자 세션 바인딩 (내부 상태)
+     */
+    @Getter
+    private static class SessionBinding {
+        private final Long roomId;
+        private final Long userId;
+        private final Long participantId;
+        private volatile String sessionId;
+        private volatile String resumeToken;
+        private volatile long suspendedAt;
+
+        SessionBinding(Long roomId, Long userId, Long participantId, String sessionId, String resumeToken) {
+            this.roomId = roomId;
+            this.userId = userId;
+            this.participantId = participantId;
+            this.sessionId = sessionId;
+            this.resumeToken = resumeToken;
+        }
+
+        boolean isSuspended() {
+            return suspendedAt > 0;
+        }
+    }
+
+    /**
+     * 재연결 결과
+     */
+    @Getter
+    public static class ResumeResult {
+        private final Long participantId;
+        private final String previousSessionId;
+        private final String resumeToken;
+        private final long suspendedMillis;
+
+        ResumeResult(Long participantId, String previousSessionId, String resumeToken, long suspendedMillis) {
+            this.participantId = participantId;
+            this.previousSessionId = previousSessionId;
+            this.resumeToken = resumeToken;
+            this.suspendedMillis = suspendedMillis;
+        }
+    }
+}
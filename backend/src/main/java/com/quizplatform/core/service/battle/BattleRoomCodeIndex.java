@@ -0,0 +1,359 @@
+package com.quizplatform.core.service.battle;
+
+import com.quizplatform.core.domain.battle.BattleRoom;
+import com.quizplatform.core.domain.battle.BattleRoomStatus;
+import com.quizplatform.core.service.event.BattleFinishedEvent;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배틀방 코드 → 방 요약 정보 색인 컴포넌트
+ *
+ * 주요 기능:
+ * - 방 코드로 방 ID/상태/정원/참가자 수를 DB 조회 없이 확인
+ * - 입장 가능 여부(대기 상태, 정원 미달)를 색인만으로 판단하고 단기 입장 티켓 발급
+ * - 단일 서버는 메모리(local), 다중 서버는 Redis(redis) 저장소 사용 (battle.room-index.mode)
+ * - 참가자 수/상태 변경은 트랜잭션 커밋 후에 반영 (롤백 시 색인 불일치 방지)
+ * - 등록 후 1시간이 지난 항목은 만료 (대기 상태로 방치된 방 정리, 미스 시 DB에서 다시 등록)
+ *
+ * 색인은 입장 요청을 빠르게 거절하기 위한 용도이며, 실제 참가 처리는 기존과 같이 DB에서 최종 검증합니다.
+ *
+ * @author 채기훈
+ */
+@Component
+@Slf4j
+public class BattleRoomCodeIndex {
+
+    private static final String CODE_KEY_PREFIX = "battle:room-code:";
+    private static final String ROOM_CODE_KEY_PREFIX = "battle:room-code-of:";
+    private static final String TICKET_KEY_PREFIX = "battle:join-ticket:";
+    private static final long ENTRY_EXPIRE_SECONDS = 3600; // 1시간
+
+    private static final String FIELD_ROOM_ID = "roomId";
+    private static final String FIELD_STATUS = "status";
+    private static final String FIELD_MAX = "max";
+    private static final String FIELD_COUNT = "count";
+
+    /**
+     * 메모리 색인 (Key: 방 코드)
+     */
+    private final Map<String, RoomSummary> localByCode = new ConcurrentHashMap<>();
+
+    /**
+     * 메모리 역색인 (Key: 방 ID, Value: 방 코드)
+     */
+    private final Map<Long, String> localCodeByRoom = new ConcurrentHashMap<>();
+
+    /**
+     * 메모리 입장 티켓 (Key: 티켓, Value: 티켓 정보)
+     */
+    private final Map<String, Ticket> localTickets = new ConcurrentHashMap<>();
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final boolean redisMode;
+    private final long ticketTtlSeconds;
+
+    @Autowired
+    public BattleRoomCodeIndex(RedisTemplate<String, String> redisTemplate,
+                               @Value("${battle.room-index.mode:local}") String mode,
+                               @Value("${battle.room-index.ticket-ttl-seconds:60}") long ticketTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.redisMode = "redis".equalsIgnoreCase(mode);
+        this.ticketTtlSeconds = ticketTtlSeconds;
+    }
+
+    /**
+     * 방 등록 (생성 시 또는 색인 미스 후 DB에서 로드한 경우)
+     *
+     * @param room 배틀방
+     * @param participantCount 현재 참가자 수
+     */
+    public void register(BattleRoom room, int participantCount) {
+        String code = room.getRoomCode();
+        if (code == null) {
+            return;
+        }
+
+        if (redisMode) {
+            Map<String, String> fields = new HashMap<>();
+            fields.put(FIELD_ROOM_ID, room.getId().toString());
+            fields.put(FIELD_STATUS, room.getStatus().name());
+            fields.put(FIELD_MAX, String.valueOf(room.getMaxParticipants()));
+            fields.put(FIELD_COUNT, String.valueOf(participantCount));
+            redisTemplate.opsForHash().putAll(CODE_KEY_PREFIX + code, fields);
+            redisTemplate.expire(CODE_KEY_PREFIX + code, ENTRY_EXPIRE_SECONDS, TimeUnit.SECONDS);
+            redisTemplate.opsForValue().set(ROOM_CODE_KEY_PREFIX + room.getId(), code, ENTRY_EXPIRE_SECONDS, TimeUnit.SECONDS);
+        } else {
+            localByCode.put(code, new RoomSummary(room.getId(), code, room.getStatus(), room.getMaxParticipants(), participantCount,
+                    System.currentTimeMillis() + ENTRY_EXPIRE_SECONDS * 1000));
+            localCodeByRoom.put(room.getId(), code);
+        }
+    }
+
+    /**
+     * 방 코드로 요약 정보 조회
+     *
+     * @param code 방 코드
+     * @return 방 요약 정보, 색인에 없으면 null
+     */
+    public RoomSummary findByCode(String code) {
+        if (code == null) {
+            return null;
+        }
+        String normalized = code.trim().toUpperCase();
+        if (!redisMode) {
+            RoomSummary summary = localByCode.get(normalized);
+            if (summary != null && summary.expiresAt < System.currentTimeMillis()) {
+                evict(summary);
+                return null;
+            }
+            return summary;
+        }
+
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(CODE_KEY_PREFIX + normalized);
+        if (fields == null || fields.isEmpty()) {
+            return null;
+        }
+        return new RoomSummary(
+                Long.valueOf((String) fields.get(FIELD_ROOM_ID)),
+                normalized,
+                BattleRoomStatus.valueOf((String) fields.get(FIELD_STATUS)),
+                Integer.parseInt((String) fields.get(FIELD_MAX)),
+                Integer.parseInt((String) fields.get(FIELD_COUNT)));
+    }
+
+    /**
+     * 방 ID로 요약 정보 조회
+     *
+     * @param roomId 방 ID
+     * @return 방 요약 정보, 색인에 없으면 null
+     */
+    public RoomSummary findByRoomId(Long roomId) {
+        return findByCode(codeOf(roomId));
+    }
+
+    /**
+     * 참가자 수 증감 (진행 중인 트랜잭션이 있으면 커밋 후 반영)
+     *
+     * @param roomId 방 ID
+     * @param delta 증감 값
+     */
+    public void adjustParticipants(Long roomId, int delta) {
+        afterCommit(() -> applyParticipantDelta(roomId, delta));
+    }
+
+    private void applyParticipantDelta(Long roomId, int delta) {
+        String code = codeOf(roomId);
+        if (code == null) {
+            return;
+        }
+        if (redisMode) {
+            redisTemplate.opsForHash().increment(CODE_KEY_PREFIX + code, FIELD_COUNT, delta);
+        } else {
+            localByCode.computeIfPresent(code, (c, summary) -> summary.withParticipantCount(
+                    Math.max(0, summary.getParticipantCount() + delta)));
+        }
+    }
+
+    /**
+     * 방 상태 변경 반영 (진행 중인 트랜잭션이 있으면 커밋 후 반영)
+     *
+     * @param roomId 방 ID
+     * @param status 변경된 상태
+     */
+    public void updateStatus(Long roomId, BattleRoomStatus status) {
+        afterCommit(() -> applyStatus(roomId, status));
+    }
+
+    private void applyStatus(Long roomId, BattleRoomStatus status) {
+        String code = codeOf(roomId);
+        if (code == null) {
+            return;
+        }
+        if (redisMode) {
+            redisTemplate.opsForHash().put(CODE_KEY_PREFIX + code, FIELD_STATUS, status.name());
+        } else {
+            localByCode.computeIfPresent(code, (c, summary) -> summary.withStatus(status));
+        }
+    }
+
+    /**
+     * 방 색인 제거 (종료/삭제 시)
+     *
+     * @param roomId 방 ID
+     */
+    public void remove(Long roomId) {
+        if (redisMode) {
+            String code = codeOf(roomId);
+            if (code != null) {
+                redisTemplate.delete(CODE_KEY_PREFIX + code);
+            }
+            redisTemplate.delete(ROOM_CODE_KEY_PREFIX + roomId);
+        } else {
+            String code = localCodeByRoom.remove(roomId);
+            if (code != null) {
+                localByCode.remove(code);
+            }
+        }
+    }
+
+    /**
+     * 배틀 종료 시 색인 제거 (커밋 후)
+     *
+     * @param event 배틀 종료 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBattleFinished(BattleFinishedEvent event) {
+        remove(event.getRoomId());
+    }
+
+    /**
+     * 만료된 메모리 색인 항목 정리 (1분 주기)
+     * 시작/종료 없이 대기 상태로 방치된 방의 항목이 남지 않도록 합니다. Redis 모드는 키 만료로 처리됩니다.
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void evictExpired() {
+        if (redisMode) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (RoomSummary summary : localByCode.values()) {
+            if (summary.expiresAt < now) {
+                evict(summary);
+            }
+        }
+    }
+
+    /**
+     * 입장 티켓 발급
+     *
+     * @param roomId 방 ID
+     * @param userId 사용자 ID
+     * @return 입장 티켓
+     */
+    public String issueTicket(Long roomId, Long userId) {
+        String ticket = UUID.randomUUID().toString();
+        if (redisMode) {
+            redisTemplate.opsForValue().set(TICKET_KEY_PREFIX + ticket, roomId + ":" + userId, ticketTtlSeconds, TimeUnit.SECONDS);
+        } else {
+            long now = System.currentTimeMillis();
+            localTickets.values().removeIf(t -> t.expiresAt() < now);
+            localTickets.put(ticket, new Ticket(roomId, userId, now + ticketTtlSeconds * 1000));
+        }
+        return ticket;
+    }
+
+    /**
+     * 입장 티켓 사용 (1회용)
+     *
+     * @param ticket 입장 티켓
+     * @param roomId 입장하려는 방 ID
+     * @param userId 입장하려는 사용자 ID
+     * @return 유효한 티켓이면 true
+     */
+    public boolean consumeTicket(String ticket, Long roomId, Long userId) {
+        if (ticket == null) {
+            return false;
+        }
+        if (redisMode) {
+            String value = redisTemplate.opsForValue().getAndDelete(TICKET_KEY_PREFIX + ticket);
+            return (roomId + ":" + userId).equals(value);
+        }
+        Ticket stored = localTickets.remove(ticket);
+        return stored != null && stored.expiresAt() >= System.currentTimeMillis()
+                && stored.roomId().equals(roomId) && stored.userId().equals(userId);
+    }
+
+    /**
+     * 입장 티켓 유효 시간 (초)
+     *
+     * @return 유효 시간
+     */
+    public long getTicketTtlSeconds() {
+        return ticketTtlSeconds;
+    }
+
+    private void evict(RoomSummary summary) {
+        if (localByCode.remove(summary.getRoomCode(), summary)) {
+            localCodeByRoom.remove(summary.getRoomId(), summary.getRoomCode());
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private String codeOf(Long roomId) {
+        if (roomId == null) {
+            return null;
+        }
+        return redisMode ? redisTemplate.opsForValue().get(ROOM_CODE_KEY_PREFIX + roomId) : localCodeByRoom.get(roomId);
+    }
+
+    /**
+     * 방 요약 정보 (불변)
+     */
+    @Getter
+    public static class RoomSummary {
+        private final Long roomId;
+        private final String roomCode;
+        private final BattleRoomStatus status;
+        private final int maxParticipants;
+        private final int participantCount;
+
+        /**
+         * 메모리 색인 만료 시각 (ms, Redis 모드는 사용하지 않음)
+         */
+        @Getter(AccessLevel.NONE)
+        private final long expiresAt;
+
+        RoomSummary(Long roomId, String roomCode, BattleRoomStatus status, int maxParticipants, int participantCount) {
+            this(roomId, roomCode, status, maxParticipants, participantCount, Long.MAX_VALUE);
+        }
+
+        RoomSummary(Long roomId, String roomCode, BattleRoomStatus status, int maxParticipants, int participantCount, long expiresAt) {
+            this.roomId = roomId;
+            this.roomCode = roomCode;
+            this.status = status;
+            this.maxParticipants = maxParticipants;
+            this.participantCount = participantCount;
+            this.expiresAt = expiresAt;
+        }
+
+        RoomSummary withParticipantCount(int count) {
+            return new RoomSummary(roomId, roomCode, status, maxParticipants, count, expiresAt);
+        }
+
+        RoomSummary withStatus(BattleRoomStatus newStatus) {
+            return new RoomSummary(roomId, roomCode, newStatus, maxParticipants, participantCount, expiresAt);
+        }
+    }
+
+    private record Ticket(Long roomId, Long userId, long expiresAt) {
+    }
+}
@@ -0,0 +1,206 @@
+package com.quizplatform.core.service.battle;
+
+import com.quizplatform.core.service.event.BattleFinishedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 배틀방 좌석 예약 컴포넌트
+ *
+ * 주요 기능:
+ * - 방마다 좌석 비트맵을 두고 CAS로 빈 좌석을 점유하여 정확히 maxParticipants명만 입장 허용
+ * - 같은 사용자의 중복 입장을 DB 유니크 제약 예외 없이 거절
+ * - 좌석 점유 후에 참가자를 저장하고, 저장 실패 시 좌석 반환
+ *
+ * 좌석 테이블은 방을 처음 다룰 때 DB의 현재 참가자로 초기화되며, 이후에는 이 테이블이 입장 판단의 기준이 됩니다.
+ * 시작/종료 없이 방치된 방의 테이블은 유휴 시간이 지나면 제거되며, 다시 입장 요청이 오면 DB에서 초기화됩니다.
+ *
+ * @author 채기훈
+ */
+@Component
+@Slf4j
+public class BattleSeatReservation {
+
+    /**
+     * 방별 좌석 테이블 (Key: 방 ID)
+     */
+    private final ConcurrentHashMap<Long, SeatTable> rooms = new ConcurrentHashMap<>();
+
+    /**
+     * 마지막 예약/반환 이후 좌석 테이블을 유지하는 시간 (ms)
+     */
+    private final long idleEvictMillis;
+
+    public BattleSeatReservation(@Value("${battle.seat.idle-evict-minutes:60}") long idleEvictMinutes) {
+        this.idleEvictMillis = TimeUnit.MINUTES.toMillis(idleEvictMinutes);
+    }
+
+    /**
+     * 좌석 예약 결과
+     */
+    public enum Result {
+        /** 좌석 점유 성공 */
+        RESERVED,
+        /** 이미 좌석을 가진 사용자 */
+        ALREADY_SEATED,
+        /** 빈 좌석 없음 */
+        FULL
+    }
+
+    /**
+     * 좌석을 예약합니다.
+     *
+     * @param roomId 방 ID
+     * @param maxParticipants 최대 참가자 수 (좌석 테이블 최초 생성 시 사용)
+     * @param currentUserIds 현재 DB 참가자 ID 목록 (좌석 테이블 최초 생성 시 사용)
+     * @param userId 입장하려는 사용자 ID
+     * @return 예약 결과
+     */
+    public Result reserve(Long roomId, int maxParticipants, Collection<Long> currentUserIds, Long userId) {
+        SeatTable table = rooms.computeIfAbsent(roomId, id -> SeatTable.seeded(maxParticipants, currentUserIds));
+        return table.reserve(userId);
+    }
+
+    /**
+     * 사용자의 좌석을 반환합니다. (퇴장 또는 저장 실패 시)
+     *
+     * @param roomId 방 ID
+     * @param userId 사용자 ID
+     */
+    public void release(Long roomId, Long userId) {
+        SeatTable table = rooms.get(roomId);
+        if (table != null) {
+            table.release(userId);
+        }
+    }
+
+    /**
+     * 방의 좌석 테이블을 제거합니다. (배틀 종료 또는 방 삭제 시)
+     *
+     * @param roomId 방 ID
+     */
+    public void releaseRoom(Long roomId) {
+        rooms.remove(roomId);
+    }
+
+    /**
+     * 점유된 좌석 수를 반환합니다.
+     *
+     * @param roomId 방 ID
+     * @return 점유 좌석 수, 좌석 테이블이 없으면 -1
+     */
+    public int getOccupiedCount(Long roomId) {
+        SeatTable table = rooms.get(roomId);
+        return table != null ? table.occupiedCount() : -1;
+    }
+
+    /**
+     * 유휴 좌석 테이블 정리 (1분 주기)
+     * 유휴 시간은 입장 트랜잭션보다 충분히 길어야 진행 중인 예약이 초기화로 사라지지 않습니다.
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void evictIdle() {
+        long idleBefore = System.currentTimeMillis() - idleEvictMillis;
+        rooms.entrySet().removeIf(entry -> entry.getValue().lastAccessedAt < idleBefore);
+    }
+
+    /**
+     * 배틀 종료 시 좌석 테이블 제거 (커밋 후)
+     *
+     * @param event 배틀 종료 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBattleFinished(BattleFinishedEvent event) {
+        releaseRoom(event.getRoomId());
+    }
+
+    /**
+     * 방 하나의 좌석 비트맵
+     * 각 비트가 좌석 하나를 의미하며, 64좌석 단위 워드별로 CAS를 수행합니다.
+     */
+    private static class SeatTable {
+        private final int capacity;
+        private final AtomicLongArray words;
+        private final ConcurrentHashMap<Long, Integer> seatByUser = new ConcurrentHashMap<>();
+        private volatile long lastAccessedAt = System.currentTimeMillis();
+
+        private SeatTable(int capacity) {
+            this.capacity = capacity;
+            this.words = new AtomicLongArray((capacity + 63) / 64);
+        }
+
+        static SeatTable seeded(int capacity, Collection<Long> userIds) {
+            SeatTable table = new SeatTable(capacity);
+            for (Long userId : userIds) {
+                table.reserve(userId);
+            }
+            return table;
+        }
+
+        Result reserve(Long userId) {
+            lastAccessedAt = System.currentTimeMillis();
+            // 같은 사용자의 동시 요청은 먼저 자리 표시(-1)를 남긴 요청만 진행
+            if (seatByUser.putIfAbsent(userId, -1) != null) {
+                return Result.ALREADY_SEATED;
+            }
+
+            int seat = claimFreeSeat();
+            if (seat < 0) {
+                seatByUser.remove(userId, -1);
+                return Result.FULL;
+            }
+            seatByUser.put(userId, seat);
+            return Result.RESERVED;
+        }
+
+        void release(Long userId) {
+            lastAccessedAt = System.currentTimeMillis();
+            Integer seat = seatByUser.remove(userId);
+            if (seat == null || seat < 0) {
+                return;
+            }
+            int index = seat >>> 6;
+            long mask = 1L << (seat & 63);
+            long current;
+            do {
+                current = words.get(index);
+            } while (!words.compareAndSet(index, current, current & ~mask));
+        }
+
+        int occupiedCount() {
+            int count = 0;
+            for (int i = 0; i < words.length(); i++) {
+                count += Long.bitCount(words.get(i));
+            }
+            return count;
+        }
+
+        private int claimFreeSeat() {
+            for (int index = 0; index < words.length(); index++) {
+                int seatsInWord = Math.min(64, capacity - index * 64);
+                long full = seatsInWord == 64 ? -1L : (1L << seatsInWord) - 1;
+                while (true) {
+                    long current = words.get(index);
+                    long free = ~current & full;
+                    if (free == 0) {
+                        break;
+                    }
+                    long bit = Long.lowestOneBit(free);
+                    if (words.compareAndSet(index, current, current | bit)) {
+                        return index * 64 + Long.numberOfTrailingZeros(bit);
+                    }
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -6,6 +6,8 @@ import com.quizplatform.core.domain.battle.BattleRoomStatus;
 import com.quizplatform.core.domain.user.User;
 import com.quizplatform.core.dto.battle.*;
 
+import java.util.List;
+
 /**
  * 배틀 모드 게임 관련 비즈니스 로직을 처리하는 서비스 인터페이스
  * <p>사용자들이 실시간으로 경쟁하는 배틀 모드의 생성, 참가, 진행, 종료 등
@@ -28,6 +30,17 @@ public interface BattleService {
      */
     BattleRoomResponse createBattleRoom(User creator, Long quizId, Integer maxParticipants);
 
+    /**
+     * 토너먼트 라운드용 대결방을 일괄 생성합니다.
+     * 퀴즈와 사용자를 한 번에 조회하고, 각 그룹의 사용자를 참가자로 등록한 방을 한 트랜잭션에서 저장합니다.
+     * 각 방의 생성자(방장)는 그룹의 첫 번째 사용자입니다.
+     *
+     * @param quizId       대결에서 사용할 퀴즈의 ID
+     * @param userIdGroups 방별 참가자 사용자 ID 목록
+     * @return 생성된 대결방 ID 목록 (그룹 순서와 동일)
+     */
+    List<Long> createTournamentRooms(Long quizId, List<List<Long>> userIdGroups);
+
     /**
      * 특정 ID의 대결방 상세 정보를 조회합니다.
      * 참가자 및 퀴즈 정보를 포함하여 조회합니다.
@@ -65,6 +78,27 @@ public interface BattleService {
      */
     BattleRoomResponse joinBattleRoom(Long roomId, User user);
 
+    /**
+     * 입장 티켓과 함께 대결방에 참가합니다. (방 코드 입장 경로)
+     * 티켓은 1회용이며 발급 시의 방/사용자와 일치해야 합니다.
+     *
+     * @param roomId 참가할 대결방의 ID
+     * @param user   참가하려는 사용자
+     * @param ticket {@link #issueJoinTicket(String, User)}로 발급받은 입장 티켓
+     * @return 참가 후 업데이트된 대결방 정보 ({@link BattleRoomResponse})
+     */
+    BattleRoomResponse joinBattleRoom(Long roomId, User user, String ticket);
+
+    /**
+     * 방 코드로 입장 가능 여부를 확인하고 입장 티켓을 발급합니다.
+     * 방 코드 색인만으로 상태와 정원을 확인하며, 색인에 없는 경우에만 DB를 조회합니다.
+     *
+     * @param roomCode 대결방 코드 (초대 링크)
+     * @param user     입장하려는 사용자
+     * @return 방 ID와 입장 티켓을 담은 {@link BattleJoinTicketResponse}
+     */
+    BattleJoinTicketResponse issueJoinTicket(String roomCode, User user);
+
     /**
      * 참가자의 준비 상태를 토글합니다 (준비/준비 해제).
      * 모든 참가자가 준비 완료되면 자동으로 대결을 시작합니다.
@@ -214,6 +248,26 @@ public interface BattleService {
      */
     void linkSessionToParticipant(Long roomId, Long userId, String sessionId);
 
+    /**
+     * 연결이 끊겼던 참가자를 새 WebSocket 세션으로 재접속시킵니다.
+     * 재연결 유예 시간 내에 유효한 재접속 토큰으로 요청한 경우에만 성공하며,
+     * 참가자 엔티티를 다시 로드하거나 저장하지 않고 세션만 다시 연결합니다.
+     *
+     * @param request   재접속 요청 정보 (roomId, userId, resumeToken)
+     * @param sessionId 새 WebSocket 세션 ID
+     * @return 축약된 배틀 상태 스냅샷을 담은 {@link BattleResumeResponse} (실패 시 success=false)
+     */
+    BattleResumeResponse resumeBattle(BattleResumeRequest request, String sessionId);
+
+    /**
+     * 배틀 이벤트 로그를 재생하여 진행 타임라인을 조회합니다.
+     * 운영 테이블(참가자/답변)은 조회하지 않고 이벤트 로그만 사용합니다.
+     *
+     * @param roomId 조회할 대결방의 ID
+     * @return 이벤트 목록과 문제별 점수 타임라인을 담은 {@link BattleReplayResponse}
+     */
+    BattleReplayResponse getBattleReplay(Long roomId);
+
     /**
      * 시간 내에 문제를 풀지 못한 참가자를 처리합니다.
      * 현재 진행 중인 문제에 미응답 상태인 참가자들에게 자동으로 오답 처리합니다.
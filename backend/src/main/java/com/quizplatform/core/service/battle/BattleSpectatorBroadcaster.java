@@ -0,0 +1,203 @@
+package com.quizplatform.core.service.battle;
+
+import com.quizplatform.core.config.websocket.BattleSubscriptionRegistry;
+import com.quizplatform.core.domain.battle.BattleRoomStatus;
+import com.quizplatform.core.dto.battle.BattleEndResponse;
+import com.quizplatform.core.dto.battle.BattleProgressResponse;
+import com.quizplatform.core.dto.battle.BattleSpectateResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 배틀 관전자 스냅샷 브로드캐스트 컴포넌트
+ * 
+ * 주요 기능:
+ * - 방별 최신 진행 상황만 보관 (답변마다 발생하는 progress 메시지를 병합)
+ * - 주기(기본 500ms)마다 변경된 방에 대해 관전 스냅샷을 한 번만 생성하여 관전자 토픽으로 전송
+ * - 관전자가 없는 방은 스냅샷을 만들지 않음
+ * - 관전자는 JPA 참가자로 저장되지 않으며, 구독만으로 관전 가능
+ * - 전송은 방 단위로 직렬화되어 순번(sequence)이 중복되거나 역전되지 않음
+ * 
+ * @author 채기훈
+ */
+@Component
+@Slf4j
+public class BattleSpectatorBroadcaster {
+
+    public static final String SPECTATE_TOPIC = "spectate";
+
+    private static final String BATTLE_TOPIC_PREFIX = "/topic/battle/";
+
+    /**
+     * 갱신이 없는 방 상태를 정리하기까지의 시간 (밀리초)
+     */
+    private static final long IDLE_EVICT_MILLIS = 10 * 60 * 1000L;
+
+    /**
+     * 방별 관전 상태
+     */
+    private final Map<Long, SpectatorRoom> rooms = new ConcurrentHashMap<>();
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final BattleSubscriptionRegistry subscriptionRegistry;
+
+    @Autowired
+    public BattleSpectatorBroadcaster(@Lazy SimpMessagingTemplate messagingTemplate,
+                                      BattleSubscriptionRegistry subscriptionRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.subscriptionRegistry = subscriptionRegistry;
+    }
+
+    /**
+     * 최신 진행 상황을 기록합니다. 전송은 다음 주기에 병합되어 한 번만 이루어집니다.
+     * 
+     * @param progress 진행 상황
+     */
+    public void offer(BattleProgressResponse progress) {
+        SpectatorRoom room = rooms.computeIfAbsent(progress.getRoomId(), id -> new SpectatorRoom());
+        synchronized (room) {
+            room.latest = progress;
+            room.updatedAt = System.currentTimeMillis();
+            room.dirty = true;
+        }
+    }
+
+    /**
+     * 배틀 종료 시 최종 결과(FINISHED)를 스냅샷으로 즉시 전송하고 방 상태를 정리합니다.
+     * 진행 상황이 기록된 적 없는 방(관전 대상이 아니었던 방)이나 이미 정리된 방은 무시합니다.
+     * 
+     * @param roomId 배틀 방 ID
+     * @param result 배틀 종료 결과
+     */
+    public void closeRoom(Long roomId, BattleEndResponse result) {
+        SpectatorRoom room = rooms.get(roomId);
+        if (room == null) {
+            return;
+        }
+        synchronized (room) {
+            room.latest = toFinalProgress(roomId, result);
+            room.dirty = true;
+            broadcast(roomId, room);
+            rooms.remove(roomId, room);
+        }
+    }
+
+    /**
+     * 관전 스냅샷 전송 주기 작업
+     * 
+     * <p>마지막 전송 이후 진행 상황이 바뀌었거나 관전자가 새로 들어온 방에만 전송합니다.</p>
+     */
+    @Scheduled(fixedDelayString = "${battle.spectator.broadcast-interval-ms:500}")
+    public void broadcastSnapshots() {
+        long now = System.currentTimeMillis();
+
+        rooms.forEach((roomId, room) -> {
+            if (now - room.updatedAt > IDLE_EVICT_MILLIS) {
+                rooms.remove(roomId, room);
+                return;
+            }
+
+            int spectators = subscriptionRegistry.getSubscriberCount(destination(roomId));
+            boolean newSpectators = spectators > room.lastSpectatorCount;
+            room.lastSpectatorCount = spectators;
+
+            if (spectators > 0 && (room.dirty || newSpectators)) {
+                broadcast(roomId, room);
+            }
+        });
+    }
+
+    /**
+     * 관전 중인 방 수 (모니터링 용도)
+     * 
+     * @return 관전 상태를 보관 중인 방 수
+     */
+    public int getTrackedRoomCount() {
+        return rooms.size();
+    }
+
+    private void broadcast(Long roomId, SpectatorRoom room) {
+        synchronized (room) {
+            room.dirty = false;
+            BattleProgressResponse progress = room.latest;
+            if (progress == null) {
+                return;
+            }
+
+            try {
+                messagingTemplate.convertAndSend(destination(roomId), toSnapshot(progress, ++room.sequence, room.lastSpectatorCount));
+            } catch (Exception e) {
+                log.error("관전 스냅샷 전송 중 오류 발생: roomId={}", roomId, e);
+            }
+        }
+    }
+
+    private BattleProgressResponse toFinalProgress(Long roomId, BattleEndResponse result) {
+        Map<Long, BattleProgressResponse.ParticipantProgress> participants = new LinkedHashMap<>();
+        if (result.getResults() != null) {
+            for (BattleEndResponse.ParticipantResult participant : result.getResults()) {
+                participants.put(participant.getUserId(), BattleProgressResponse.ParticipantProgress.builder()
+                        .userId(participant.getUserId())
+                        .username(participant.getUsername())
+                        .currentScore(participant.getFinalScore())
+                        .correctAnswers(participant.getCorrectAnswers())
+                        .hasAnsweredCurrent(true)
+                        .build());
+            }
+        }
+        return BattleProgressResponse.builder()
+                .roomId(roomId)
+                .currentQuestionIndex(result.getTotalQuestions())
+                .totalQuestions(result.getTotalQuestions())
+                .remainingTimeSeconds(0)
+                .participantProgress(participants)
+                .status(BattleRoomStatus.FINISHED)
+                .build();
+    }
+
+    private BattleSpectateResponse toSnapshot(BattleProgressResponse progress, long sequence, int spectatorCount) {
+        List<BattleProgressResponse.ParticipantProgress> ranking = progress.getParticipantProgress() != null
+                ? new ArrayList<>(progress.getParticipantProgress().values())
+                : new ArrayList<>();
+        ranking.sort(Comparator.comparingInt(BattleProgressResponse.ParticipantProgress::getCurrentScore).reversed());
+
+        return BattleSpectateResponse.builder()
+                .roomId(progress.getRoomId())
+                .sequence(sequence)
+                .currentQuestionIndex(progress.getCurrentQuestionIndex())
+                .totalQuestions(progress.getTotalQuestions())
+                .remainingTimeSeconds(progress.getRemainingTimeSeconds())
+                .status(progress.getStatus())
+                .ranking(ranking)
+                .spectatorCount(spectatorCount)
+                .timestamp(System.currentTimeMillis())
+                .build();
+    }
+
+    private String destination(Long roomId) {
+        return BATTLE_TOPIC_PREFIX + roomId + "/" + SPECTATE_TOPIC;
+    }
+
+    /**
+     * 방별 관전 상태 (내부 상태)
+     */
+    private static class SpectatorRoom {
+        private volatile BattleProgressResponse latest;
+        private volatile boolean dirty;
+        private volatile long updatedAt = System.currentTimeMillis();
+        private long sequence;
+        private int lastSpectatorCount;
+    }
+}
@@ -1,6 +1,7 @@
 package com.quizplatform.core.service.battle.impl;
 
 import com.quizplatform.core.domain.battle.BattleAnswer;
+import com.quizplatform.core.domain.battle.BattleEventType;
 import com.quizplatform.core.domain.battle.BattleParticipant;
 import com.quizplatform.core.domain.battle.BattleRoom;
 import com.quizplatform.core.domain.battle.BattleRoomStatus;
@@ -15,19 +16,31 @@ import com.quizplatform.core.exception.ErrorCode;
 import com.quizplatform.core.repository.UserRepository;
 import com.quizplatform.core.repository.battle.BattleParticipantRepository;
 import com.quizplatform.core.repository.battle.BattleRoomRepository;
+import com.quizplatform.core.repository.question.QuestionRepository;
 import com.quizplatform.core.repository.quiz.QuizRepository;
 import com.quizplatform.core.repository.user.UserBattleStatsRepository;
+import com.quizplatform.core.service.battle.BattleMessageSender;
+import com.quizplatform.core.service.battle.BattleReconnectManager;
+import com.quizplatform.core.service.battle.BattleRoomCodeIndex;
 import com.quizplatform.core.service.battle.BattleService;
 import com.quizplatform.core.service.battle.BattleScoreManager;
+import com.quizplatform.core.service.battle.BattleSeatReservation;
+import com.quizplatform.core.service.battle.replay.BattleEventLog;
 import com.quizplatform.core.service.common.EntityMapperService;
+import com.quizplatform.core.service.event.BattleFinishedEvent;
+import com.quizplatform.core.service.event.DomainEventPublisher;
 import com.quizplatform.core.service.level.LevelingService;
+import com.quizplatform.core.service.quiz.cache.CachedQuestion;
+import com.quizplatform.core.service.quiz.cache.QuizAggregate;
+import com.quizplatform.core.service.quiz.cache.QuizAggregateCache;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -53,8 +66,14 @@ public class BattleServiceImpl implements BattleService {
     private final RedisTemplate<String, String> redisTemplate;
     private final LevelingService levelingService;
     private final EntityMapperService entityMapperService;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final BattleMessageSender battleMessageSender;
     private final BattleScoreManager battleScoreManager;
+    private final BattleReconnectManager battleReconnectManager;
+    private final BattleEventLog battleEventLog;
+    private final BattleRoomCodeIndex battleRoomCodeIndex;
+    private final BattleSeatReservation battleSeatReservation;
+    private final QuizAggregateCache quizAggregateCache;
+    private final QuestionRepository questionRepository;
 
     // Redis 키 접두사
     private static final String BATTLE_ROOM_KEY_PREFIX = "battle:room:";
@@ -63,14 +82,17 @@ public class BattleServiceImpl implements BattleService {
 
     /**
      * BattleService의 생성자입니다. 필요한 Repository와 Service를 주입받습니다.
-     * SimpMessagingTemplate은 순환 참조 문제를 피하기 위해 @Lazy 로딩을 사용합니다.
+     * 브로드캐스트는 느린 클라이언트 처리가 적용된 BattleMessageSender를 통해 발송합니다.
      */
     @Autowired
     public BattleServiceImpl(BattleRoomRepository battleRoomRepository, BattleParticipantRepository participantRepository,
                              UserRepository userRepository, QuizRepository quizRepository, UserBattleStatsRepository userBattleStatsRepository,
                              RedisTemplate<String, String> redisTemplate, LevelingService levelingService,
-                             EntityMapperService entityMapperService, @Lazy SimpMessagingTemplate messagingTemplate,
-                             BattleScoreManager battleScoreManager) {
+                             EntityMapperService entityMapperService, BattleMessageSender battleMessageSender,
+                             BattleScoreManager battleScoreManager, BattleReconnectManager battleReconnectManager,
+                             BattleEventLog battleEventLog, BattleRoomCodeIndex battleRoomCodeIndex,
+                             BattleSeatReservation battleSeatReservation, QuizAggregateCache quizAggregateCache,
+                             QuestionRepository questionRepository) {
         this.battleRoomRepository = battleRoomRepository;
         this.participantRepository = participantRepository;
         this.userRepository = userRepository;
@@ -79,8 +101,14 @@ public class BattleServiceImpl implements BattleService {
         this.redisTemplate = redisTemplate;
         this.levelingService = levelingService;
         this.entityMapperService = entityMapperService;
-        this.messagingTemplate = messagingTemplate;
+        this.battleMessageSender = battleMessageSender;
         this.battleScoreManager = battleScoreManager;
+        this.battleReconnectManager = battleReconnectManager;
+        this.battleEventLog = battleEventLog;
+        this.battleRoomCodeIndex = battleRoomCodeIndex;
+        this.battleSeatReservation = battleSeatReservation;
+        this.quizAggregateCache = quizAggregateCache;
+        this.questionRepository = questionRepository;
     }
 
     @Override
@@ -101,13 +129,58 @@ public class BattleServiceImpl implements BattleService {
 
         // 대결방 저장
         BattleRoom savedRoom = battleRoomRepository.save(battleRoom);
+        battleRoomCodeIndex.register(savedRoom, 0);
 
         // 방장을 첫 참가자로 추가
-        addParticipant(savedRoom, creator);
+        admitParticipant(savedRoom, creator);
 
         return entityMapperService.mapToBattleRoomResponse(savedRoom);
     }
 
+    @Override
+    public List<Long> createTournamentRooms(Long quizId, List<List<Long>> userIdGroups) {
+        // 퀴즈는 모든 방이 공유하므로 한 번만 조회
+        Quiz quiz = quizRepository.findByIdWithDetails(quizId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.QUIZ_NOT_FOUND, "퀴즈를 찾을 수 없습니다."));
+
+        // 전체 참가자를 한 번에 조회
+        Set<Long> userIds = userIdGroups.stream().flatMap(List::stream).collect(Collectors.toSet());
+        Map<Long, User> users = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, user -> user));
+        if (users.size() != userIds.size()) {
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND, "토너먼트 참가자 중 존재하지 않는 사용자가 있습니다.");
+        }
+
+        // 배틀 통계가 없는 사용자는 일괄 생성
+        List<UserBattleStats> missingStats = users.values().stream()
+                .filter(user -> user.getBattleStats() == null)
+                .map(UserBattleStats::new)
+                .collect(Collectors.toList());
+        if (!missingStats.isEmpty()) {
+            userBattleStatsRepository.saveAll(missingStats);
+        }
+
+        List<BattleRoom> rooms = new ArrayList<>(userIdGroups.size());
+        for (List<Long> group : userIdGroups) {
+            BattleRoom room = BattleRoom.builder()
+                    .quiz(quiz)
+                    .maxParticipants(group.size())
+                    .creatorId(group.get(0))
+                    .build();
+            room.validateBattleSettings();
+            for (Long userId : group) {
+                room.addParticipant(users.get(userId));
+            }
+            rooms.add(room);
+        }
+
+        // 참가자는 cascade로 함께 저장
+        List<BattleRoom> savedRooms = battleRoomRepository.saveAll(rooms);
+        log.info("토너먼트 대결방 일괄 생성 완료: quizId={}, 방 수={}, 참가자 수={}", quizId, savedRooms.size(), userIds.size());
+
+        return savedRooms.stream().map(BattleRoom::getId).collect(Collectors.toList());
+    }
+
     @Override
     public BattleRoomResponse getBattleRoom(Long roomId) {
         BattleRoom battleRoom = battleRoomRepository.findByIdWithDetails(roomId)
@@ -164,6 +237,12 @@ public class BattleServiceImpl implements BattleService {
 
     @Override
     public BattleRoomResponse joinBattleRoom(Long roomId, User user) {
+        // 방 코드 색인으로 DB 조회 전에 빠르게 거절 (색인에 없으면 DB에서 최종 확인)
+        BattleRoomCodeIndex.RoomSummary summary = battleRoomCodeIndex.findByRoomId(roomId);
+        if (summary != null) {
+            validateJoinable(summary);
+        }
+
         BattleRoom battleRoom = battleRoomRepository.findByIdWithDetails(roomId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.BATTLE_ROOM_NOT_FOUND, "대결방을 찾을 수 없습니다."));
 
@@ -172,26 +251,47 @@ public class BattleServiceImpl implements BattleService {
             throw new BusinessException(ErrorCode.BATTLE_ALREADY_STARTED, "이미 시작된 대결방입니다.");
         }
 
-        // 정원 초과 확인
-        if (battleRoom.isParticipantLimitReached()) {
-            throw new BusinessException(ErrorCode.BATTLE_ROOM_FULL, "대결방이 가득 찼습니다.");
-        }
+        // 좌석 예약 (정원 초과/중복 참가 확인) 후 참가자 추가
+        BattleParticipant participant = admitParticipant(battleRoom, user);
 
-        // 이미 참가 중인지 확인
-        if (participantRepository.existsByBattleRoomAndUser(battleRoom, user)) {
-            throw new BusinessException(ErrorCode.ALREADY_PARTICIPATING, "이미 참가 중인 사용자입니다.");
+        // WebSocket 메시지 발송
+        battleMessageSender.send(roomId, "participants", createBattleJoinResponse(battleRoom, participant));
+
+        return entityMapperService.mapToBattleRoomResponse(battleRoom);
+    }
+
+    @Override
+    public BattleRoomResponse joinBattleRoom(Long roomId, User user, String ticket) {
+        if (!battleRoomCodeIndex.consumeTicket(ticket, roomId, user.getId())) {
+            throw new BusinessException(ErrorCode.INVALID_JOIN_TICKET);
         }
+        return joinBattleRoom(roomId, user);
+    }
 
-        // 참가자 추가 및 반환값 저장
-        BattleParticipant participant = addParticipant(battleRoom, user);
+    @Override
+    public BattleJoinTicketResponse issueJoinTicket(String roomCode, User user) {
+        BattleRoomCodeIndex.RoomSummary summary = battleRoomCodeIndex.findByCode(roomCode);
+        if (summary == null) {
+            // 색인 미스 (서버 재시작 등): DB에서 한 번 로드하여 색인에 다시 등록
+            BattleRoom battleRoom = battleRoomRepository.findByRoomCodeWithParticipants(roomCode.trim().toUpperCase())
+                    .orElseThrow(() -> new BusinessException(ErrorCode.BATTLE_ROOM_NOT_FOUND, "대결방을 찾을 수 없습니다."));
+            if (battleRoom.getStatus() == BattleRoomStatus.FINISHED) {
+                throw new BusinessException(ErrorCode.BATTLE_ALREADY_STARTED, "이미 종료된 대결방입니다.");
+            }
+            battleRoomCodeIndex.register(battleRoom, battleRoom.getParticipants().size());
+            summary = battleRoomCodeIndex.findByCode(roomCode);
+        }
 
-        // WebSocket 메시지 발송
-        messagingTemplate.convertAndSend(
-                "/topic/battle/" + roomId + "/participants",
-                createBattleJoinResponse(battleRoom, participant)
-        );
+        validateJoinable(summary);
 
-        return entityMapperService.mapToBattleRoomResponse(battleRoom);
+        return BattleJoinTicketResponse.builder()
+                .roomId(summary.getRoomId())
+                .roomCode(summary.getRoomCode())
+                .ticket(battleRoomCodeIndex.issueTicket(summary.getRoomId(), user.getId()))
+                .expiresInSeconds(battleRoomCodeIndex.getTicketTtlSeconds())
+                .participantCount(summary.getParticipantCount())
+                .maxParticipants(summary.getMaxParticipants())
+                .build();
     }
 
     @Override
@@ -232,12 +332,16 @@ public class BattleServiceImpl implements BattleService {
         // 참가자 제거
         battleRoom.getParticipants().remove(participant);
         participantRepository.delete(participant);
+        battleSeatReservation.release(roomId, user.getId());
 
         // 참가자가 없으면 대결방 삭제
         if (battleRoom.getParticipants().isEmpty()) {
             battleRoomRepository.delete(battleRoom);
+            battleRoomCodeIndex.remove(roomId);
+            battleSeatReservation.releaseRoom(roomId);
             return null;
         }
+        battleRoomCodeIndex.adjustParticipants(roomId, -1);
 
         return entityMapperService.mapToBattleRoomResponse(battleRoom);
     }
@@ -256,10 +360,11 @@ public class BattleServiceImpl implements BattleService {
         BattleParticipant participant = room.getParticipants().stream()
                 .filter(p -> p.getUser().getId().equals(user.getId()))
                 .findFirst()
-                .orElseGet(() -> addParticipant(room, user));
+                .orElseGet(() -> admitParticipant(room, user));
 
         // Redis에 참가자 정보 저장
         saveParticipantToRedis(participant, sessionId);
+        battleEventLog.record(room.getId(), BattleEventType.JOIN, user.getId());
 
         // 응답 생성
         return createBattleJoinResponse(room, participant);
@@ -273,8 +378,8 @@ public class BattleServiceImpl implements BattleService {
             throw new BusinessException(ErrorCode.PARTICIPANT_NOT_FOUND);
         }
 
-        // 배틀룸 상세 정보 로드 (질문 포함)
-        BattleRoom battleRoom = battleRoomRepository.findByIdWithQuizQuestions(participant.getBattleRoom().getId())
+        // 배틀룸 상태만 로드하고, 문제 정보는 퀴즈 집합 캐시에서 조회
+        BattleRoom battleRoom = battleRoomRepository.findById(participant.getBattleRoom().getId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.BATTLE_ROOM_NOT_FOUND));
 
         log.info("답변 처리 시작: roomId={}, questionId={}, userId={}, answer=[{}], 현재문제인덱스={}",
@@ -292,43 +397,27 @@ public class BattleServiceImpl implements BattleService {
             throw new BusinessException(ErrorCode.BATTLE_NOT_IN_PROGRESS);
         }
 
-        // 문제를 찾기
-        List<Question> questions = battleRoom.getQuestions();
-        Question targetQuestion = null;
-        int questionIndex = -1;
-
-        for (int i = 0; i < questions.size(); i++) {
-            Question q = questions.get(i);
-            if (q.getId().equals(request.getQuestionId())) {
-                targetQuestion = q;
-                questionIndex = i;
-                break;
-            }
-        }
+        // 문제를 찾기 (문제 순서는 엔티티 매핑과 같은 ID 오름차순)
+        QuizAggregate quiz = quizAggregateCache.get(battleRoom.getQuiz().getId());
+        List<CachedQuestion> questions = quiz.getQuestions();
+        int questionIndex = quiz.indexOfQuestion(request.getQuestionId());
 
-        if (targetQuestion == null) {
+        if (questionIndex < 0) {
             throw new BusinessException(ErrorCode.INVALID_QUESTION, "요청한 문제를 찾을 수 없습니다.");
         }
+        CachedQuestion cachedQuestion = questions.get(questionIndex);
 
-        log.info("답변 처리 상세: roomId={}, 문제번호={}/{}, 인덱스={}, 현재인덱스={}, userId={}, 정답=[{}]",
-                request.getRoomId(), questionIndex + 1, battleRoom.getQuestions().size(),
-                questionIndex, battleRoom.getCurrentQuestionIndex(), participant.getUser().getId(),
-                targetQuestion.getCorrectAnswer());
-
-        // 현재 진행중인 문제와 요청한 문제 ID가 일치하는지 확인
-        boolean isCurrentQuestion = false;
-        Question currentQuestion = battleRoom.getCurrentQuestion();
-
-        if (currentQuestion != null && currentQuestion.getId().equals(request.getQuestionId())) {
-            isCurrentQuestion = true;
-        }
+        log.info("답변 처리 상세: roomId={}, 문제번호={}/{}, 인덱스={}, 현재인덱스={}, userId={}",
+                request.getRoomId(), questionIndex + 1, questions.size(),
+                questionIndex, battleRoom.getCurrentQuestionIndex(), participant.getUser().getId());
 
         // 현재 진행 중인 문제가 아니라면 답변할 수 없음
-        if (!isCurrentQuestion) {
+        int currentIndex = battleRoom.getCurrentQuestionIndex();
+        if (questionIndex != currentIndex) {
             throw new BusinessException(ErrorCode.INVALID_QUESTION_SEQUENCE,
                     String.format("현재 진행 중인 문제가 아닙니다. 요청ID: %d, 현재ID: %d",
                             request.getQuestionId(),
-                            currentQuestion != null ? currentQuestion.getId() : -1)
+                            currentIndex >= 0 && currentIndex < questions.size() ? questions.get(currentIndex).getId() : -1)
             );
         }
 
@@ -347,23 +436,25 @@ public class BattleServiceImpl implements BattleService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.PARTICIPANT_NOT_FOUND));
 
         // 시간 검증 (최대 시간 제한 적용)
-        int timeSpentSeconds = Math.min(request.getTimeSpentSeconds(), targetQuestion.getTimeLimitSeconds());
+        int timeSpentSeconds = Math.min(request.getTimeSpentSeconds(), cachedQuestion.getTimeLimitSeconds());
+        Question targetQuestion = questionRepository.getReferenceById(cachedQuestion.getId());
         
         // 답변 처리 직전 점수 상태 로깅
         log.info("답변 처리 직전 점수 상태: roomId={}, userId={}, 현재점수={}, 연속정답={}",
                 request.getRoomId(), participant.getUser().getId(), 
                 participant.getCurrentScore(), participant.getCurrentStreak());
         
-        log.info("답변 제출 직전: userId={}, 문제ID={}, 제출답변=[{}], 정답=[{}], 소요시간={}초",
-                participant.getUser().getId(), targetQuestion.getId(), 
-                request.getAnswer(), targetQuestion.getCorrectAnswer(), timeSpentSeconds);
+        log.info("답변 제출 직전: userId={}, 문제ID={}, 제출답변=[{}], 소요시간={}초",
+                participant.getUser().getId(), cachedQuestion.getId(),
+                request.getAnswer(), timeSpentSeconds);
 
-        // 답변 제출 및 점수 계산 (메모리에서만 처리)
+        // 답변 제출 및 점수 계산 (정답 판정은 캐시된 판정기 사용)
         int oldScore = participant.getCurrentScore();
         BattleAnswer answer = participant.submitAnswer(
                 targetQuestion,
                 request.getAnswer(),
-                timeSpentSeconds
+                timeSpentSeconds,
+                cachedQuestion.isCorrectAnswer(request.getAnswer())
         );
         
         // 실시간 점수 업데이트 (BattleScoreManager 사용)
@@ -387,6 +478,8 @@ public class BattleServiceImpl implements BattleService {
 
         // Redis에 업데이트된 참가자 정보 저장
         saveParticipantToRedis(participant, sessionId);
+        battleEventLog.record(request.getRoomId(), BattleEventType.ANSWER, participant.getUser().getId(),
+                questionIndex, scoreChange, answer.isCorrect());
 
         // 응답 생성 (실시간 점수 사용)
         int currentScoreFromManager = battleScoreManager.getCurrentScore(request.getRoomId(), participant.getUser().getId());
@@ -452,6 +545,7 @@ public class BattleServiceImpl implements BattleService {
         // 대결 시작 상태로 변경
         room.startBattle();
         battleRoomRepository.save(room);
+        battleRoomCodeIndex.updateStatus(roomId, room.getStatus());
 
         // BattleScoreManager 초기화 (실시간 점수 관리)
         List<Long> participantIds = room.getParticipants().stream()
@@ -459,6 +553,8 @@ public class BattleServiceImpl implements BattleService {
                 .map(p -> p.getUser().getId())
                 .collect(Collectors.toList());
         battleScoreManager.initializeBattle(roomId, participantIds);
+        battleEventLog.record(roomId, BattleEventType.START, null, -1, participantIds.size(), false);
+        battleEventLog.record(roomId, BattleEventType.QUESTION_START, null, room.getCurrentQuestionIndex(), 0, false);
 
         log.info("배틀 시작 처리 완료: roomId={}, 문제수={}, 참가자수={}, 실시간 점수 관리 초기화됨",
                 roomId, room.getQuestions().size(), room.getParticipants().size());
@@ -495,6 +591,7 @@ public class BattleServiceImpl implements BattleService {
         if (nextQuestion != null) {
             log.info("선택된 다음 문제 결과: ID={}, 새 인덱스={}",
                     nextQuestion.getId(), room.getCurrentQuestionIndex());
+            battleEventLog.record(roomId, BattleEventType.QUESTION_START, null, room.getCurrentQuestionIndex(), 0, false);
 
             boolean isLastQuestion = room.getCurrentQuestionIndex() >= questions.size() - 1;
             return createNextQuestionResponse(nextQuestion, isLastQuestion);
@@ -505,6 +602,7 @@ public class BattleServiceImpl implements BattleService {
             // 명시적으로 게임 종료 처리 수행
             room.finishBattle();
             battleRoomRepository.save(room);
+            DomainEventPublisher.publishEvent(new BattleFinishedEvent(room));
 
             // 게임 종료 응답 생성
             BattleNextQuestionResponse gameOverResponse = BattleNextQuestionResponse.builder()
@@ -597,12 +695,16 @@ public class BattleServiceImpl implements BattleService {
             
             room.finishBattle();
             battleRoomRepository.save(room);
+            DomainEventPublisher.publishEvent(new BattleFinishedEvent(room));
         } else {
             log.info("배틀룸 이미 종료됨: roomId={}", roomId);
             // 이미 종료된 경우에도 캐시 정리
             battleScoreManager.cleanupBattle(roomId);
         }
 
+        // 재연결 대기 중인 세션 정리
+        battleReconnectManager.releaseRoom(roomId);
+
         BattleResult result = calculateBattleResult(room);
 
         // 경험치 부여 및 통계 업데이트
@@ -630,6 +732,10 @@ public class BattleServiceImpl implements BattleService {
         participant.setActive(false);
         participantRepository.save(participant);
 
+        // 세션 바인딩 해제 (재연결 대상에서 제외)
+        battleReconnectManager.release(battleRoom.getId(), user.getId());
+        battleEventLog.record(battleRoom.getId(), BattleEventType.LEAVE, user.getId());
+
         // 배틀 상태가 대기 중일 때만 참가자 수 확인 및 방 상태 변경
         if (battleRoom.getStatus() == BattleRoomStatus.WAITING) {
             // 활성 참가자 수 계산
@@ -641,6 +747,8 @@ public class BattleServiceImpl implements BattleService {
             if (activeParticipantsCount < 1) {
                 battleRoom.setStatus(BattleRoomStatus.FINISHED);
                 battleRoomRepository.save(battleRoom);
+                battleRoomCodeIndex.remove(battleRoom.getId());
+                battleSeatReservation.releaseRoom(battleRoom.getId());
                 // 배틀 캐시 정리
                 battleScoreManager.cleanupBattle(battleRoom.getId());
                 log.info("마지막 활성 참가자가 나가서 배틀룸 상태 FINISHED로 변경 및 캐시 정리: roomId={}", battleRoom.getId());
@@ -711,6 +819,7 @@ public class BattleServiceImpl implements BattleService {
 
             // 6. Redis에 참가자 정보 저장 (세션 정보 연결)
             saveParticipantToRedis(participant, sessionId);
+            battleEventLog.record(room.getId(), BattleEventType.READY, user.getId(), -1, participant.isReady() ? 1 : 0, false);
 
             log.info("준비 상태 토글 완료: roomId={}, userId={}, isReady={}",
                     request.getRoomId(), request.getUserId(), participant.isReady());
@@ -757,6 +866,59 @@ public class BattleServiceImpl implements BattleService {
         log.info("세션과 참가자 연결 완료: roomId={}, userId={}, sessionId={}", roomId, userId, sessionId);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public BattleResumeResponse resumeBattle(BattleResumeRequest request, String sessionId) {
+        BattleReconnectManager.ResumeResult result = battleReconnectManager.resume(
+                request.getRoomId(), request.getUserId(), request.getResumeToken(), sessionId);
+
+        if (result == null) {
+            log.info("재접속 실패 (토큰 불일치 또는 유예 시간 만료): roomId={}, userId={}, sessionId={}",
+                    request.getRoomId(), request.getUserId(), sessionId);
+            return BattleResumeResponse.builder()
+                    .roomId(request.getRoomId())
+                    .success(false)
+                    .build();
+        }
+
+        // 세션 → 참가자 매핑만 교체 (참가자 엔티티 조회/저장 없음)
+        redisTemplate.delete(PARTICIPANT_KEY_PREFIX + result.getPreviousSessionId());
+        redisTemplate.opsForValue().set(
+                PARTICIPANT_KEY_PREFIX + sessionId,
+                result.getParticipantId().toString(),
+                ROOM_EXPIRE_SECONDS,
+                TimeUnit.SECONDS
+        );
+
+        // 축약 스냅샷: 방 기본 정보 + 메모리의 실시간 점수
+        BattleRoom room = battleRoomRepository.findById(request.getRoomId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.BATTLE_ROOM_NOT_FOUND));
+
+        Map<Long, Integer> scores = new HashMap<>();
+        battleScoreManager.getBattleProgress(request.getRoomId())
+                .forEach((userId, progress) -> scores.put(userId, progress.getCurrentScore()));
+
+        battleEventLog.record(room.getId(), BattleEventType.RESUME, request.getUserId());
+
+        return BattleResumeResponse.builder()
+                .roomId(room.getId())
+                .success(true)
+                .resumeToken(result.getResumeToken())
+                .status(room.getStatus())
+                .currentQuestionIndex(room.getCurrentQuestionIndex())
+                .scores(scores)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BattleReplayResponse getBattleReplay(Long roomId) {
+        if (!battleRoomRepository.existsById(roomId)) {
+            throw new BusinessException(ErrorCode.BATTLE_ROOM_NOT_FOUND);
+        }
+        return battleEventLog.replay(roomId);
+    }
+
     @Override
     @Transactional
     public int handleTimeoutParticipants(Long roomId) {
@@ -826,6 +988,8 @@ public class BattleServiceImpl implements BattleService {
 
                     // 저장
                     participantRepository.save(participant);
+                    battleEventLog.record(roomId, BattleEventType.TIMEOUT, participant.getUser().getId(),
+                            currentIndex, 0, false);
                     processedCount++;
 
                     log.info("타임아웃 자동 오답 처리 완료: roomId={}, userId={}, 문제={}",
@@ -854,6 +1018,7 @@ public class BattleServiceImpl implements BattleService {
 
         // 참가자 비활성화
         participant.setActive(false);
+        battleEventLog.record(roomId, BattleEventType.LEAVE, userId);
 
         // 진행 중인 배틀인 경우 추가 처리
         if (room.getStatus() == BattleRoomStatus.IN_PROGRESS) {
@@ -911,6 +1076,7 @@ public class BattleServiceImpl implements BattleService {
             log.info("활성 참가자가 없어 배틀 자동 종료: roomId={}", roomId);
             room.finishBattle();
             battleRoomRepository.save(room);
+            DomainEventPublisher.publishEvent(new BattleFinishedEvent(room));
         }
 
         return new BattleLeaveResponse(userId, roomId, room.getStatus());
@@ -964,12 +1130,82 @@ public class BattleServiceImpl implements BattleService {
                 .user(user)
                 .build();
 
-        return participantRepository.save(participant);
+        BattleParticipant saved = participantRepository.save(participant);
+        battleRoomCodeIndex.adjustParticipants(battleRoom.getId(), 1);
+        return saved;
+    }
+
+    /**
+     * 좌석을 예약한 뒤 참가자를 추가합니다. (내부 헬퍼 메서드)
+     * 좌석 비트맵의 CAS로 정확히 maxParticipants명만 통과하므로, 동시에 마지막 자리에 들어온 요청도
+     * DB 유니크 제약 예외나 정원 초과 없이 정리된 오류로 거절됩니다.
+     * 저장 또는 트랜잭션 커밋에 실패하면 예약한 좌석을 반환합니다.
+     *
+     * @param battleRoom 참가할 대결방 (참가자 목록 포함)
+     * @param user       참가하려는 사용자
+     * @return 생성된 {@link BattleParticipant} 엔티티
+     * @throws BusinessException 빈 좌석이 없거나 (BATTLE_ROOM_FULL) 이미 참가 중인 경우 (ALREADY_PARTICIPATING)
+     */
+    private BattleParticipant admitParticipant(BattleRoom battleRoom, User user) {
+        Long roomId = battleRoom.getId();
+        Long userId = user.getId();
+        List<Long> currentUserIds = battleRoom.getParticipants().stream()
+                .map(p -> p.getUser().getId())
+                .collect(Collectors.toList());
+
+        switch (battleSeatReservation.reserve(roomId, battleRoom.getMaxParticipants(), currentUserIds, userId)) {
+            case FULL -> throw new BusinessException(ErrorCode.BATTLE_ROOM_FULL, "대결방이 가득 찼습니다.");
+            case ALREADY_SEATED -> throw new BusinessException(ErrorCode.ALREADY_PARTICIPATING, "이미 참가 중인 사용자입니다.");
+            case RESERVED -> { }
+        }
+
+        // 트랜잭션이 롤백되면 좌석 반환 (트랜잭션이 없을 때만 아래 catch에서 직접 반환)
+        boolean releaseOnRollback = TransactionSynchronizationManager.isSynchronizationActive();
+        if (releaseOnRollback) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        battleSeatReservation.release(roomId, userId);
+                    }
+                }
+            });
+        }
+
+        try {
+            return addParticipant(battleRoom, user);
+        } catch (DataIntegrityViolationException e) {
+            if (!releaseOnRollback) {
+                battleSeatReservation.release(roomId, userId);
+            }
+            throw new BusinessException(ErrorCode.ALREADY_PARTICIPATING, "이미 참가 중인 사용자입니다.");
+        } catch (RuntimeException e) {
+            if (!releaseOnRollback) {
+                battleSeatReservation.release(roomId, userId);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 방 코드 색인의 요약 정보로 입장 가능 여부를 확인합니다. (내부 헬퍼 메서드)
+     *
+     * @param summary 방 요약 정보
+     * @throws BusinessException 대기 상태가 아니거나 (BATTLE_ALREADY_STARTED) 정원이 찬 경우 (BATTLE_ROOM_FULL)
+     */
+    private void validateJoinable(BattleRoomCodeIndex.RoomSummary summary) {
+        if (summary.getStatus() != BattleRoomStatus.WAITING) {
+            throw new BusinessException(ErrorCode.BATTLE_ALREADY_STARTED, "이미 시작된 대결방입니다.");
+        }
+        if (summary.getParticipantCount() >= summary.getMaxParticipants()) {
+            throw new BusinessException(ErrorCode.BATTLE_ROOM_FULL, "대결방이 가득 찼습니다.");
+        }
     }
 
     /**
      * WebSocket 세션 ID와 참가자 ID를 Redis에 저장합니다. (내부 헬퍼 메서드)
      * 세션 ID를 키로 사용하여 참가자 ID를 저장하며, 일정 시간 후 만료되도록 설정합니다.
+     * 재접속 토큰 발급을 위해 {@link BattleReconnectManager}의 세션 바인딩도 함께 갱신합니다.
      *
      * @param participant 저장할 참가자 정보
      * @param sessionId   연결된 WebSocket 세션 ID
@@ -982,6 +1218,14 @@ public class BattleServiceImpl implements BattleService {
                 ROOM_EXPIRE_SECONDS,
                 TimeUnit.SECONDS
         );
+
+        // 재접속 토큰 발급을 위한 세션 바인딩
+        battleReconnectManager.bind(
+                participant.getBattleRoom().getId(),
+                participant.getUser().getId(),
+                participant.getId(),
+                sessionId
+        );
     }
 
     /**
@@ -0,0 +1,19 @@
+package com.quizplatform.core.service.battle.replay;
+
+import com.quizplatform.core.domain.battle.BattleEventType;
+
+/**
+ * 배틀 이벤트 로그 단건
+ *
+ * @param type 이벤트 유형
+ * @param occurredAt 발생 시각 (epoch millis)
+ * @param userId 관련 사용자 ID (없으면 null)
+ * @param questionIndex 관련 문제 인덱스 (없으면 -1)
+ * @param value 이벤트별 값 (획득 점수, 참가자 수 등)
+ * @param correct 정답 여부 (ANSWER 이벤트)
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+public record BattleEvent(BattleEventType type, long occurredAt, Long userId, int questionIndex, int value,
+                          boolean correct) {
+}
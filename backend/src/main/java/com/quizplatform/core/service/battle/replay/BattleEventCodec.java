@@ -0,0 +1,113 @@
+package com.quizplatform.core.service.battle.replay;
+
+import com.quizplatform.core.domain.battle.BattleEventType;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 배틀 이벤트 바이너리 인코더/디코더
+ *
+ * <p>청크 형식: [버전 1바이트] + 이벤트 반복. 이벤트는 다음 필드로 구성됩니다.</p>
+ * <ul>
+ *     <li>헤더 1바이트: 하위 7비트 이벤트 코드, 최상위 비트 정답 여부</li>
+ *     <li>이전 이벤트(첫 이벤트는 청크 기준 시각)와의 시간 차이(ms) - varint</li>
+ *     <li>사용자 ID - varint (없으면 0)</li>
+ *     <li>문제 인덱스 + 1 - varint (없으면 0)</li>
+ *     <li>값 - zigzag varint</li>
+ * </ul>
+ * <p>일반적인 이벤트는 5~8바이트로 저장됩니다.</p>
+ *
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+public final class BattleEventCodec {
+
+    private static final int VERSION = 1;
+    private static final int CORRECT_FLAG = 0x80;
+
+    private BattleEventCodec() {
+    }
+
+    /**
+     * 이벤트 목록 인코딩
+     *
+     * @param events 발생 순서의 이벤트 (비어 있으면 안 됨)
+     * @param baseTime 청크 기준 시각 (첫 이벤트 발생 시각)
+     * @return 인코딩된 바이트 배열
+     */
+    public static byte[] encode(List<BattleEvent> events, long baseTime) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(events.size() * 8 + 1);
+        out.write(VERSION);
+
+        long previous = baseTime;
+        for (BattleEvent event : events) {
+            out.write(event.type().getCode() | (event.correct() ? CORRECT_FLAG : 0));
+            writeVarLong(out, Math.max(0, event.occurredAt() - previous));
+            writeVarLong(out, event.userId() != null ? event.userId() : 0);
+            writeVarLong(out, event.questionIndex() + 1L);
+            writeVarLong(out, ((event.value() << 1) ^ (event.value() >> 31)) & 0xFFFFFFFFL);
+            previous = Math.max(previous, event.occurredAt());
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 청크 디코딩
+     *
+     * @param data 인코딩된 바이트 배열
+     * @param baseTime 청크 기준 시각
+     * @return 이벤트 목록
+     * @throws IllegalArgumentException 지원하지 않는 버전이거나 데이터가 손상된 경우
+     */
+    public static List<BattleEvent> decode(byte[] data, long baseTime) {
+        if (data.length == 0 || data[0] != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 이벤트 로그 버전입니다.");
+        }
+
+        List<BattleEvent> events = new ArrayList<>();
+        int[] position = {1};
+        long time = baseTime;
+        while (position[0] < data.length) {
+            int header = data[position[0]++] & 0xFF;
+            BattleEventType type = BattleEventType.fromCode(header & ~CORRECT_FLAG);
+            if (type == null) {
+                throw new IllegalArgumentException("알 수 없는 이벤트 코드: " + (header & ~CORRECT_FLAG));
+            }
+            time += readVarLong(data, position);
+            long userId = readVarLong(data, position);
+            int questionIndex = (int) readVarLong(data, position) - 1;
+            int zigzag = (int) readVarLong(data, position);
+            int value = (zigzag >>> 1) ^ -(zigzag & 1);
+
+            events.add(new BattleEvent(type, time, userId != 0 ? userId : null, questionIndex, value,
+                    (header & CORRECT_FLAG) != 0));
+        }
+        return events;
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(byte[] data, int[] position) {
+        long result = 0;
+        int shift = 0;
+        while (true) {
+            if (position[0] >= data.length || shift > 63) {
+                throw new IllegalArgumentException("손상된 이벤트 로그 데이터입니다.");
+            }
+            byte b = data[position[0]++];
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+            shift += 7;
+        }
+    }
+}
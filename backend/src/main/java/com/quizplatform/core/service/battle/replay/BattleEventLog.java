@@ -0,0 +1,276 @@
+package com.quizplatform.core.service.battle.replay;
+
+import com.quizplatform.core.domain.battle.BattleEventChunk;
+import com.quizplatform.core.domain.battle.BattleEventType;
+import com.quizplatform.core.dto.battle.BattleReplayResponse;
+import com.quizplatform.core.repository.battle.BattleEventChunkRepository;
+import com.quizplatform.core.service.event.BattleFinishedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배틀 이벤트 로그 (append-only)
+ *
+ * 주요 기능:
+ * - 입장/준비/시작/문제 시작/답변/시간 초과/퇴장/재접속/종료 이벤트를 방별 메모리 버퍼에 순차 기록
+ * - 2초 주기로 버퍼를 바이너리 청크로 인코딩하여 한 번의 saveAll(배치 INSERT)로 저장
+ * - 저장된 청크와 미저장 버퍼를 이어 붙여 배틀 진행 타임라인 재생
+ * - 트랜잭션 안에서 기록된 이벤트는 커밋 후에만 버퍼에 반영 (롤백된 이벤트는 남기지 않음)
+ * - 저장에 실패한 이벤트는 버퍼 앞쪽에 되돌려 다음 주기에 재시도
+ * - 종료(END) 없이 방치된 방의 버퍼는 유휴 시간이 지나면 제거
+ *
+ * 운영 테이블(battle_participants, battle_answers)을 읽지 않으므로 리플레이/분석 조회가 실시간 배틀에 부담을 주지 않습니다.
+ *
+ * @author 채기훈
+ */
+@Component
+@Slf4j
+public class BattleEventLog {
+
+    /**
+     * 방별 미저장 이벤트 버퍼
+     */
+    private final Map<Long, RoomBuffer> buffers = new ConcurrentHashMap<>();
+
+    private final BattleEventChunkRepository chunkRepository;
+
+    /**
+     * 마지막 이벤트 이후 버퍼를 유지하는 시간 (ms)
+     */
+    private final long idleEvictMillis;
+
+    public BattleEventLog(BattleEventChunkRepository chunkRepository,
+                          @Value("${battle.event-log.idle-evict-minutes:30}") long idleEvictMinutes) {
+        this.chunkRepository = chunkRepository;
+        this.idleEvictMillis = TimeUnit.MINUTES.toMillis(idleEvictMinutes);
+    }
+
+    /**
+     * 사용자 관련 이벤트 기록
+     *
+     * @param roomId 배틀방 ID
+     * @param type 이벤트 유형
+     * @param userId 사용자 ID
+     */
+    public void record(Long roomId, BattleEventType type, Long userId) {
+        record(roomId, type, userId, -1, 0, false);
+    }
+
+    /**
+     * 이벤트 기록
+     *
+     * <p>진행 중인 트랜잭션이 있으면 커밋 후에 버퍼에 추가합니다.</p>
+     *
+     * @param roomId 배틀방 ID
+     * @param type 이벤트 유형
+     * @param userId 사용자 ID (없으면 null)
+     * @param questionIndex 문제 인덱스 (없으면 -1)
+     * @param value 이벤트별 값
+     * @param correct 정답 여부
+     */
+    public void record(Long roomId, BattleEventType type, Long userId, int questionIndex, int value, boolean correct) {
+        BattleEvent event = new BattleEvent(type, System.currentTimeMillis(), userId, questionIndex, value, correct);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    append(roomId, event);
+                }
+            });
+        } else {
+            append(roomId, event);
+        }
+    }
+
+    private void append(Long roomId, BattleEvent event) {
+        while (true) {
+            RoomBuffer buffer = buffers.computeIfAbsent(roomId, id -> new RoomBuffer());
+            synchronized (buffer) {
+                // 정리 주기에 막 제거된 버퍼면 새 버퍼로 다시 시도
+                if (buffer.removed) {
+                    continue;
+                }
+                buffer.events.add(event);
+                buffer.lastEventAt = System.currentTimeMillis();
+                if (event.type() == BattleEventType.END) {
+                    buffer.closed = true;
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * 배틀 종료 이벤트 기록 (커밋 후)
+     *
+     * @param event 배틀 종료 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBattleFinished(BattleFinishedEvent event) {
+        record(event.getRoomId(), BattleEventType.END, event.getWinnerUserId());
+    }
+
+    /**
+     * 미저장 이벤트를 청크로 묶어 일괄 저장 (2초 주기)
+     *
+     * <p>청크 순번은 저장에 성공한 뒤에만 증가하며, 실패하면 꺼낸 이벤트를 버퍼 앞쪽에 되돌립니다.</p>
+     */
+    @Scheduled(fixedDelay = 2000)
+    public synchronized void flush() {
+        List<PendingChunk> pending = new ArrayList<>();
+        long idleBefore = System.currentTimeMillis() - idleEvictMillis;
+
+        buffers.forEach((roomId, buffer) -> {
+            synchronized (buffer) {
+                if (!buffer.events.isEmpty()) {
+                    List<BattleEvent> drained = new ArrayList<>(buffer.events);
+                    buffer.events.clear();
+                    long baseTime = drained.get(0).occurredAt();
+                    pending.add(new PendingChunk(buffer, drained, BattleEventChunk.builder()
+                            .roomId(roomId)
+                            .chunkSeq(buffer.nextChunkSeq)
+                            .firstEventAt(baseTime)
+                            .eventCount(drained.size())
+                            .data(BattleEventCodec.encode(drained, baseTime))
+                            .build()));
+                } else if (buffer.closed || buffer.lastEventAt < idleBefore) {
+                    // 저장할 이벤트가 남지 않은 종료/유휴 방만 제거
+                    buffer.removed = true;
+                    buffers.remove(roomId, buffer);
+                }
+            }
+        });
+
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        try {
+            chunkRepository.saveAll(pending.stream().map(PendingChunk::chunk).toList());
+        } catch (Exception e) {
+            // 이벤트 로그 저장 실패가 배틀 진행에 영향을 주지 않도록 기록만 남기고 다음 주기에 재시도
+            log.error("배틀 이벤트 로그 저장 실패: 청크 수={}", pending.size(), e);
+            for (PendingChunk chunk : pending) {
+                synchronized (chunk.buffer()) {
+                    chunk.buffer().events.addAll(0, chunk.events());
+                }
+            }
+            return;
+        }
+
+        for (PendingChunk chunk : pending) {
+            synchronized (chunk.buffer()) {
+                chunk.buffer().nextChunkSeq++;
+            }
+        }
+    }
+
+    /**
+     * 종료 시 남은 이벤트 저장
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 배틀방의 전체 이벤트 조회 (저장된 청크 + 미저장 버퍼)
+     *
+     * @param roomId 배틀방 ID
+     * @return 발생 순서의 이벤트 목록
+     */
+    public List<BattleEvent> readEvents(Long roomId) {
+        List<BattleEvent> events = new ArrayList<>();
+        for (BattleEventChunk chunk : chunkRepository.findByRoomIdOrderByFirstEventAtAscChunkSeqAsc(roomId)) {
+            events.addAll(BattleEventCodec.decode(chunk.getData(), chunk.getFirstEventAt()));
+        }
+
+        RoomBuffer buffer = buffers.get(roomId);
+        if (buffer != null) {
+            synchronized (buffer) {
+                events.addAll(buffer.events);
+            }
+        }
+        return events;
+    }
+
+    /**
+     * 이벤트 로그를 재생하여 배틀 진행 타임라인 생성
+     *
+     * @param roomId 배틀방 ID
+     * @return 리플레이 응답
+     */
+    public BattleReplayResponse replay(Long roomId) {
+        List<BattleEvent> events = readEvents(roomId);
+        long startedAt = events.isEmpty() ? 0 : events.get(0).occurredAt();
+
+        List<BattleReplayResponse.EventEntry> entries = new ArrayList<>(events.size());
+        List<BattleReplayResponse.ScoreSnapshot> timeline = new ArrayList<>();
+        Map<Long, Integer> scores = new LinkedHashMap<>();
+
+        for (BattleEvent event : events) {
+            long offset = event.occurredAt() - startedAt;
+            entries.add(BattleReplayResponse.EventEntry.builder()
+                    .type(event.type())
+                    .offsetMillis(offset)
+                    .userId(event.userId())
+                    .questionIndex(event.questionIndex())
+                    .value(event.value())
+                    .correct(event.correct())
+                    .build());
+
+            switch (event.type()) {
+                case JOIN -> scores.putIfAbsent(event.userId(), 0);
+                case START -> scores.replaceAll((userId, score) -> 0);
+                case ANSWER -> scores.merge(event.userId(), event.value(), Integer::sum);
+                case QUESTION_START, END -> timeline.add(BattleReplayResponse.ScoreSnapshot.builder()
+                        .questionIndex(event.questionIndex())
+                        .offsetMillis(offset)
+                        .scores(new HashMap<>(scores))
+                        .build());
+                default -> {
+                }
+            }
+        }
+
+        return BattleReplayResponse.builder()
+                .roomId(roomId)
+                .startedAt(startedAt)
+                .events(entries)
+                .timeline(timeline)
+                .finalScores(scores)
+                .build();
+    }
+
+    /**
+     * 방별 미저장 이벤트 버퍼 (내부 상태)
+     */
+    private static class RoomBuffer {
+        private final List<BattleEvent> events = new ArrayList<>();
+        private int nextChunkSeq;
+        private boolean closed;
+        private long lastEventAt = System.currentTimeMillis();
+        private boolean removed;
+    }
+
+    /**
+     * 저장 대기 중인 청크와 원본 이벤트 (실패 시 버퍼 복원용)
+     */
+    private record PendingChunk(RoomBuffer buffer, List<BattleEvent> events, BattleEventChunk chunk) {
+    }
+}
@@ -0,0 +1,151 @@
+package com.quizplatform.core.service.battle.tournament;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 토너먼트 대진 편성 유틸리티
+ *
+ * <p>싱글 엘리미네이션은 표준 시드 배치(1번 시드와 최하위 시드가 첫 경기)를 사용하여
+ * 참가자 수가 2의 거듭제곱이 아니면 상위 시드에 부전승을 배정합니다.
+ * 스위스 방식은 승점 순으로 정렬 후 재대결을 피해 인접한 참가자끼리 짝짓습니다.</p>
+ *
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+public final class BracketPairing {
+
+    private BracketPairing() {
+    }
+
+    /**
+     * 필요한 라운드 수 (ceil(log2(n)))
+     *
+     * @param entrantCount 참가자 수
+     * @return 라운드 수
+     */
+    public static int roundCount(int entrantCount) {
+        return 32 - Integer.numberOfLeadingZeros(Math.max(entrantCount, 2) - 1);
+    }
+
+    /**
+     * 싱글 엘리미네이션 첫 라운드 대진표 생성
+     *
+     * @param entrants 시드 순서의 참가자
+     * @return 대진표 위치 순서의 참가자 (부전승 자리는 null, 크기는 2의 거듭제곱)
+     */
+    public static List<Long> initialBracket(List<Long> entrants) {
+        int size = 1 << roundCount(entrants.size());
+        List<Long> bracket = new ArrayList<>(size);
+        for (int seed : seedOrder(size)) {
+            bracket.add(seed <= entrants.size() ? entrants.get(seed - 1) : null);
+        }
+        return bracket;
+    }
+
+    /**
+     * 대진표 위치를 인접한 둘씩 묶어 대진 생성 (부전승 자리는 제외)
+     *
+     * @param bracket 대진표 위치 순서의 참가자
+     * @return 대진별 참가자 목록 (한 명이면 부전승)
+     */
+    public static List<List<Long>> eliminationPairings(List<Long> bracket) {
+        List<List<Long>> pairings = new ArrayList<>(bracket.size() / 2);
+        for (int i = 0; i + 1 < bracket.size(); i += 2) {
+            List<Long> pair = new ArrayList<>(2);
+            if (bracket.get(i) != null) {
+                pair.add(bracket.get(i));
+            }
+            if (bracket.get(i + 1) != null) {
+                pair.add(bracket.get(i + 1));
+            }
+            pairings.add(pair);
+        }
+        return pairings;
+    }
+
+    /**
+     * 스위스 방식 대진 생성
+     *
+     * <p>참가자 수가 홀수이면 부전승을 아직 받지 않은 최하위 참가자에게 부전승을 배정합니다.</p>
+     *
+     * @param entrants 시드 순서의 참가자
+     * @param points 참가자별 승점
+     * @param opponents 참가자별 기존 상대
+     * @param byeReceived 부전승을 받은 참가자
+     * @return 대진별 참가자 목록 (한 명이면 부전승)
+     */
+    public static List<List<Long>> swissPairings(List<Long> entrants, Map<Long, Integer> points,
+                                                 Map<Long, Set<Long>> opponents, Set<Long> byeReceived) {
+        Map<Long, Integer> seeds = new HashMap<>(entrants.size() * 2);
+        for (int i = 0; i < entrants.size(); i++) {
+            seeds.put(entrants.get(i), i);
+        }
+
+        List<Long> ranked = new ArrayList<>(entrants);
+        ranked.sort(Comparator.<Long>comparingInt(id -> points.getOrDefault(id, 0)).reversed()
+                .thenComparingInt(seeds::get));
+
+        List<List<Long>> pairings = new ArrayList<>(ranked.size() / 2 + 1);
+
+        if (ranked.size() % 2 == 1) {
+            int byeIndex = ranked.size() - 1;
+            for (int i = ranked.size() - 1; i >= 0; i--) {
+                if (!byeReceived.contains(ranked.get(i))) {
+                    byeIndex = i;
+                    break;
+                }
+            }
+            pairings.add(List.of(ranked.remove(byeIndex)));
+        }
+
+        boolean[] paired = new boolean[ranked.size()];
+        for (int i = 0; i < ranked.size(); i++) {
+            if (paired[i]) {
+                continue;
+            }
+            Long player = ranked.get(i);
+            Set<Long> played = opponents.getOrDefault(player, Set.of());
+
+            // 재대결이 아닌 가장 가까운 순위의 상대, 없으면 가장 가까운 상대
+            int opponentIndex = -1;
+            for (int j = i + 1; j < ranked.size(); j++) {
+                if (!paired[j]) {
+                    if (opponentIndex < 0) {
+                        opponentIndex = j;
+                    }
+                    if (!played.contains(ranked.get(j))) {
+                        opponentIndex = j;
+                        break;
+                    }
+                }
+            }
+
+            paired[i] = true;
+            paired[opponentIndex] = true;
+            pairings.add(List.of(player, ranked.get(opponentIndex)));
+        }
+        return pairings;
+    }
+
+    /**
+     * 표준 시드 배치 순서 (예: 8강 → 1, 8, 4, 5, 2, 7, 3, 6)
+     */
+    private static List<Integer> seedOrder(int size) {
+        List<Integer> order = new ArrayList<>(List.of(1));
+        while (order.size() < size) {
+            int nextSize = order.size() * 2;
+            List<Integer> next = new ArrayList<>(nextSize);
+            for (int seed : order) {
+                next.add(seed);
+                next.add(nextSize + 1 - seed);
+            }
+            order = next;
+        }
+        return order;
+    }
+}
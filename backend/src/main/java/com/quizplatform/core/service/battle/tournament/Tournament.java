@@ -0,0 +1,120 @@
+package com.quizplatform.core.service.battle.tournament;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 토너먼트 진행 상태 (메모리 보관, 주기적으로 Redis에 스냅샷 저장)
+ *
+ * <p>모든 변경은 {@link TournamentManager}에서 인스턴스 단위 동기화 하에 이루어집니다.</p>
+ *
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class Tournament {
+
+    private Long id;
+
+    private String name;
+
+    private Long quizId;
+
+    private Long creatorId;
+
+    private TournamentFormat format;
+
+    private TournamentStatus status = TournamentStatus.REGISTERING;
+
+    /**
+     * 참가자 사용자 ID (등록 순서 = 시드 순서)
+     */
+    private List<Long> entrants = new ArrayList<>();
+
+    /**
+     * 현재 라운드 (시작 전 0)
+     */
+    private int currentRound;
+
+    /**
+     * 전체 라운드 수
+     */
+    private int totalRounds;
+
+    /**
+     * 라운드 간 대기 시간 (초)
+     */
+    private int roundIntervalSeconds;
+
+    /**
+     * 전체 대진 기록
+     */
+    private List<TournamentMatch> matches = new ArrayList<>();
+
+    /**
+     * 싱글 엘리미네이션 다음 라운드 진출자 (대진표 위치 순서, 부전승 자리는 null)
+     */
+    private List<Long> bracket = new ArrayList<>();
+
+    /**
+     * 스위스 방식 승점
+     */
+    private Map<Long, Integer> points = new HashMap<>();
+
+    /**
+     * 스위스 방식 기존 상대 목록 (재대결 방지)
+     */
+    private Map<Long, Set<Long>> opponents = new HashMap<>();
+
+    /**
+     * 스위스 방식 부전승을 받은 참가자
+     */
+    private Set<Long> byeReceived = new HashSet<>();
+
+    /**
+     * 다음 라운드 시작 예정 시각 (epoch millis, 예정 없으면 0)
+     */
+    private long nextRoundAt;
+
+    /**
+     * 현재 라운드 시작 시각 (epoch millis)
+     */
+    private long roundStartedAt;
+
+    /**
+     * 우승자 사용자 ID
+     */
+    private Long championId;
+
+    /**
+     * 종료 시각 (epoch millis, 진행 중이면 0)
+     */
+    private long finishedAt;
+
+    /**
+     * 마지막 스냅샷 이후 변경 여부
+     */
+    @JsonIgnore
+    private boolean dirty = true;
+
+    /**
+     * 현재 라운드의 대진 목록
+     *
+     * @return 현재 라운드 대진
+     */
+    @JsonIgnore
+    public List<TournamentMatch> getCurrentRoundMatches() {
+        return matches.stream().filter(match -> match.getRound() == currentRound).toList();
+    }
+}
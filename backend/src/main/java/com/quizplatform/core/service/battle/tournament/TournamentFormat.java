@@ -0,0 +1,19 @@
+package com.quizplatform.core.service.battle.tournament;
+
+/**
+ * 토너먼트 진행 방식
+ *
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+public enum TournamentFormat {
+    /**
+     * 싱글 엘리미네이션 (패배 시 탈락, 부전승 포함)
+     */
+    SINGLE_ELIMINATION,
+
+    /**
+     * 스위스 방식 (전원이 정해진 라운드 수만큼 비슷한 승점끼리 대결)
+     */
+    SWISS
+}
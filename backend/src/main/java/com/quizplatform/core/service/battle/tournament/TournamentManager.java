@@ -0,0 +1,527 @@
+package com.quizplatform.core.service.battle.tournament;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quizplatform.core.dto.battle.TournamentResponse;
+import com.quizplatform.core.exception.BusinessException;
+import com.quizplatform.core.exception.ErrorCode;
+import com.quizplatform.core.repository.quiz.QuizBasicRepository;
+import com.quizplatform.core.service.battle.BattleService;
+import com.quizplatform.core.service.event.BattleFinishedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 토너먼트 대진 엔진
+ *
+ * 주요 기능:
+ * - 싱글 엘리미네이션 / 스위스 방식 대진 편성 및 라운드별 대결방 일괄 생성
+ * - 배틀 종료 이벤트를 큐에 모아 1초 주기 타이머에서 여러 방의 결과를 한 번에 정산
+ * - 라운드 완료 시 다음 라운드 예약, 제한 시간을 넘긴 경기는 상위 시드 부전승 처리
+ *   (상위 시드 = 등록 시드 순서가 앞선 참가자, 대진 내 자리 순서와 무관)
+ * - 진행 상태는 메모리에 보관하고 주기적으로 Redis에 스냅샷 저장 (재시작 시 복원)
+ * - 종료된 토너먼트는 보존 기간이 지나면 메모리와 스냅샷에서 제거
+ *
+ * @author 채기훈
+ */
+@Component
+@Slf4j
+public class TournamentManager {
+
+    private static final String SNAPSHOT_KEY_PREFIX = "tournament:snapshot:";
+    private static final String SNAPSHOT_INDEX_KEY = "tournament:snapshots";
+    private static final long SNAPSHOT_EXPIRE_DAYS = 7;
+    private static final long ROUND_RETRY_MILLIS = 5000;
+
+    /**
+     * 진행 중인 토너먼트 (Key: 토너먼트 ID)
+     */
+    private final Map<Long, Tournament> tournaments = new ConcurrentHashMap<>();
+
+    /**
+     * 대결방 → 토너먼트 ID 색인 (배틀 종료 이벤트 매칭용)
+     */
+    private final Map<Long, Long> roomIndex = new ConcurrentHashMap<>();
+
+    /**
+     * 정산 대기 중인 배틀 종료 이벤트
+     */
+    private final Queue<BattleFinishedEvent> pendingResults = new ConcurrentLinkedQueue<>();
+
+    private final AtomicLong idSequence = new AtomicLong();
+
+    private final BattleService battleService;
+    private final QuizBasicRepository quizRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Value("${battle.tournament.match-timeout-minutes:15}")
+    private long matchTimeoutMinutes;
+
+    @Value("${battle.tournament.snapshot-interval-seconds:30}")
+    private long snapshotIntervalSeconds;
+
+    @Value("${battle.tournament.finished-retention-minutes:60}")
+    private long finishedRetentionMinutes;
+
+    private long lastSnapshotAt;
+
+    @Autowired
+    public TournamentManager(@Lazy BattleService battleService, QuizBasicRepository quizRepository,
+                             RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper,
+                             @Lazy SimpMessagingTemplate messagingTemplate) {
+        this.battleService = battleService;
+        this.quizRepository = quizRepository;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    /**
+     * 토너먼트 생성
+     *
+     * @param name 토너먼트 이름
+     * @param quizId 경기에 사용할 퀴즈 ID
+     * @param format 진행 방식
+     * @param creatorId 생성자 사용자 ID
+     * @param entrants 사전 등록 참가자 (시드 순서, 없으면 빈 목록)
+     * @param roundIntervalSeconds 라운드 간 대기 시간 (초)
+     * @return 생성된 토너먼트
+     */
+    public Tournament create(String name, Long quizId, TournamentFormat format, Long creatorId,
+                             List<Long> entrants, int roundIntervalSeconds) {
+        if (quizId == null || !quizRepository.existsById(quizId)) {
+            throw new BusinessException(ErrorCode.QUIZ_NOT_FOUND);
+        }
+        if (format == null || roundIntervalSeconds < 0) {
+            throw new BusinessException(ErrorCode.INVALID_TOURNAMENT_SETTINGS);
+        }
+
+        Tournament tournament = new Tournament();
+        tournament.setId(idSequence.incrementAndGet());
+        tournament.setName(name);
+        tournament.setQuizId(quizId);
+        tournament.setFormat(format);
+        tournament.setCreatorId(creatorId);
+        tournament.setRoundIntervalSeconds(roundIntervalSeconds);
+        if (entrants != null) {
+            entrants.stream().distinct().forEach(tournament.getEntrants()::add);
+        }
+
+        tournaments.put(tournament.getId(), tournament);
+        log.info("토너먼트 생성: id={}, format={}, 참가자={}", tournament.getId(), format, tournament.getEntrants().size());
+        return tournament;
+    }
+
+    /**
+     * 참가 신청
+     *
+     * @param tournamentId 토너먼트 ID
+     * @param userId 사용자 ID
+     * @return 갱신된 토너먼트
+     */
+    public Tournament register(Long tournamentId, Long userId) {
+        Tournament tournament = get(tournamentId);
+        synchronized (tournament) {
+            if (tournament.getStatus() != TournamentStatus.REGISTERING) {
+                throw new BusinessException(ErrorCode.INVALID_TOURNAMENT_STATE, "참가 신청 기간이 아닙니다.");
+            }
+            if (tournament.getEntrants().contains(userId)) {
+                throw new BusinessException(ErrorCode.ALREADY_PARTICIPATING);
+            }
+            tournament.getEntrants().add(userId);
+            tournament.setDirty(true);
+        }
+        return tournament;
+    }
+
+    /**
+     * 토너먼트 시작 (첫 라운드는 다음 타이머 주기에 생성)
+     *
+     * @param tournamentId 토너먼트 ID
+     * @param userId 요청 사용자 ID (생성자만 가능)
+     * @return 갱신된 토너먼트
+     */
+    public Tournament start(Long tournamentId, Long userId) {
+        Tournament tournament = get(tournamentId);
+        synchronized (tournament) {
+            if (!tournament.getCreatorId().equals(userId)) {
+                throw new BusinessException(ErrorCode.FORBIDDEN, "토너먼트 생성자만 시작할 수 있습니다.");
+            }
+            if (tournament.getStatus() != TournamentStatus.REGISTERING) {
+                throw new BusinessException(ErrorCode.INVALID_TOURNAMENT_STATE, "이미 시작된 토너먼트입니다.");
+            }
+            if (tournament.getEntrants().size() < 2) {
+                throw new BusinessException(ErrorCode.INVALID_PARTICIPANT_COUNT, "최소 2명의 참가자가 필요합니다.");
+            }
+
+            tournament.setTotalRounds(BracketPairing.roundCount(tournament.getEntrants().size()));
+            if (tournament.getFormat() == TournamentFormat.SINGLE_ELIMINATION) {
+                tournament.setBracket(BracketPairing.initialBracket(tournament.getEntrants()));
+            }
+            tournament.setStatus(TournamentStatus.RUNNING);
+            tournament.setNextRoundAt(System.currentTimeMillis());
+            tournament.setDirty(true);
+        }
+        log.info("토너먼트 시작: id={}, 참가자={}, 라운드={}",
+                tournamentId, tournament.getEntrants().size(), tournament.getTotalRounds());
+        return tournament;
+    }
+
+    /**
+     * 토너먼트 조회
+     *
+     * @param tournamentId 토너먼트 ID
+     * @return 토너먼트
+     */
+    public Tournament get(Long tournamentId) {
+        Tournament tournament = tournaments.get(tournamentId);
+        if (tournament == null) {
+            throw new BusinessException(ErrorCode.TOURNAMENT_NOT_FOUND);
+        }
+        return tournament;
+    }
+
+    /**
+     * 토너먼트 응답 생성 (스냅샷과 동일한 잠금 하에 복사)
+     *
+     * @param tournament 토너먼트
+     * @return 토너먼트 응답
+     */
+    public TournamentResponse toResponse(Tournament tournament) {
+        synchronized (tournament) {
+            return TournamentResponse.from(tournament);
+        }
+    }
+
+    /**
+     * 배틀 종료 이벤트 수신 - 토너먼트 경기만 큐에 적재하고 정산은 타이머에서 일괄 처리합니다.
+     *
+     * @param event 배틀 종료 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBattleFinished(BattleFinishedEvent event) {
+        if (roomIndex.containsKey(event.getRoomId())) {
+            pendingResults.add(event);
+        }
+    }
+
+    /**
+     * 토너먼트 중앙 타이머 (1초 주기)
+     *
+     * <p>쌓인 경기 결과 일괄 정산 → 시간 초과 경기 처리 → 라운드 완료/다음 라운드 생성 → 스냅샷 순으로 수행합니다.</p>
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void tick() {
+        settlePendingResults();
+
+        long now = System.currentTimeMillis();
+        for (Tournament tournament : tournaments.values()) {
+            if (tournament.getStatus() == TournamentStatus.FINISHED) {
+                evictIfExpired(tournament, now);
+                continue;
+            }
+            if (tournament.getStatus() != TournamentStatus.RUNNING) {
+                continue;
+            }
+            try {
+                synchronized (tournament) {
+                    expireTimedOutMatches(tournament, now);
+                    advanceIfRoundComplete(tournament, now);
+                    if (tournament.getNextRoundAt() > 0 && now >= tournament.getNextRoundAt()) {
+                        startNextRound(tournament, now);
+                    }
+                }
+            } catch (Exception e) {
+                log.error("토너먼트 진행 처리 중 오류 발생: id={}", tournament.getId(), e);
+            }
+        }
+
+        if (now - lastSnapshotAt >= snapshotIntervalSeconds * 1000) {
+            lastSnapshotAt = now;
+            saveSnapshots();
+        }
+    }
+
+    /**
+     * 큐에 쌓인 배틀 결과를 토너먼트별로 모아 한 번에 반영
+     */
+    private void settlePendingResults() {
+        BattleFinishedEvent event;
+        int settled = 0;
+        while ((event = pendingResults.poll()) != null) {
+            Long tournamentId = roomIndex.remove(event.getRoomId());
+            Tournament tournament = tournamentId != null ? tournaments.get(tournamentId) : null;
+            if (tournament == null) {
+                continue;
+            }
+            synchronized (tournament) {
+                for (TournamentMatch match : tournament.getCurrentRoundMatches()) {
+                    if (event.getRoomId().equals(match.getRoomId()) && !match.isDecided()) {
+                        // 승자가 없거나 대진 외 사용자면 상위 시드 승리
+                        Long winnerId = match.getPlayers().contains(event.getWinnerUserId())
+                                ? event.getWinnerUserId() : higherSeed(tournament, match);
+                        decide(tournament, match, winnerId, false);
+                        settled++;
+                    }
+                }
+            }
+        }
+        if (settled > 0) {
+            log.info("토너먼트 경기 결과 일괄 정산: {}건", settled);
+        }
+    }
+
+    private void expireTimedOutMatches(Tournament tournament, long now) {
+        if (now - tournament.getRoundStartedAt() < TimeUnit.MINUTES.toMillis(matchTimeoutMinutes)) {
+            return;
+        }
+        for (TournamentMatch match : tournament.getCurrentRoundMatches()) {
+            if (!match.isDecided() && match.getRoomId() != null) {
+                roomIndex.remove(match.getRoomId());
+                decide(tournament, match, higherSeed(tournament, match), true);
+                log.info("토너먼트 경기 시간 초과, 상위 시드 부전승: tournamentId={}, roomId={}",
+                        tournament.getId(), match.getRoomId());
+            }
+        }
+    }
+
+    /**
+     * 대진 참가자 중 등록 시드 순서가 가장 앞선 참가자를 반환
+     * (이전 라운드 이변으로 대진 앞자리가 하위 시드일 수 있으므로 자리 순서를 쓰지 않음)
+     */
+    private Long higherSeed(Tournament tournament, TournamentMatch match) {
+        List<Long> entrants = tournament.getEntrants();
+        return match.getPlayers().stream()
+                .min(Comparator.comparingInt(id -> {
+                    int seed = entrants.indexOf(id);
+                    return seed < 0 ? Integer.MAX_VALUE : seed;
+                }))
+                .orElse(null);
+    }
+
+    private void decide(Tournament tournament, TournamentMatch match, Long winnerId, boolean walkover) {
+        match.setWinnerId(winnerId);
+        match.setWalkover(walkover);
+        if (tournament.getFormat() == TournamentFormat.SWISS) {
+            tournament.getPoints().merge(winnerId, 1, Integer::sum);
+        }
+        tournament.setDirty(true);
+    }
+
+    private void advanceIfRoundComplete(Tournament tournament, long now) {
+        List<TournamentMatch> roundMatches = tournament.getCurrentRoundMatches();
+        if (tournament.getNextRoundAt() > 0 || roundMatches.isEmpty()
+                || !roundMatches.stream().allMatch(TournamentMatch::isDecided)) {
+            return;
+        }
+
+        if (tournament.getFormat() == TournamentFormat.SINGLE_ELIMINATION) {
+            List<Long> winners = roundMatches.stream()
+                    .sorted(Comparator.comparingInt(TournamentMatch::getSlot))
+                    .map(TournamentMatch::getWinnerId)
+                    .toList();
+            tournament.setBracket(new ArrayList<>(winners));
+            if (winners.size() == 1) {
+                finish(tournament, winners.get(0));
+                return;
+            }
+        } else if (tournament.getCurrentRound() >= tournament.getTotalRounds()) {
+            finish(tournament, swissLeader(tournament));
+            return;
+        }
+
+        tournament.setNextRoundAt(now + tournament.getRoundIntervalSeconds() * 1000L);
+        tournament.setDirty(true);
+    }
+
+    private void startNextRound(Tournament tournament, long now) {
+        int round = tournament.getCurrentRound() + 1;
+        List<List<Long>> pairings = tournament.getFormat() == TournamentFormat.SINGLE_ELIMINATION
+                ? BracketPairing.eliminationPairings(tournament.getBracket())
+                : BracketPairing.swissPairings(tournament.getEntrants(), tournament.getPoints(),
+                        tournament.getOpponents(), tournament.getByeReceived());
+
+        List<TournamentMatch> roundMatches = new ArrayList<>(pairings.size());
+        List<List<Long>> roomGroups = new ArrayList<>();
+        for (int slot = 0; slot < pairings.size(); slot++) {
+            TournamentMatch match = new TournamentMatch(round, slot, pairings.get(slot));
+            roundMatches.add(match);
+            if (!match.isBye()) {
+                roomGroups.add(match.getPlayers());
+            }
+        }
+
+        // 라운드의 모든 대결방을 한 번에 생성 (실패 시 잠시 후 재시도)
+        List<Long> roomIds;
+        try {
+            roomIds = roomGroups.isEmpty() ? List.of() : battleService.createTournamentRooms(tournament.getQuizId(), roomGroups);
+        } catch (Exception e) {
+            log.error("토너먼트 라운드 대결방 생성 실패, 재시도 예정: tournamentId={}, round={}", tournament.getId(), round, e);
+            tournament.setNextRoundAt(now + ROUND_RETRY_MILLIS);
+            return;
+        }
+
+        int roomCursor = 0;
+        for (TournamentMatch match : roundMatches) {
+            if (match.isBye()) {
+                Long player = match.getPlayers().get(0);
+                tournament.getByeReceived().add(player);
+                decide(tournament, match, player, false);
+                continue;
+            }
+            Long roomId = roomIds.get(roomCursor++);
+            match.setRoomId(roomId);
+            roomIndex.put(roomId, tournament.getId());
+
+            Long first = match.getPlayers().get(0);
+            Long second = match.getPlayers().get(1);
+            tournament.getOpponents().computeIfAbsent(first, id -> new HashSet<>()).add(second);
+            tournament.getOpponents().computeIfAbsent(second, id -> new HashSet<>()).add(first);
+        }
+
+        tournament.getMatches().addAll(roundMatches);
+        tournament.setCurrentRound(round);
+        tournament.setRoundStartedAt(now);
+        tournament.setNextRoundAt(0);
+        tournament.setDirty(true);
+
+        log.info("토너먼트 라운드 시작: tournamentId={}, round={}/{}, 대결방={}",
+                tournament.getId(), round, tournament.getTotalRounds(), roomIds.size());
+        notifyRound(tournament);
+    }
+
+    private Long swissLeader(Tournament tournament) {
+        Map<Long, Integer> points = tournament.getPoints();
+        List<Long> entrants = tournament.getEntrants();
+        Map<Long, Integer> seedIndex = new HashMap<>();
+        Map<Long, Integer> buchholz = new HashMap<>();
+        for (int i = 0; i < entrants.size(); i++) {
+            Long id = entrants.get(i);
+            seedIndex.put(id, i);
+            buchholz.put(id, tournament.getOpponents().getOrDefault(id, Set.of()).stream()
+                    .mapToInt(opponent -> points.getOrDefault(opponent, 0)).sum());
+        }
+
+        // 동점이면 상대 승점 합(Buchholz), 그 다음 시드 순
+        Comparator<Long> ranking = Comparator.<Long>comparingInt(id -> points.getOrDefault(id, 0))
+                .thenComparingInt(buchholz::get)
+                .thenComparingInt(id -> -seedIndex.get(id));
+        return entrants.stream().max(ranking).orElse(null);
+    }
+
+    private void finish(Tournament tournament, Long championId) {
+        tournament.setChampionId(championId);
+        tournament.setStatus(TournamentStatus.FINISHED);
+        tournament.setFinishedAt(System.currentTimeMillis());
+        tournament.setNextRoundAt(0);
+        tournament.setDirty(true);
+        log.info("토너먼트 종료: id={}, 우승자={}", tournament.getId(), championId);
+        notifyRound(tournament);
+    }
+
+    /**
+     * 보존 기간이 지난 종료 토너먼트를 메모리와 Redis 스냅샷에서 제거
+     */
+    private void evictIfExpired(Tournament tournament, long now) {
+        if (now - tournament.getFinishedAt() < TimeUnit.MINUTES.toMillis(finishedRetentionMinutes)) {
+            return;
+        }
+        tournaments.remove(tournament.getId(), tournament);
+        try {
+            redisTemplate.delete(SNAPSHOT_KEY_PREFIX + tournament.getId());
+            redisTemplate.opsForSet().remove(SNAPSHOT_INDEX_KEY, String.valueOf(tournament.getId()));
+        } catch (Exception e) {
+            // 스냅샷은 만료 기간(7일) 후 자동 삭제됨
+            log.warn("종료 토너먼트 스냅샷 삭제 실패: id={}", tournament.getId(), e);
+        }
+        log.info("종료 토너먼트 정리: id={}", tournament.getId());
+    }
+
+    private void notifyRound(Tournament tournament) {
+        try {
+            messagingTemplate.convertAndSend("/topic/tournament/" + tournament.getId(), TournamentResponse.from(tournament));
+        } catch (Exception e) {
+            log.warn("토너먼트 알림 전송 실패: id={}", tournament.getId(), e);
+        }
+    }
+
+    /**
+     * 변경된 토너먼트 상태를 Redis에 저장
+     */
+    private void saveSnapshots() {
+        for (Tournament tournament : tournaments.values()) {
+            try {
+                String json;
+                synchronized (tournament) {
+                    if (!tournament.isDirty()) {
+                        continue;
+                    }
+                    json = objectMapper.writeValueAsString(tournament);
+                    tournament.setDirty(false);
+                }
+                redisTemplate.opsForValue().set(SNAPSHOT_KEY_PREFIX + tournament.getId(), json, SNAPSHOT_EXPIRE_DAYS, TimeUnit.DAYS);
+                redisTemplate.opsForSet().add(SNAPSHOT_INDEX_KEY, String.valueOf(tournament.getId()));
+            } catch (Exception e) {
+                tournament.setDirty(true);
+                log.warn("토너먼트 스냅샷 저장 실패: id={}", tournament.getId(), e);
+            }
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 시 Redis 스냅샷에서 토너먼트 상태 복원
+     */
+    @PostConstruct
+    public void restoreSnapshots() {
+        try {
+            Set<String> ids = redisTemplate.opsForSet().members(SNAPSHOT_INDEX_KEY);
+            if (ids == null) {
+                return;
+            }
+            for (String id : ids) {
+                String json = redisTemplate.opsForValue().get(SNAPSHOT_KEY_PREFIX + id);
+                if (json == null) {
+                    redisTemplate.opsForSet().remove(SNAPSHOT_INDEX_KEY, id);
+                    continue;
+                }
+                Tournament tournament = objectMapper.readValue(json, Tournament.class);
+                tournament.setDirty(false);
+                tournaments.put(tournament.getId(), tournament);
+                idSequence.accumulateAndGet(tournament.getId(), Math::max);
+                for (TournamentMatch match : tournament.getCurrentRoundMatches()) {
+                    if (match.getRoomId() != null && !match.isDecided()) {
+                        roomIndex.put(match.getRoomId(), tournament.getId());
+                    }
+                }
+            }
+            if (!tournaments.isEmpty()) {
+                log.info("토너먼트 스냅샷 복원 완료: {}건", tournaments.size());
+            }
+        } catch (Exception e) {
+            log.warn("토너먼트 스냅샷 복원 실패", e);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.quizplatform.core.service.battle.tournament;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 토너먼트 대진 (한 라운드의 한 경기)
+ *
+ * <p>참가자가 한 명뿐인 대진은 부전승(bye)이며 대결방을 만들지 않습니다.</p>
+ *
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class TournamentMatch {
+
+    /**
+     * 라운드 번호 (1부터 시작)
+     */
+    private int round;
+
+    /**
+     * 라운드 내 대진 순번
+     */
+    private int slot;
+
+    /**
+     * 대진 참가자 사용자 ID (대진표 자리 순서, 상위 시드 여부는 등록 시드 순서로 판단)
+     */
+    private List<Long> players = new ArrayList<>();
+
+    /**
+     * 경기용 대결방 ID (부전승이면 null)
+     */
+    private Long roomId;
+
+    /**
+     * 승자 사용자 ID (미결정이면 null)
+     */
+    private Long winnerId;
+
+    /**
+     * 시간 초과 등으로 경기 없이 승자가 정해졌는지 여부
+     */
+    private boolean walkover;
+
+    public TournamentMatch(int round, int slot, List<Long> players) {
+        this.round = round;
+        this.slot = slot;
+        this.players = new ArrayList<>(players);
+    }
+
+    @JsonIgnore
+    public boolean isBye() {
+        return players.size() == 1;
+    }
+
+    @JsonIgnore
+    public boolean isDecided() {
+        return winnerId != null;
+    }
+}
@@ -0,0 +1,24 @@
+package com.quizplatform.core.service.battle.tournament;
+
+/**
+ * 토너먼트 상태
+ *
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+public enum TournamentStatus {
+    /**
+     * 참가 신청 중
+     */
+    REGISTERING,
+
+    /**
+     * 진행 중
+     */
+    RUNNING,
+
+    /**
+     * 종료
+     */
+    FINISHED
+}
@@ -110,13 +110,14 @@ public interface EntityMapperService {
 
     /**
      * QuizAttempt 엔티티와 획득 경험치를 QuizResultResponse DTO (퀴즈 결과 응답)로 변환합니다.
-     * 퀴즈 정보, 총 점수, 정답 수, 문제별 결과, 획득 경험치 등을 포함합니다.
+     * 퀴즈 정보, 총 점수, 정답 수, 문제별 결과, 획득 경험치, 점수 백분위 등을 포함합니다.
      *
      * @param quizAttempt      변환할 QuizAttempt 엔티티
      * @param experienceGained 해당 퀴즈 시도에서 획득한 경험치
+     * @param percentile       해당 점수의 백분위 순위 (비교 기록이 없으면 null)
      * @return 변환된 QuizResultResponse DTO
      */
-    QuizResultResponse mapToQuizResultResponse(QuizAttempt quizAttempt, int experienceGained);
+    QuizResultResponse mapToQuizResultResponse(QuizAttempt quizAttempt, int experienceGained, Double percentile);
 
     /**
      * Quiz 엔티티를 QuizResponse DTO로 변환합니다.
@@ -231,15 +231,16 @@ public class EntityMapperServiceImpl implements EntityMapperService {
 
     /**
      * QuizAttempt 엔티티와 획득 경험치를 QuizResultResponse DTO (퀴즈 결과 응답)로 변환합니다.
-     * 퀴즈 정보, 총 점수, 정답 수, 문제별 결과, 획득 경험치 등을 포함합니다.
+     * 퀴즈 정보, 총 점수, 정답 수, 문제별 결과, 획득 경험치, 점수 백분위 등을 포함합니다.
      *
      * @param quizAttempt      변환할 QuizAttempt 엔티티
      * @param experienceGained 해당 퀴즈 시도에서 획득한 경험치
+     * @param percentile       해당 점수의 백분위 순위 (비교 기록이 없으면 null)
      * @return 변환된 QuizResultResponse DTO
      */
     @Override
     @Transactional(readOnly = true)
-    public QuizResultResponse mapToQuizResultResponse(QuizAttempt quizAttempt, int experienceGained) {
+    public QuizResultResponse mapToQuizResultResponse(QuizAttempt quizAttempt, int experienceGained, Double percentile) {
         // QuizResultResponse 생성에 필요한 초기화 작업
         Quiz quiz = quizAttempt.getQuiz();
         quiz.getQuestions().size(); // 퀴즈의 질문 목록 초기화
@@ -282,6 +283,7 @@ public class EntityMapperServiceImpl implements EntityMapperService {
                 .totalPossibleScore(totalPossibleScore)
                 .timeTaken(quizAttempt.getTimeTaken())
                 .completedAt(quizAttempt.getEndTime())
+                .percentile(percentile)
                 .experienceGained(experienceGained)
                 .newTotalExperience(quizAttempt.getUser().getExperience()) // 퀴즈 완료 후 사용자의 총 경험치
                 .questions(questionResults) // 문제별 결과 상세 목록
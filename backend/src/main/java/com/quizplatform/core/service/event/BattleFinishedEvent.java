@@ -0,0 +1,32 @@
+package com.quizplatform.core.service.event;
+
+import com.quizplatform.core.domain.battle.BattleRoom;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 배틀이 종료되어 승자가 결정되었을 때 발생하는 도메인 이벤트 클래스입니다.
+ * 토너먼트 등 배틀 결과를 이어서 처리해야 하는 컴포넌트가 구독합니다.
+ *
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+@Getter
+public class BattleFinishedEvent extends ApplicationEvent {
+    /** 종료된 배틀방 ID */
+    private final Long roomId;
+    /** 승자 사용자 ID (승자가 없으면 null) */
+    private final Long winnerUserId;
+
+    /**
+     * BattleFinishedEvent의 생성자입니다.
+     * 이벤트의 source로는 종료된 BattleRoom 객체가 사용됩니다.
+     *
+     * @param battleRoom 종료된 배틀방 (이벤트의 source)
+     */
+    public BattleFinishedEvent(BattleRoom battleRoom) {
+        super(battleRoom);
+        this.roomId = battleRoom.getId();
+        this.winnerUserId = battleRoom.getWinner() != null ? battleRoom.getWinner().getUser().getId() : null;
+    }
+}
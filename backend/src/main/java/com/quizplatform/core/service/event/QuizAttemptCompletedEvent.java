@@ -0,0 +1,32 @@
+package com.quizplatform.core.service.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 사용자가 퀴즈 시도를 완료했을 때 발생하는 도메인 이벤트 클래스입니다.
+ * 사용자별 추천 결과 캐시를 갱신하는 컴포넌트가 구독합니다.
+ *
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+@Getter
+public class QuizAttemptCompletedEvent extends ApplicationEvent {
+    /** 시도를 완료한 사용자 ID */
+    private final Long userId;
+    /** 완료된 퀴즈 ID */
+    private final Long quizId;
+
+    /**
+     * QuizAttemptCompletedEvent의 생성자입니다.
+     *
+     * @param source 이벤트 발생 객체
+     * @param userId 시도를 완료한 사용자 ID
+     * @param quizId 완료된 퀴즈 ID
+     */
+    public QuizAttemptCompletedEvent(Object source, Long userId, Long quizId) {
+        super(source);
+        this.userId = userId;
+        this.quizId = quizId;
+    }
+}
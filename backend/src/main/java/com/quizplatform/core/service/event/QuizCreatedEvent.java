@@ -0,0 +1,28 @@
+package com.quizplatform.core.service.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 퀴즈가 새로 생성되었을 때 발생하는 도메인 이벤트 클래스입니다.
+ * 검색 색인 등 퀴즈 내용을 복제해 두는 컴포넌트가 구독합니다.
+ *
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+@Getter
+public class QuizCreatedEvent extends ApplicationEvent {
+    /** 생성된 퀴즈 ID */
+    private final Long quizId;
+
+    /**
+     * QuizCreatedEvent의 생성자입니다.
+     *
+     * @param source 이벤트 발생 객체
+     * @param quizId 생성된 퀴즈 ID
+     */
+    public QuizCreatedEvent(Object source, Long quizId) {
+        super(source);
+        this.quizId = quizId;
+    }
+}
@@ -0,0 +1,28 @@
+package com.quizplatform.core.service.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 퀴즈 통계(시도 횟수, 평균 점수)가 변경되었을 때 발생하는 도메인 이벤트 클래스입니다.
+ * 검색 색인의 정렬 신호를 갱신하는 컴포넌트가 구독합니다.
+ *
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+@Getter
+public class QuizStatsChangedEvent extends ApplicationEvent {
+    /** 통계가 변경된 퀴즈 ID */
+    private final Long quizId;
+
+    /**
+     * QuizStatsChangedEvent의 생성자입니다.
+     *
+     * @param source 이벤트 발생 객체
+     * @param quizId 통계가 변경된 퀴즈 ID
+     */
+    public QuizStatsChangedEvent(Object source, Long quizId) {
+        super(source);
+        this.quizId = quizId;
+    }
+}
@@ -0,0 +1,28 @@
+package com.quizplatform.core.service.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 퀴즈 내용(기본 정보, 태그, 문제)이 수정되었을 때 발생하는 도메인 이벤트 클래스입니다.
+ * 퀴즈 캐시 등 퀴즈 내용을 복제해 두는 컴포넌트가 구독합니다.
+ *
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+@Getter
+public class QuizUpdatedEvent extends ApplicationEvent {
+    /** 수정된 퀴즈 ID */
+    private final Long quizId;
+
+    /**
+     * QuizUpdatedEvent의 생성자입니다.
+     *
+     * @param source 이벤트 발생 객체
+     * @param quizId 수정된 퀴즈 ID
+     */
+    public QuizUpdatedEvent(Object source, Long quizId) {
+        super(source);
+        this.quizId = quizId;
+    }
+}
@@ -0,0 +1,28 @@
+package com.quizplatform.core.service.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 태그(이름, 동의어, 상위 태그)가 생성/수정/삭제되었을 때 발생하는 도메인 이벤트 클래스입니다.
+ * 해당 태그를 가진 퀴즈의 검색 색인 문서를 갱신하는 컴포넌트가 구독합니다.
+ *
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+@Getter
+public class TagChangedEvent extends ApplicationEvent {
+    /** 변경된 태그 ID */
+    private final Long tagId;
+
+    /**
+     * TagChangedEvent의 생성자입니다.
+     *
+     * @param source 이벤트 발생 객체
+     * @param tagId 변경된 태그 ID
+     */
+    public TagChangedEvent(Object source, Long tagId) {
+        super(source);
+        this.tagId = tagId;
+    }
+}
@@ -4,6 +4,7 @@ import com.quizplatform.core.domain.question.Question;
 import com.quizplatform.core.domain.quiz.*;
 import com.quizplatform.core.domain.tag.Tag;
 import com.quizplatform.core.domain.user.User;
+import com.quizplatform.core.dto.common.CursorResponse;
 import com.quizplatform.core.dto.question.QuestionCreateRequest;
 import com.quizplatform.core.dto.quiz.*;
 import com.quizplatform.core.exception.BusinessException;
@@ -16,6 +17,7 @@ import com.quizplatform.core.service.common.EntityMapperService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -65,6 +67,35 @@ public interface QuizService {
      * @return 검색된 퀴즈 목록 (페이징)
      */
     Page<QuizSummaryResponse> searchQuizzesDto(QuizSubmitRequest.QuizSearchCondition condition, Pageable pageable);
+
+    /**
+     * 검색어로 공개 퀴즈를 전문 검색합니다. (관련도 순, 난이도/유형/태그 패싯 포함)
+     * 
+     * @param condition 검색 조건 (검색어, 난이도, 유형, 태그만 사용)
+     * @param page 페이지 번호 (0부터)
+     * @param size 페이지 크기
+     * @return 검색된 퀴즈 목록과 패싯
+     */
+    QuizTextSearchResponse searchQuizzesByText(QuizSubmitRequest.QuizSearchCondition condition, int page, int size);
+
+    /**
+     * 주어진 조건에 맞는 퀴즈 목록을 전체 개수 없이 검색합니다. (다음 페이지 존재 여부만 제공)
+     * 
+     * @param condition 검색 조건
+     * @param pageable 페이징 정보
+     * @return 검색된 퀴즈 목록 (슬라이스)
+     */
+    Slice<QuizSummaryResponse> searchQuizzesSlice(QuizSubmitRequest.QuizSearchCondition condition, Pageable pageable);
+
+    /**
+     * 주어진 조건에 맞는 퀴즈 목록을 커서 기반으로 검색합니다.
+     * 
+     * @param condition 검색 조건
+     * @param cursor 이전 페이지의 다음 커서 (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @return 검색된 퀴즈 목록 (커서 페이지)
+     */
+    CursorResponse<QuizSummaryResponse> searchQuizzesByCursor(QuizSubmitRequest.QuizSearchCondition condition, String cursor, int size);
     
     /**
      * 문제 내용을 제외한 퀴즈 정보를 조회합니다.
@@ -97,6 +128,16 @@ public interface QuizService {
      * @return 해당 태그의 퀴즈 목록 (페이징)
      */
     Page<QuizSummaryResponse> getQuizzesByTag(Long tagId, Pageable pageable);
+
+    /**
+     * 특정 태그에 속한 퀴즈 목록을 커서 기반으로 최신순 조회합니다.
+     * 
+     * @param tagId 태그 ID
+     * @param cursor 이전 페이지의 다음 커서 (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @return 해당 태그의 퀴즈 목록 (커서 페이지)
+     */
+    CursorResponse<QuizSummaryResponse> getQuizzesByTagCursor(Long tagId, String cursor, int size);
     
     /**
      * 퀴즈의 상세 통계 정보를 조회합니다.
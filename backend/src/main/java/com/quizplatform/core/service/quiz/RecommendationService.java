@@ -38,6 +38,7 @@ public interface RecommendationService {
      * 사용자의 최근 퀴즈 시도 기록을 분석하여 맞춤형 퀴즈를 추천합니다.
      * 사용자가 선호하는 태그와 적정 난이도를 파악하여, 시도하지 않은 퀴즈 중 관련성이 높은 퀴즈를 추천합니다.
      * 사용자 데이터가 부족할 경우 인기 퀴즈를 대신 추천합니다.
+     * 결과는 사용자별로 캐시되며 사용자의 퀴즈 완료나 퀴즈/태그 변경 시 무효화됩니다.
      *
      * @param user  추천을 받을 사용자
      * @param limit 추천할 퀴즈의 최대 개수
@@ -45,6 +46,13 @@ public interface RecommendationService {
      */
     List<QuizSummaryResponse> getPersonalizedRecommendations(User user, int limit);
 
+    /**
+     * 사용자의 맞춤형 추천 결과를 다시 계산하여 캐시에 저장합니다. (퀴즈 완료 후 사전 계산용)
+     *
+     * @param userId 사용자 ID
+     */
+    void refreshPersonalizedRecommendations(Long userId);
+
     /**
      * 조회수, 시도 횟수, 평균 점수 등을 종합적으로 고려하여 인기 있는 퀴즈를 추천합니다.
      *
@@ -0,0 +1,75 @@
+package com.quizplatform.core.service.quiz.cache;
+
+import com.quizplatform.core.domain.question.Question;
+import com.quizplatform.core.dto.question.OptionDto;
+
+import java.util.List;
+
+/**
+ * 문제별 정답 판정기
+ *
+ * <p>{@link Question#isCorrectAnswer(String)}와 같은 판정 규칙을 따르되,
+ * 선택지 JSON 파싱과 정답 선택지 탐색을 캐시 적재 시 한 번만 수행합니다.</p>
+ *
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+@FunctionalInterface
+public interface AnswerMatcher {
+
+    /**
+     * 답변의 정답 여부를 판정합니다.
+     *
+     * @param answer 사용자 답변
+     * @return 정답 여부
+     */
+    boolean matches(String answer);
+
+    /**
+     * 문제 유형에 맞는 정답 판정기를 생성합니다.
+     *
+     * @param question 문제 엔티티
+     * @param options 파싱된 선택지 목록
+     * @return 정답 판정기
+     */
+    static AnswerMatcher compile(Question question, List<OptionDto> options) {
+        String correctAnswer = question.getCorrectAnswer();
+        if (correctAnswer == null || question.getQuestionType() == null) {
+            return answer -> false;
+        }
+
+        switch (question.getQuestionType()) {
+            case MULTIPLE_CHOICE: {
+                String correctKey = correctAnswer.trim();
+                String correctValue = options.stream()
+                        .filter(option -> option.getKey() != null && option.getKey().equalsIgnoreCase(correctKey))
+                        .map(OptionDto::getValue)
+                        .findFirst()
+                        .orElse(null);
+                return answer -> {
+                    if (answer == null) {
+                        return false;
+                    }
+                    String trimmed = answer.trim();
+                    if (correctKey.equalsIgnoreCase(trimmed)) {
+                        return true;
+                    }
+                    // 선택지 내용으로 비교 (부분 일치 허용)
+                    return correctValue != null
+                            && (correctValue.equals(trimmed) || correctValue.contains(trimmed) || trimmed.contains(correctValue));
+                };
+            }
+            case TRUE_FALSE:
+                return answer -> answer != null && correctAnswer.equalsIgnoreCase(answer.trim());
+            case SHORT_ANSWER: {
+                String expected = correctAnswer.trim();
+                return answer -> answer != null && expected.equalsIgnoreCase(answer.trim());
+            }
+            case CODE_ANALYSIS:
+            case DIAGRAM_BASED:
+                return correctAnswer::equals;
+            default:
+                return answer -> false;
+        }
+    }
+}
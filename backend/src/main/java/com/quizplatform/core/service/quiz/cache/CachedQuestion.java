@@ -0,0 +1,68 @@
+package com.quizplatform.core.service.quiz.cache;
+
+import com.quizplatform.core.domain.question.Question;
+import com.quizplatform.core.domain.question.QuestionType;
+import com.quizplatform.core.domain.quiz.DifficultyLevel;
+import com.quizplatform.core.dto.question.OptionDto;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 캐시된 문제 정보 (불변)
+ *
+ * <p>퀴즈 집합 캐시({@link QuizAggregate})에 포함되는 문제 단위 스냅샷입니다.
+ * 선택지는 파싱된 상태로, 정답 판정기는 컴파일된 상태로 보관합니다.</p>
+ *
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+@Getter
+public class CachedQuestion {
+    private final Long id;
+    private final QuestionType questionType;
+    private final DifficultyLevel difficultyLevel;
+    private final int points;
+    private final int timeLimitSeconds;
+    private final List<OptionDto> options;
+    private final AnswerMatcher answerMatcher;
+
+    private CachedQuestion(Long id, QuestionType questionType, DifficultyLevel difficultyLevel, int points,
+                           int timeLimitSeconds, List<OptionDto> options, AnswerMatcher answerMatcher) {
+        this.id = id;
+        this.questionType = questionType;
+        this.difficultyLevel = difficultyLevel;
+        this.points = points;
+        this.timeLimitSeconds = timeLimitSeconds;
+        this.options = options;
+        this.answerMatcher = answerMatcher;
+    }
+
+    /**
+     * 문제 엔티티로부터 스냅샷을 생성합니다.
+     *
+     * @param question 문제 엔티티
+     * @return 캐시된 문제
+     */
+    static CachedQuestion from(Question question) {
+        List<OptionDto> options = List.copyOf(question.getOptionDtoList());
+        return new CachedQuestion(
+                question.getId(),
+                question.getQuestionType(),
+                question.getDifficultyLevel(),
+                question.getPoints(),
+                question.getTimeLimitSeconds() != null ? question.getTimeLimitSeconds() : Question.DEFAULT_TIME_LIMIT_SECONDS,
+                options,
+                AnswerMatcher.compile(question, options));
+    }
+
+    /**
+     * 답변의 정답 여부를 판정합니다.
+     *
+     * @param answer 사용자 답변
+     * @return 정답 여부
+     */
+    public boolean isCorrectAnswer(String answer) {
+        return answerMatcher.matches(answer);
+    }
+}
@@ -0,0 +1,89 @@
+package com.quizplatform.core.service.quiz.cache;
+
+import com.quizplatform.core.domain.question.Question;
+import com.quizplatform.core.domain.quiz.Quiz;
+import com.quizplatform.core.domain.quiz.QuizType;
+import com.quizplatform.core.domain.tag.Tag;
+import com.quizplatform.core.dto.quiz.QuizResponse;
+import lombok.Getter;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 퀴즈 집합 캐시 항목 (불변)
+ *
+ * <p>퀴즈 플레이와 배틀에서 반복 조회되는 퀴즈 엔티티 그래프(문제, 선택지, 정답, 태그)를
+ * 한 번 적재한 뒤 공유하기 위한 스냅샷입니다. 문제 순서는 엔티티 매핑과 같이 문제 ID 오름차순입니다.</p>
+ *
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+@Getter
+public class QuizAggregate {
+    private final Long quizId;
+    private final long version;
+    private final QuizType quizType;
+    private final boolean isPublic;
+    private final Long creatorId;
+    private final Set<Long> tagIds;
+    private final List<CachedQuestion> questions;
+
+    /**
+     * 문제를 포함한 퀴즈 응답 (플레이 화면용, 시도 ID 제외)
+     */
+    private final QuizResponse playResponse;
+
+    private QuizAggregate(Quiz quiz, long version, QuizResponse playResponse) {
+        this.quizId = quiz.getId();
+        this.version = version;
+        this.quizType = quiz.getQuizType();
+        this.isPublic = quiz.isPublic();
+        this.creatorId = quiz.getCreator() != null ? quiz.getCreator().getId() : null;
+        this.tagIds = quiz.getTags().stream().map(Tag::getId).collect(Collectors.toUnmodifiableSet());
+        this.questions = quiz.getQuestions().stream()
+                .sorted(Comparator.comparing(Question::getId))
+                .map(CachedQuestion::from)
+                .toList();
+        this.playResponse = playResponse;
+    }
+
+    /**
+     * 퀴즈 엔티티 그래프로부터 캐시 항목을 생성합니다.
+     *
+     * @param quiz 문제/태그/생성자가 로드된 퀴즈 엔티티
+     * @param version 적재 시점의 퀴즈 버전
+     * @param playResponse 문제를 포함한 퀴즈 응답
+     * @return 캐시 항목
+     */
+    static QuizAggregate of(Quiz quiz, long version, QuizResponse playResponse) {
+        return new QuizAggregate(quiz, version, playResponse);
+    }
+
+    /**
+     * ID로 문제를 찾습니다.
+     *
+     * @param questionId 문제 ID
+     * @return 문제 인덱스, 없으면 -1
+     */
+    public int indexOfQuestion(Long questionId) {
+        for (int i = 0; i < questions.size(); i++) {
+            if (questions.get(i).getId().equals(questionId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 사용자가 이 퀴즈에 접근할 수 있는지 확인합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 공개 퀴즈이거나 생성자이면 true
+     */
+    public boolean isAccessibleBy(Long userId) {
+        return isPublic || (creatorId != null && creatorId.equals(userId));
+    }
+}
@@ -0,0 +1,119 @@
+package com.quizplatform.core.service.quiz.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.quizplatform.core.domain.quiz.Quiz;
+import com.quizplatform.core.exception.BusinessException;
+import com.quizplatform.core.exception.ErrorCode;
+import com.quizplatform.core.repository.quiz.QuizBasicRepository;
+import com.quizplatform.core.service.common.EntityMapperService;
+import com.quizplatform.core.service.event.QuizUpdatedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 퀴즈 집합 캐시 (read-through)
+ *
+ * 주요 기능:
+ * - 퀴즈 ID별로 문제/선택지/정답 판정기/태그 ID를 담은 불변 스냅샷을 보관
+ * - 캐시 미스 시에만 findByIdWithAllDetails로 엔티티 그래프를 적재
+ * - 퀴즈 수정 커밋 후 버전을 올려 이전 버전 항목을 무효화 (적재 중 수정된 경우도 다음 조회에서 재적재)
+ * - 솔로 플레이와 배틀이 같은 항목을 공유
+ *
+ * @author 채기훈
+ */
+@Component
+@Slf4j
+public class QuizAggregateCache {
+
+    /**
+     * 캐시 항목 (Key: 퀴즈 ID)
+     */
+    private final Cache<Long, QuizAggregate> cache;
+
+    /**
+     * 퀴즈별 현재 버전 (Key: 퀴즈 ID, 수정된 적 없는 퀴즈는 0)
+     */
+    private final ConcurrentHashMap<Long, Long> versions = new ConcurrentHashMap<>();
+
+    private final QuizBasicRepository quizRepository;
+    private final EntityMapperService entityMapperService;
+
+    @Autowired
+    public QuizAggregateCache(QuizBasicRepository quizRepository,
+                              EntityMapperService entityMapperService,
+                              @Value("${quiz.aggregate-cache.max-size:500}") long maxSize,
+                              @Value("${quiz.aggregate-cache.expire-minutes:30}") long expireMinutes) {
+        this.quizRepository = quizRepository;
+        this.entityMapperService = entityMapperService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(expireMinutes, TimeUnit.MINUTES)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 퀴즈 집합을 조회합니다. 캐시에 없거나 버전이 바뀐 경우 DB에서 적재합니다.
+     *
+     * @param quizId 퀴즈 ID
+     * @return 퀴즈 집합
+     * @throws BusinessException 퀴즈가 없는 경우 (QUIZ_NOT_FOUND)
+     */
+    @Transactional(readOnly = true)
+    public QuizAggregate get(Long quizId) {
+        long currentVersion = versions.getOrDefault(quizId, 0L);
+        QuizAggregate cached = cache.getIfPresent(quizId);
+        if (cached != null && cached.getVersion() == currentVersion) {
+            return cached;
+        }
+
+        // 적재 전에 읽은 버전으로 저장하여, 적재 중 수정이 커밋되면 다음 조회에서 다시 적재되도록 함
+        Quiz quiz = quizRepository.findByIdWithAllDetails(quizId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.QUIZ_NOT_FOUND, "퀴즈를 찾을 수 없습니다. ID: " + quizId));
+        QuizAggregate loaded = QuizAggregate.of(quiz, currentVersion, entityMapperService.mapToQuizResponse(quiz));
+
+        cache.asMap().merge(quizId, loaded,
+                (existing, candidate) -> existing.getVersion() >= candidate.getVersion() ? existing : candidate);
+        log.debug("퀴즈 집합 캐시 적재: quizId={}, version={}, 문제수={}", quizId, currentVersion, loaded.getQuestions().size());
+        return loaded;
+    }
+
+    /**
+     * 퀴즈 항목을 무효화합니다.
+     *
+     * @param quizId 퀴즈 ID
+     */
+    public void invalidate(Long quizId) {
+        versions.merge(quizId, 1L, Long::sum);
+        cache.invalidate(quizId);
+    }
+
+    /**
+     * 퀴즈 수정 커밋 후 캐시 무효화
+     *
+     * @param event 퀴즈 수정 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onQuizUpdated(QuizUpdatedEvent event) {
+        invalidate(event.getQuizId());
+        log.info("퀴즈 수정으로 집합 캐시 무효화: quizId={}", event.getQuizId());
+    }
+
+    /**
+     * 캐시 통계 (모니터링 용도)
+     *
+     * @return 캐시 항목 수와 적중률 문자열
+     */
+    public String getStats() {
+        return String.format("size=%d, hitRate=%.3f", cache.estimatedSize(), cache.stats().hitRate());
+    }
+}
@@ -0,0 +1,182 @@
+package com.quizplatform.core.service.quiz.counter;
+
+import com.quizplatform.core.repository.quiz.QuizCounterJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 퀴즈 조회수 지연 반영(write-behind) 카운터
+ *
+ * 주요 기능:
+ * - 조회 시에는 메모리 카운터(LongAdder)만 증가시키고 DB 행은 잠그지 않음
+ * - 다중 서버(redis 모드)에서는 Redis 해시에 HINCRBY로 누적
+ * - 주기적으로 누적분을 한 번의 UPDATE ... FROM (VALUES ...) 문으로 반영
+ * - 반영 실패 시 증가분을 카운터에 되돌리고, 종료 시 남은 증가분을 반영
+ *
+ * 손실 범위: local 모드는 비정상 종료 시 마지막 반영 이후(최대 flush-interval-ms) 증가분,
+ * redis 모드는 Redis에 누적되므로 서버 비정상 종료 시에도 반영 중이던 한 번의 묶음만 유실될 수 있습니다.
+ *
+ * @author 채기훈
+ */
+@Component
+@Slf4j
+public class QuizViewCounter {
+
+    private static final String PENDING_KEY = "quiz:view-count:pending";
+    private static final String FLUSHING_KEY_PREFIX = "quiz:view-count:flushing:";
+
+    /**
+     * 반영 대기 중인 조회수 (Key: 퀴즈 ID)
+     */
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    private final QuizCounterJdbcRepository quizCounterJdbcRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final boolean redisMode;
+
+    /**
+     * 누적 반영 건수 (모니터링 용도)
+     */
+    private final LongAdder flushedViews = new LongAdder();
+
+    @Autowired
+    public QuizViewCounter(QuizCounterJdbcRepository quizCounterJdbcRepository,
+                           RedisTemplate<String, String> redisTemplate,
+                           @Value("${quiz.view-counter.mode:local}") String mode) {
+        this.quizCounterJdbcRepository = quizCounterJdbcRepository;
+        this.redisTemplate = redisTemplate;
+        this.redisMode = "redis".equalsIgnoreCase(mode);
+    }
+
+    /**
+     * 퀴즈 조회수를 1 증가시킵니다. (DB 반영은 다음 주기에 일괄 처리)
+     *
+     * @param quizId 퀴즈 ID
+     */
+    public void increment(Long quizId) {
+        if (redisMode) {
+            try {
+                redisTemplate.opsForHash().increment(PENDING_KEY, quizId.toString(), 1);
+                return;
+            } catch (Exception e) {
+                log.warn("Redis 조회수 누적 실패, 메모리 카운터 사용: quizId={}, 오류={}", quizId, e.getMessage());
+            }
+        }
+        pending.computeIfAbsent(quizId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 누적된 조회수를 DB에 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${quiz.view-counter.flush-interval-ms:5000}")
+    public void flush() {
+        flushLocal();
+        if (redisMode) {
+            flushRedis();
+        }
+    }
+
+    /**
+     * 종료 시 남은 조회수 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("종료 시 조회수 반영 실패", e);
+        }
+    }
+
+    /**
+     * 반영 대기 중인 조회수 합계를 반환합니다. (모니터링 용도, local 카운터 기준)
+     *
+     * @return 대기 중인 조회수
+     */
+    public long getPendingCount() {
+        return pending.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    /**
+     * 지금까지 DB에 반영된 조회수 합계를 반환합니다. (모니터링 용도)
+     *
+     * @return 반영된 조회수
+     */
+    public long getFlushedCount() {
+        return flushedViews.sum();
+    }
+
+    private void flushLocal() {
+        Map<Long, Long> deltas = new TreeMap<>();
+        pending.forEach((quizId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                deltas.put(quizId, delta);
+            } else if (pending.remove(quizId, adder)) {
+                // 제거 직전에 늦게 들어온 증가분은 새 카운터로 옮김
+                long late = adder.sumThenReset();
+                if (late > 0) {
+                    pending.computeIfAbsent(quizId, id -> new LongAdder()).add(late);
+                }
+            }
+        });
+
+        if (!apply(deltas)) {
+            deltas.forEach((quizId, delta) -> pending.computeIfAbsent(quizId, id -> new LongAdder()).add(delta));
+        }
+    }
+
+    private void flushRedis() {
+        // 누적 해시를 원자적으로 이름 변경하여 이후 증가분과 분리
+        String flushingKey = FLUSHING_KEY_PREFIX + UUID.randomUUID();
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.renameIfAbsent(PENDING_KEY, flushingKey))) {
+                return;
+            }
+        } catch (Exception e) {
+            // 누적 키가 없으면 RENAME이 실패함
+            return;
+        }
+
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(flushingKey);
+        Map<Long, Long> deltas = new TreeMap<>();
+        entries.forEach((field, value) -> {
+            long delta = Long.parseLong(value.toString());
+            if (delta > 0) {
+                deltas.put(Long.valueOf(field.toString()), delta);
+            }
+        });
+
+        if (!apply(deltas)) {
+            deltas.forEach((quizId, delta) -> redisTemplate.opsForHash().increment(PENDING_KEY, quizId.toString(), delta));
+        }
+        redisTemplate.delete(flushingKey);
+    }
+
+    private boolean apply(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return true;
+        }
+        try {
+            int updated = quizCounterJdbcRepository.addViewCounts(deltas);
+            long total = deltas.values().stream().mapToLong(Long::longValue).sum();
+            flushedViews.add(total);
+            log.debug("조회수 일괄 반영: 퀴즈수={}, 반영행={}, 조회수={}", deltas.size(), updated, total);
+            return true;
+        } catch (Exception e) {
+            log.error("조회수 일괄 반영 실패, 다음 주기에 재시도: 퀴즈수={}, 오류={}", deltas.size(), e.getMessage());
+            return false;
+        }
+    }
+}
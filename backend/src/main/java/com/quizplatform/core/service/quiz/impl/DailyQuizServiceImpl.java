@@ -10,6 +10,7 @@ import com.quizplatform.core.repository.quiz.QuizRepository;
 import com.quizplatform.core.service.quiz.DailyQuizService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -44,6 +45,7 @@ public class DailyQuizServiceImpl implements DailyQuizService {
     private static final int INTERMEDIATE_DAYS = 3; // 주에 3일은 중급
     private static final int ADVANCED_DAYS = 2;     // 주에 2일은 고급
     private static final int HISTORY_DAYS = 14;     // 최근 14일간 선택된 퀴즈는 제외
+    private static final int CANDIDATE_POOL_SIZE = 200; // 인기도 순으로 읽을 데일리 퀴즈 후보 수
 
     /**
      * 매일 자정에 새로운 데일리 퀴즈 선택
@@ -162,11 +164,10 @@ public class DailyQuizServiceImpl implements DailyQuizService {
                 .map(Quiz::getId)
                 .collect(Collectors.toList());
         
-        // 적합한 퀴즈 후보 목록 조회
-        List<Quiz> eligibleQuizzes = quizRepository.findByQuizTypeAndIsPublicTrue(QuizType.REGULAR).stream()
-                .filter(quiz -> quiz.getDifficultyLevel() == targetDifficulty)
+        // 적합한 퀴즈 후보 목록 조회 (난이도 일치, 최소 5문제 이상인 퀴즈를 인기도 순으로 후보군 크기만큼)
+        List<Quiz> eligibleQuizzes = quizRepository.findPopularDailyCandidates(
+                        targetDifficulty, 5, PageRequest.of(0, CANDIDATE_POOL_SIZE)).stream()
                 .filter(quiz -> !recentQuizIds.contains(quiz.getId()))
-                .filter(quiz -> quiz.getQuestionCount() >= 5) // 최소 5문제 이상
                 .collect(Collectors.toList());
         
         if (eligibleQuizzes.isEmpty()) {
@@ -15,8 +15,14 @@ import com.quizplatform.core.repository.question.QuestionAttemptRepository;
 import com.quizplatform.core.repository.quiz.QuizAttemptRepository;
 import com.quizplatform.core.repository.quiz.QuizRepository;
 import com.quizplatform.core.service.common.EntityMapperService;
+import com.quizplatform.core.service.event.DomainEventPublisher;
+import com.quizplatform.core.service.event.QuizAttemptCompletedEvent;
+import com.quizplatform.core.service.event.QuizStatsChangedEvent;
 import com.quizplatform.core.service.level.LevelingService;
 import com.quizplatform.core.service.quiz.QuizAttemptService;
+import com.quizplatform.core.service.quiz.cache.QuizAggregate;
+import com.quizplatform.core.service.quiz.cache.QuizAggregateCache;
+import com.quizplatform.core.service.quiz.stats.QuizStatsAggregator;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -39,23 +45,30 @@ public class QuizAttemptServiceImpl implements QuizAttemptService {
     private final QuizRepository quizRepository;
     private final LevelingService levelingService;
     private final EntityMapperService entityMapperService;
+    private final QuizAggregateCache quizAggregateCache;
+    private final QuizStatsAggregator quizStatsAggregator;
 
     @Override
     public QuizAttempt startQuiz(Long quizId, User user) {
-        Quiz quiz = quizRepository.findByIdWithAllDetails(quizId) // 퀴즈 정보와 연관된 모든 상세 정보 로드
-                .orElseThrow(() -> new BusinessException(ErrorCode.QUIZ_NOT_FOUND));
+        // 퀴즈 존재 여부와 유형은 공유 캐시로 확인하고, 시도에는 엔티티 참조만 연결
+        QuizAggregate aggregate = quizAggregateCache.get(quizId);
+        Quiz quiz = quizRepository.getReferenceById(quizId);
 
         // 데일리 퀴즈의 경우, 해당 사용자가 이 퀴즈를 이미 완료했는지 확인
-        if (quiz.getQuizType() == QuizType.DAILY &&
+        if (aggregate.getQuizType() == QuizType.DAILY &&
                 quizAttemptRepository.hasCompletedQuiz(user, quiz)) {
             throw new BusinessException(ErrorCode.QUIZ_ALREADY_COMPLETED, "이미 완료한 데일리 퀴즈입니다.");
         }
 
         // 새로운 퀴즈 시도 객체 생성 및 저장
-        return quizAttemptRepository.save(QuizAttempt.builder()
+        QuizAttempt quizAttempt = quizAttemptRepository.save(QuizAttempt.builder()
                 .user(user)
                 .quiz(quiz)
                 .build());
+
+        // 퀴즈 통계 증분 반영 (커밋 후)
+        quizStatsAggregator.recordStart(quizId);
+        return quizAttempt;
     }
 
     @Override
@@ -97,7 +110,11 @@ public class QuizAttemptServiceImpl implements QuizAttemptService {
 
         // 퀴즈 시도 완료 처리 (내부적으로 상태 변경 및 완료 시간 설정)
         quizAttempt.complete();
-        return quizAttemptRepository.save(quizAttempt);
+        QuizAttempt completedAttempt = quizAttemptRepository.save(quizAttempt);
+
+        // 퀴즈 통계 증분 반영 (커밋 후)
+        quizStatsAggregator.recordCompletion(completedAttempt);
+        return completedAttempt;
     }
 
     @Override
@@ -180,6 +197,14 @@ public class QuizAttemptServiceImpl implements QuizAttemptService {
         if (updatedRows == 0) {
             throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "퀴즈 통계 업데이트에 실패했습니다.");
         }
+        DomainEventPublisher.publishEvent(new QuizStatsChangedEvent(this, quiz.getId()));
+        DomainEventPublisher.publishEvent(new QuizAttemptCompletedEvent(this, quizAttempt.getUser().getId(), quiz.getId()));
+
+        // 기존 플레이어 대비 점수 백분위 (이번 시도는 커밋 후 분포에 반영)
+        Double percentile = quizStatsAggregator.getScorePercentile(quiz.getId(), quizAttempt.getScore());
+
+        // 퀴즈 통계 증분 반영 (커밋 후)
+        quizStatsAggregator.recordCompletion(quizAttempt);
 
         // 레벨링 서비스 호출하여 경험치 계산 및 부여, 레벨/업적 처리
         User user = quizAttempt.getUser();
@@ -189,7 +214,7 @@ public class QuizAttemptServiceImpl implements QuizAttemptService {
         int experienceGained = experienceAfter - experienceBefore; // 실제 획득 경험치 계산
 
         // 최종 결과 응답 생성 (EntityMapperService 사용)
-        return entityMapperService.mapToQuizResultResponse(quizAttempt, experienceGained);
+        return entityMapperService.mapToQuizResultResponse(quizAttempt, experienceGained, percentile);
     }
 
     @Override
@@ -213,7 +238,10 @@ public class QuizAttemptServiceImpl implements QuizAttemptService {
             throw new BusinessException(ErrorCode.BATTLE_NOT_STARTED, "아직 완료되지 않은 퀴즈입니다.");
         }
 
+        // 점수 백분위 조회 (공유 점수 분포 사용)
+        Double percentile = quizStatsAggregator.getScorePercentile(quizId, quizAttempt.getScore());
+
         // EntityMapperService를 통해 결과 응답 생성 (획득 경험치는 0으로 전달)
-        return entityMapperService.mapToQuizResultResponse(quizAttempt, 0);
+        return entityMapperService.mapToQuizResultResponse(quizAttempt, 0, percentile);
     }
 } 
\ No newline at end of file
@@ -4,24 +4,45 @@ import com.quizplatform.core.domain.question.Question;
 import com.quizplatform.core.domain.quiz.*;
 import com.quizplatform.core.domain.tag.Tag;
 import com.quizplatform.core.domain.user.User;
+import com.quizplatform.core.dto.common.CursorResponse;
 import com.quizplatform.core.dto.question.QuestionCreateRequest;
 import com.quizplatform.core.dto.quiz.*;
 import com.quizplatform.core.exception.BusinessException;
 import com.quizplatform.core.exception.ErrorCode;
 import com.quizplatform.core.repository.UserRepository;
 import com.quizplatform.core.repository.quiz.QuizAttemptRepository;
+import com.quizplatform.core.repository.quiz.QuizFacetIndex;
 import com.quizplatform.core.repository.quiz.QuizRepository;
+import com.quizplatform.core.repository.quiz.QuizSearchCountCache;
 import com.quizplatform.core.repository.tag.TagRepository;
 import com.quizplatform.core.service.common.EntityMapperService;
+import com.quizplatform.core.service.event.DomainEventPublisher;
+import com.quizplatform.core.service.event.QuizCreatedEvent;
+import com.quizplatform.core.service.event.QuizUpdatedEvent;
 import com.quizplatform.core.service.quiz.QuizAttemptService;
 import com.quizplatform.core.service.quiz.QuizService;
+import com.quizplatform.core.service.quiz.cache.CachedQuestion;
+import com.quizplatform.core.service.quiz.cache.QuizAggregate;
+import com.quizplatform.core.service.quiz.cache.QuizAggregateCache;
+import com.quizplatform.core.service.quiz.counter.QuizViewCounter;
+import com.quizplatform.core.service.quiz.search.QuizSearchEngine;
+import com.quizplatform.core.service.quiz.search.QuizSearchHits;
+import com.quizplatform.core.service.quiz.search.QuizSearchIndexer;
+import com.quizplatform.core.service.quiz.search.QuizSearchQuery;
+import com.quizplatform.core.service.quiz.stats.QuestionStatsAggregate;
+import com.quizplatform.core.service.quiz.stats.QuizStatsAggregate;
+import com.quizplatform.core.service.quiz.stats.QuizStatsAggregator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -38,16 +59,25 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class QuizServiceImpl implements QuizService {
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final QuizRepository quizRepository;
     private final TagRepository tagRepository;
     private final UserRepository userRepository;
     private final QuizAttemptRepository quizAttemptRepository;
     private final QuizAttemptService quizAttemptService;
     private final EntityMapperService entityMapperService;
+    private final QuizAggregateCache quizAggregateCache;
+    private final QuizViewCounter quizViewCounter;
+    private final QuizStatsAggregator quizStatsAggregator;
+    private final QuizSearchCountCache quizSearchCountCache;
+    private final QuizSearchEngine quizSearchEngine;
+    private final QuizSearchIndexer quizSearchIndexer;
+    private final QuizFacetIndex quizFacetIndex;
 
     @Override
     @Transactional
-    @CacheEvict(cacheNames = {"quizzes", "quizSearch", "quizRecommendations", "popularQuizzes"}, allEntries = true)
+    @CacheEvict(cacheNames = {"quizzes", "quizSearch", "quizRecommendations", "popularQuizzes", "tags"}, allEntries = true)
     public QuizResponse createQuiz(Long creatorId, QuizCreateRequest request) {
         // 퀴즈 생성자 조회
         User creator = userRepository.findById(creatorId)
@@ -76,13 +106,19 @@ public class QuizServiceImpl implements QuizService {
         // 퀴즈 저장
         Quiz savedQuiz = quizRepository.save(quiz);
 
+        // 검색 결과 전체 개수 캐시 무효화
+        quizSearchCountCache.invalidateAll();
+
+        // 커밋 후 검색 색인 반영
+        DomainEventPublisher.publishEvent(new QuizCreatedEvent(this, savedQuiz.getId()));
+
         // DTO로 변환하여 반환
         return entityMapperService.mapToQuizResponse(savedQuiz);
     }
 
     @Override
     @Transactional
-    @CacheEvict(cacheNames = {"quizzes", "quizDetails", "quizSearch", "quizRecommendations", "popularQuizzes", "quizStatistics"}, allEntries = true)
+    @CacheEvict(cacheNames = {"quizzes", "quizDetails", "quizSearch", "quizRecommendations", "popularQuizzes", "quizStatistics", "tags"}, allEntries = true)
     public QuizResponse updateQuiz(Long quizId, QuizCreateRequest request) {
         Quiz quiz = quizRepository.findByIdWithAllDetails(quizId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.QUIZ_NOT_FOUND, "Quiz not found with id: " + quizId));
@@ -106,6 +142,9 @@ public class QuizServiceImpl implements QuizService {
 
         Quiz updatedQuiz = quizRepository.save(quiz);
 
+        // 커밋 후 퀴즈 집합 캐시 무효화
+        DomainEventPublisher.publishEvent(new QuizUpdatedEvent(this, quizId));
+
         // DTO로 변환하여 반환
         return entityMapperService.mapToQuizResponse(updatedQuiz);
     }
@@ -139,6 +178,9 @@ public class QuizServiceImpl implements QuizService {
 
         Quiz savedDailyQuiz = quizRepository.save(dailyQuiz);
 
+        // 커밋 후 검색 색인 반영
+        DomainEventPublisher.publishEvent(new QuizCreatedEvent(this, savedDailyQuiz.getId()));
+
         // DTO로 변환하여 반환
         return entityMapperService.mapToQuizResponse(savedDailyQuiz);
     }
@@ -148,11 +190,55 @@ public class QuizServiceImpl implements QuizService {
     public Page<QuizSummaryResponse> searchQuizzesDto(QuizSubmitRequest.QuizSearchCondition condition, Pageable pageable) {
         // 조건 유효성 검사
         condition.validate();
-        
+
+        // 검색어가 있으면 전문 검색 색인으로 조회 (관련도 순)
+        // 기동 시 최초 색인이 끝나기 전에는 빈 결과 대신 DB 조회로 처리
+        if (quizSearchIndexer.isReady() && isTextSearchable(condition)) {
+            QuizSearchHits hits = quizSearchEngine.search(toSearchQuery(condition, pageable.getPageNumber(), pageable.getPageSize()));
+            List<QuizSummaryResponse> content = quizRepository.findQuizSummaryByIds(hits.getQuizIds());
+            return new PageImpl<>(content, PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()), hits.getTotalHits());
+        }
+
         // 개선: DTO 직접 조회로 변경하여 N+1 문제 해결
         return quizRepository.searchQuizSummaryResponse(condition, pageable);
     }
 
+    @Override
+    public QuizTextSearchResponse searchQuizzesByText(QuizSubmitRequest.QuizSearchCondition condition, int page, int size) {
+        condition.validate();
+        int pageNumber = Math.max(0, page);
+        int pageSize = normalizeCursorPageSize(size);
+
+        QuizSearchHits hits = quizSearchEngine.search(toSearchQuery(condition, pageNumber, pageSize));
+        return QuizTextSearchResponse.builder()
+                .content(quizRepository.findQuizSummaryByIds(hits.getQuizIds()))
+                .page(pageNumber)
+                .size(pageSize)
+                .totalElements(hits.getTotalHits())
+                .facets(hits.getFacets())
+                .build();
+    }
+
+    @Override
+    public Slice<QuizSummaryResponse> searchQuizzesSlice(QuizSubmitRequest.QuizSearchCondition condition, Pageable pageable) {
+        condition.validate();
+
+        // 전체 개수 없이 페이지 크기 + 1건 조회로 다음 페이지 여부만 판단
+        return quizRepository.searchQuizSummarySlice(condition, pageable);
+    }
+
+    @Override
+    public CursorResponse<QuizSummaryResponse> searchQuizzesByCursor(QuizSubmitRequest.QuizSearchCondition condition, String cursor, int size) {
+        condition.validate();
+        int pageSize = normalizeCursorPageSize(size);
+        String sortKey = QuizSearchCursor.normalizeSortKey(condition.getOrderBy());
+
+        // 페이지 크기 + 1건 조회로 다음 페이지 여부 판단 (전체 개수 쿼리 없음)
+        List<QuizSummaryResponse> rows = quizRepository.searchQuizSummaryAfter(
+                condition, QuizSearchCursor.decode(cursor, sortKey), pageSize + 1);
+        return CursorResponse.of(rows, pageSize, last -> QuizSearchCursor.of(sortKey, last).encode());
+    }
+
     @Override
     @Cacheable(value = "quizDetails", key = "'quiz:' + #quizId", cacheResolver = "trackedCacheResolver")
     public QuizDetailResponse getQuizWithoutQuestions(Long quizId) {
@@ -188,34 +274,56 @@ public class QuizServiceImpl implements QuizService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.TAG_NOT_FOUND,
                         "Tag not found with id: " + tagId));
 
+        // 정렬 지정이 없으면 역색인에서 최신(ID 내림차순) 페이지의 ID와 전체 개수를 구해 한 번에 조회
+        if (pageable.getSort().isUnsorted()) {
+            Optional<QuizFacetIndex.Match> match = quizFacetIndex.match(QuizFacetIndex.Filter.builder()
+                    .tagGroup(List.of(tagId))
+                    .build());
+            if (match.isPresent()) {
+                List<Long> pageIds = match.get().idsDescending(pageable.getOffset(), pageable.getPageSize());
+                List<QuizSummaryResponse> content = pageIds.isEmpty()
+                        ? List.of()
+                        : quizRepository.findQuizSummaryByIds(pageIds);
+                return new PageImpl<>(content, pageable, match.get().count());
+            }
+        }
+
         Page<Quiz> quizzes = quizRepository.findByTags(tag, pageable);
         return quizzes.map(entityMapperService::mapToQuizSummaryResponse);
     }
 
     @Override
-    @Cacheable(value = "quizStatistics", key = "'stats:' + #quizId", cacheResolver = "trackedCacheResolver")
-    public QuizStatisticsResponse getQuizStatistics(Long quizId) {
-        Quiz quiz = quizRepository.findByIdWithAllDetails(quizId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.QUIZ_NOT_FOUND, "Quiz not found with id: " + quizId));
-
-        // 퀴즈 시도 기록 조회
-        List<QuizAttempt> attempts = quizAttemptRepository.findByQuiz(quiz);
+    public CursorResponse<QuizSummaryResponse> getQuizzesByTagCursor(Long tagId, String cursor, int size) {
+        if (!tagRepository.existsById(tagId)) {
+            throw new BusinessException(ErrorCode.TAG_NOT_FOUND, "Tag not found with id: " + tagId);
+        }
+        int pageSize = normalizeCursorPageSize(size);
+        String sortKey = QuizSearchCursor.SORT_CREATED_AT;
 
-        // 각 질문 시도 데이터 로드
-        attempts.forEach(attempt -> {
-            attempt.getQuestionAttempts().size(); // 지연 로딩 초기화
-        });
+        List<QuizSummaryResponse> rows = quizRepository.findQuizSummaryByTagAfter(
+                tagId, QuizSearchCursor.decode(cursor, sortKey), pageSize + 1);
+        return CursorResponse.of(rows, pageSize, last -> QuizSearchCursor.of(sortKey, last).encode());
+    }
 
-        // 문제별 통계 계산
-        Map<Long, QuestionStatistics> questionStats = calculateQuestionStatistics(quiz, attempts);
+    @Override
+    @Cacheable(value = "quizStatistics", key = "'stats:' + #quizId", cacheResolver = "trackedCacheResolver")
+    public QuizStatisticsResponse getQuizStatistics(Long quizId) {
+        // 문제 목록은 공유 캐시에서, 통계는 증분 집계에서 조회 (시도 기록 전체를 적재하지 않음)
+        QuizAggregate quiz = quizAggregateCache.get(quizId);
+        QuizStatsAggregate stats = quizStatsAggregator.getAggregate(quizId);
 
         QuizStatistics statistics = QuizStatistics.builder()
-                .totalAttempts(attempts.size())
-                .averageScore(calculateAverageScore(attempts))
-                .completionRate(calculateCompletionRate(attempts))
-                .averageTimeSeconds(calculateAverageTime(attempts))
+                .totalAttempts((int) stats.getStartedCount())
+                .averageScore(stats.getScore().mean())
+                .scoreStandardDeviation(stats.getScore().standardDeviation())
+                .medianScore(stats.getScoreHistogram().quantile(0.5))
+                .scoreDistribution(stats.getScoreHistogram().bands(10))
+                .completionRate(stats.completionRate())
+                .averageTimeSeconds((int) stats.getCompletionTime().mean())
+                .medianTimeSeconds(stats.getCompletionTimeHistogram().quantile(0.5))
+                .p90TimeSeconds(stats.getCompletionTimeHistogram().quantile(0.9))
                 .difficultyDistribution(calculateDifficultyDistribution(quiz))
-                .questionStatistics(createQuestionStatisticsList(questionStats))
+                .questionStatistics(createQuestionStatisticsList(quiz, stats))
                 .build();
 
         return QuizStatisticsResponse.from(statistics);
@@ -242,39 +350,32 @@ public class QuizServiceImpl implements QuizService {
     @Override
     @Transactional
     public QuizResponse getPlayableQuiz(Long quizId, Long userId) {
-        Quiz quiz = quizRepository.findByIdWithAllDetails(quizId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.QUIZ_NOT_FOUND,
-                        "퀴즈를 찾을 수 없습니다. ID: " + quizId));
+        // 퀴즈 엔티티 그래프 대신 공유 캐시 사용
+        QuizAggregate quiz = quizAggregateCache.get(quizId);
 
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND,
                         "사용자를 찾을 수 없습니다. ID: " + userId));
 
         // 퀴즈가 공개된 것인지 확인
-        if (!quiz.isPublic() && !quiz.getCreator().getId().equals(userId)) {
+        if (!quiz.isAccessibleBy(userId)) {
             throw new BusinessException(ErrorCode.QUIZ_NOT_FOUND, "접근할 수 없는 퀴즈입니다.");
         }
 
         // 데일리 퀴즈인 경우 이미 완료했는지 체크
         if (quiz.getQuizType() == QuizType.DAILY &&
-                quizAttemptRepository.hasCompletedQuiz(user, quiz)) {
+                quizAttemptRepository.hasCompletedQuiz(user, quizRepository.getReferenceById(quizId))) {
             throw new BusinessException(ErrorCode.QUIZ_ALREADY_COMPLETED, "이미 완료한 데일리 퀴즈입니다.");
         }
 
         // 퀴즈 시도 객체 생성 (시작 시간 기록)
         QuizAttempt quizAttempt = quizAttemptService.startQuiz(quizId, user);
 
-        // 퀴즈 조회수 증가 (원자적 업데이트)
-        int updatedRows = quizRepository.incrementViewCountAtomic(quizId);
-        if (updatedRows == 0) {
-            throw new BusinessException(ErrorCode.QUIZ_NOT_FOUND, "퀴즈를 찾을 수 없습니다.");
-        }
-
-        // 기본 퀴즈 응답 생성
-        QuizResponse quizResponse = entityMapperService.mapToQuizResponse(quiz);
+        // 퀴즈 조회수 증가 (메모리에 누적 후 주기적으로 일괄 반영)
+        quizViewCounter.increment(quizId);
 
-        // 퀴즈 시도 ID 추가
-        return quizResponse.withQuizAttemptId(quizAttempt.getId());
+        // 캐시된 퀴즈 응답에 퀴즈 시도 ID 추가
+        return quiz.getPlayResponse().withQuizAttemptId(quizAttempt.getId());
     }
 
     @Override
@@ -298,6 +399,41 @@ public class QuizServiceImpl implements QuizService {
                 .collect(Collectors.toSet());
     }
 
+    /**
+     * 검색 색인으로 처리할 수 있는 조건인지 확인합니다.
+     * 검색어가 있고, 색인에 없는 조건(문제 수, 점수, 시도 수, 생성일, 생성자, 비공개)이 없어야 합니다.
+     */
+    private boolean isTextSearchable(QuizSubmitRequest.QuizSearchCondition condition) {
+        return StringUtils.hasText(condition.getTitle())
+                && condition.getMinQuestions() == null && condition.getMaxQuestions() == null
+                && condition.getMinAverageScore() == null && condition.getMaxAverageScore() == null
+                && condition.getMinAttempts() == null
+                && condition.getCreatedAfter() == null && condition.getCreatedBefore() == null
+                && condition.getCreatorId() == null
+                && !Boolean.FALSE.equals(condition.getIsPublic());
+    }
+
+    private QuizSearchQuery toSearchQuery(QuizSubmitRequest.QuizSearchCondition condition, int page, int size) {
+        return QuizSearchQuery.builder()
+                .text(condition.getTitle())
+                .difficultyLevel(condition.getDifficultyLevel())
+                .quizType(condition.getQuizType())
+                .tagIds(condition.getTagIds())
+                .page(page)
+                .size(size)
+                .build();
+    }
+
+    /**
+     * 커서 페이지 크기를 허용 범위로 보정합니다.
+     * 
+     * @param size 요청 페이지 크기
+     * @return 1 ~ MAX_CURSOR_PAGE_SIZE 범위의 페이지 크기
+     */
+    private int normalizeCursorPageSize(int size) {
+        return Math.max(1, Math.min(MAX_CURSOR_PAGE_SIZE, size));
+    }
+
     /**
      * 문제 생성 요청으로부터 문제를 생성하고 퀴즈에 추가합니다.
      * 
@@ -325,183 +461,41 @@ public class QuizServiceImpl implements QuizService {
         quiz.addQuestion(question);
     }
 
-    /**
-     * 퀴즈의 문제별 통계를 계산합니다.
-     * 
-     * @param quiz 퀴즈 객체
-     * @param attempts 퀴즈 시도 목록
-     * @return 문제별 통계 맵 (문제 ID → 통계 객체)
-     */
-    private Map<Long, QuestionStatistics> calculateQuestionStatistics(Quiz quiz, List<QuizAttempt> attempts) {
-        Map<Long, QuestionStatistics> stats = new HashMap<>();
-
-        // 각 문제별 통계 초기화
-        quiz.getQuestions().forEach(question -> {
-            stats.put(question.getId(), new QuestionStatistics(question.getId()));
-        });
-
-        // 시도 데이터로 통계 업데이트
-        attempts.forEach(attempt -> {
-            attempt.getQuestionAttempts().forEach(questionAttempt -> {
-                QuestionStatistics questionStat = stats.get(questionAttempt.getQuestion().getId());
-                if (questionStat != null) {
-                    questionStat.updateStatistics(questionAttempt);
-                }
-            });
-        });
-
-        return stats;
-    }
-
-    /**
-     * 문제별 통계를 저장하는 내부 클래스
-     */
-    private static class QuestionStatistics {
-        private final Long questionId;
-        private int correctAnswers = 0;
-        private int totalAttempts = 0;
-        private long totalTimeSeconds = 0;
-
-        /**
-         * 문제 통계 객체 생성자
-         * 
-         * @param questionId 문제 ID
-         */
-        public QuestionStatistics(Long questionId) {
-            this.questionId = questionId;
-        }
-
-        /**
-         * 문제 시도 데이터로 통계를 업데이트합니다.
-         * 
-         * @param attempt 문제 시도 객체
-         */
-        public void updateStatistics(com.quizplatform.core.domain.question.QuestionAttempt attempt) {
-            totalAttempts++;
-            if (attempt.isCorrect()) {
-                correctAnswers++;
-            }
-            if (attempt.getTimeTaken() != null) {
-                totalTimeSeconds += attempt.getTimeTaken();
-            }
-        }
-
-        /**
-         * 문제 ID를 반환합니다.
-         * 
-         * @return 문제 ID
-         */
-        public Long getQuestionId() {
-            return questionId;
-        }
-
-        /**
-         * 정답 수를 반환합니다.
-         * 
-         * @return 정답 수
-         */
-        public int getCorrectAnswers() {
-            return correctAnswers;
-        }
-
-        /**
-         * 총 시도 수를 반환합니다.
-         * 
-         * @return 총 시도 수
-         */
-        public int getTotalAttempts() {
-            return totalAttempts;
-        }
-
-        /**
-         * 정답률을 계산하여 반환합니다.
-         * 
-         * @return 정답률 (0~100%)
-         */
-        public double getCorrectRate() {
-            return totalAttempts == 0 ? 0 : (double) correctAnswers / totalAttempts * 100;
-        }
-
-        /**
-         * 평균 소요 시간(초)을 계산하여 반환합니다.
-         * 
-         * @return 평균 소요 시간(초)
-         */
-        public int getAverageTimeSeconds() {
-            return totalAttempts == 0 ? 0 : (int) (totalTimeSeconds / totalAttempts);
-        }
-    }
-
-    /**
-     * 퀴즈 시도 목록의 평균 점수를 계산합니다.
-     * 
-     * @param attempts 퀴즈 시도 목록
-     * @return 평균 점수
-     */
-    private double calculateAverageScore(List<QuizAttempt> attempts) {
-        return attempts.stream()
-                .mapToInt(QuizAttempt::getScore)
-                .average()
-                .orElse(0.0);
-    }
-
-    /**
-     * 퀴즈 완료율을 계산합니다.
-     * 
-     * @param attempts 퀴즈 시도 목록
-     * @return 완료율 (0~100%)
-     */
-    private double calculateCompletionRate(List<QuizAttempt> attempts) {
-        long completedAttempts = attempts.stream()
-                .filter(QuizAttempt::isCompleted)
-                .count();
-        return attempts.isEmpty() ? 0 : (double) completedAttempts / attempts.size() * 100;
-    }
-
-    /**
-     * 퀴즈 평균 소요 시간(초)을 계산합니다.
-     * 
-     * @param attempts 퀴즈 시도 목록
-     * @return 평균 소요 시간(초)
-     */
-    private int calculateAverageTime(List<QuizAttempt> attempts) {
-        return (int) attempts.stream()
-                .filter(attempt -> attempt.getTimeTaken() != null)
-                .mapToInt(QuizAttempt::getTimeTaken)
-                .average()
-                .orElse(0.0);
-    }
-
     /**
      * 퀴즈 문제들의 난이도 분포를 계산합니다.
      * 
-     * @param quiz 퀴즈 객체
+     * @param quiz 캐시된 퀴즈 집합
      * @return 난이도별 문제 수 맵
      */
-    private Map<DifficultyLevel, Integer> calculateDifficultyDistribution(Quiz quiz) {
+    private Map<DifficultyLevel, Integer> calculateDifficultyDistribution(QuizAggregate quiz) {
         return quiz.getQuestions().stream()
                 .collect(Collectors.groupingBy(
-                        Question::getDifficultyLevel,
+                        CachedQuestion::getDifficultyLevel,
                         Collectors.collectingAndThen(Collectors.counting(), Long::intValue)
                 ));
     }
 
     /**
      * 문제별 통계 객체 목록을 생성합니다.
+     * 답변 기록이 없는 문제도 0으로 포함하며, 현재 퀴즈에 없는 문제의 집계는 제외합니다.
      * 
-     * @param questionStats 문제별 통계 맵
+     * @param quiz 캐시된 퀴즈 집합
+     * @param stats 퀴즈 통계 집계
      * @return 문제별 통계 객체 목록
      */
-    private List<QuizStatistics.QuestionStatistic> createQuestionStatisticsList(
-            Map<Long, QuestionStatistics> questionStats) {
-        return questionStats.values().stream()
-                .map(stats -> QuizStatistics.QuestionStatistic.builder()
-                        .questionId(stats.getQuestionId())
-                        .correctAnswers(stats.getCorrectAnswers())
-                        .totalAttempts(stats.getTotalAttempts())
-                        .correctRate(stats.getCorrectRate())
-                        .averageTimeSeconds(stats.getAverageTimeSeconds())
-                        .build())
+    private List<QuizStatistics.QuestionStatistic> createQuestionStatisticsList(QuizAggregate quiz, QuizStatsAggregate stats) {
+        return quiz.getQuestions().stream()
+                .map(question -> {
+                    QuestionStatsAggregate questionStats = stats.getQuestions()
+                            .getOrDefault(question.getId(), new QuestionStatsAggregate());
+                    return QuizStatistics.QuestionStatistic.builder()
+                            .questionId(question.getId())
+                            .correctAnswers((int) questionStats.getCorrect())
+                            .totalAttempts((int) questionStats.getAttempts())
+                            .correctRate(questionStats.correctRate())
+                            .averageTimeSeconds((int) questionStats.getTime().mean())
+                            .build();
+                })
                 .collect(Collectors.toList());
     }
 
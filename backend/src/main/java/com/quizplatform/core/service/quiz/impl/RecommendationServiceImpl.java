@@ -9,12 +9,18 @@ import com.quizplatform.core.domain.user.User;
 import com.quizplatform.core.dto.quiz.QuizSummaryResponse;
 import com.quizplatform.core.exception.BusinessException;
 import com.quizplatform.core.exception.ErrorCode;
+import com.quizplatform.core.repository.UserRepository;
 import com.quizplatform.core.repository.quiz.QuizAttemptRepository;
+import com.quizplatform.core.repository.quiz.QuizFacetIndex;
 import com.quizplatform.core.repository.quiz.QuizRepository;
+import com.quizplatform.core.repository.tag.TagHierarchyCache;
 import com.quizplatform.core.repository.tag.TagRepository;
 import com.quizplatform.core.service.common.EntityMapperService;
 import com.quizplatform.core.service.quiz.DailyQuizService;
 import com.quizplatform.core.service.quiz.RecommendationService;
+import com.quizplatform.core.service.quiz.ranking.QuizNeighborModel;
+import com.quizplatform.core.service.quiz.ranking.QuizPopularityRanking;
+import com.quizplatform.core.service.quiz.recommendation.PersonalizedRecommendationCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
@@ -41,7 +47,13 @@ public class RecommendationServiceImpl implements RecommendationService {
 
     private final QuizRepository quizRepository;
     private final QuizAttemptRepository quizAttemptRepository;
+    private final UserRepository userRepository;
     private final TagRepository tagRepository;
+    private final TagHierarchyCache tagHierarchyCache;
+    private final QuizFacetIndex quizFacetIndex;
+    private final QuizPopularityRanking quizPopularityRanking;
+    private final QuizNeighborModel quizNeighborModel;
+    private final PersonalizedRecommendationCache personalizedRecommendationCache;
     private final DailyQuizService dailyQuizService;
     private final EntityMapperService entityMapperService;
 
@@ -55,11 +67,15 @@ public class RecommendationServiceImpl implements RecommendationService {
     private static final double ATTEMPT_WEIGHT = 0.3;
     // 인기도 점수 계산 시 평균 점수 가중치
     private static final double SCORE_WEIGHT = 0.3;
+    // 태그 기반 추천 시 인기도 정렬 대상으로 조회할 후보 수 (추천 개수 대비 배수)
+    private static final int TAG_CANDIDATE_MULTIPLIER = 5;
 
     /**
      * 사용자의 최근 퀴즈 시도 기록을 분석하여 맞춤형 퀴즈를 추천합니다.
-     * 사용자가 선호하는 태그와 적정 난이도를 파악하여, 시도하지 않은 퀴즈 중 관련성이 높은 퀴즈를 추천합니다.
+     * 먼저 시도한 퀴즈와 함께 많이 시도된 퀴즈(이웃 모델)를 추천하고, 부족한 만큼
+     * 사용자가 선호하는 태그와 적정 난이도를 파악하여 시도하지 않은 퀴즈 중 관련성이 높은 퀴즈로 채웁니다.
      * 사용자 데이터가 부족할 경우 인기 퀴즈를 대신 추천합니다.
+     * 결과는 사용자별 캐시에서 먼저 조회하고, 없으면 계산하여 저장합니다.
      *
      * @param user  추천을 받을 사용자
      * @param limit 추천할 퀴즈의 최대 개수
@@ -67,6 +83,39 @@ public class RecommendationServiceImpl implements RecommendationService {
      */
     @Override
     public List<QuizSummaryResponse> getPersonalizedRecommendations(User user, int limit) {
+        // 1. 사용자별 추천 캐시 조회 (퀴즈 완료 후 미리 계산된 결과)
+        Optional<List<QuizSummaryResponse>> cached = personalizedRecommendationCache.get(user.getId(), limit);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        // 2. 캐시에 없으면 미리 계산하는 개수만큼 계산하여 저장 후 요청 개수만 반환
+        int size = Math.max(limit, personalizedRecommendationCache.getPrecomputeSize());
+        long computedAt = System.currentTimeMillis();
+        List<QuizSummaryResponse> recommendations = computePersonalizedRecommendations(user, size);
+        personalizedRecommendationCache.put(user.getId(), computedAt, recommendations);
+        return recommendations.subList(0, Math.min(limit, recommendations.size()));
+    }
+
+    @Override
+    public void refreshPersonalizedRecommendations(Long userId) {
+        userRepository.findById(userId).ifPresent(user -> {
+            long computedAt = System.currentTimeMillis();
+            List<QuizSummaryResponse> recommendations =
+                    computePersonalizedRecommendations(user, personalizedRecommendationCache.getPrecomputeSize());
+            personalizedRecommendationCache.put(userId, computedAt, recommendations);
+            log.debug("맞춤형 추천 사전 계산 완료 - userId: {}, 추천 수: {}", userId, recommendations.size());
+        });
+    }
+
+    /**
+     * 사용자의 최근 시도 기록을 분석하여 맞춤형 추천 결과를 계산합니다. (캐시 미사용, 내부 헬퍼 메서드)
+     *
+     * @param user  추천을 받을 사용자
+     * @param limit 추천할 퀴즈의 최대 개수
+     * @return 추천된 퀴즈 요약 정보 DTO 리스트
+     */
+    private List<QuizSummaryResponse> computePersonalizedRecommendations(User user, int limit) {
         log.debug("사용자 맞춤형 퀴즈 추천 시작 - userId: {}, limit: {}", user.getId(), limit);
 
         // 1. 사용자의 최근 퀴즈 시도 기록 조회 (최근 USER_HISTORY_DAYS일 간)
@@ -80,34 +129,45 @@ public class RecommendationServiceImpl implements RecommendationService {
             return getPopularQuizzes(limit);
         }
 
-        // 3. 사용자 성과 분석 (태그별 평균 점수, 시도 횟수)
-        Map<Tag, UserPerformance> tagPerformance = analyzeUserPerformance(recentAttempts);
-        // 4. 사용자 평균 점수 기반 추천 난이도 계산
-        DifficultyLevel recommendedDifficulty = calculateRecommendedDifficulty(recentAttempts);
-
-        log.debug("사용자 분석 결과 - 추천 난이도: {}, 분석된 태그 수: {}",
-                recommendedDifficulty, tagPerformance.size());
-
-        // 5. 사용자가 이미 시도한 퀴즈 ID 목록 생성
+        // 3. 사용자가 이미 시도한 퀴즈 ID 목록 생성
         Set<Long> attemptedQuizIds = recentAttempts.stream()
                 .map(attempt -> attempt.getQuiz().getId())
                 .collect(Collectors.toSet());
 
-        // 6. 분석 결과(태그 성과, 추천 난이도)를 바탕으로 추천 퀴즈 후보 생성 (점수 포함)
-        List<QuizWithScore> candidates = createPersonalizedCandidates(
-                tagPerformance, recommendedDifficulty, attemptedQuizIds);
+        // 4. 협업 필터링: 시도한 퀴즈들의 이웃(함께 시도된 퀴즈) 목록을 메모리에서 병합하여 추천 (공개 일반 퀴즈만)
+        Optional<QuizFacetIndex.Match> recommendable = quizFacetIndex.match(QuizFacetIndex.Filter.builder()
+                .quizType(QuizType.REGULAR)
+                .publicOnly(true)
+                .build());
+        List<Long> neighborQuizIds = quizNeighborModel.recommend(attemptedQuizIds, limit,
+                quizId -> recommendable.map(match -> match.contains(quizId)).orElse(true));
+        List<QuizSummaryResponse> recommendations = new ArrayList<>(quizRepository.findQuizSummaryByIds(neighborQuizIds));
+        if (recommendations.size() >= limit) {
+            log.debug("최종 맞춤 추천 퀴즈 수 (이웃 기반): {}", recommendations.size());
+            return recommendations;
+        }
 
-        // 7. 후보 퀴즈 중 최종 추천 퀴즈 선택 (중복 제거 및 점수 순 정렬)
-        List<Quiz> recommendedQuizzes = selectFinalRecommendations(candidates, limit);
+        // 5. 이웃 목록으로 부족한 만큼 태그 성과/난이도 기반 추천으로 채움 (시도 이력이 적은 신규 퀴즈 등)
+        Map<Tag, UserPerformance> tagPerformance = analyzeUserPerformance(recentAttempts);
+        DifficultyLevel recommendedDifficulty = calculateRecommendedDifficulty(recentAttempts);
+
+        log.debug("사용자 분석 결과 - 추천 난이도: {}, 분석된 태그 수: {}, 이웃 기반 추천 수: {}",
+                recommendedDifficulty, tagPerformance.size(), recommendations.size());
 
-        log.debug("최종 맞춤 추천 퀴즈 수: {}", recommendedQuizzes.size());
+        Set<Long> excludedQuizIds = new HashSet<>(attemptedQuizIds);
+        excludedQuizIds.addAll(neighborQuizIds);
+        List<QuizWithScore> candidates = createPersonalizedCandidates(
+                tagPerformance, recommendedDifficulty, excludedQuizIds);
+        List<Quiz> ruleBasedQuizzes = selectFinalRecommendations(candidates, limit - recommendations.size());
+        recommendations.addAll(entityMapperService.mapToQuizSummaryResponseList(ruleBasedQuizzes));
 
-        // 8. 결과를 DTO로 변환하여 반환
-        return entityMapperService.mapToQuizSummaryResponseList(recommendedQuizzes);
+        log.debug("최종 맞춤 추천 퀴즈 수: {}", recommendations.size());
+        return recommendations;
     }
 
     /**
      * 조회수, 시도 횟수, 평균 점수 등을 종합적으로 고려하여 인기 있는 퀴즈를 추천합니다.
+     * 주기적으로 계산된 인기 순위(최근 시도에 시간 감쇠 적용)의 상위 퀴즈를 순위 순으로 한 번에 조회합니다.
      *
      * @param limit 추천할 퀴즈의 최대 개수
      * @return 인기 퀴즈 요약 정보 DTO 리스트
@@ -117,24 +177,17 @@ public class RecommendationServiceImpl implements RecommendationService {
     public List<QuizSummaryResponse> getPopularQuizzes(int limit) {
         log.debug("인기 퀴즈 추천 시작 - limit: {}", limit);
 
-        // 1. 일반(REGULAR) 타입의 공개된(isPublic=true) 퀴즈 목록 조회
-        List<Quiz> popularQuizzes = quizRepository.findByQuizTypeAndIsPublicTrue(QuizType.REGULAR)
-                .stream()
-                .filter(quiz -> quiz.getQuestionCount() >= 3) // 최소 3문제 이상인 퀴즈만 필터링
-                .sorted((q1, q2) -> {
-                    // 각 퀴즈의 인기도 점수 계산
-                    double score1 = calculatePopularityScore(q1);
-                    double score2 = calculatePopularityScore(q2);
-                    // 점수가 높은 순서(내림차순)로 정렬
-                    return Double.compare(score2, score1);
-                })
-                .limit(limit) // 요청된 개수만큼 제한
-                .collect(Collectors.toList());
+        // 1. 메모리의 인기 순위에서 상위 퀴즈 ID 조회 (공개 일반 퀴즈, 최소 3문제 이상)
+        List<Long> popularQuizIds = quizPopularityRanking.getTopQuizIds(limit);
+        if (popularQuizIds.isEmpty()) {
+            return List.of();
+        }
 
-        log.debug("인기 퀴즈 선택 완료 - 선택된 퀴즈 수: {}", popularQuizzes.size());
+        // 2. 순위 순서를 유지하여 요약 정보를 한 번의 쿼리로 조회
+        List<QuizSummaryResponse> popularQuizzes = quizRepository.findQuizSummaryByIds(popularQuizIds);
 
-        // 2. 결과를 DTO로 변환하여 반환
-        return entityMapperService.mapToQuizSummaryResponseList(popularQuizzes);
+        log.debug("인기 퀴즈 선택 완료 - 선택된 퀴즈 수: {}", popularQuizzes.size());
+        return popularQuizzes;
     }
 
     /**
@@ -150,30 +203,20 @@ public class RecommendationServiceImpl implements RecommendationService {
     public List<QuizSummaryResponse> getCategoryRecommendations(Long tagId, int limit) {
         log.debug("카테고리 기반 퀴즈 추천 시작 - tagId: {}, limit: {}", tagId, limit);
 
-        // 1. 요청된 tagId로 태그 조회 (없으면 예외 발생)
-        Tag tag = tagRepository.findById(tagId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.TAG_NOT_FOUND, "태그를 찾을 수 없습니다: " + tagId));
+        // 1. 요청된 tagId의 태그 존재 확인 (없으면 예외 발생)
+        if (!tagRepository.existsById(tagId)) {
+            throw new BusinessException(ErrorCode.TAG_NOT_FOUND, "태그를 찾을 수 없습니다: " + tagId);
+        }
 
-        // 2. 해당 태그와 모든 하위 태그 목록 조회
-        List<Tag> relatedTags = tagRepository.findTagAndAllDescendants(tagId);
-        log.debug("태그 ID {} 및 관련 하위 태그 총 {}개 조회됨", tagId, relatedTags.size());
+        // 2. 태그 계층 캐시에서 해당 태그와 모든 하위 태그 ID 조회 (깊이 제한 없음, DB 조회 없음)
+        List<Long> relatedTagIds = tagHierarchyCache.getSelfAndDescendantIds(tagId);
+        log.debug("태그 ID {} 및 관련 하위 태그 총 {}개 조회됨", tagId, relatedTagIds.size());
 
-        // 3. 관련 태그들에 속하는 퀴즈들을 수집
-        List<Quiz> quizzes = new ArrayList<>();
-        for (Tag relatedTag : relatedTags) {
-            // 각 태그별로 연관된 퀴즈 목록 조회 (PageRequest로 과도한 조회 방지)
-            List<Quiz> tagQuizzes = quizRepository.findByTags(relatedTag, PageRequest.of(0, limit))
-                    .getContent() // Page 객체에서 Quiz 목록 추출
-                    .stream()
-                    // 일반 타입이고 공개된 퀴즈만 필터링
-                    .filter(quiz -> quiz.getQuizType() == QuizType.REGULAR && quiz.isPublic())
-                    .collect(Collectors.toList());
-            quizzes.addAll(tagQuizzes);
-        }
+        // 3. 관련 태그 중 하나라도 가진 일반/공개 퀴즈 후보를 한 번의 쿼리로 조회 (중복 없음)
+        List<Quiz> quizzes = findTagCandidates(relatedTagIds, limit * TAG_CANDIDATE_MULTIPLIER);
 
-        // 4. 수집된 퀴즈 목록에서 중복 제거 후 인기도 순으로 정렬하여 최종 추천 목록 생성
+        // 4. 후보를 인기도 순으로 정렬하여 최종 추천 목록 생성
         List<Quiz> sortedQuizzes = quizzes.stream()
-                .distinct() // 중복된 퀴즈 제거
                 .sorted((q1, q2) -> {
                     // 인기도 점수 계산 및 내림차순 정렬
                     double score1 = calculatePopularityScore(q1);
@@ -212,25 +255,13 @@ public class RecommendationServiceImpl implements RecommendationService {
                     "유효하지 않은 난이도입니다: " + difficultyStr);
         }
 
-        // 2. 해당 난이도의 일반, 공개 퀴즈 조회
-        List<Quiz> quizzes = quizRepository.findAll().stream()
-                .filter(quiz -> quiz.getQuizType() == QuizType.REGULAR 
-                        && quiz.isPublic() 
-                        && quiz.getDifficultyLevel() == difficulty)
-                .collect(Collectors.toList());
-        
-        // 랜덤하게 섞기 (데이터베이스에서 ORDER BY random() 대신 Java에서 섞기)
-        Collections.shuffle(quizzes);
-        
-        // 결과 제한
-        List<Quiz> difficultyQuizzes = quizzes.stream()
-                .limit(limit)
-                .collect(Collectors.toList());
+        // 2. 해당 난이도의 일반, 공개 퀴즈 중 limit개를 무작위로 선택하여 요약 정보만 조회
+        //    (전체 퀴즈를 읽어 섞지 않고, 역색인 또는 ID 목록에서 표본을 뽑은 뒤 ID로 조회)
+        List<QuizSummaryResponse> difficultyQuizzes =
+                quizRepository.findRandomQuizSummaries(QuizType.REGULAR, difficulty, limit);
 
         log.debug("난이도 기반 퀴즈 선택 완료 - 선택된 퀴즈 수: {}", difficultyQuizzes.size());
-
-        // 3. 결과를 DTO로 변환하여 반환
-        return entityMapperService.mapToQuizSummaryResponseList(difficultyQuizzes);
+        return difficultyQuizzes;
     }
 
     /**
@@ -256,24 +287,13 @@ public class RecommendationServiceImpl implements RecommendationService {
             log.debug("데일리 퀴즈 분석 완료 - 태그 수: {}, 난이도: {}",
                     dailyTags.size(), dailyDifficulty);
 
-            // 3. 데일리 퀴즈와 동일한 태그를 가진 퀴즈들 수집
-            List<Quiz> relatedQuizzes = new ArrayList<>();
-            for (Tag tag : dailyTags) {
-                // 각 태그별 관련 퀴즈 조회
-                List<Quiz> tagQuizzes = quizRepository.findByTags(tag, PageRequest.of(0, limit))
-                        .getContent()
-                        .stream()
-                        // 일반 타입, 공개 상태, 그리고 데일리 퀴즈 자신이 아닌 것만 필터링
-                        .filter(quiz -> quiz.getQuizType() == QuizType.REGULAR
-                                && quiz.isPublic()
-                                && !quiz.getId().equals(dailyQuiz.getId()))
-                        .collect(Collectors.toList());
-                relatedQuizzes.addAll(tagQuizzes);
-            }
+            // 3. 데일리 퀴즈와 동일한 태그를 가진 일반/공개 퀴즈 후보를 한 번의 쿼리로 조회
+            List<Long> dailyTagIds = dailyTags.stream().map(Tag::getId).collect(Collectors.toList());
+            List<Quiz> relatedQuizzes = findTagCandidates(dailyTagIds, limit * TAG_CANDIDATE_MULTIPLIER);
 
-            // 4. 수집된 퀴즈 목록 중복 제거 후 정렬 (난이도 근접성 > 인기도 순)
+            // 4. 데일리 퀴즈 자신을 제외하고 정렬 (난이도 근접성 > 인기도 순)
             List<Quiz> sortedQuizzes = relatedQuizzes.stream()
-                    .distinct() // 중복 제거
+                    .filter(quiz -> !quiz.getId().equals(dailyQuiz.getId()))
                     .sorted((q1, q2) -> {
                         // 데일리 퀴즈와의 난이도 차이 계산 (절대값)
                         int diffDiff1 = Math.abs(q1.getDifficultyLevel().ordinal() - dailyDifficulty.ordinal());
@@ -307,6 +327,35 @@ public class RecommendationServiceImpl implements RecommendationService {
 
     // ===== 내부 헬퍼 메서드 =====
 
+    /**
+     * 태그 중 하나라도 가진 일반/공개 퀴즈를 시도 횟수 순으로 후보 수만큼 조회합니다. (내부 헬퍼 메서드)
+     * 역색인으로 일치하는 퀴즈 ID를 먼저 계산하여, 없으면 DB 조회를 생략하고
+     * 기준 이하이면 ID 목록으로 조회합니다. 역색인이 준비되지 않았거나 결과가 많으면 태그 조인 쿼리를 사용합니다.
+     *
+     * @param tagIds        태그 ID 목록 (하위 태그 확장은 호출 측에서 수행)
+     * @param candidateSize 조회할 후보 수
+     * @return 후보 퀴즈 목록
+     */
+    private List<Quiz> findTagCandidates(Collection<Long> tagIds, int candidateSize) {
+        if (tagIds.isEmpty()) {
+            return List.of();
+        }
+        Optional<QuizFacetIndex.Match> match = quizFacetIndex.match(QuizFacetIndex.Filter.builder()
+                .tagGroup(tagIds)
+                .quizType(QuizType.REGULAR)
+                .publicOnly(true)
+                .build());
+        if (match.isPresent()) {
+            if (match.get().count() == 0) {
+                return List.of();
+            }
+            if (match.get().count() <= quizFacetIndex.getMaxIdListSize()) {
+                return quizRepository.findByIdsOrderByAttemptCount(match.get().ids(), PageRequest.of(0, candidateSize));
+            }
+        }
+        return quizRepository.findPublicByTagIds(tagIds, QuizType.REGULAR, PageRequest.of(0, candidateSize));
+    }
+
     /**
      * 사용자의 최근 퀴즈 시도 목록을 분석하여 태그별 평균 점수와 시도 횟수를 계산합니다. (내부 헬퍼 메서드)
      *
@@ -0,0 +1,269 @@
+package com.quizplatform.core.service.quiz.ranking;
+
+import com.quizplatform.core.config.SchedulingConfig;
+import com.quizplatform.core.repository.quiz.QuizNeighborJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * 퀴즈 이웃 모델 (아이템 기반 협업 필터링)
+ *
+ * 주요 기능:
+ * - 최근 기간의 퀴즈 시도 기록을 한 번 스트리밍하여 퀴즈 쌍별로 함께 시도한 사용자 수를 집계
+ * - 코사인 유사도(함께 시도한 사용자 수 / √(각 퀴즈 시도 사용자 수의 곱)) 상위 N개를 퀴즈별 이웃 목록으로 보관
+ * - 이웃 목록은 quiz_neighbors 테이블에도 저장하여 재기동 시 다시 계산하지 않고 적재
+ * - 추천 시에는 사용자가 시도한 퀴즈들의 이웃 목록을 메모리에서 유사도 합으로 병합 (DB 조회 없음)
+ *
+ * <p>모델은 불변 맵 참조 하나로 교체되므로 추천 조회는 잠금 없이 읽습니다.
+ * 여러 서버가 같은 기간으로 계산하면 결과가 같아 테이블 교체는 멱등입니다.</p>
+ *
+ * @author 채기훈
+ */
+@Component
+@Slf4j
+public class QuizNeighborModel {
+
+    private final QuizNeighborJdbcRepository neighborRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final TaskScheduler batchTaskScheduler;
+    private final int windowDays;
+    private final int maxNeighbors;
+    private final int maxQuizzesPerUser;
+    private final int minCoAttempts;
+
+    /**
+     * 퀴즈 ID별 이웃 목록 (적재 전에는 빈 맵)
+     */
+    private volatile Map<Long, Neighbors> neighbors = Map.of();
+
+    @Autowired
+    public QuizNeighborModel(QuizNeighborJdbcRepository neighborRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Qualifier(SchedulingConfig.BATCH_TASK_SCHEDULER) TaskScheduler batchTaskScheduler,
+                             @Value("${quiz.neighbors.window-days:90}") int windowDays,
+                             @Value("${quiz.neighbors.max-neighbors:20}") int maxNeighbors,
+                             @Value("${quiz.neighbors.max-quizzes-per-user:100}") int maxQuizzesPerUser,
+                             @Value("${quiz.neighbors.min-co-attempts:2}") int minCoAttempts) {
+        this.neighborRepository = neighborRepository;
+        this.batchTaskScheduler = batchTaskScheduler;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        // 스트리밍 조회(fetch size)는 트랜잭션 안에서만 적용되므로 항상 새 트랜잭션에서 읽음
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.windowDays = windowDays;
+        this.maxNeighbors = maxNeighbors;
+        this.maxQuizzesPerUser = maxQuizzesPerUser;
+        this.minCoAttempts = minCoAttempts;
+    }
+
+    /**
+     * 기동 시 저장된 이웃 목록 적재를 배치 스케줄러에서 시작합니다. (기동 스레드를 막지 않음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        batchTaskScheduler.schedule(this::loadOrRebuild, Instant.now());
+    }
+
+    /**
+     * 저장된 이웃 목록을 적재합니다. 저장된 목록이 없거나 적재에 실패하면 바로 계산합니다.
+     */
+    private void loadOrRebuild() {
+        Map<Long, Neighbors> loaded;
+        try {
+            loaded = readOnlyTransaction.execute(status -> loadStored());
+        } catch (RuntimeException e) {
+            log.error("퀴즈 이웃 모델 적재 실패, 시도 기록에서 다시 계산: {}", e.getMessage(), e);
+            loaded = null;
+        }
+        if (loaded == null || loaded.isEmpty()) {
+            rebuild();
+            return;
+        }
+        neighbors = loaded;
+        log.info("퀴즈 이웃 모델 적재: quizzes={}", loaded.size());
+    }
+
+    /**
+     * 시도 기록에서 이웃 목록을 다시 계산하여 교체하고 테이블에 저장합니다.
+     */
+    @Scheduled(fixedDelayString = "${quiz.neighbors.rebuild-interval-ms:3600000}",
+            initialDelayString = "${quiz.neighbors.rebuild-interval-ms:3600000}",
+            scheduler = SchedulingConfig.BATCH_TASK_SCHEDULER)
+    public void rebuild() {
+        try {
+            long started = System.currentTimeMillis();
+            CoAttemptCounter counter = new CoAttemptCounter(maxQuizzesPerUser);
+            readOnlyTransaction.executeWithoutResult(status -> neighborRepository.streamUserQuizPairs(windowDays,
+                    rs -> counter.accept(rs.getLong("user_id"), rs.getLong("quiz_id"))));
+            counter.flush();
+
+            Map<Long, Neighbors> built = counter.toNeighbors(maxNeighbors, minCoAttempts);
+            neighbors = built;
+
+            List<Object[]> rows = new ArrayList<>();
+            built.forEach((quizId, list) -> {
+                for (int i = 0; i < list.ids().length; i++) {
+                    rows.add(new Object[]{quizId, list.ids()[i], (double) list.similarities()[i]});
+                }
+            });
+            writeTransaction.executeWithoutResult(status -> neighborRepository.replaceAll(rows));
+            log.info("퀴즈 이웃 모델 계산: quizzes={}, neighbors={}, elapsedMs={}",
+                    built.size(), rows.size(), System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            log.error("퀴즈 이웃 모델 계산 실패 (다음 주기 재시도): {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 시도한 퀴즈들의 이웃 목록을 병합하여 추천 퀴즈 ID를 반환합니다.
+     * 여러 퀴즈의 이웃으로 등장한 퀴즈는 유사도를 더하므로 앞 순위가 됩니다.
+     *
+     * @param seedQuizIds 사용자가 시도한 퀴즈 ID (결과에서 제외)
+     * @param limit 최대 개수
+     * @param allowed 추천 가능 여부 (비공개 전환 등 계산 이후 변경 반영용)
+     * @return 점수 순 추천 퀴즈 ID 목록
+     */
+    public List<Long> recommend(Set<Long> seedQuizIds, int limit, Predicate<Long> allowed) {
+        Map<Long, Neighbors> model = neighbors;
+        Map<Long, Double> scores = new HashMap<>();
+        for (Long seedId : seedQuizIds) {
+            Neighbors list = model.get(seedId);
+            if (list == null) {
+                continue;
+            }
+            for (int i = 0; i < list.ids().length; i++) {
+                Long candidateId = list.ids()[i];
+                if (!seedQuizIds.contains(candidateId)) {
+                    scores.merge(candidateId, (double) list.similarities()[i], Double::sum);
+                }
+            }
+        }
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+                .map(Map.Entry::getKey)
+                .filter(allowed)
+                .limit(Math.max(limit, 0))
+                .toList();
+    }
+
+    private Map<Long, Neighbors> loadStored() {
+        Map<Long, Neighbors> loaded = new HashMap<>();
+        List<Long> ids = new ArrayList<>();
+        List<Double> similarities = new ArrayList<>();
+        long[] current = {-1};
+        neighborRepository.streamAll(rs -> {
+            long quizId = rs.getLong("quiz_id");
+            if (quizId != current[0]) {
+                putNeighbors(loaded, current[0], ids, similarities);
+                current[0] = quizId;
+            }
+            ids.add(rs.getLong("neighbor_id"));
+            similarities.add(rs.getDouble("similarity"));
+        });
+        putNeighbors(loaded, current[0], ids, similarities);
+        return Collections.unmodifiableMap(loaded);
+    }
+
+    private static void putNeighbors(Map<Long, Neighbors> target, long quizId, List<Long> ids, List<Double> similarities) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        long[] idArray = new long[ids.size()];
+        float[] similarityArray = new float[ids.size()];
+        for (int i = 0; i < idArray.length; i++) {
+            idArray[i] = ids.get(i);
+            similarityArray[i] = similarities.get(i).floatValue();
+        }
+        target.put(quizId, new Neighbors(idArray, similarityArray));
+        ids.clear();
+        similarities.clear();
+    }
+
+    /**
+     * 퀴즈 하나의 이웃 목록 (유사도 내림차순)
+     */
+    private record Neighbors(long[] ids, float[] similarities) {
+    }
+
+    /**
+     * 사용자 순으로 들어오는 (사용자, 퀴즈) 쌍에서 퀴즈별 사용자 수와 퀴즈 쌍별 공동 사용자 수를 집계합니다.
+     * 한 사용자의 퀴즈 수를 제한하여 쌍의 수가 사용자당 제곱으로 늘어나지 않게 합니다.
+     */
+    private static final class CoAttemptCounter {
+        private final int maxQuizzesPerUser;
+        private final Map<Long, Integer> userCounts = new HashMap<>();
+        private final Map<Long, Map<Long, Integer>> coCounts = new HashMap<>();
+        private final List<Long> userQuizzes = new ArrayList<>();
+        private long currentUserId = Long.MIN_VALUE;
+
+        private CoAttemptCounter(int maxQuizzesPerUser) {
+            this.maxQuizzesPerUser = maxQuizzesPerUser;
+        }
+
+        private void accept(long userId, long quizId) {
+            if (userId != currentUserId) {
+                flush();
+                currentUserId = userId;
+            }
+            if (userQuizzes.size() < maxQuizzesPerUser) {
+                userQuizzes.add(quizId);
+            }
+        }
+
+        /**
+         * 현재 사용자의 퀴즈 목록을 집계에 더합니다.
+         */
+        private void flush() {
+            for (int i = 0; i < userQuizzes.size(); i++) {
+                Long first = userQuizzes.get(i);
+                userCounts.merge(first, 1, Integer::sum);
+                for (int j = i + 1; j < userQuizzes.size(); j++) {
+                    Long second = userQuizzes.get(j);
+                    coCounts.computeIfAbsent(first, key -> new HashMap<>()).merge(second, 1, Integer::sum);
+                    coCounts.computeIfAbsent(second, key -> new HashMap<>()).merge(first, 1, Integer::sum);
+                }
+            }
+            userQuizzes.clear();
+        }
+
+        private Map<Long, Neighbors> toNeighbors(int maxNeighbors, int minCoAttempts) {
+            Map<Long, Neighbors> result = new HashMap<>();
+            coCounts.forEach((quizId, counts) -> {
+                double quizUsers = userCounts.get(quizId);
+                List<Long> ids = new ArrayList<>();
+                List<Double> similarities = new ArrayList<>();
+                counts.entrySet().stream()
+                        .filter(entry -> entry.getValue() >= minCoAttempts)
+                        .map(entry -> Map.entry(entry.getKey(),
+                                entry.getValue() / Math.sqrt(quizUsers * userCounts.get(entry.getKey()))))
+                        .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                                .thenComparing(Map.Entry.comparingByKey()))
+                        .limit(maxNeighbors)
+                        .forEach(entry -> {
+                            ids.add(entry.getKey());
+                            similarities.add(entry.getValue());
+                        });
+                putNeighbors(result, quizId, ids, similarities);
+            });
+            return Collections.unmodifiableMap(result);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.quizplatform.core.service.quiz.ranking;
+
+import com.quizplatform.core.config.SchedulingConfig;
+import com.quizplatform.core.repository.quiz.QuizPopularityJdbcRepository;
+import com.quizplatform.core.service.event.QuizUpdatedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 퀴즈 인기 순위 컴포넌트
+ *
+ * 주요 기능:
+ * - 주기적으로 전체 일반 퀴즈의 인기도 점수(시간 감쇠 적용)를 DB 컬럼에 다시 계산
+ * - 계산 후 상위 K개 퀴즈 ID를 인덱스로 읽어 메모리에 보관하고, 조회는 이 목록의 앞부분만 반환
+ * - 퀴즈 수정 커밋 후에는 점수 계산 없이 상위 목록만 다시 읽어 비공개 전환 등을 바로 반영
+ *
+ * <p>상위 목록은 불변 리스트 참조 하나로 교체되므로 조회는 잠금 없이 O(K)로 끝납니다.
+ * 여러 서버가 같은 계산을 실행해도 결과는 같으며, 값이 바뀐 행만 기록합니다.</p>
+ *
+ * @author 채기훈
+ */
+@Component
+@Slf4j
+public class QuizPopularityRanking {
+
+    /**
+     * 인기 순위에 포함할 최소 문제 수
+     */
+    private static final int MIN_QUESTIONS = 3;
+
+    private final QuizPopularityJdbcRepository popularityRepository;
+    private final int topK;
+    private final double halfLifeHours;
+    private final int windowDays;
+    private final double trendWeight;
+    private final double trendSaturation;
+
+    /**
+     * 인기도 순 상위 퀴즈 ID (null이면 아직 적재 전)
+     */
+    private volatile List<Long> topIds;
+
+    @Autowired
+    public QuizPopularityRanking(QuizPopularityJdbcRepository popularityRepository,
+                                 @Value("${quiz.popularity.top-k:500}") int topK,
+                                 @Value("${quiz.popularity.half-life-hours:72}") double halfLifeHours,
+                                 @Value("${quiz.popularity.window-days:30}") int windowDays,
+                                 @Value("${quiz.popularity.trend-weight:0.5}") double trendWeight,
+                                 @Value("${quiz.popularity.trend-saturation:20}") double trendSaturation) {
+        this.popularityRepository = popularityRepository;
+        this.topK = topK;
+        this.halfLifeHours = halfLifeHours;
+        this.windowDays = windowDays;
+        this.trendWeight = trendWeight;
+        this.trendSaturation = trendSaturation;
+    }
+
+    /**
+     * 인기도 순 상위 퀴즈 ID를 반환합니다. (최대 K개)
+     *
+     * @param limit 최대 개수
+     * @return 순위 순 퀴즈 ID 목록
+     */
+    public List<Long> getTopQuizIds(int limit) {
+        List<Long> ranking = topIds;
+        if (ranking == null) {
+            ranking = reloadTop();
+        }
+        return ranking.subList(0, Math.min(Math.max(limit, 0), ranking.size()));
+    }
+
+    /**
+     * 인기도 점수를 다시 계산하고 상위 목록을 교체합니다. (기동 직후 첫 실행)
+     */
+    @Scheduled(fixedDelayString = "${quiz.popularity.refresh-interval-ms:300000}", scheduler = SchedulingConfig.BATCH_TASK_SCHEDULER)
+    public void refresh() {
+        try {
+            long started = System.currentTimeMillis();
+            int updated = popularityRepository.recomputeScores(halfLifeHours, windowDays, trendWeight, trendSaturation);
+            List<Long> ranking = reloadTop();
+            log.info("퀴즈 인기 순위 갱신: updatedScores={}, top={}, elapsedMs={}",
+                    updated, ranking.size(), System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            log.error("퀴즈 인기 순위 갱신 실패 (다음 주기 재시도): {}", e.getMessage(), e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onQuizUpdated(QuizUpdatedEvent event) {
+        List<Long> ranking = topIds;
+        if (ranking != null && ranking.contains(event.getQuizId())) {
+            try {
+                reloadTop();
+            } catch (RuntimeException e) {
+                topIds = null;
+                log.warn("퀴즈 인기 순위 재적재 실패, 다음 조회에서 재시도: {}", e.getMessage());
+            }
+        }
+    }
+
+    private List<Long> reloadTop() {
+        List<Long> ranking = List.copyOf(popularityRepository.findTopIds(MIN_QUESTIONS, topK));
+        topIds = ranking;
+        return ranking;
+    }
+}
@@ -0,0 +1,227 @@
+package com.quizplatform.core.service.quiz.recommendation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.quizplatform.core.dto.quiz.QuizSummaryResponse;
+import com.quizplatform.core.service.event.QuizUpdatedEvent;
+import com.quizplatform.core.service.event.TagChangedEvent;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 맞춤 추천 결과 캐시
+ *
+ * 주요 기능:
+ * - 사용자별 추천 결과(상위 N개)를 크기 제한이 있는 로컬 캐시(Caffeine)에 보관
+ * - 다중 서버(redis 모드)에서는 로컬 캐시 뒤에 Redis 공유 계층을 두어 다른 서버가 계산한 결과도 사용
+ * - 사용자의 퀴즈 완료, 퀴즈 수정, 태그 변경 커밋 후 변경 시각을 기록하여 그 이전에 계산된 결과는 사용하지 않음
+ *
+ * <p>결과마다 계산 시작 시각을 함께 저장하고, 조회 시 사용자/카탈로그 변경 시각보다 나중에 계산된 결과만 사용합니다.
+ * 따라서 변경 직전에 시작된 계산이 늦게 저장되더라도 오래된 결과가 제공되지 않습니다.
+ * redis 모드에서 다른 서버가 기록한 변경은 로컬 계층에 최대 local-ttl-seconds 동안 늦게 반영됩니다.
+ * (서버 간 시각은 NTP 등으로 맞춰져 있다고 가정)</p>
+ *
+ * @author 채기훈
+ */
+@Component
+@Slf4j
+public class PersonalizedRecommendationCache {
+
+    private static final String ENTRY_KEY_PREFIX = "quiz:recommendation:user:";
+    private static final String USER_CHANGED_KEY_PREFIX = "quiz:recommendation:user-changed:";
+    private static final String CATALOG_CHANGED_KEY = "quiz:recommendation:catalog-changed";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean redisMode;
+    private final long ttlSeconds;
+
+    /**
+     * 사용자별로 미리 계산해 두는 추천 개수 (이보다 많은 요청은 캐시를 사용하지 않음)
+     */
+    @Getter
+    private final int precomputeSize;
+
+    /**
+     * 로컬 계층 (Key: 사용자 ID)
+     */
+    private final Cache<Long, CachedRecommendations> local;
+
+    /**
+     * 이 서버가 기록한 사용자별 마지막 변경 시각 (Key: 사용자 ID)
+     */
+    private final Cache<Long, Long> userChangedAt;
+
+    /**
+     * 이 서버가 기록한 마지막 카탈로그(퀴즈, 태그) 변경 시각
+     */
+    private final AtomicLong catalogChangedAt = new AtomicLong();
+
+    @Autowired
+    public PersonalizedRecommendationCache(RedisTemplate<String, String> redisTemplate,
+                                           ObjectMapper objectMapper,
+                                           @Value("${quiz.recommendation-cache.mode:local}") String mode,
+                                           @Value("${quiz.recommendation-cache.precompute-size:20}") int precomputeSize,
+                                           @Value("${quiz.recommendation-cache.ttl-seconds:1800}") long ttlSeconds,
+                                           @Value("${quiz.recommendation-cache.local-ttl-seconds:30}") long localTtlSeconds,
+                                           @Value("${quiz.recommendation-cache.local-max-size:10000}") long localMaxSize) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisMode = "redis".equalsIgnoreCase(mode);
+        this.precomputeSize = precomputeSize;
+        this.ttlSeconds = ttlSeconds;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                // redis 모드에서는 다른 서버의 변경을 알 수 없으므로 로컬 보관 시간을 짧게 둠
+                .expireAfterWrite(redisMode ? localTtlSeconds : ttlSeconds, TimeUnit.SECONDS)
+                .build();
+        // 변경 시각은 결과 보관 시간이 지나면 비교할 결과가 남지 않으므로 함께 만료
+        this.userChangedAt = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * 사용자의 추천 결과를 조회합니다. (로컬 계층 → Redis 계층 순)
+     *
+     * @param userId 사용자 ID
+     * @param limit 추천 개수
+     * @return 추천 결과 (없거나 변경 이전에 계산된 결과이면 empty)
+     */
+    public Optional<List<QuizSummaryResponse>> get(Long userId, int limit) {
+        if (limit > precomputeSize) {
+            return Optional.empty();
+        }
+        CachedRecommendations cached = local.getIfPresent(userId);
+        if (cached != null && isFresh(userId, cached.computedAt(), 0L)) {
+            return Optional.of(cached.first(limit));
+        }
+        if (!redisMode) {
+            return Optional.empty();
+        }
+
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(
+                    List.of(ENTRY_KEY_PREFIX + userId, USER_CHANGED_KEY_PREFIX + userId, CATALOG_CHANGED_KEY));
+            if (values == null || values.get(0) == null) {
+                return Optional.empty();
+            }
+            CachedRecommendations remote = objectMapper.readValue(values.get(0), CachedRecommendations.class);
+            long remoteChangedAt = Math.max(parseTime(values.get(1)), parseTime(values.get(2)));
+            if (!isFresh(userId, remote.computedAt(), remoteChangedAt)) {
+                return Optional.empty();
+            }
+            local.put(userId, remote);
+            return Optional.of(remote.first(limit));
+        } catch (Exception e) {
+            log.warn("Redis 추천 캐시 조회 실패, 직접 계산: userId={}, 오류={}", userId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 계산된 추천 결과를 저장합니다. 계산 중 변경이 기록되었으면 저장하지 않습니다.
+     *
+     * @param userId 사용자 ID
+     * @param computedAt 계산 시작 시각 (epoch millis)
+     * @param quizzes 추천 결과
+     */
+    public void put(Long userId, long computedAt, List<QuizSummaryResponse> quizzes) {
+        if (!isFresh(userId, computedAt, 0L)) {
+            return;
+        }
+        CachedRecommendations entry = new CachedRecommendations(computedAt, List.copyOf(quizzes));
+        local.put(userId, entry);
+        if (redisMode) {
+            try {
+                redisTemplate.opsForValue().set(ENTRY_KEY_PREFIX + userId,
+                        objectMapper.writeValueAsString(entry), ttlSeconds, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                log.warn("Redis 추천 캐시 저장 실패: userId={}, 오류={}", userId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 사용자의 추천 결과를 무효화합니다. (사용자의 시도 기록이 바뀐 경우)
+     *
+     * @param userId 사용자 ID
+     */
+    public void invalidateUser(Long userId) {
+        long now = System.currentTimeMillis();
+        userChangedAt.put(userId, now);
+        local.invalidate(userId);
+        if (redisMode) {
+            try {
+                redisTemplate.opsForValue().set(USER_CHANGED_KEY_PREFIX + userId,
+                        String.valueOf(now), ttlSeconds, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                log.warn("Redis 추천 캐시 무효화 실패: userId={}, 오류={}", userId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 전체 사용자의 추천 결과를 무효화합니다. (퀴즈, 태그 등 카탈로그가 바뀐 경우)
+     */
+    public void invalidateAll() {
+        long now = System.currentTimeMillis();
+        catalogChangedAt.accumulateAndGet(now, Math::max);
+        local.invalidateAll();
+        if (redisMode) {
+            try {
+                redisTemplate.opsForValue().set(CATALOG_CHANGED_KEY, String.valueOf(now), ttlSeconds, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                log.warn("Redis 추천 캐시 전체 무효화 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onQuizUpdated(QuizUpdatedEvent event) {
+        invalidateAll();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTagChanged(TagChangedEvent event) {
+        invalidateAll();
+    }
+
+    /**
+     * 변경 시각 이후에 계산이 시작된 결과인지 확인합니다.
+     */
+    private boolean isFresh(Long userId, long computedAt, long remoteChangedAt) {
+        Long userChanged = userChangedAt.getIfPresent(userId);
+        long changedAt = Math.max(Math.max(remoteChangedAt, catalogChangedAt.get()), userChanged != null ? userChanged : 0L);
+        return computedAt > changedAt;
+    }
+
+    private static long parseTime(String value) {
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+
+    /**
+     * 저장된 추천 결과
+     *
+     * @param computedAt 계산 시작 시각 (epoch millis)
+     * @param quizzes 추천 퀴즈 목록 (추천 순)
+     */
+    record CachedRecommendations(long computedAt, List<QuizSummaryResponse> quizzes) {
+        private List<QuizSummaryResponse> first(int limit) {
+            return quizzes.subList(0, Math.min(Math.max(limit, 0), quizzes.size()));
+        }
+    }
+}
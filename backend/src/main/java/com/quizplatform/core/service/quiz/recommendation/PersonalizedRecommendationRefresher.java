@@ -0,0 +1,86 @@
+package com.quizplatform.core.service.quiz.recommendation;
+
+import com.quizplatform.core.service.event.QuizAttemptCompletedEvent;
+import com.quizplatform.core.service.quiz.RecommendationService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자별 맞춤 추천 사전 계산기
+ *
+ * 주요 기능:
+ * - 퀴즈 완료 커밋 후 해당 사용자의 추천 캐시를 무효화하고, 새 추천 결과를 백그라운드 스레드에서 미리 계산하여 저장
+ * - 같은 사용자의 계산이 이미 대기 중이면 다시 등록하지 않음
+ * - 대기열이 가득 차면 사전 계산을 건너뛰고 다음 조회에서 계산 (요청 스레드를 막지 않음)
+ *
+ * @author 채기훈
+ */
+@Component
+@Slf4j
+public class PersonalizedRecommendationRefresher {
+
+    private final RecommendationService recommendationService;
+    private final PersonalizedRecommendationCache recommendationCache;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * 사전 계산 대기 중인 사용자 ID
+     */
+    private final Set<Long> queuedUserIds = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public PersonalizedRecommendationRefresher(RecommendationService recommendationService,
+                                               PersonalizedRecommendationCache recommendationCache,
+                                               @Value("${quiz.recommendation-cache.refresh-threads:2}") int threads,
+                                               @Value("${quiz.recommendation-cache.refresh-queue-size:1000}") int queueSize) {
+        this.recommendationService = recommendationService;
+        this.recommendationCache = recommendationCache;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("recommendation-refresh-");
+        threadFactory.setDaemon(true);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize), threadFactory);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onQuizAttemptCompleted(QuizAttemptCompletedEvent event) {
+        Long userId = event.getUserId();
+        recommendationCache.invalidateUser(userId);
+        // 대기 중인 계산은 아직 시작 전이므로 이번 변경 이후의 기록으로 계산됨
+        if (!queuedUserIds.add(userId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> refresh(userId));
+        } catch (RejectedExecutionException e) {
+            queuedUserIds.remove(userId);
+            log.debug("추천 사전 계산 대기열 초과, 다음 조회에서 계산: userId={}", userId);
+        }
+    }
+
+    private void refresh(Long userId) {
+        queuedUserIds.remove(userId);
+        try {
+            recommendationService.refreshPersonalizedRecommendations(userId);
+        } catch (RuntimeException e) {
+            log.warn("추천 사전 계산 실패, 다음 조회에서 계산: userId={}, 오류={}", userId, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,198 @@
+package com.quizplatform.core.service.quiz.search;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.StringTermsBucket;
+import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Elasticsearch 퀴즈 검색 엔진 (quiz.search.engine=elasticsearch)
+ *
+ * 주요 기능:
+ * - 내장 Lucene 엔진과 같은 필드/가중치/필터/패싯을 Elasticsearch 색인으로 제공
+ * - 색인이 없으면 nori 분석기 매핑(search/quiz-index.json)으로 생성 (클러스터에 analysis-nori 플러그인 필요)
+ *
+ * @author 채기훈
+ */
+@Component
+@ConditionalOnProperty(name = "quiz.search.engine", havingValue = "elasticsearch")
+@Slf4j
+public class ElasticsearchQuizSearchEngine implements QuizSearchEngine {
+
+    private static final String INDEX_MAPPING = "search/quiz-index.json";
+    private static final List<String> TEXT_FIELDS = List.of("title^3", "tagNames^2", "description", "questionTexts^0.5");
+    private static final int FACET_TOP_N = 20;
+
+    private final ElasticsearchClient client;
+    private final String indexName;
+
+    public ElasticsearchQuizSearchEngine(ElasticsearchClient client,
+                                         @Value("${quiz.search.elasticsearch.index:quizzes}") String indexName) {
+        this.client = client;
+        this.indexName = indexName;
+    }
+
+    /**
+     * 색인이 없으면 매핑과 함께 생성합니다.
+     */
+    @PostConstruct
+    public void createIndexIfMissing() {
+        try {
+            if (client.indices().exists(e -> e.index(indexName)).value()) {
+                return;
+            }
+            try (InputStream mapping = new ClassPathResource(INDEX_MAPPING).getInputStream()) {
+                client.indices().create(c -> c.index(indexName).withJson(mapping));
+            }
+            log.info("퀴즈 검색 색인 생성: index={}", indexName);
+        } catch (IOException e) {
+            throw new UncheckedIOException("퀴즈 검색 색인 생성 실패: " + indexName, e);
+        }
+    }
+
+    @Override
+    public QuizSearchHits search(QuizSearchQuery query) {
+        try {
+            SearchResponse<Void> response = client.search(s -> s
+                            .index(indexName)
+                            .from(query.getPage() * query.getSize())
+                            .size(query.getSize())
+                            .trackTotalHits(t -> t.enabled(true))
+                            .source(source -> source.fetch(false))
+                            .query(q -> q.bool(b -> buildQuery(b, query)))
+                            .aggregations(FACET_DIFFICULTY, a -> a.terms(t -> t.field("difficultyLevel").size(FACET_TOP_N)))
+                            .aggregations(FACET_TYPE, a -> a.terms(t -> t.field("quizType").size(FACET_TOP_N)))
+                            .aggregations(FACET_TAG, a -> a.terms(t -> t.field("tagIds").size(FACET_TOP_N))),
+                    Void.class);
+
+            List<Long> quizIds = new ArrayList<>();
+            for (Hit<Void> hit : response.hits().hits()) {
+                quizIds.add(Long.valueOf(hit.id()));
+            }
+            long totalHits = response.hits().total() != null ? response.hits().total().value() : quizIds.size();
+
+            Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+            for (String dimension : List.of(FACET_DIFFICULTY, FACET_TYPE, FACET_TAG)) {
+                Map<String, Long> values = new LinkedHashMap<>();
+                Aggregate aggregate = response.aggregations().get(dimension);
+                if (aggregate != null && aggregate.isSterms()) {
+                    for (StringTermsBucket bucket : aggregate.sterms().buckets().array()) {
+                        values.put(bucket.key().stringValue(), bucket.docCount());
+                    }
+                }
+                facets.put(dimension, values);
+            }
+            return new QuizSearchHits(quizIds, totalHits, facets);
+        } catch (IOException e) {
+            throw new UncheckedIOException("퀴즈 검색 실패", e);
+        }
+    }
+
+    @Override
+    public void index(List<QuizSearchDocument> documents) {
+        if (documents.isEmpty()) {
+            return;
+        }
+        BulkRequest.Builder bulk = new BulkRequest.Builder();
+        for (QuizSearchDocument document : documents) {
+            bulk.operations(op -> op.index(idx -> idx
+                    .index(indexName)
+                    .id(String.valueOf(document.getId()))
+                    .document(toSource(document))));
+        }
+        try {
+            BulkResponse response = client.bulk(bulk.build());
+            if (response.errors()) {
+                response.items().stream()
+                        .filter(item -> item.error() != null)
+                        .forEach(item -> log.error("퀴즈 검색 색인 실패: id={}, 원인={}", item.id(), item.error().reason()));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("퀴즈 검색 색인 실패", e);
+        }
+    }
+
+    @Override
+    public void delete(Long quizId) {
+        try {
+            client.delete(d -> d.index(indexName).id(String.valueOf(quizId)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("퀴즈 검색 색인 삭제 실패: quizId=" + quizId, e);
+        }
+    }
+
+    /**
+     * 승인된 색인 요청은 클러스터 트랜잭션 로그에 기록되어 이미 영구 반영되어 있으므로 별도 작업이 없습니다.
+     */
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public long count() {
+        try {
+            return client.count(c -> c.index(indexName)).count();
+        } catch (IOException e) {
+            throw new UncheckedIOException("퀴즈 검색 색인 조회 실패", e);
+        }
+    }
+
+    private BoolQuery.Builder buildQuery(BoolQuery.Builder bool, QuizSearchQuery query) {
+        if (StringUtils.hasText(query.getText())) {
+            bool.must(m -> m.multiMatch(mm -> mm.query(query.getText()).fields(TEXT_FIELDS)));
+        } else {
+            bool.must(m -> m.matchAll(all -> all));
+        }
+        bool.filter(f -> f.term(t -> t.field("isPublic").value(true)));
+
+        if (query.getDifficultyLevel() != null) {
+            bool.filter(f -> f.term(t -> t.field("difficultyLevel").value(query.getDifficultyLevel().name())));
+        }
+        if (query.getQuizType() != null) {
+            bool.filter(f -> f.term(t -> t.field("quizType").value(query.getQuizType().name())));
+        }
+        if (query.getTagIds() != null && !query.getTagIds().isEmpty()) {
+            List<FieldValue> tagIds = query.getTagIds().stream()
+                    .map(tagId -> FieldValue.of(String.valueOf(tagId)))
+                    .toList();
+            bool.filter(f -> f.terms(t -> t.field("tagIds").terms(v -> v.value(tagIds))));
+        }
+        return bool;
+    }
+
+    private Map<String, Object> toSource(QuizSearchDocument document) {
+        Map<String, Object> source = new HashMap<>();
+        source.put("title", document.getTitle());
+        source.put("description", document.getDescription());
+        source.put("questionTexts", document.getQuestionTexts());
+        source.put("tagNames", document.getTagNames());
+        source.put("tagIds", document.getTagIds().stream().map(String::valueOf).toList());
+        source.put("difficultyLevel", document.getDifficultyLevel() != null ? document.getDifficultyLevel().name() : null);
+        source.put("quizType", document.getQuizType() != null ? document.getQuizType().name() : null);
+        source.put("isPublic", document.isPublic());
+        source.put("attemptCount", document.getAttemptCount());
+        source.put("avgScore", document.getAvgScore());
+        return source;
+    }
+}
@@ -0,0 +1,344 @@
+package com.quizplatform.core.service.quiz.search;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.DoubleDocValuesField;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.facet.FacetResult;
+import org.apache.lucene.facet.FacetsCollector;
+import org.apache.lucene.facet.FacetsConfig;
+import org.apache.lucene.facet.LabelAndValue;
+import org.apache.lucene.facet.sortedset.DefaultSortedSetDocValuesReaderState;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetCounts;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetField;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesReaderState;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 로컬 디스크 내장 Lucene 퀴즈 검색 엔진 (기본 검색 엔진)
+ *
+ * 주요 기능:
+ * - 제목/설명/문제 내용/태그 이름·동의어를 한국어 형태소 분석기(nori)로 색인
+ * - BM25 관련도 순 검색 (필드별 가중치: 제목 > 태그 > 설명 > 문제 내용)
+ * - 난이도/유형/태그 필터와 패싯 집계
+ * - 변경 즉시 검색에 반영(near-real-time), 디스크 커밋은 주기적으로 수행
+ *
+ * @author 채기훈
+ */
+@Component
+@ConditionalOnProperty(name = "quiz.search.engine", havingValue = "lucene", matchIfMissing = true)
+@Slf4j
+public class LuceneQuizSearchEngine implements QuizSearchEngine {
+
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_TITLE = "title";
+    private static final String FIELD_DESCRIPTION = "description";
+    private static final String FIELD_QUESTIONS = "questions";
+    private static final String FIELD_TAGS = "tags";
+    private static final String FIELD_PUBLIC = "public";
+    private static final String FIELD_DIFFICULTY = "difficultyLevel";
+    private static final String FIELD_TYPE = "quizType";
+    private static final String FIELD_TAG_ID = "tagId";
+    private static final String FIELD_ATTEMPT_COUNT = "attemptCount";
+    private static final String FIELD_AVG_SCORE = "avgScore";
+
+    /**
+     * 본문 필드별 가중치
+     */
+    private static final Map<String, Float> FIELD_BOOSTS = Map.of(
+            FIELD_TITLE, 3.0f,
+            FIELD_TAGS, 2.0f,
+            FIELD_DESCRIPTION, 1.0f,
+            FIELD_QUESTIONS, 0.5f
+    );
+
+    /**
+     * 패싯별 최대 반환 값 수
+     */
+    private static final int FACET_TOP_N = 20;
+
+    private final Analyzer analyzer = new KoreanAnalyzer();
+    private final FacetsConfig facetsConfig = new FacetsConfig();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    /**
+     * 패싯 집계용 리더 상태 (리더가 바뀔 때만 다시 생성)
+     */
+    private volatile FacetState facetState;
+
+    public LuceneQuizSearchEngine(@Value("${quiz.search.lucene.index-path:./data/quiz-search-index}") String indexPath) {
+        facetsConfig.setMultiValued(FACET_TAG, true);
+        try {
+            Path path = Path.of(indexPath);
+            Files.createDirectories(path);
+            this.directory = FSDirectory.open(path);
+            this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+            this.searcherManager = new SearcherManager(writer, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException("퀴즈 검색 색인을 열 수 없습니다: " + indexPath, e);
+        }
+        log.info("내장 퀴즈 검색 색인 열기: path={}, 문서수={}", indexPath, writer.getDocStats().numDocs);
+    }
+
+    @Override
+    public QuizSearchHits search(QuizSearchQuery query) {
+        Query luceneQuery = buildQuery(query);
+        int from = query.getPage() * query.getSize();
+
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            FacetsCollector facetsCollector = new FacetsCollector();
+            TopDocs topDocs = FacetsCollector.search(searcher, luceneQuery, Math.max(1, from + query.getSize()), facetsCollector);
+
+            List<Long> quizIds = new ArrayList<>();
+            StoredFields storedFields = searcher.storedFields();
+            for (int i = from; i < topDocs.scoreDocs.length; i++) {
+                quizIds.add(Long.valueOf(storedFields.document(topDocs.scoreDocs[i].doc).get(FIELD_ID)));
+            }
+
+            long totalHits = facetsCollector.getMatchingDocs().stream()
+                    .mapToLong(matchingDocs -> matchingDocs.totalHits)
+                    .sum();
+            return new QuizSearchHits(quizIds, totalHits, collectFacets(searcher, facetsCollector));
+        } catch (IOException e) {
+            throw new UncheckedIOException("퀴즈 검색 실패", e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    @Override
+    public void index(List<QuizSearchDocument> documents) {
+        try {
+            for (QuizSearchDocument document : documents) {
+                writer.updateDocument(new Term(FIELD_ID, String.valueOf(document.getId())),
+                        facetsConfig.build(toLuceneDocument(document)));
+            }
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException("퀴즈 검색 색인 실패", e);
+        }
+    }
+
+    @Override
+    public void delete(Long quizId) {
+        try {
+            writer.deleteDocuments(new Term(FIELD_ID, String.valueOf(quizId)));
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException("퀴즈 검색 색인 삭제 실패: quizId=" + quizId, e);
+        }
+    }
+
+    @Override
+    public long count() {
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            return searcher.getIndexReader().numDocs();
+        } catch (IOException e) {
+            throw new UncheckedIOException("퀴즈 검색 색인 조회 실패", e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    /**
+     * 색인 변경 사항을 디스크에 커밋합니다. 실패하면 예외를 던집니다.
+     */
+    @Override
+    public void flush() {
+        try {
+            if (writer.hasUncommittedChanges()) {
+                writer.commit();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("퀴즈 검색 색인 커밋 실패", e);
+        }
+    }
+
+    /**
+     * 색인 변경 사항을 주기적으로 디스크에 커밋합니다. (대기열을 거치지 않은 변경의 재시작 시 복구 지점)
+     */
+    @Scheduled(fixedDelayString = "${quiz.search.lucene.commit-interval-ms:30000}")
+    public void commit() {
+        try {
+            flush();
+        } catch (UncheckedIOException e) {
+            log.error("퀴즈 검색 색인 커밋 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 종료 시 커밋 후 색인 닫기
+     */
+    @PreDestroy
+    public void close() {
+        try {
+            commit();
+            searcherManager.close();
+            writer.close();
+            directory.close();
+        } catch (IOException e) {
+            log.error("퀴즈 검색 색인 닫기 실패", e);
+        }
+    }
+
+    private Document toLuceneDocument(QuizSearchDocument source) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, String.valueOf(source.getId()), Field.Store.YES));
+        document.add(new StringField(FIELD_PUBLIC, String.valueOf(source.isPublic()), Field.Store.NO));
+        addText(document, FIELD_TITLE, source.getTitle());
+        addText(document, FIELD_DESCRIPTION, source.getDescription());
+        source.getQuestionTexts().forEach(text -> addText(document, FIELD_QUESTIONS, text));
+        source.getTagNames().forEach(name -> addText(document, FIELD_TAGS, name));
+
+        if (source.getDifficultyLevel() != null) {
+            document.add(new StringField(FIELD_DIFFICULTY, source.getDifficultyLevel().name(), Field.Store.NO));
+            document.add(new SortedSetDocValuesFacetField(FACET_DIFFICULTY, source.getDifficultyLevel().name()));
+        }
+        if (source.getQuizType() != null) {
+            document.add(new StringField(FIELD_TYPE, source.getQuizType().name(), Field.Store.NO));
+            document.add(new SortedSetDocValuesFacetField(FACET_TYPE, source.getQuizType().name()));
+        }
+        for (Long tagId : source.getTagIds()) {
+            document.add(new StringField(FIELD_TAG_ID, String.valueOf(tagId), Field.Store.NO));
+            document.add(new SortedSetDocValuesFacetField(FACET_TAG, String.valueOf(tagId)));
+        }
+        document.add(new NumericDocValuesField(FIELD_ATTEMPT_COUNT, source.getAttemptCount()));
+        document.add(new DoubleDocValuesField(FIELD_AVG_SCORE, source.getAvgScore()));
+        return document;
+    }
+
+    private void addText(Document document, String field, String value) {
+        if (StringUtils.hasText(value)) {
+            document.add(new TextField(field, value, Field.Store.NO));
+        }
+    }
+
+    private Query buildQuery(QuizSearchQuery query) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder()
+                .add(buildTextQuery(query.getText()), BooleanClause.Occur.MUST)
+                .add(new TermQuery(new Term(FIELD_PUBLIC, "true")), BooleanClause.Occur.FILTER);
+
+        if (query.getDifficultyLevel() != null) {
+            builder.add(new TermQuery(new Term(FIELD_DIFFICULTY, query.getDifficultyLevel().name())), BooleanClause.Occur.FILTER);
+        }
+        if (query.getQuizType() != null) {
+            builder.add(new TermQuery(new Term(FIELD_TYPE, query.getQuizType().name())), BooleanClause.Occur.FILTER);
+        }
+        if (query.getTagIds() != null && !query.getTagIds().isEmpty()) {
+            BooleanQuery.Builder tagFilter = new BooleanQuery.Builder();
+            query.getTagIds().forEach(tagId ->
+                    tagFilter.add(new TermQuery(new Term(FIELD_TAG_ID, String.valueOf(tagId))), BooleanClause.Occur.SHOULD));
+            builder.add(tagFilter.build(), BooleanClause.Occur.FILTER);
+        }
+        return builder.build();
+    }
+
+    private Query buildTextQuery(String text) {
+        if (!StringUtils.hasText(text)) {
+            return new MatchAllDocsQuery();
+        }
+
+        QueryBuilder queryBuilder = new QueryBuilder(analyzer);
+        BooleanQuery.Builder textQuery = new BooleanQuery.Builder();
+        boolean hasClause = false;
+        for (Map.Entry<String, Float> field : FIELD_BOOSTS.entrySet()) {
+            Query fieldQuery = queryBuilder.createBooleanQuery(field.getKey(), text, BooleanClause.Occur.SHOULD);
+            if (fieldQuery != null) {
+                textQuery.add(new BoostQuery(fieldQuery, field.getValue()), BooleanClause.Occur.SHOULD);
+                hasClause = true;
+            }
+        }
+        // 분석 후 남는 토큰이 없으면(불용어만 입력) 일치 없음
+        return hasClause ? textQuery.build() : new MatchNoDocsQuery();
+    }
+
+    private Map<String, Map<String, Long>> collectFacets(IndexSearcher searcher, FacetsCollector facetsCollector) throws IOException {
+        Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+        SortedSetDocValuesReaderState state = facetState(searcher.getIndexReader());
+        if (state == null) {
+            return facets;
+        }
+
+        SortedSetDocValuesFacetCounts counts = new SortedSetDocValuesFacetCounts(state, facetsCollector);
+        for (String dimension : List.of(FACET_DIFFICULTY, FACET_TYPE, FACET_TAG)) {
+            Map<String, Long> values = new LinkedHashMap<>();
+            try {
+                FacetResult result = counts.getTopChildren(FACET_TOP_N, dimension);
+                if (result != null) {
+                    for (LabelAndValue labelAndValue : result.labelValues) {
+                        values.put(labelAndValue.label, labelAndValue.value.longValue());
+                    }
+                }
+            } catch (IllegalArgumentException e) {
+                // 아직 색인되지 않은 패싯 차원
+            }
+            facets.put(dimension, values);
+        }
+        return facets;
+    }
+
+    private SortedSetDocValuesReaderState facetState(IndexReader reader) throws IOException {
+        FacetState current = facetState;
+        if (current != null && current.reader == reader) {
+            return current.state;
+        }
+        if (reader.numDocs() == 0) {
+            return null;
+        }
+        SortedSetDocValuesReaderState state = new DefaultSortedSetDocValuesReaderState(reader, facetsConfig);
+        facetState = new FacetState(reader, state);
+        return state;
+    }
+
+    private void release(IndexSearcher searcher) {
+        if (searcher == null) {
+            return;
+        }
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            log.warn("검색기 반환 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 리더별 패싯 상태
+     */
+    private record FacetState(IndexReader reader, SortedSetDocValuesReaderState state) {
+    }
+}
@@ -0,0 +1,77 @@
+package com.quizplatform.core.service.quiz.search;
+
+import com.quizplatform.core.repository.quiz.SearchIndexOutboxRepository;
+import com.quizplatform.core.service.event.QuizCreatedEvent;
+import com.quizplatform.core.service.event.QuizStatsChangedEvent;
+import com.quizplatform.core.service.event.QuizUpdatedEvent;
+import com.quizplatform.core.service.event.TagChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 검색 색인 변경 기록 컴포넌트
+ *
+ * <p>퀴즈/태그/통계 변경 이벤트를 커밋 직전에 검색 색인 대기열(outbox)에 기록합니다.
+ * 대기 행은 원 변경과 같은 트랜잭션으로 커밋되므로 변경이 유실되거나 롤백된 변경이 색인되지 않으며,
+ * 실제 색인은 {@link QuizSearchIndexer}가 요청 스레드 밖에서 일괄 처리합니다.</p>
+ *
+ * <p>기록은 세이브포인트 안에서 실행되어, 실패해도 원 트랜잭션은 그대로 커밋됩니다.
+ * 이 경우 변경 대상은 색인기의 메모리 대기열로 넘겨 다음 주기에 반영합니다. (서버 비정상 종료 시 유실 가능)</p>
+ *
+ * @author 채기훈
+ */
+@Component
+@Slf4j
+public class QuizSearchChangeRecorder {
+
+    private final SearchIndexOutboxRepository outboxRepository;
+    private final QuizSearchIndexer quizSearchIndexer;
+    private final TransactionTemplate savepointTransaction;
+
+    @Autowired
+    public QuizSearchChangeRecorder(SearchIndexOutboxRepository outboxRepository,
+                                    QuizSearchIndexer quizSearchIndexer,
+                                    PlatformTransactionManager transactionManager) {
+        this.outboxRepository = outboxRepository;
+        this.quizSearchIndexer = quizSearchIndexer;
+        this.savepointTransaction = new TransactionTemplate(transactionManager);
+        // 기록 실패가 원 트랜잭션을 롤백 전용으로 만들지 않도록 세이브포인트로 분리
+        this.savepointTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onQuizCreated(QuizCreatedEvent event) {
+        record(SearchIndexOutboxRepository.TYPE_QUIZ, event.getQuizId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onQuizUpdated(QuizUpdatedEvent event) {
+        record(SearchIndexOutboxRepository.TYPE_QUIZ, event.getQuizId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onQuizStatsChanged(QuizStatsChangedEvent event) {
+        record(SearchIndexOutboxRepository.TYPE_QUIZ, event.getQuizId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onTagChanged(TagChangedEvent event) {
+        record(SearchIndexOutboxRepository.TYPE_TAG, event.getTagId());
+    }
+
+    private void record(String aggregateType, Long aggregateId) {
+        try {
+            savepointTransaction.executeWithoutResult(status -> outboxRepository.enqueue(aggregateType, aggregateId));
+        } catch (RuntimeException e) {
+            log.error("검색 색인 대기열 기록 실패, 메모리 대기열로 대체: type={}, id={}, 오류={}",
+                    aggregateType, aggregateId, e.getMessage());
+            quizSearchIndexer.enqueueFallback(aggregateType, aggregateId);
+        }
+    }
+}
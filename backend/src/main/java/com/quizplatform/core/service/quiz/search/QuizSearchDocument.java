@@ -0,0 +1,81 @@
+package com.quizplatform.core.service.quiz.search;
+
+import com.quizplatform.core.domain.question.Question;
+import com.quizplatform.core.domain.quiz.DifficultyLevel;
+import com.quizplatform.core.domain.quiz.Quiz;
+import com.quizplatform.core.domain.quiz.QuizType;
+import com.quizplatform.core.domain.tag.Tag;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 퀴즈 검색 색인 문서 (불변)
+ *
+ * <p>검색 엔진에 색인되는 퀴즈 단위 문서입니다. 본문 필드(제목, 설명, 문제 내용, 태그 이름/동의어),
+ * 필터 필드(난이도, 유형, 공개 여부, 태그 ID), 정렬 신호(시도 횟수, 평균 점수)로 구성됩니다.
+ * 태그 ID에는 상위 태그 ID까지 포함되어, 상위 태그로 필터링하면 하위 태그의 퀴즈도 함께 검색됩니다.</p>
+ *
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+@Getter
+@Builder
+public class QuizSearchDocument {
+    private final Long id;
+    private final String title;
+    private final String description;
+    private final List<String> questionTexts;
+    private final List<String> tagNames;
+    private final Set<Long> tagIds;
+    private final DifficultyLevel difficultyLevel;
+    private final QuizType quizType;
+    private final boolean isPublic;
+    private final int attemptCount;
+    private final double avgScore;
+
+    /**
+     * 퀴즈 엔티티로부터 색인 문서를 생성합니다. (문제/태그가 로딩된 트랜잭션 안에서 호출)
+     *
+     * @param quiz 퀴즈 엔티티
+     * @return 색인 문서
+     */
+    public static QuizSearchDocument from(Quiz quiz) {
+        List<String> questionTexts = new ArrayList<>();
+        for (Question question : quiz.getQuestions()) {
+            if (question.getQuestionText() != null) {
+                questionTexts.add(question.getQuestionText());
+            }
+        }
+
+        List<String> tagNames = new ArrayList<>();
+        Set<Long> tagIds = new LinkedHashSet<>();
+        for (Tag tag : quiz.getTags()) {
+            tagNames.add(tag.getName());
+            tagNames.addAll(tag.getSynonyms());
+            // 상위 태그 ID까지 포함 (상위 태그 필터로 하위 태그 퀴즈 검색)
+            Tag current = tag;
+            while (current != null && tagIds.add(current.getId())) {
+                current = current.getParent();
+            }
+        }
+
+        return QuizSearchDocument.builder()
+                .id(quiz.getId())
+                .title(quiz.getTitle())
+                .description(quiz.getDescription())
+                .questionTexts(List.copyOf(questionTexts))
+                .tagNames(List.copyOf(tagNames))
+                .tagIds(Set.copyOf(tagIds))
+                .difficultyLevel(quiz.getDifficultyLevel())
+                .quizType(quiz.getQuizType())
+                .isPublic(quiz.isPublic())
+                .attemptCount(quiz.getAttemptCount())
+                .avgScore(quiz.getAvgScore())
+                .build();
+    }
+}
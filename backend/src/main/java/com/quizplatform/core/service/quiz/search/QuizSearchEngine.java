@@ -0,0 +1,59 @@
+package com.quizplatform.core.service.quiz.search;
+
+import java.util.List;
+
+/**
+ * 퀴즈 전문 검색 엔진
+ *
+ * <p>구현체는 {@code quiz.search.engine} 설정으로 선택합니다.
+ * (lucene: 로컬 디스크 내장 색인(기본값), elasticsearch: 외부 클러스터)</p>
+ *
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+public interface QuizSearchEngine {
+
+    /** 패싯 이름: 난이도 */
+    String FACET_DIFFICULTY = "difficulty";
+
+    /** 패싯 이름: 퀴즈 유형 */
+    String FACET_TYPE = "type";
+
+    /** 패싯 이름: 태그 ID */
+    String FACET_TAG = "tag";
+
+    /**
+     * 공개 퀴즈를 검색합니다.
+     *
+     * @param query 검색 질의
+     * @return 관련도 순 퀴즈 ID, 전체 건수, 패싯
+     */
+    QuizSearchHits search(QuizSearchQuery query);
+
+    /**
+     * 문서를 색인합니다. 같은 퀴즈 ID의 기존 문서는 교체됩니다.
+     *
+     * @param documents 색인할 문서 목록
+     */
+    void index(List<QuizSearchDocument> documents);
+
+    /**
+     * 퀴즈 문서를 색인에서 제거합니다.
+     *
+     * @param quizId 퀴즈 ID
+     */
+    void delete(Long quizId);
+
+    /**
+     * 지금까지 색인한 변경을 영구 반영합니다. 반환 후에는 재시작해도 변경이 유지되어야 합니다.
+     * 호출자는 이 메서드가 성공한 뒤에만 변경 대기열을 삭제해야 합니다.
+     */
+    void flush();
+
+    /**
+     * 색인된 문서 수를 반환합니다.
+     *
+     * @return 문서 수
+     */
+    long count();
+}
@@ -0,0 +1,36 @@
+package com.quizplatform.core.service.quiz.search;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 퀴즈 전문 검색 결과
+ *
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+@Getter
+public class QuizSearchHits {
+    /**
+     * 관련도(BM25) 순 퀴즈 ID (요청 페이지)
+     */
+    private final List<Long> quizIds;
+
+    /**
+     * 전체 일치 건수
+     */
+    private final long totalHits;
+
+    /**
+     * 필터 패싯 (Key: difficulty / type / tag, Value: 값별 일치 건수)
+     */
+    private final Map<String, Map<String, Long>> facets;
+
+    public QuizSearchHits(List<Long> quizIds, long totalHits, Map<String, Map<String, Long>> facets) {
+        this.quizIds = quizIds;
+        this.totalHits = totalHits;
+        this.facets = facets;
+    }
+}
@@ -0,0 +1,331 @@
+package com.quizplatform.core.service.quiz.search;
+
+import com.quizplatform.core.domain.quiz.Quiz;
+import com.quizplatform.core.repository.quiz.QuizBasicRepository;
+import com.quizplatform.core.repository.quiz.SearchIndexOutboxRepository;
+import com.quizplatform.core.repository.quiz.SearchIndexOutboxRepository.OutboxEntry;
+import com.quizplatform.core.repository.tag.TagHierarchyCache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 퀴즈 검색 색인 동기화 컴포넌트
+ *
+ * 주요 기능:
+ * - 검색 색인 대기열(outbox)을 주기적으로 선점하여 변경된 퀴즈를 일괄 재색인 (요청 스레드와 분리)
+ * - 태그 변경은 해당 태그 및 하위 태그를 가진 퀴즈 전체로 확장
+ * - 전체 재색인: 퀴즈를 서버 측 커서로 스트리밍하며 일정 크기씩 색인
+ * - 색인 지연(대기열에 기록된 후 반영되기까지 걸린 시간) 통계 제공
+ *
+ * <p>대기 행은 색인이 영구 반영({@link QuizSearchEngine#flush()})된 뒤 같은 트랜잭션에서만 삭제되므로
+ * 실패하거나 반영 전에 서버가 중단되면 다음 주기에 다시 처리됩니다. (최소 1회 반영)
+ * 내장 Lucene 엔진은 서버별 색인이므로 다중 서버 환경에서는 Elasticsearch 엔진을 사용해야 합니다.</p>
+ *
+ * @author 채기훈
+ */
+@Component
+@Slf4j
+public class QuizSearchIndexer {
+
+    private final QuizSearchEngine searchEngine;
+    private final QuizBasicRepository quizRepository;
+    private final TagHierarchyCache tagHierarchyCache;
+    private final SearchIndexOutboxRepository outboxRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int batchSize;
+    private final int maxBatchesPerPoll;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    /**
+     * 색인이 한 번 이상 채워져 검색에 사용할 수 있는지 여부 (기동 시 최초 전체 색인 완료 전에는 false)
+     */
+    private volatile boolean ready;
+
+    /**
+     * 대기열 기록에 실패한 변경 대상 (메모리 보관, 다음 주기에 반영)
+     */
+    private final Set<Long> fallbackQuizIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> fallbackTagIds = ConcurrentHashMap.newKeySet();
+    private final AtomicLong indexedTotal = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+    private final AtomicLong lastLagMillis = new AtomicLong();
+    private final AtomicLong maxLagMillis = new AtomicLong();
+
+    @Autowired
+    public QuizSearchIndexer(QuizSearchEngine searchEngine,
+                             QuizBasicRepository quizRepository,
+                             TagHierarchyCache tagHierarchyCache,
+                             SearchIndexOutboxRepository outboxRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${quiz.search.index-batch-size:500}") int batchSize,
+                             @Value("${quiz.search.outbox.max-batches-per-poll:10}") int maxBatchesPerPoll) {
+        this.searchEngine = searchEngine;
+        this.quizRepository = quizRepository;
+        this.tagHierarchyCache = tagHierarchyCache;
+        this.outboxRepository = outboxRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.batchSize = batchSize;
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+    }
+
+    /**
+     * 기동 시 색인이 비어 있으면 전체 색인을 백그라운드로 실행합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        if (searchEngine.count() == 0) {
+            startRebuild();
+        } else {
+            ready = true;
+        }
+    }
+
+    /**
+     * 검색에 색인을 사용할 수 있는지 확인합니다.
+     * 최초 전체 색인이 끝나기 전에는 false이며, 호출자는 DB 조회로 대체해야 합니다.
+     *
+     * @return 사용 가능 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 대기열을 비울 때까지(한 주기 최대 배치 수 이내) 일괄 색인합니다.
+     */
+    @Scheduled(fixedDelayString = "${quiz.search.outbox.poll-interval-ms:1000}")
+    public void drainOutbox() {
+        // 전체 재색인 중에는 보류하여, 재색인이 읽은 이전 내용이 더 최신 반영을 덮어쓰지 않게 함
+        if (rebuilding.get()) {
+            return;
+        }
+        drainFallback();
+        for (int i = 0; i < maxBatchesPerPoll; i++) {
+            try {
+                Integer processed = transactionTemplate.execute(status -> processBatch());
+                if (processed == null || processed < batchSize) {
+                    return;
+                }
+            } catch (RuntimeException e) {
+                failedBatches.incrementAndGet();
+                log.error("검색 색인 대기열 처리 실패 (다음 주기 재시도): {}", e.getMessage(), e);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 대기열(outbox)에 기록하지 못한 변경 대상을 메모리 대기열에 추가합니다.
+     * 색인은 항상 현재 DB 내용을 다시 읽으므로 롤백된 변경이 들어와도 결과는 같습니다.
+     *
+     * @param aggregateType 대상 유형
+     * @param aggregateId 대상 ID
+     */
+    public void enqueueFallback(String aggregateType, Long aggregateId) {
+        if (SearchIndexOutboxRepository.TYPE_TAG.equals(aggregateType)) {
+            fallbackTagIds.add(aggregateId);
+        } else {
+            fallbackQuizIds.add(aggregateId);
+        }
+    }
+
+    /**
+     * 메모리 대기열을 색인합니다. 실패하면 다시 넣어 다음 주기에 재시도합니다.
+     */
+    private void drainFallback() {
+        if (fallbackQuizIds.isEmpty() && fallbackTagIds.isEmpty()) {
+            return;
+        }
+        Set<Long> quizIds = new LinkedHashSet<>(fallbackQuizIds);
+        Set<Long> tagIds = new HashSet<>(fallbackTagIds);
+        fallbackQuizIds.removeAll(quizIds);
+        fallbackTagIds.removeAll(tagIds);
+        try {
+            Integer indexed = readOnlyTransaction.execute(status -> {
+                Set<Long> targets = new LinkedHashSet<>(quizIds);
+                targets.addAll(expandTags(tagIds));
+                return reindex(targets);
+            });
+            indexedTotal.addAndGet(indexed != null ? indexed : 0);
+        } catch (RuntimeException e) {
+            fallbackQuizIds.addAll(quizIds);
+            fallbackTagIds.addAll(tagIds);
+            failedBatches.incrementAndGet();
+            log.error("검색 색인 메모리 대기열 처리 실패 (다음 주기 재시도): {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 대기 행을 선점해 색인하고, 색인을 영구 반영한 뒤 같은 트랜잭션에서 삭제합니다.
+     *
+     * @return 처리한 대기 행 수
+     */
+    private int processBatch() {
+        List<OutboxEntry> entries = outboxRepository.claimBatch(batchSize);
+        if (entries.isEmpty()) {
+            return 0;
+        }
+
+        // 같은 퀴즈의 여러 변경은 한 번만 색인
+        Set<Long> quizIds = new LinkedHashSet<>();
+        Set<Long> tagIds = new HashSet<>();
+        for (OutboxEntry entry : entries) {
+            if (SearchIndexOutboxRepository.TYPE_TAG.equals(entry.aggregateType())) {
+                tagIds.add(entry.aggregateId());
+            } else {
+                quizIds.add(entry.aggregateId());
+            }
+        }
+        quizIds.addAll(expandTags(tagIds));
+
+        int indexed = reindex(quizIds);
+        // 색인이 디스크에 커밋된 뒤에만 대기 행을 삭제 (커밋 전 장애 시 다음 기동에서 다시 처리)
+        searchEngine.flush();
+        outboxRepository.deleteByIds(entries.stream().map(OutboxEntry::id).toList());
+
+        recordLag(entries.get(0).createdAt());
+        indexedTotal.addAndGet(indexed);
+        log.debug("검색 색인 대기열 반영: entries={}, quizzes={}", entries.size(), indexed);
+        return entries.size();
+    }
+
+    /**
+     * 태그 및 하위 태그를 가진 퀴즈 ID로 확장합니다.
+     */
+    private Set<Long> expandTags(Set<Long> tagIds) {
+        if (tagIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<Long> expandedTagIds = tagHierarchyCache.expandWithDescendants(tagIds);
+        return new HashSet<>(quizRepository.findIdsByTagIds(expandedTagIds));
+    }
+
+    /**
+     * 퀴즈들을 다시 읽어 색인합니다. 존재하지 않는 퀴즈는 색인에서 제거합니다.
+     *
+     * @return 색인한 문서 수
+     */
+    private int reindex(Collection<Long> quizIds) {
+        if (quizIds.isEmpty()) {
+            return 0;
+        }
+        List<QuizSearchDocument> documents = quizRepository.findAllById(quizIds).stream()
+                .map(QuizSearchDocument::from)
+                .toList();
+        searchEngine.index(documents);
+
+        Set<Long> missing = new HashSet<>(quizIds);
+        documents.forEach(document -> missing.remove(document.getId()));
+        missing.forEach(searchEngine::delete);
+        return documents.size();
+    }
+
+    /**
+     * 전체 재색인을 백그라운드로 시작합니다. 이미 진행 중이면 무시합니다.
+     *
+     * @return 시작 여부
+     */
+    public boolean startRebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                rebuildAll();
+            } finally {
+                rebuilding.set(false);
+            }
+        }, "quiz-search-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+        return true;
+    }
+
+    /**
+     * 전체 퀴즈를 ID 순으로 스트리밍하며 색인합니다.
+     * 배치마다 영속성 컨텍스트를 비워 메모리 사용량을 일정하게 유지합니다.
+     * 진행 중 발생한 변경은 대기열에 쌓였다가 재색인이 끝난 뒤 최신 내용으로 반영됩니다.
+     */
+    private void rebuildAll() {
+        long started = System.currentTimeMillis();
+        int[] indexed = {0};
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                List<QuizSearchDocument> batch = new ArrayList<>(batchSize);
+                try (Stream<Quiz> quizzes = quizRepository.streamAllOrderById()) {
+                    quizzes.forEach(quiz -> {
+                        batch.add(QuizSearchDocument.from(quiz));
+                        if (batch.size() >= batchSize) {
+                            searchEngine.index(batch);
+                            indexed[0] += batch.size();
+                            batch.clear();
+                            entityManager.clear();
+                        }
+                    });
+                }
+                searchEngine.index(batch);
+                indexed[0] += batch.size();
+            });
+            searchEngine.flush();
+            indexedTotal.addAndGet(indexed[0]);
+            ready = true;
+            log.info("퀴즈 검색 전체 색인 완료: count={}, elapsedMs={}", indexed[0], System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            log.error("퀴즈 검색 전체 색인 실패: indexed={}", indexed[0], e);
+        }
+    }
+
+    private void recordLag(LocalDateTime oldestCreatedAt) {
+        long lag = Math.max(0, Duration.between(oldestCreatedAt, LocalDateTime.now()).toMillis());
+        lastLagMillis.set(lag);
+        maxLagMillis.accumulateAndGet(lag, Math::max);
+    }
+
+    /**
+     * 색인 동기화 통계 (모니터링 용도)
+     *
+     * @return 대기 행 수, 현재 지연, 최근/최대 반영 지연, 누적 색인 수, 실패 배치 수, 재색인 진행 여부
+     */
+    public Map<String, Object> snapshot() {
+        LocalDateTime oldest = outboxRepository.findOldestCreatedAt();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("pending", outboxRepository.countPending());
+        stats.put("fallbackPending", fallbackQuizIds.size() + fallbackTagIds.size());
+        stats.put("currentLagMillis", oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis()));
+        stats.put("lastLagMillis", lastLagMillis.get());
+        stats.put("maxLagMillis", maxLagMillis.get());
+        stats.put("indexedTotal", indexedTotal.get());
+        stats.put("failedBatches", failedBatches.get());
+        stats.put("rebuilding", rebuilding.get());
+        stats.put("ready", ready);
+        stats.put("documents", searchEngine.count());
+        return stats;
+    }
+}
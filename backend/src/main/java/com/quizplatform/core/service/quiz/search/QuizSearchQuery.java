@@ -0,0 +1,48 @@
+package com.quizplatform.core.service.quiz.search;
+
+import com.quizplatform.core.domain.quiz.DifficultyLevel;
+import com.quizplatform.core.domain.quiz.QuizType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 퀴즈 전문 검색 질의
+ *
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+@Getter
+@Builder
+public class QuizSearchQuery {
+    /**
+     * 검색어 (제목, 설명, 문제 내용, 태그 이름/동의어 대상)
+     */
+    private final String text;
+
+    /**
+     * 난이도 필터 (null이면 전체)
+     */
+    private final DifficultyLevel difficultyLevel;
+
+    /**
+     * 퀴즈 유형 필터 (null이면 전체)
+     */
+    private final QuizType quizType;
+
+    /**
+     * 태그 필터 (하위 태그 포함, 여러 개면 OR)
+     */
+    private final List<Long> tagIds;
+
+    /**
+     * 페이지 번호 (0부터)
+     */
+    private final int page;
+
+    /**
+     * 페이지 크기
+     */
+    private final int size;
+}
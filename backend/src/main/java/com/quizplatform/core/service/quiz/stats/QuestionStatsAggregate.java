@@ -0,0 +1,59 @@
+package com.quizplatform.core.service.quiz.stats;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 문제별 병합 가능한 통계 집계
+ *
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class QuestionStatsAggregate {
+    private long attempts;
+    private long correct;
+    private RunningStats time = new RunningStats();
+    private TimeHistogram timeHistogram = new TimeHistogram();
+
+    /**
+     * 문제 답변 결과를 추가합니다.
+     *
+     * @param isCorrect 정답 여부
+     * @param timeTaken 소요 시간 (초, 없으면 null)
+     */
+    public void add(boolean isCorrect, Integer timeTaken) {
+        attempts++;
+        if (isCorrect) {
+            correct++;
+        }
+        if (timeTaken != null) {
+            time.add(timeTaken);
+            timeHistogram.add(timeTaken);
+        }
+    }
+
+    /**
+     * 다른 문제 통계를 병합합니다.
+     *
+     * @param other 병합할 문제 통계
+     */
+    public void merge(QuestionStatsAggregate other) {
+        attempts += other.attempts;
+        correct += other.correct;
+        time.merge(other.time);
+        timeHistogram.merge(other.timeHistogram);
+    }
+
+    /**
+     * 정답률을 계산합니다.
+     *
+     * @return 정답률 (0~100%)
+     */
+    public double correctRate() {
+        return attempts == 0 ? 0 : (double) correct / attempts * 100;
+    }
+}
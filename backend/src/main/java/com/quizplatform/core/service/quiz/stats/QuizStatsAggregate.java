@@ -0,0 +1,109 @@
+package com.quizplatform.core.service.quiz.stats;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 퀴즈별 병합 가능한 통계 집계
+ *
+ * <p>시도 시작/완료 시 증분으로 갱신되며, 서버별 증분과 DB 스냅샷을 병합하여 전체 통계를 구성합니다.
+ * 조회 비용은 시도 수와 무관하게 문제 수에 비례합니다.</p>
+ *
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class QuizStatsAggregate {
+    private long startedCount;
+    private long completedCount;
+    private RunningStats score = new RunningStats();
+    private ScoreHistogram scoreHistogram = new ScoreHistogram();
+    private RunningStats completionTime = new RunningStats();
+    private TimeHistogram completionTimeHistogram = new TimeHistogram();
+
+    /**
+     * 문제별 통계 (Key: 문제 ID)
+     */
+    private Map<Long, QuestionStatsAggregate> questions = new HashMap<>();
+
+    /**
+     * 시도 시작을 기록합니다.
+     */
+    public void recordStart() {
+        startedCount++;
+    }
+
+    /**
+     * 완료된 시도의 점수와 소요 시간을 기록합니다.
+     *
+     * @param score 점수
+     * @param timeTaken 소요 시간 (초, 없으면 null)
+     */
+    public void recordCompletion(Integer score, Integer timeTaken) {
+        completedCount++;
+        if (score != null) {
+            this.score.add(score);
+            scoreHistogram.add(score);
+        }
+        if (timeTaken != null) {
+            completionTime.add(timeTaken);
+            completionTimeHistogram.add(timeTaken);
+        }
+    }
+
+    /**
+     * 문제 답변 결과를 기록합니다.
+     *
+     * @param questionId 문제 ID
+     * @param isCorrect 정답 여부
+     * @param timeTaken 소요 시간 (초, 없으면 null)
+     */
+    public void recordAnswer(Long questionId, boolean isCorrect, Integer timeTaken) {
+        questions.computeIfAbsent(questionId, id -> new QuestionStatsAggregate()).add(isCorrect, timeTaken);
+    }
+
+    /**
+     * 다른 집계를 병합합니다.
+     *
+     * @param other 병합할 집계
+     */
+    public void merge(QuizStatsAggregate other) {
+        if (other == null) {
+            return;
+        }
+        startedCount += other.startedCount;
+        completedCount += other.completedCount;
+        score.merge(other.score);
+        scoreHistogram.merge(other.scoreHistogram);
+        completionTime.merge(other.completionTime);
+        completionTimeHistogram.merge(other.completionTimeHistogram);
+        other.questions.forEach((questionId, stats) ->
+                questions.computeIfAbsent(questionId, id -> new QuestionStatsAggregate()).merge(stats));
+    }
+
+    /**
+     * 복사본을 생성합니다.
+     *
+     * @return 복사된 집계
+     */
+    public QuizStatsAggregate copy() {
+        QuizStatsAggregate copy = new QuizStatsAggregate();
+        copy.merge(this);
+        return copy;
+    }
+
+    /**
+     * 완료율을 계산합니다.
+     *
+     * @return 완료율 (0~100%)
+     */
+    public double completionRate() {
+        return startedCount == 0 ? 0 : Math.min(100.0, (double) completedCount / startedCount * 100);
+    }
+}
@@ -0,0 +1,314 @@
+package com.quizplatform.core.service.quiz.stats;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.quizplatform.core.domain.question.QuestionAttempt;
+import com.quizplatform.core.domain.quiz.QuizAttempt;
+import com.quizplatform.core.domain.quiz.QuizStatsSnapshot;
+import com.quizplatform.core.repository.quiz.QuizStatsJdbcRepository;
+import com.quizplatform.core.repository.quiz.QuizStatsSnapshotRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 퀴즈 통계 증분 집계 컴포넌트
+ *
+ * 주요 기능:
+ * - 시도 시작/완료를 퀴즈별 증분 집계에 기록 (트랜잭션 커밋 후)
+ * - 주기적으로 증분을 DB 스냅샷 행에 병합 (행 잠금으로 다중 서버 병합 보장)
+ * - 통계 조회 시 스냅샷과 아직 병합되지 않은 증분을 합쳐 반환 (문제 수에 비례하는 비용)
+ * - 스냅샷이 없는 기존 퀴즈는 시도 기록을 스트리밍으로 한 번 순회하여 재구성
+ * - 점수 분포 기반 백분위 순위 조회 (병합 주기 동안 캐시)
+ *
+ * @author 채기훈
+ */
+@Component
+@Slf4j
+public class QuizStatsAggregator {
+
+    /**
+     * 병합 대기 중인 증분 (Key: 퀴즈 ID)
+     * 증분 객체는 compute 안에서만 변경하여 기록과 병합 사이의 누락을 막습니다.
+     * 스냅샷 최초 생성도 같은 compute 안에서 재구성하고 증분을 비워, 재구성이 읽은 시도가 증분에 다시 쌓이지 않게 합니다.
+     */
+    private final ConcurrentHashMap<Long, QuizStatsAggregate> pending = new ConcurrentHashMap<>();
+
+    private final QuizStatsSnapshotRepository snapshotRepository;
+    private final QuizStatsJdbcRepository quizStatsJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 스냅샷 최초 저장용 트랜잭션 (읽기 전용인 호출자 트랜잭션과 분리)
+     */
+    private final TransactionTemplate snapshotTransactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 백분위 계산용 점수 분포 캐시 (Key: 퀴즈 ID)
+     * 병합 주기마다 만료되어 스냅샷과 증분을 다시 합칩니다.
+     */
+    private final Cache<Long, ScoreHistogram> scoreHistograms;
+
+    @Autowired
+    public QuizStatsAggregator(QuizStatsSnapshotRepository snapshotRepository,
+                               QuizStatsJdbcRepository quizStatsJdbcRepository,
+                               PlatformTransactionManager transactionManager,
+                               ObjectMapper objectMapper,
+                               @Value("${quiz.stats.flush-interval-ms:10000}") long flushIntervalMs,
+                               @Value("${quiz.stats.score-histogram-cache-size:1000}") long scoreHistogramCacheSize) {
+        this.snapshotRepository = snapshotRepository;
+        this.quizStatsJdbcRepository = quizStatsJdbcRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.objectMapper = objectMapper;
+        this.scoreHistograms = Caffeine.newBuilder()
+                .maximumSize(scoreHistogramCacheSize)
+                .expireAfterWrite(flushIntervalMs, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    /**
+     * 퀴즈 시도 시작을 기록합니다.
+     *
+     * @param quizId 퀴즈 ID
+     */
+    public void recordStart(Long quizId) {
+        afterCommit(() -> update(quizId, QuizStatsAggregate::recordStart));
+    }
+
+    /**
+     * 완료된 퀴즈 시도의 점수, 소요 시간, 문제별 결과를 기록합니다.
+     *
+     * @param quizAttempt 완료된 퀴즈 시도 (문제 답변 기록 포함)
+     */
+    public void recordCompletion(QuizAttempt quizAttempt) {
+        Long quizId = quizAttempt.getQuiz().getId();
+        Integer score = quizAttempt.getScore();
+        Integer timeTaken = quizAttempt.getTimeTaken();
+        List<Object[]> answers = new ArrayList<>();
+        for (QuestionAttempt questionAttempt : quizAttempt.getQuestionAttempts()) {
+            answers.add(new Object[]{questionAttempt.getQuestion().getId(), questionAttempt.isCorrect(), questionAttempt.getTimeTaken()});
+        }
+
+        afterCommit(() -> update(quizId, aggregate -> {
+            aggregate.recordCompletion(score, timeTaken);
+            for (Object[] answer : answers) {
+                aggregate.recordAnswer((Long) answer[0], (Boolean) answer[1], (Integer) answer[2]);
+            }
+        }));
+    }
+
+    /**
+     * 퀴즈의 전체 통계 집계를 조회합니다.
+     *
+     * @param quizId 퀴즈 ID
+     * @return 스냅샷과 미병합 증분을 합친 통계 집계
+     */
+    public QuizStatsAggregate getAggregate(Long quizId) {
+        QuizStatsAggregate aggregate = transactionTemplate.execute(status -> {
+            QuizStatsSnapshot snapshot = snapshotRepository.findById(quizId).orElse(null);
+            if (snapshot == null) {
+                return null;
+            }
+
+            QuizStatsAggregate stored = deserialize(snapshot.getData());
+            stored.merge(pendingCopy(quizId));
+            return stored;
+        });
+        return aggregate != null ? aggregate : rebuildSnapshot(quizId);
+    }
+
+    /**
+     * 점수의 백분위 순위를 조회합니다. ("X%의 플레이어보다 높은 점수")
+     * 퀴즈별 점수 분포를 캐시하여 제출마다 통계를 다시 읽지 않습니다.
+     *
+     * @param quizId 퀴즈 ID
+     * @param score 점수
+     * @return 백분위 순위 (0~100%), 비교할 기록이 없으면 null
+     */
+    public Double getScorePercentile(Long quizId, int score) {
+        ScoreHistogram histogram = scoreHistograms.get(quizId, id -> getAggregate(id).getScoreHistogram());
+        return histogram.percentileRank(score);
+    }
+
+    /**
+     * 미병합 증분을 DB 스냅샷에 병합합니다.
+     */
+    @Scheduled(fixedDelayString = "${quiz.stats.flush-interval-ms:10000}")
+    public void flush() {
+        for (Long quizId : new ArrayList<>(pending.keySet())) {
+            QuizStatsAggregate delta = pending.remove(quizId);
+            if (delta == null) {
+                continue;
+            }
+            boolean merged;
+            try {
+                merged = Boolean.TRUE.equals(transactionTemplate.execute(status -> mergeIntoSnapshot(quizId, delta)));
+            } catch (Exception e) {
+                log.error("퀴즈 통계 병합 실패, 다음 주기에 재시도: quizId={}, 오류={}", quizId, e.getMessage());
+                update(quizId, aggregate -> aggregate.merge(delta));
+                continue;
+            }
+            if (!merged) {
+                // 첫 병합: 증분을 되돌린 뒤 기록을 막은 상태에서 재구성 (커밋된 증분은 재구성에 포함되어 버림)
+                update(quizId, aggregate -> aggregate.merge(delta));
+                try {
+                    createSnapshot(quizId);
+                } catch (RuntimeException e) {
+                    log.error("퀴즈 통계 스냅샷 생성 실패, 다음 주기에 재시도: quizId={}, 오류={}", quizId, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 종료 시 남은 증분 병합
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("종료 시 퀴즈 통계 병합 실패", e);
+        }
+    }
+
+    /**
+     * 증분을 스냅샷 행에 병합합니다.
+     *
+     * @return 병합 여부 (스냅샷이 아직 없으면 false)
+     */
+    private boolean mergeIntoSnapshot(Long quizId, QuizStatsAggregate delta) {
+        QuizStatsSnapshot snapshot = snapshotRepository.findByIdForUpdate(quizId).orElse(null);
+        if (snapshot == null) {
+            return false;
+        }
+
+        QuizStatsAggregate aggregate = deserialize(snapshot.getData());
+        aggregate.merge(delta);
+        snapshot.update(serialize(aggregate));
+        return true;
+    }
+
+    /**
+     * 스냅샷이 없는 퀴즈를 시도 기록 전체로 재구성하여 저장합니다.
+     * 이후 조회는 저장된 스냅샷을 사용하므로 전체 순회는 한 번만 일어납니다.
+     */
+    private QuizStatsAggregate rebuildSnapshot(Long quizId) {
+        QuizStatsAggregate created = createSnapshot(quizId);
+        return created != null ? created : getAggregate(quizId);
+    }
+
+    /**
+     * 시도 기록 전체로 스냅샷을 재구성하여 저장하고 병합 대기 증분을 비웁니다.
+     * 재구성 조회, 저장, 증분 삭제를 해당 퀴즈의 증분 compute 안에서 수행하므로
+     * 그동안 커밋된 시도의 증분 기록은 끝날 때까지 대기하여 재구성과 증분에 중복 집계되지 않습니다.
+     * 실패하면 증분은 그대로 남습니다.
+     *
+     * @param quizId 퀴즈 ID
+     * @return 재구성한 통계 집계 (다른 요청/서버가 먼저 스냅샷을 저장했으면 null)
+     */
+    private QuizStatsAggregate createSnapshot(Long quizId) {
+        QuizStatsAggregate[] created = new QuizStatsAggregate[1];
+        pending.compute(quizId, (id, delta) -> {
+            try {
+                created[0] = snapshotTransactionTemplate.execute(status -> {
+                    QuizStatsAggregate aggregate = rebuild(quizId);
+                    snapshotRepository.saveAndFlush(new QuizStatsSnapshot(quizId, serialize(aggregate)));
+                    return aggregate;
+                });
+            } catch (DataIntegrityViolationException e) {
+                // 다른 요청/서버가 먼저 스냅샷을 재구성함 (커밋된 증분은 재구성에 이미 포함됨)
+                log.info("퀴즈 통계 스냅샷이 이미 생성됨, 증분 폐기: quizId={}", quizId);
+            }
+            // 커밋된 증분은 재구성에 포함되므로 버림
+            return null;
+        });
+        return created[0];
+    }
+
+    private QuizStatsAggregate rebuild(Long quizId) {
+        QuizStatsAggregate aggregate = new QuizStatsAggregate();
+        quizStatsJdbcRepository.streamQuizAttempts(quizId, (ResultSet rs) -> {
+            aggregate.recordStart();
+            if (rs.getBoolean("is_completed")) {
+                aggregate.recordCompletion(nullableInt(rs, "score"), nullableInt(rs, "time_taken"));
+            }
+        });
+        quizStatsJdbcRepository.streamQuestionAttempts(quizId, (ResultSet rs) ->
+                aggregate.recordAnswer(rs.getLong("question_id"), rs.getBoolean("is_correct"), nullableInt(rs, "time_taken")));
+        log.info("퀴즈 통계 재구성: quizId={}, 시도수={}, 완료수={}", quizId, aggregate.getStartedCount(), aggregate.getCompletedCount());
+        return aggregate;
+    }
+
+    private void update(Long quizId, Consumer<QuizStatsAggregate> change) {
+        pending.compute(quizId, (id, aggregate) -> {
+            QuizStatsAggregate target = aggregate != null ? aggregate : new QuizStatsAggregate();
+            change.accept(target);
+            return target;
+        });
+    }
+
+    private QuizStatsAggregate pendingCopy(Long quizId) {
+        QuizStatsAggregate[] copy = new QuizStatsAggregate[1];
+        pending.computeIfPresent(quizId, (id, aggregate) -> {
+            copy[0] = aggregate.copy();
+            return aggregate;
+        });
+        return copy[0];
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static Integer nullableInt(ResultSet rs, String column) throws java.sql.SQLException {
+        int value = rs.getInt(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private String serialize(QuizStatsAggregate aggregate) {
+        try {
+            return objectMapper.writeValueAsString(aggregate);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("퀴즈 통계 직렬화 실패", e);
+        }
+    }
+
+    private QuizStatsAggregate deserialize(String data) {
+        try {
+            return objectMapper.readValue(data, QuizStatsAggregate.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("퀴즈 통계 역직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.quizplatform.core.service.quiz.stats;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 병합 가능한 누적 통계 (개수, 합계, 제곱합, 최솟값, 최댓값)
+ *
+ * <p>값을 하나씩 추가하거나 다른 누적 통계와 병합할 수 있으며,
+ * 원본 값을 보관하지 않고도 평균과 표준편차를 계산합니다.</p>
+ *
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class RunningStats {
+    private long count;
+    private double sum;
+    private double sumOfSquares;
+    private double min = Double.NaN;
+    private double max = Double.NaN;
+
+    /**
+     * 값을 추가합니다.
+     *
+     * @param value 추가할 값
+     */
+    public void add(double value) {
+        count++;
+        sum += value;
+        sumOfSquares += value * value;
+        min = Double.isNaN(min) ? value : Math.min(min, value);
+        max = Double.isNaN(max) ? value : Math.max(max, value);
+    }
+
+    /**
+     * 다른 누적 통계를 병합합니다.
+     *
+     * @param other 병합할 누적 통계
+     */
+    public void merge(RunningStats other) {
+        if (other == null || other.count == 0) {
+            return;
+        }
+        count += other.count;
+        sum += other.sum;
+        sumOfSquares += other.sumOfSquares;
+        min = Double.isNaN(min) ? other.min : Math.min(min, other.min);
+        max = Double.isNaN(max) ? other.max : Math.max(max, other.max);
+    }
+
+    /**
+     * 평균을 계산합니다.
+     *
+     * @return 평균, 값이 없으면 0
+     */
+    public double mean() {
+        return count == 0 ? 0 : sum / count;
+    }
+
+    /**
+     * 모표준편차를 계산합니다.
+     *
+     * @return 표준편차, 값이 없으면 0
+     */
+    public double standardDeviation() {
+        if (count == 0) {
+            return 0;
+        }
+        double mean = mean();
+        return Math.sqrt(Math.max(0, sumOfSquares / count - mean * mean));
+    }
+}
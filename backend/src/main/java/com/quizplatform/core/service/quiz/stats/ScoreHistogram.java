@@ -0,0 +1,124 @@
+package com.quizplatform.core.service.quiz.stats;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 병합 가능한 점수 분포 (0~100점, 1점 단위 구간)
+ *
+ * <p>점수 범위가 고정되어 있으므로 점수마다 개수만 누적합니다. (101개 구간, 근사 오차 없음)
+ * 백분위 순위와 백분위수를 시도 수와 무관한 고정 비용으로 계산합니다.</p>
+ *
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+@Getter
+@Setter
+public class ScoreHistogram {
+
+    private static final int MAX_SCORE = 100;
+
+    private long[] counts = new long[MAX_SCORE + 1];
+
+    /**
+     * 점수를 추가합니다.
+     *
+     * @param score 점수 (범위를 벗어나면 0~100으로 보정)
+     */
+    public void add(int score) {
+        counts[clamp(score)]++;
+    }
+
+    /**
+     * 다른 점수 분포를 병합합니다.
+     *
+     * @param other 병합할 점수 분포
+     */
+    public void merge(ScoreHistogram other) {
+        if (other == null) {
+            return;
+        }
+        for (int i = 0; i < counts.length && i < other.counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+    }
+
+    /**
+     * 전체 개수를 반환합니다.
+     *
+     * @return 누적 개수
+     */
+    public long total() {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * 주어진 점수보다 낮은 점수의 비율을 계산합니다. ("X%의 플레이어보다 높은 점수")
+     *
+     * @param score 점수
+     * @return 백분위 순위 (0~100%), 비교할 점수가 없으면 null
+     */
+    public Double percentileRank(int score) {
+        long total = total();
+        if (total == 0) {
+            return null;
+        }
+        long below = 0;
+        for (int i = 0; i < clamp(score); i++) {
+            below += counts[i];
+        }
+        return Math.round((double) below / total * 1000) / 10.0;
+    }
+
+    /**
+     * 백분위수를 계산합니다.
+     *
+     * @param quantile 0.0 ~ 1.0
+     * @return 해당 백분위의 점수, 값이 없으면 0
+     */
+    public int quantile(double quantile) {
+        long total = total();
+        if (total == 0) {
+            return 0;
+        }
+        double rank = Math.min(1.0, Math.max(0.0, quantile)) * total;
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (counts[i] > 0 && seen >= rank) {
+                return i;
+            }
+        }
+        return MAX_SCORE;
+    }
+
+    /**
+     * 점수를 일정 폭의 구간으로 묶은 분포를 반환합니다. (마지막 구간은 100점 포함)
+     *
+     * @param width 구간 폭 (점)
+     * @return 구간별 개수 목록
+     */
+    public List<Long> bands(int width) {
+        int bandCount = MAX_SCORE / width;
+        List<Long> bands = new ArrayList<>(bandCount);
+        for (int band = 0; band < bandCount; band++) {
+            bands.add(0L);
+        }
+        for (int i = 0; i < counts.length; i++) {
+            int band = Math.min(i / width, bandCount - 1);
+            bands.set(band, bands.get(band) + counts[i]);
+        }
+        return bands;
+    }
+
+    private static int clamp(int score) {
+        return Math.max(0, Math.min(MAX_SCORE, score));
+    }
+}
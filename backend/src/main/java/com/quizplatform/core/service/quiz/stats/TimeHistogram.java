@@ -0,0 +1,101 @@
+package com.quizplatform.core.service.quiz.stats;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 병합 가능한 소요 시간 히스토그램 (초 단위, 고정 구간)
+ *
+ * <p>짧은 시간은 촘촘하게, 긴 시간은 넓게 나눈 고정 구간에 개수만 누적합니다.
+ * 원본 값을 보관하지 않고 구간 내 선형 보간으로 백분위수를 근사합니다. (구간 폭 이내의 오차)</p>
+ *
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+@Getter
+@Setter
+public class TimeHistogram {
+
+    /**
+     * 구간 상한 (초, 미포함). 마지막 구간은 상한 없음
+     */
+    private static final int[] UPPER_BOUNDS = {
+            1, 2, 3, 5, 7, 10, 15, 20, 30, 45, 60, 90, 120, 180, 240, 300,
+            420, 600, 900, 1200, 1800, 2700, 3600, 7200
+    };
+
+    private long[] counts = new long[UPPER_BOUNDS.length + 1];
+
+    /**
+     * 소요 시간을 추가합니다.
+     *
+     * @param seconds 소요 시간 (초)
+     */
+    public void add(int seconds) {
+        counts[bucketOf(Math.max(0, seconds))]++;
+    }
+
+    /**
+     * 다른 히스토그램을 병합합니다.
+     *
+     * @param other 병합할 히스토그램
+     */
+    public void merge(TimeHistogram other) {
+        if (other == null) {
+            return;
+        }
+        for (int i = 0; i < counts.length && i < other.counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+    }
+
+    /**
+     * 전체 개수를 반환합니다.
+     *
+     * @return 누적 개수
+     */
+    public long total() {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * 백분위수를 근사합니다.
+     *
+     * @param quantile 0.0 ~ 1.0
+     * @return 근사 소요 시간 (초), 값이 없으면 0
+     */
+    public int quantile(double quantile) {
+        long total = total();
+        if (total == 0) {
+            return 0;
+        }
+        double rank = Math.min(1.0, Math.max(0.0, quantile)) * total;
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                continue;
+            }
+            if (seen + counts[i] >= rank) {
+                int lower = i == 0 ? 0 : UPPER_BOUNDS[i - 1];
+                int upper = i < UPPER_BOUNDS.length ? UPPER_BOUNDS[i] : lower * 2;
+                double fraction = (rank - seen) / counts[i];
+                return (int) Math.round(lower + (upper - lower) * fraction);
+            }
+            seen += counts[i];
+        }
+        return UPPER_BOUNDS[UPPER_BOUNDS.length - 1];
+    }
+
+    private static int bucketOf(int seconds) {
+        for (int i = 0; i < UPPER_BOUNDS.length; i++) {
+            if (seconds < UPPER_BOUNDS[i]) {
+                return i;
+            }
+        }
+        return UPPER_BOUNDS.length;
+    }
+}
@@ -3,6 +3,7 @@ package com.quizplatform.core.service.tag;
 import com.quizplatform.core.dto.common.PageResponse;
 import com.quizplatform.core.dto.tag.TagCreateRequest;
 import com.quizplatform.core.dto.tag.TagResponse;
+import com.quizplatform.core.dto.tag.TagSuggestionResponse;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
@@ -39,6 +40,18 @@ public interface TagService {
      */
     PageResponse<TagResponse> searchTags(String name, Pageable pageable);
 
+    /**
+     * 입력 중인 검색어로 태그 자동완성 후보를 조회합니다.
+     *
+     * <p>이름, 동의어, 자모 단위 입력, 초성으로 찾으며 퀴즈 수가 많은 순으로 반환합니다.
+     * 메모리 색인만 사용하며 DB를 조회하지 않습니다.</p>
+     *
+     * @param query 검색어
+     * @param limit 최대 개수
+     * @return 자동완성 후보 목록
+     */
+    List<TagSuggestionResponse> autocompleteTags(String query, int limit);
+
     /**
      * 특정 태그를 ID로 조회합니다.
      *
@@ -0,0 +1,219 @@
+package com.quizplatform.core.service.tag.autocomplete;
+
+import com.quizplatform.core.dto.tag.TagSuggestionResponse;
+import com.quizplatform.core.util.HangulJamo;
+
+import java.util.*;
+
+/**
+ * 태그 자동완성 색인 (불변, 압축 트라이)
+ *
+ * <p>태그 이름과 동의어의 자모 분해 문자열, 초성 문자열을 키로 하는 압축 트라이(radix tree)입니다.
+ * 여러 단어로 된 이름은 각 단어 시작 위치부터의 문자열도 키로 넣어 중간 단어로도 찾을 수 있습니다.</p>
+ *
+ * <p>태그는 퀴즈 수 내림차순(같으면 이름순) 순위 번호로 저장되며, 각 노드는 하위 트리의 상위 N개 순위를
+ * 미리 계산해 둡니다. 조회는 검색어 길이만큼 간선을 따라 내려간 뒤 그 노드의 목록을 그대로 반환하므로
+ * 태그 수와 관계없이 일정한 시간에 끝납니다.</p>
+ *
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+final class TagAutocompleteIndex {
+
+    private static final Comparator<Entry> RANK_ORDER = Comparator
+            .comparingInt((Entry entry) -> entry.tag().getQuizCount()).reversed()
+            .thenComparing(entry -> entry.tag().getName());
+
+    static final TagAutocompleteIndex EMPTY = build(List.of(), 1);
+
+    /**
+     * 순위 순 태그 (트라이에는 이 배열의 인덱스가 저장됨)
+     */
+    private final TagSuggestionResponse[] tags;
+    private final Node root;
+
+    private TagAutocompleteIndex(TagSuggestionResponse[] tags, Node root) {
+        this.tags = tags;
+        this.root = root;
+    }
+
+    /**
+     * 색인을 생성합니다.
+     *
+     * @param entries 태그와 검색 대상 문자열(이름, 동의어)
+     * @param maxResults 노드별로 미리 계산할 최대 후보 수
+     * @return 생성된 색인
+     */
+    static TagAutocompleteIndex build(List<Entry> entries, int maxResults) {
+        List<Entry> ranked = new ArrayList<>(entries);
+        ranked.sort(RANK_ORDER);
+
+        BuildNode buildRoot = new BuildNode();
+        TagSuggestionResponse[] tags = new TagSuggestionResponse[ranked.size()];
+        for (int rank = 0; rank < ranked.size(); rank++) {
+            Entry entry = ranked.get(rank);
+            tags[rank] = entry.tag();
+            for (String term : entry.terms()) {
+                for (String key : keysOf(term)) {
+                    buildRoot.insert(key, rank);
+                }
+            }
+        }
+        return new TagAutocompleteIndex(tags, compile(buildRoot, maxResults));
+    }
+
+    /**
+     * 검색어로 시작하는 태그를 순위 순으로 반환합니다.
+     *
+     * @param query 검색어 (완성형, 입력 중인 자모, 초성 모두 가능)
+     * @param limit 최대 개수 (색인 생성 시 최대 후보 수 이내)
+     * @return 자동완성 후보 목록
+     */
+    List<TagSuggestionResponse> suggest(String query, int limit) {
+        String key = normalize(query);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        Node node = root;
+        int position = 0;
+        while (position < key.length()) {
+            int child = node.find(key.charAt(position));
+            if (child < 0) {
+                return List.of();
+            }
+            String label = node.labels[child];
+            int length = Math.min(label.length(), key.length() - position);
+            if (!key.regionMatches(position, label, 0, length)) {
+                return List.of();
+            }
+            position += length;
+            node = node.children[child];
+        }
+
+        int count = Math.min(limit, node.top.length);
+        List<TagSuggestionResponse> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(tags[node.top[i]]);
+        }
+        return result;
+    }
+
+    /**
+     * 색인된 태그 수
+     *
+     * @return 태그 수
+     */
+    int size() {
+        return tags.length;
+    }
+
+    /**
+     * 문자열 하나에서 생성되는 검색 키 (단어 시작 위치별 자모 분해 문자열과 초성 문자열)
+     */
+    private static Set<String> keysOf(String term) {
+        Set<String> keys = new HashSet<>();
+        if (term == null || term.isBlank()) {
+            return keys;
+        }
+        String[] words = term.trim().toLowerCase(Locale.ROOT).split("\\s+");
+        for (int start = 0; start < words.length; start++) {
+            String suffix = String.join("", Arrays.copyOfRange(words, start, words.length));
+            keys.add(HangulJamo.decompose(suffix));
+            if (HangulJamo.containsSyllable(suffix)) {
+                keys.add(HangulJamo.initials(suffix));
+            }
+        }
+        return keys;
+    }
+
+    private static String normalize(String query) {
+        if (query == null) {
+            return "";
+        }
+        return HangulJamo.decompose(query.toLowerCase(Locale.ROOT).replaceAll("\\s+", ""));
+    }
+
+    /**
+     * 단일 문자 트라이를 압축 트라이로 변환하고 노드별 상위 후보를 계산합니다.
+     * 종료 태그가 없고 자식이 하나뿐인 노드는 간선 문자열로 합칩니다.
+     */
+    private static Node compile(BuildNode source, int maxResults) {
+        int size = source.children.size();
+        char[] firsts = new char[size];
+        String[] labels = new String[size];
+        Node[] children = new Node[size];
+
+        int index = 0;
+        for (Map.Entry<Character, BuildNode> child : source.children.entrySet()) {
+            StringBuilder label = new StringBuilder().append(child.getKey());
+            BuildNode current = child.getValue();
+            while (current.terminals.isEmpty() && current.children.size() == 1) {
+                Map.Entry<Character, BuildNode> only = current.children.firstEntry();
+                label.append(only.getKey());
+                current = only.getValue();
+            }
+            firsts[index] = child.getKey();
+            labels[index] = label.toString();
+            children[index] = compile(current, maxResults);
+            index++;
+        }
+
+        // 순위 번호가 작을수록 상위이므로 작은 번호부터 maxResults개
+        TreeSet<Integer> ranks = new TreeSet<>(source.terminals);
+        for (Node child : children) {
+            for (int rank : child.top) {
+                ranks.add(rank);
+            }
+        }
+        int[] top = ranks.stream().limit(maxResults).mapToInt(Integer::intValue).toArray();
+        return new Node(firsts, labels, children, top);
+    }
+
+    /**
+     * 색인 입력 항목
+     *
+     * @param tag 응답으로 반환할 태그 정보 (퀴즈 수로 순위 결정)
+     * @param terms 검색 대상 문자열 (이름, 동의어)
+     */
+    record Entry(TagSuggestionResponse tag, List<String> terms) {
+    }
+
+    /**
+     * 압축 트라이 노드 (자식은 간선 첫 글자 순 정렬)
+     */
+    private static final class Node {
+        private final char[] firsts;
+        private final String[] labels;
+        private final Node[] children;
+        private final int[] top;
+
+        private Node(char[] firsts, String[] labels, Node[] children, int[] top) {
+            this.firsts = firsts;
+            this.labels = labels;
+            this.children = children;
+            this.top = top;
+        }
+
+        private int find(char first) {
+            int index = Arrays.binarySearch(firsts, first);
+            return index >= 0 ? index : -1;
+        }
+    }
+
+    /**
+     * 색인 생성용 단일 문자 트라이 노드
+     */
+    private static final class BuildNode {
+        private final TreeMap<Character, BuildNode> children = new TreeMap<>();
+        private final Set<Integer> terminals = new TreeSet<>();
+
+        private void insert(String key, int rank) {
+            BuildNode node = this;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new BuildNode());
+            }
+            node.terminals.add(rank);
+        }
+    }
+}
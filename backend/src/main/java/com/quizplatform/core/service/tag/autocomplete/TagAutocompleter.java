@@ -0,0 +1,141 @@
+package com.quizplatform.core.service.tag.autocomplete;
+
+import com.quizplatform.core.domain.tag.Tag;
+import com.quizplatform.core.dto.tag.TagSuggestionResponse;
+import com.quizplatform.core.repository.tag.TagRepository;
+import com.quizplatform.core.service.event.QuizCreatedEvent;
+import com.quizplatform.core.service.event.QuizUpdatedEvent;
+import com.quizplatform.core.service.event.TagChangedEvent;
+import com.quizplatform.core.service.tag.cache.TagQuizCountCache;
+import com.quizplatform.core.service.tag.cache.TagQuizCountCache.TagQuizCount;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 태그 자동완성 컴포넌트
+ *
+ * 주요 기능:
+ * - 태그 이름/동의어/자모/초성 압축 트라이로 입력 중인 검색어의 후보를 DB 조회 없이 반환
+ * - 태그 변경, 퀴즈 생성/수정 커밋 후 변경 표시만 하고, 주기 작업이 새 색인을 만들어 한 번에 교체
+ *
+ * <p>조회는 항상 완성된 색인 참조 하나만 읽으므로 재구성 중에도 이전 색인으로 일관되게 응답합니다.</p>
+ *
+ * @author 채기훈
+ */
+@Component
+@Slf4j
+public class TagAutocompleter {
+
+    private final TagRepository tagRepository;
+    private final TagQuizCountCache tagQuizCountCache;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int maxResults;
+
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+    private volatile TagAutocompleteIndex index = TagAutocompleteIndex.EMPTY;
+
+    @Autowired
+    public TagAutocompleter(TagRepository tagRepository,
+                            TagQuizCountCache tagQuizCountCache,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${tag.autocomplete.max-results:10}") int maxResults) {
+        this.tagRepository = tagRepository;
+        this.tagQuizCountCache = tagQuizCountCache;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.maxResults = maxResults;
+    }
+
+    /**
+     * 검색어로 시작하는 태그를 퀴즈 수가 많은 순으로 반환합니다.
+     *
+     * @param query 검색어 (완성형, 입력 중인 자모, 초성)
+     * @param limit 최대 개수
+     * @return 자동완성 후보 목록
+     */
+    public List<TagSuggestionResponse> suggest(String query, int limit) {
+        return index.suggest(query, Math.max(1, Math.min(limit, maxResults)));
+    }
+
+    /**
+     * 기동 시 색인 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTagChanged(TagChangedEvent event) {
+        dirty.set(true);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onQuizCreated(QuizCreatedEvent event) {
+        dirty.set(true);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onQuizUpdated(QuizUpdatedEvent event) {
+        dirty.set(true);
+    }
+
+    /**
+     * 변경이 있으면 색인을 다시 만듭니다.
+     */
+    @Scheduled(fixedDelayString = "${tag.autocomplete.refresh-interval-ms:2000}")
+    public void refreshIfDirty() {
+        if (dirty.getAndSet(false)) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 전체 태그와 태그별 퀴즈 수를 읽어 새 색인을 만들고 교체합니다.
+     * 실패하면 이전 색인을 유지하고 다음 주기에 다시 시도합니다.
+     */
+    public void rebuild() {
+        try {
+            long started = System.currentTimeMillis();
+            List<TagAutocompleteIndex.Entry> entries = readOnlyTransaction.execute(status -> loadEntries());
+            TagAutocompleteIndex rebuilt = TagAutocompleteIndex.build(entries, maxResults);
+            index = rebuilt;
+            log.info("태그 자동완성 색인 교체: tags={}, elapsedMs={}", rebuilt.size(), System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            dirty.set(true);
+            log.error("태그 자동완성 색인 생성 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private List<TagAutocompleteIndex.Entry> loadEntries() {
+        Map<Long, TagQuizCount> quizCounts = tagQuizCountCache.getAll();
+
+        List<TagAutocompleteIndex.Entry> entries = new ArrayList<>();
+        for (Tag tag : tagRepository.findAll()) {
+            List<String> terms = new ArrayList<>();
+            terms.add(tag.getName());
+            terms.addAll(tag.getSynonyms());
+            TagSuggestionResponse suggestion = new TagSuggestionResponse(
+                    tag.getId(),
+                    tag.getName(),
+                    tag.getParent() != null ? tag.getParent().getId() : null,
+                    quizCounts.getOrDefault(tag.getId(), TagQuizCount.ZERO).direct());
+            entries.add(new TagAutocompleteIndex.Entry(suggestion, terms));
+        }
+        return entries;
+    }
+}
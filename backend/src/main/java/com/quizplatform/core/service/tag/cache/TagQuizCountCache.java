@@ -0,0 +1,187 @@
+package com.quizplatform.core.service.tag.cache;
+
+import com.quizplatform.core.repository.tag.TagRepository;
+import com.quizplatform.core.service.event.QuizCreatedEvent;
+import com.quizplatform.core.service.event.QuizUpdatedEvent;
+import com.quizplatform.core.service.event.TagChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 태그별 퀴즈 수 캐시
+ *
+ * 주요 기능:
+ * - 태그별 직접 연결된 퀴즈 수와 하위 태그까지 포함한 (중복 제거) 퀴즈 수를 메모리 스냅샷으로 보관
+ * - 스냅샷은 재귀 CTE 쿼리 한 번으로 전체 태그를 적재 (최초 조회 시, 무효화 후 다음 조회 시)
+ * - 퀴즈 생성 커밋 후에는 해당 퀴즈의 태그와 상위 태그 수만 증가시켜 반영
+ * - 퀴즈 수정, 태그 변경 커밋 후에는 스냅샷을 버리고 다음 조회에서 다시 적재
+ *
+ * <p>조회는 불변 스냅샷 참조 하나만 읽습니다. 적재 중 변경이 커밋되면 적재 결과는 이번 조회에만 쓰고
+ * 스냅샷으로 두지 않아, 변경 이전 수치가 캐시에 남지 않게 합니다.</p>
+ *
+ * @author 채기훈
+ */
+@Component
+@Slf4j
+public class TagQuizCountCache {
+
+    private final TagRepository tagRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    /**
+     * 변경 이벤트마다 증가하는 버전 (적재 중 변경 여부 판단용)
+     */
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * 현재 스냅샷 (null이면 다음 조회에서 적재)
+     */
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public TagQuizCountCache(TagRepository tagRepository, PlatformTransactionManager transactionManager) {
+        this.tagRepository = tagRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        // 커밋 후 리스너에서도 호출되므로 항상 새 트랜잭션에서 읽음
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 태그의 퀴즈 수를 조회합니다.
+     *
+     * @param tagId 태그 ID
+     * @return 퀴즈 수 (없는 태그는 0)
+     */
+    public TagQuizCount get(Long tagId) {
+        return current().counts().getOrDefault(tagId, TagQuizCount.ZERO);
+    }
+
+    /**
+     * 전체 태그의 퀴즈 수를 조회합니다.
+     *
+     * @return 태그 ID별 퀴즈 수 (변경 불가)
+     */
+    public Map<Long, TagQuizCount> getAll() {
+        return current().counts();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onQuizCreated(QuizCreatedEvent event) {
+        version.incrementAndGet();
+        Snapshot base = snapshot;
+        if (base == null) {
+            return;
+        }
+        try {
+            List<Long> tagIds = readOnlyTransaction.execute(status -> tagRepository.findTagIdsByQuizId(event.getQuizId()));
+            applyQuizCreated(base, tagIds != null ? tagIds : List.of());
+        } catch (RuntimeException e) {
+            snapshot = null;
+            log.warn("태그 퀴즈 수 증분 반영 실패, 다음 조회에서 재적재: quizId={}, {}", event.getQuizId(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onQuizUpdated(QuizUpdatedEvent event) {
+        invalidate();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTagChanged(TagChangedEvent event) {
+        invalidate();
+    }
+
+    /**
+     * 스냅샷을 버립니다. 다음 조회에서 다시 적재합니다.
+     */
+    public void invalidate() {
+        version.incrementAndGet();
+        snapshot = null;
+    }
+
+    private Snapshot current() {
+        Snapshot loaded = snapshot;
+        if (loaded != null) {
+            return loaded;
+        }
+        synchronized (this) {
+            if (snapshot != null) {
+                return snapshot;
+            }
+            long startVersion = version.get();
+            long started = System.currentTimeMillis();
+            loaded = readOnlyTransaction.execute(status -> load());
+            if (version.get() == startVersion) {
+                snapshot = loaded;
+            }
+            log.debug("태그 퀴즈 수 적재: tags={}, elapsedMs={}", loaded.counts().size(), System.currentTimeMillis() - started);
+            return loaded;
+        }
+    }
+
+    private Snapshot load() {
+        Map<Long, TagQuizCount> counts = new HashMap<>();
+        Map<Long, Long> parentIds = new HashMap<>();
+        for (Object[] row : tagRepository.countQuizzesWithDescendantsGroupByTag()) {
+            Long tagId = ((Number) row[0]).longValue();
+            if (row[1] != null) {
+                parentIds.put(tagId, ((Number) row[1]).longValue());
+            }
+            counts.put(tagId, new TagQuizCount(((Number) row[2]).intValue(), ((Number) row[3]).intValue()));
+        }
+        return new Snapshot(Collections.unmodifiableMap(counts), Collections.unmodifiableMap(parentIds));
+    }
+
+    /**
+     * 새 퀴즈 하나를 스냅샷에 더합니다.
+     * 퀴즈의 태그는 직접 수를, 태그와 그 상위 태그 전체(중복 제거)는 하위 포함 수를 1씩 늘립니다.
+     */
+    private synchronized void applyQuizCreated(Snapshot base, List<Long> tagIds) {
+        // 조회 사이에 무효화/재적재되었으면 증분 대신 다음 조회의 재적재에 맡김
+        if (snapshot != base) {
+            snapshot = null;
+            return;
+        }
+        Map<Long, TagQuizCount> counts = new HashMap<>(base.counts());
+        Set<Long> ancestors = new HashSet<>();
+        for (Long tagId : tagIds) {
+            counts.merge(tagId, new TagQuizCount(1, 0), TagQuizCount::plus);
+            // 상위 방향으로 올라가며 수집 (이미 수집한 태그에서 멈춤)
+            Long current = tagId;
+            while (current != null && ancestors.add(current)) {
+                current = base.parentIds().get(current);
+            }
+        }
+        for (Long tagId : ancestors) {
+            counts.merge(tagId, new TagQuizCount(0, 1), TagQuizCount::plus);
+        }
+        snapshot = new Snapshot(Collections.unmodifiableMap(counts), base.parentIds());
+    }
+
+    /**
+     * 태그의 퀴즈 수
+     *
+     * @param direct 태그에 직접 연결된 퀴즈 수
+     * @param total 하위 태그까지 포함한 퀴즈 수 (여러 태그에 걸친 퀴즈는 한 번만 셈)
+     */
+    public record TagQuizCount(int direct, int total) {
+        public static final TagQuizCount ZERO = new TagQuizCount(0, 0);
+
+        private TagQuizCount plus(TagQuizCount other) {
+            return new TagQuizCount(direct + other.direct, total + other.total);
+        }
+    }
+
+    private record Snapshot(Map<Long, TagQuizCount> counts, Map<Long, Long> parentIds) {
+    }
+}
@@ -4,10 +4,17 @@ import com.quizplatform.core.domain.tag.Tag;
 import com.quizplatform.core.dto.common.PageResponse;
 import com.quizplatform.core.dto.tag.TagCreateRequest;
 import com.quizplatform.core.dto.tag.TagResponse;
+import com.quizplatform.core.dto.tag.TagSuggestionResponse;
 import com.quizplatform.core.exception.BusinessException;
 import com.quizplatform.core.exception.ErrorCode;
+import com.quizplatform.core.repository.tag.TagHierarchyCache;
 import com.quizplatform.core.repository.tag.TagRepository;
+import com.quizplatform.core.service.event.DomainEventPublisher;
+import com.quizplatform.core.service.event.TagChangedEvent;
 import com.quizplatform.core.service.tag.TagService;
+import com.quizplatform.core.service.tag.autocomplete.TagAutocompleter;
+import com.quizplatform.core.service.tag.cache.TagQuizCountCache;
+import com.quizplatform.core.service.tag.cache.TagQuizCountCache.TagQuizCount;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.Hibernate;
@@ -20,7 +27,6 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * 태그 관련 비즈니스 로직을 처리하는 서비스 구현체
@@ -41,6 +47,21 @@ public class TagServiceImpl implements TagService {
      */
     private final TagRepository tagRepository;
 
+    /**
+     * 태그 계층 구조 캐시
+     */
+    private final TagHierarchyCache tagHierarchyCache;
+
+    /**
+     * 태그 자동완성 색인
+     */
+    private final TagAutocompleter tagAutocompleter;
+
+    /**
+     * 태그별 퀴즈 수 캐시
+     */
+    private final TagQuizCountCache tagQuizCountCache;
+
     /**
      * 모든 태그 목록을 조회합니다.
      *
@@ -61,9 +82,8 @@ public class TagServiceImpl implements TagService {
         // 세션이 열려있는 상태에서 지연 로딩된 컬렉션을 명시적으로 초기화
         for (Tag tag : tags) {
             Hibernate.initialize(tag.getSynonyms());
-            // 퀴즈 개수는 별도의 쿼리로 조회
-            int quizCount = tagRepository.countQuizzesForTag(tag.getId());
-            responses.add(TagResponse.from(tag, quizCount));
+            // 퀴즈 개수는 메모리 캐시에서 조회
+            responses.add(toResponse(tag));
         }
 
         return responses;
@@ -92,27 +112,30 @@ public class TagServiceImpl implements TagService {
             tagsPage = tagRepository.findAll(pageable);
         }
 
-        // 태그 ID 목록 추출
-        List<Long> tagIds = tagsPage.getContent().stream()
-                .map(Tag::getId)
-                .collect(Collectors.toList());
-
-        // 각 태그별 퀴즈 개수 조회
-        Map<Long, Integer> quizCountMap = new HashMap<>();
-        for (Long tagId : tagIds) {
-            quizCountMap.put(tagId, tagRepository.countQuizzesForTag(tagId));
-        }
-
-        // DTO로 변환
+        // DTO로 변환 (퀴즈 개수는 메모리 캐시에서 조회)
         Page<TagResponse> tagResponses = tagsPage.map(tag -> {
             Hibernate.initialize(tag.getSynonyms());
-            int quizCount = quizCountMap.getOrDefault(tag.getId(), 0);
-            return TagResponse.from(tag, quizCount);
+            return toResponse(tag);
         });
 
         return PageResponse.of(tagResponses);
     }
 
+    /**
+     * 입력 중인 검색어로 태그 자동완성 후보를 조회합니다.
+     *
+     * <p>메모리의 압축 트라이 색인에서 바로 조회하며 DB에 접근하지 않습니다.
+     * 색인은 태그 변경 후 주기적으로 다시 만들어집니다.</p>
+     *
+     * @param query 검색어
+     * @param limit 최대 개수
+     * @return 자동완성 후보 목록
+     */
+    @Override
+    public List<TagSuggestionResponse> autocompleteTags(String query, int limit) {
+        return tagAutocompleter.suggest(query, limit);
+    }
+
     /**
      * 특정 태그를 ID로 조회합니다.
      *
@@ -133,10 +156,7 @@ public class TagServiceImpl implements TagService {
         // 세션이 열려있는 상태에서 지연 로딩된 컬렉션을 명시적으로 초기화
         Hibernate.initialize(tag.getSynonyms());
 
-        // 퀴즈 개수는 별도의 쿼리로 조회
-        int quizCount = tagRepository.countQuizzesForTag(tagId);
-
-        return TagResponse.from(tag, quizCount);
+        return toResponse(tag);
     }
 
     /**
@@ -159,9 +179,8 @@ public class TagServiceImpl implements TagService {
         // 세션이 열려있는 상태에서 지연 로딩된 컬렉션을 명시적으로 초기화
         for (Tag tag : rootTags) {
             Hibernate.initialize(tag.getSynonyms());
-            // 퀴즈 개수는 별도의 쿼리로 조회
-            int quizCount = tagRepository.countQuizzesForTag(tag.getId());
-            responses.add(TagResponse.from(tag, quizCount));
+            // 퀴즈 개수는 메모리 캐시에서 조회
+            responses.add(toResponse(tag));
         }
 
         return responses;
@@ -194,8 +213,8 @@ public class TagServiceImpl implements TagService {
             // 동의어 초기화
             Hibernate.initialize(tag.getSynonyms());
 
-            // 응답 생성 및 추가
-            result.add(TagResponse.from(tag, count.intValue()));
+            // 응답 생성 및 추가 (하위 태그 포함 수는 캐시에서 조회)
+            result.add(TagResponse.from(tag, count.intValue(), tagQuizCountCache.get(tag.getId()).total()));
         }
 
         return result;
@@ -239,6 +258,7 @@ public class TagServiceImpl implements TagService {
         }
 
         Tag savedTag = tagRepository.save(tag);
+        DomainEventPublisher.publishEvent(new TagChangedEvent(this, savedTag.getId()));
         return TagResponse.from(savedTag);
     }
 
@@ -251,7 +271,7 @@ public class TagServiceImpl implements TagService {
      * @param tagId 수정할 태그 ID
      * @param request 태그 수정 요청
      * @return 수정된 태그 정보
-     * @throws BusinessException 태그를 찾을 수 없거나, 이미 존재하는 태그 이름이거나, 부모 태그를 찾을 수 없는 경우
+     * @throws BusinessException 태그를 찾을 수 없거나, 이미 존재하는 태그 이름이거나, 부모 태그를 찾을 수 없거나, 하위 태그를 부모로 지정한 경우
      */
     @Override
     @Transactional
@@ -278,6 +298,11 @@ public class TagServiceImpl implements TagService {
             request.getSynonyms().forEach(tag::addSynonym);
         }
 
+        // 자기 자신이나 하위 태그를 부모로 지정하면 계층에 순환이 생기므로 거부
+        if (request.getParentId() != null && tagHierarchyCache.isSelfOrDescendant(tagId, request.getParentId())) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "자기 자신이나 하위 태그를 부모 태그로 지정할 수 없습니다. ID: " + request.getParentId());
+        }
+
         // 부모 태그 업데이트
         if (request.getParentId() != null &&
                 (tag.getParent() == null || !tag.getParent().getId().equals(request.getParentId()))) {
@@ -291,6 +316,9 @@ public class TagServiceImpl implements TagService {
         }
 
         Tag updatedTag = tagRepository.save(tag);
+
+        // 커밋 시 이 태그를 가진 퀴즈의 검색 색인 갱신 대기열에 기록
+        DomainEventPublisher.publishEvent(new TagChangedEvent(this, tagId));
         return TagResponse.from(updatedTag);
     }
 
@@ -321,6 +349,7 @@ public class TagServiceImpl implements TagService {
         }
 
         tagRepository.delete(tag);
+        DomainEventPublisher.publishEvent(new TagChangedEvent(this, tagId));
     }
 
     /**
@@ -343,14 +372,23 @@ public class TagServiceImpl implements TagService {
         List<TagResponse> responses = new ArrayList<>();
 
         for (Tag child : parentTag.getChildren()) {
-            // 각 자식 태그의 퀴즈 개수 조회
-            int quizCount = tagRepository.countQuizzesForTag(child.getId());
             // 동의어 초기화
             Hibernate.initialize(child.getSynonyms());
-            // 응답 생성
-            responses.add(TagResponse.from(child, quizCount));
+            // 응답 생성 (퀴즈 개수는 메모리 캐시에서 조회)
+            responses.add(toResponse(child));
         }
 
         return responses;
     }
-}
\ No newline at end of file
+
+    /**
+     * 태그를 캐시된 퀴즈 수(직접, 하위 태그 포함)와 함께 응답으로 변환합니다.
+     *
+     * @param tag 태그
+     * @return 태그 응답
+     */
+    private TagResponse toResponse(Tag tag) {
+        TagQuizCount count = tagQuizCountCache.get(tag.getId());
+        return TagResponse.from(tag, count.direct(), count.total());
+    }
+}
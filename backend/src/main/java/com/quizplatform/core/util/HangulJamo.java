@@ -0,0 +1,112 @@
+package com.quizplatform.core.util;
+
+import java.util.Map;
+
+/**
+ * 한글 자모 분해 유틸리티
+ *
+ * <p>완성형 음절을 호환 자모(ㄱ, ㅏ 등) 문자열로 분해합니다. 복합 모음(ㅘ)과 겹받침(ㄺ)도
+ * 입력 순서대로 나누므로, 입력 중인 글자("달", "닭"을 치는 중)도 완성된 단어의 접두어가 됩니다.</p>
+ *
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final String CHO = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JUNG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    private static final String JONG = " ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+    /**
+     * 입력 순서대로 나눌 복합 자모
+     */
+    private static final Map<Character, String> COMPOUNDS = Map.ofEntries(
+            Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"),
+            Map.entry('ㅝ', "ㅜㅓ"), Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"),
+            Map.entry('ㅢ', "ㅡㅣ"),
+            Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"),
+            Map.entry('ㄺ', "ㄹㄱ"), Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"),
+            Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"), Map.entry('ㄿ', "ㄹㅍ"),
+            Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ")
+    );
+
+    private HangulJamo() {
+    }
+
+    /**
+     * 문자열을 자모 단위로 분해합니다. 한글이 아닌 문자는 소문자로 그대로 둡니다.
+     *
+     * @param text 원본 문자열
+     * @return 분해된 문자열 (예: "자바" → "ㅈㅏㅂㅏ")
+     */
+    public static String decompose(String text) {
+        StringBuilder result = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                int offset = c - SYLLABLE_BASE;
+                int jong = offset % JONG_COUNT;
+                result.append(CHO.charAt(offset / (JUNG_COUNT * JONG_COUNT)));
+                appendSplit(result, JUNG.charAt((offset / JONG_COUNT) % JUNG_COUNT));
+                if (jong != 0) {
+                    appendSplit(result, JONG.charAt(jong));
+                }
+            } else {
+                appendSplit(result, Character.toLowerCase(c));
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * 음절의 초성만 추출합니다. 한글이 아닌 문자는 소문자로 그대로 둡니다.
+     *
+     * @param text 원본 문자열
+     * @return 초성 문자열 (예: "자바 기초" → "ㅈㅂ ㄱㅊ")
+     */
+    public static String initials(String text) {
+        StringBuilder result = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                result.append(CHO.charAt((c - SYLLABLE_BASE) / (JUNG_COUNT * JONG_COUNT)));
+            } else {
+                result.append(Character.toLowerCase(c));
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * 완성형 한글 음절을 포함하는지 확인합니다.
+     *
+     * @param text 확인할 문자열
+     * @return 포함 여부
+     */
+    public static boolean containsSyllable(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (isSyllable(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BASE && c <= SYLLABLE_LAST;
+    }
+
+    private static void appendSplit(StringBuilder result, char jamo) {
+        String split = COMPOUNDS.get(jamo);
+        if (split != null) {
+            result.append(split);
+        } else {
+            result.append(jamo);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+-- 퀴즈 간 함께 시도된 유사도 이웃 목록 (협업 필터링 추천 모델)
+
+CREATE TABLE IF NOT EXISTS quiz_neighbors (
+    quiz_id     BIGINT           NOT NULL,
+    neighbor_id BIGINT           NOT NULL,
+    similarity  DOUBLE PRECISION NOT NULL,
+    PRIMARY KEY (quiz_id, neighbor_id)
+);
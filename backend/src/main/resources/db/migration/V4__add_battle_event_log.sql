@@ -0,0 +1,14 @@
+-- 배틀 이벤트 로그 (append-only, 바이너리 청크)
+
+CREATE SEQUENCE IF NOT EXISTS battle_event_chunk_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS battle_event_chunks (
+    id             BIGINT PRIMARY KEY,
+    room_id        BIGINT  NOT NULL,
+    chunk_seq      INTEGER NOT NULL,
+    first_event_at BIGINT  NOT NULL,
+    event_count    INTEGER NOT NULL,
+    data           BYTEA   NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_battle_event_chunks_room ON battle_event_chunks (room_id, first_event_at);
@@ -0,0 +1,3 @@
+-- 방 코드로 배틀방 조회 (초대 링크 입장)
+
+CREATE INDEX IF NOT EXISTS idx_battle_rooms_room_code ON battle_rooms (room_code);
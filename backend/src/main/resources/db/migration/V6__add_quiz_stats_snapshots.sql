@@ -0,0 +1,7 @@
+-- 퀴즈 통계 집계 스냅샷 (시도 기록을 읽지 않는 통계 조회)
+
+CREATE TABLE IF NOT EXISTS quiz_stats_snapshots (
+    quiz_id    BIGINT PRIMARY KEY,
+    data       JSONB     NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
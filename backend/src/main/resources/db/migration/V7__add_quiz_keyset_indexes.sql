@@ -0,0 +1,5 @@
+-- 퀴즈 목록 커서(keyset) 페이지네이션: (정렬 키, id) 범위 탐색
+
+CREATE INDEX IF NOT EXISTS idx_quizzes_created_at_id ON quizzes (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_quizzes_avg_score_id ON quizzes (avg_score, id);
+CREATE INDEX IF NOT EXISTS idx_quizzes_attempt_count_id ON quizzes (attempt_count, id);
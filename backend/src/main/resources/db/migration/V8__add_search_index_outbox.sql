@@ -0,0 +1,8 @@
+-- 검색 색인 변경 대기열 (쓰기 트랜잭션과 함께 기록, 색인기가 일괄 반영 후 삭제)
+
+CREATE TABLE IF NOT EXISTS search_index_outbox (
+    id             BIGSERIAL PRIMARY KEY,
+    aggregate_type VARCHAR(20) NOT NULL,
+    aggregate_id   BIGINT      NOT NULL,
+    created_at     TIMESTAMP   NOT NULL DEFAULT now()
+);
@@ -0,0 +1,10 @@
+-- 퀴즈 인기 순위: 주기 작업이 계산한 시간 감쇠 인기도 점수와 순위 조회용 인덱스
+
+ALTER TABLE quizzes ADD COLUMN IF NOT EXISTS popularity_score DOUBLE PRECISION NOT NULL DEFAULT 0;
+
+CREATE INDEX IF NOT EXISTS idx_quizzes_popularity_regular_public
+    ON quizzes (popularity_score DESC, id DESC)
+    WHERE quiz_type = 'REGULAR' AND is_public = true;
+
+-- 최근 시도 가중치 집계 (최근 N일 범위 탐색)
+CREATE INDEX IF NOT EXISTS idx_quiz_attempts_created_at ON quiz_attempts (created_at);
@@ -0,0 +1,112 @@
+package com.quizplatform.core.dto.quiz;
+
+import com.quizplatform.core.domain.quiz.DifficultyLevel;
+import com.quizplatform.core.exception.BusinessException;
+import com.quizplatform.core.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 퀴즈 목록 커서 테스트
+ * 
+ * <p>커서 문자열 인코딩/디코딩 왕복, 정렬 키 정규화, 잘못된 커서 거절을 확인합니다.</p>
+ * 
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+class QuizSearchCursorTest {
+
+	private static final QuizSummaryResponse LAST = QuizSummaryResponse.builder()
+			.id(1234L)
+			.avgScore(72.5)
+			.attemptCount(89)
+			.difficultyLevel(DifficultyLevel.ADVANCED)
+			.createdAt(LocalDateTime.of(2024, 3, 1, 12, 30, 45, 123_000_000))
+			.build();
+
+	/**
+	 * 정렬 키별로 마지막 항목의 값과 ID가 그대로 복원되는지 확인합니다.
+	 */
+	@Test
+	void encodeDecodeRoundTrip() {
+		assertRoundTrip(QuizSearchCursor.SORT_CREATED_AT, LAST.getCreatedAt().toString());
+		assertRoundTrip(QuizSearchCursor.SORT_AVG_SCORE, "72.5");
+		assertRoundTrip(QuizSearchCursor.SORT_ATTEMPT_COUNT, "89");
+		assertRoundTrip(QuizSearchCursor.SORT_DIFFICULTY, "ADVANCED");
+	}
+
+	private static void assertRoundTrip(String sortKey, String expectedValue) {
+		String encoded = QuizSearchCursor.of(sortKey, LAST).encode();
+
+		// URL 쿼리 파라미터로 그대로 전달할 수 있어야 함
+		assertFalse(encoded.contains("+") || encoded.contains("/") || encoded.contains("="), encoded);
+
+		QuizSearchCursor decoded = QuizSearchCursor.decode(encoded, sortKey);
+		assertEquals(sortKey, decoded.getSortKey());
+		assertEquals(expectedValue, decoded.getValue());
+		assertEquals(Long.valueOf(1234L), decoded.getId());
+	}
+
+	/**
+	 * 커서가 없으면 첫 페이지(null)로 처리하는지 확인합니다.
+	 */
+	@Test
+	void missingCursorMeansFirstPage() {
+		assertNull(QuizSearchCursor.decode(null, QuizSearchCursor.SORT_CREATED_AT));
+		assertNull(QuizSearchCursor.decode("  ", QuizSearchCursor.SORT_CREATED_AT));
+	}
+
+	/**
+	 * 다른 정렬 기준으로 발급된 커서를 거절하는지 확인합니다.
+	 */
+	@Test
+	void rejectsCursorFromAnotherSortKey() {
+		String encoded = QuizSearchCursor.of(QuizSearchCursor.SORT_AVG_SCORE, LAST).encode();
+
+		BusinessException exception = assertThrows(BusinessException.class,
+				() -> QuizSearchCursor.decode(encoded, QuizSearchCursor.SORT_CREATED_AT));
+		assertEquals(ErrorCode.INVALID_INPUT_VALUE, exception.getErrorCode());
+	}
+
+	/**
+	 * Base64가 아니거나, 구분자가 없거나, ID가 숫자가 아닌 커서를 거절하는지 확인합니다.
+	 */
+	@Test
+	void rejectsMalformedCursor() {
+		String sortKey = QuizSearchCursor.SORT_CREATED_AT;
+
+		assertInvalid("not base64!", sortKey);
+		assertInvalid(encodeRaw("createdat"), sortKey);
+		assertInvalid(encodeRaw("createdat|2024-03-01T12:30"), sortKey);
+		assertInvalid(encodeRaw("createdat|2024-03-01T12:30|abc"), sortKey);
+	}
+
+	private static void assertInvalid(String encoded, String sortKey) {
+		BusinessException exception = assertThrows(BusinessException.class, () -> QuizSearchCursor.decode(encoded, sortKey));
+		assertEquals(ErrorCode.INVALID_INPUT_VALUE, exception.getErrorCode());
+	}
+
+	private static String encodeRaw(String raw) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * 정렬 기준 문자열이 대소문자와 별칭에 관계없이 정규화되는지 확인합니다.
+	 */
+	@Test
+	void normalizeSortKey() {
+		assertEquals(QuizSearchCursor.SORT_CREATED_AT, QuizSearchCursor.normalizeSortKey(null));
+		assertEquals(QuizSearchCursor.SORT_AVG_SCORE, QuizSearchCursor.normalizeSortKey("avgScore"));
+		assertEquals(QuizSearchCursor.SORT_ATTEMPT_COUNT, QuizSearchCursor.normalizeSortKey("ATTEMPTCOUNT"));
+		assertEquals(QuizSearchCursor.SORT_DIFFICULTY, QuizSearchCursor.normalizeSortKey("difficultyLevel"));
+		assertEquals(QuizSearchCursor.SORT_CREATED_AT, QuizSearchCursor.normalizeSortKey("title"));
+	}
+}
@@ -0,0 +1,93 @@
+package com.quizplatform.core.repository.quiz;
+
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 퀴즈 역색인 조회 결과의 무작위 추출 테스트
+ * 
+ * <p>추출 결과가 중복 없이 결과 집합 안에서 뽑히는지, 각 퀴즈가 고르게 뽑히는지 확인합니다.</p>
+ * 
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+class QuizFacetIndexMatchTest {
+
+	private static QuizFacetIndex.Match matchOf(int... ids) {
+		return new QuizFacetIndex.Match(RoaringBitmap.bitmapOf(ids));
+	}
+
+	/**
+	 * 요청한 개수만큼 중복 없이 결과 집합 안의 ID를 뽑는지 확인합니다.
+	 */
+	@Test
+	void sampleIsDistinctSubset() {
+		QuizFacetIndex.Match match = matchOf(3, 8, 15, 21, 42, 77, 100, 512, 1024, 4096);
+		Set<Long> all = new HashSet<>(match.ids());
+
+		for (int trial = 0; trial < 100; trial++) {
+			List<Long> sample = match.randomSample(4);
+
+			assertEquals(4, sample.size());
+			assertEquals(4, new HashSet<>(sample).size());
+			assertTrue(all.containsAll(sample), sample.toString());
+		}
+	}
+
+	/**
+	 * 결과보다 많이 요청하면 전체를, 0개 이하나 빈 결과면 빈 목록을 반환하는지 확인합니다.
+	 */
+	@Test
+	void sampleSizeIsBoundedByMatchCount() {
+		QuizFacetIndex.Match match = matchOf(5, 6, 7);
+
+		assertEquals(Set.of(5L, 6L, 7L), new HashSet<>(match.randomSample(10)));
+		assertTrue(match.randomSample(0).isEmpty());
+		assertTrue(match.randomSample(-1).isEmpty());
+		assertTrue(matchOf().randomSample(5).isEmpty());
+	}
+
+	/**
+	 * 여러 비트맵 컨테이너에 흩어진 ID도 순위로 정확히 찾는지 확인합니다.
+	 */
+	@Test
+	void sampleResolvesSparseIds() {
+		QuizFacetIndex.Match match = matchOf(1, 70_000, 1 << 20, Integer.MAX_VALUE);
+
+		assertEquals(Set.of(1L, 70_000L, (long) (1 << 20), (long) Integer.MAX_VALUE), new HashSet<>(match.randomSample(4)));
+	}
+
+	/**
+	 * 모든 퀴즈가 비슷한 확률(limit / count)로 뽑히는지 확인합니다.
+	 */
+	@Test
+	void sampleIsRoughlyUniform() {
+		int[] ids = new int[10];
+		for (int i = 0; i < ids.length; i++) {
+			ids[i] = i * 10;
+		}
+		QuizFacetIndex.Match match = matchOf(ids);
+
+		int trials = 20_000;
+		Map<Long, Integer> hits = new HashMap<>();
+		for (int trial = 0; trial < trials; trial++) {
+			match.randomSample(3).forEach(id -> hits.merge(id, 1, Integer::sum));
+		}
+
+		// 기대값 6000회, 표준편차 약 65회
+		int expected = trials * 3 / ids.length;
+		for (int id : ids) {
+			int count = hits.getOrDefault((long) id, 0);
+			assertTrue(Math.abs(count - expected) < expected / 10, "id=" + id + ", count=" + count);
+		}
+	}
+}
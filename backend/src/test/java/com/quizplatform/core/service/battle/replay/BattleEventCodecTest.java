@@ -0,0 +1,91 @@
+package com.quizplatform.core.service.battle.replay;
+
+import com.quizplatform.core.domain.battle.BattleEventType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 배틀 이벤트 바이너리 인코더/디코더 테스트
+ * 
+ * <p>인코딩한 청크를 디코딩하면 원래 이벤트가 복원되는지, 손상된 데이터를 거절하는지 확인합니다.</p>
+ * 
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+class BattleEventCodecTest {
+
+	private static final long BASE_TIME = 1_700_000_000_000L;
+
+	/**
+	 * 모든 필드(없는 사용자, 없는 문제 인덱스, 음수 값, 정답 여부)가 그대로 복원되는지 확인합니다.
+	 */
+	@Test
+	void roundTripPreservesAllFields() {
+		List<BattleEvent> events = List.of(
+				new BattleEvent(BattleEventType.JOIN, BASE_TIME, 42L, -1, 0, false),
+				new BattleEvent(BattleEventType.START, BASE_TIME + 1500, null, -1, 4, false),
+				new BattleEvent(BattleEventType.QUESTION_START, BASE_TIME + 1500, null, 0, 0, false),
+				new BattleEvent(BattleEventType.ANSWER, BASE_TIME + 4321, 42L, 0, 120, true),
+				new BattleEvent(BattleEventType.ANSWER, BASE_TIME + 5000, 9_000_000_000L, 0, -30, false),
+				new BattleEvent(BattleEventType.END, BASE_TIME + 60_000, 42L, -1, Integer.MIN_VALUE, false));
+
+		List<BattleEvent> decoded = BattleEventCodec.decode(BattleEventCodec.encode(events, BASE_TIME), BASE_TIME);
+
+		assertEquals(events, decoded);
+	}
+
+	/**
+	 * 일반적인 답변 이벤트가 8바이트 이내로 저장되는지 확인합니다.
+	 */
+	@Test
+	void typicalEventFitsInEightBytes() {
+		List<BattleEvent> events = List.of(new BattleEvent(BattleEventType.ANSWER, BASE_TIME + 3000, 12345L, 7, 150, true));
+
+		byte[] data = BattleEventCodec.encode(events, BASE_TIME);
+
+		// 버전 1바이트 제외
+		assertTrue(data.length - 1 <= 8, "인코딩 크기: " + (data.length - 1));
+	}
+
+	/**
+	 * 발생 시각이 앞선 이벤트보다 이르면 앞선 이벤트의 시각으로 맞춰지는지 확인합니다. (음수 간격은 저장하지 않음)
+	 */
+	@Test
+	void earlierTimestampIsClampedToPrevious() {
+		List<BattleEvent> events = List.of(
+				new BattleEvent(BattleEventType.JOIN, BASE_TIME + 100, 1L, -1, 0, false),
+				new BattleEvent(BattleEventType.JOIN, BASE_TIME + 50, 2L, -1, 0, false));
+
+		List<BattleEvent> decoded = BattleEventCodec.decode(BattleEventCodec.encode(events, BASE_TIME), BASE_TIME);
+
+		assertEquals(BASE_TIME + 100, decoded.get(1).occurredAt());
+	}
+
+	/**
+	 * 지원하지 않는 버전, 알 수 없는 이벤트 코드, 잘린 데이터를 거절하는지 확인합니다.
+	 */
+	@Test
+	void rejectsCorruptedData() {
+		byte[] data = BattleEventCodec.encode(
+				List.of(new BattleEvent(BattleEventType.ANSWER, BASE_TIME + 300_000, 77L, 3, 100, true)), BASE_TIME);
+
+		byte[] wrongVersion = data.clone();
+		wrongVersion[0] = 9;
+		assertThrows(IllegalArgumentException.class, () -> BattleEventCodec.decode(wrongVersion, BASE_TIME));
+
+		byte[] unknownType = data.clone();
+		unknownType[1] = 0x0F;
+		assertThrows(IllegalArgumentException.class, () -> BattleEventCodec.decode(unknownType, BASE_TIME));
+
+		byte[] truncated = Arrays.copyOf(data, data.length - 1);
+		assertThrows(IllegalArgumentException.class, () -> BattleEventCodec.decode(truncated, BASE_TIME));
+
+		assertThrows(IllegalArgumentException.class, () -> BattleEventCodec.decode(new byte[0], BASE_TIME));
+	}
+}
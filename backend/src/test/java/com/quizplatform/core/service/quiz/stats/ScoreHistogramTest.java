@@ -0,0 +1,106 @@
+package com.quizplatform.core.service.quiz.stats;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 점수 분포 테스트
+ * 
+ * <p>백분위 순위, 백분위수, 병합, 구간 집계가 점수 목록을 직접 정렬한 결과와 같은지 확인합니다.</p>
+ * 
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+class ScoreHistogramTest {
+
+	private static ScoreHistogram histogramOf(int... scores) {
+		ScoreHistogram histogram = new ScoreHistogram();
+		for (int score : scores) {
+			histogram.add(score);
+		}
+		return histogram;
+	}
+
+	/**
+	 * 주어진 점수보다 낮은 점수의 비율을 소수 첫째 자리까지 반환하는지 확인합니다.
+	 */
+	@Test
+	void percentileRankCountsStrictlyLowerScores() {
+		ScoreHistogram histogram = histogramOf(10, 20, 30, 30, 40, 100);
+
+		assertEquals(Double.valueOf(0.0), histogram.percentileRank(10));
+		assertEquals(Double.valueOf(33.3), histogram.percentileRank(30));
+		assertEquals(Double.valueOf(66.7), histogram.percentileRank(31));
+		assertEquals(Double.valueOf(83.3), histogram.percentileRank(100));
+	}
+
+	/**
+	 * 기록이 없으면 백분위 순위는 null, 백분위수는 0인지 확인합니다.
+	 */
+	@Test
+	void emptyHistogram() {
+		ScoreHistogram histogram = new ScoreHistogram();
+
+		assertNull(histogram.percentileRank(50));
+		assertEquals(0, histogram.quantile(0.5));
+		assertEquals(0L, histogram.total());
+	}
+
+	/**
+	 * 범위를 벗어난 점수가 0점/100점 구간으로 보정되는지 확인합니다.
+	 */
+	@Test
+	void outOfRangeScoresAreClamped() {
+		ScoreHistogram histogram = histogramOf(-5, 150);
+
+		assertEquals(2L, histogram.total());
+		assertEquals(0, histogram.quantile(0.0));
+		assertEquals(100, histogram.quantile(1.0));
+		assertEquals(Double.valueOf(50.0), histogram.percentileRank(200));
+	}
+
+	/**
+	 * 백분위수가 누적 개수가 해당 순위에 처음 도달하는 점수인지 확인합니다.
+	 */
+	@Test
+	void quantileReturnsFirstScoreReachingRank() {
+		ScoreHistogram histogram = histogramOf(10, 20, 30, 40);
+
+		assertEquals(10, histogram.quantile(0.0));
+		assertEquals(10, histogram.quantile(0.25));
+		assertEquals(20, histogram.quantile(0.5));
+		assertEquals(40, histogram.quantile(0.9));
+		assertEquals(40, histogram.quantile(1.5));
+	}
+
+	/**
+	 * 병합 결과가 두 분포의 점수를 한 번에 추가한 것과 같은지 확인합니다.
+	 */
+	@Test
+	void mergeMatchesCombinedScores() {
+		ScoreHistogram merged = histogramOf(10, 55, 90);
+		merged.merge(histogramOf(55, 70));
+		merged.merge(null);
+
+		ScoreHistogram combined = histogramOf(10, 55, 90, 55, 70);
+
+		assertEquals(combined.total(), merged.total());
+		assertEquals(combined.bands(10), merged.bands(10));
+		assertEquals(combined.percentileRank(70), merged.percentileRank(70));
+	}
+
+	/**
+	 * 구간 집계에서 100점이 마지막 구간에 포함되는지 확인합니다.
+	 */
+	@Test
+	void bandsIncludePerfectScoreInLastBand() {
+		ScoreHistogram histogram = histogramOf(0, 9, 10, 95, 100);
+
+		assertEquals(List.of(2L, 1L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 2L), histogram.bands(10));
+		assertEquals(List.of(3L, 2L), histogram.bands(50));
+	}
+}
@@ -0,0 +1,106 @@
+package com.quizplatform.core.service.tag.autocomplete;
+
+import com.quizplatform.core.dto.tag.TagSuggestionResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 태그 자동완성 색인 테스트
+ * 
+ * <p>완성형/입력 중인 자모/초성/중간 단어/동의어 검색과 퀴즈 수 기준 순위를 확인합니다.</p>
+ * 
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+class TagAutocompleteIndexTest {
+
+	private static final TagAutocompleteIndex INDEX = TagAutocompleteIndex.build(List.of(
+			entry(1L, "자바", 30),
+			entry(2L, "자바스크립트", 50, "JS"),
+			entry(3L, "스프링 부트", 20, "Spring Boot"),
+			entry(4L, "자료구조", 10),
+			entry(5L, "자바 기초", 10),
+			entry(6L, "Kotlin", 5)
+	), 10);
+
+	private static TagAutocompleteIndex.Entry entry(Long id, String name, int quizCount, String... synonyms) {
+		List<String> terms = new ArrayList<>(List.of(synonyms));
+		terms.add(0, name);
+		return new TagAutocompleteIndex.Entry(new TagSuggestionResponse(id, name, null, quizCount), terms);
+	}
+
+	private static List<String> names(String query, int limit) {
+		return INDEX.suggest(query, limit).stream().map(TagSuggestionResponse::getName).toList();
+	}
+
+	/**
+	 * 완성형 검색어는 접두어가 같은 태그를 퀴즈 수 내림차순(같으면 이름순)으로 반환하는지 확인합니다.
+	 */
+	@Test
+	void syllablePrefixOrderedByQuizCount() {
+		assertEquals(List.of("자바스크립트", "자바", "자료구조", "자바 기초"), names("자", 10));
+		assertEquals(List.of("자바스크립트", "자바", "자바 기초"), names("자바", 10));
+	}
+
+	/**
+	 * 받침을 입력하는 중인 글자("잡")도 다음 음절의 초성으로 이어지는 태그와 일치하는지 확인합니다.
+	 */
+	@Test
+	void syllableInProgressMatches() {
+		assertEquals(List.of("자바스크립트", "자바", "자바 기초"), names("잡", 10));
+		assertEquals(List.of("자료구조"), names("잘", 10));
+	}
+
+	/**
+	 * 초성 검색을 확인합니다.
+	 */
+	@Test
+	void initialsMatch() {
+		assertEquals(List.of("자바스크립트", "자바", "자바 기초"), names("ㅈㅂ", 10));
+		assertEquals(List.of("자료구조"), names("ㅈㄹㄱ", 10));
+		assertEquals(List.of("스프링 부트"), names("ㅅㅍㄹ", 10));
+	}
+
+	/**
+	 * 여러 단어로 된 이름의 중간 단어와 동의어(대소문자 무시)로 찾을 수 있는지 확인합니다.
+	 */
+	@Test
+	void middleWordAndSynonymMatch() {
+		assertEquals(List.of("스프링 부트"), names("부트", 10));
+		assertEquals(List.of("자바 기초"), names("기초", 10));
+		assertEquals(List.of("스프링 부트"), names("spring b", 10));
+		assertEquals(List.of("스프링 부트"), names("BOOT", 10));
+		assertEquals(List.of("자바스크립트"), names("js", 10));
+		assertEquals(List.of("Kotlin"), names("kot", 10));
+	}
+
+	/**
+	 * 결과 개수 제한과 노드별 최대 후보 수를 확인합니다.
+	 */
+	@Test
+	void limitsResults() {
+		assertEquals(List.of("자바스크립트", "자바"), names("자", 2));
+
+		TagAutocompleteIndex small = TagAutocompleteIndex.build(List.of(
+				entry(1L, "자바", 30), entry(2L, "자바스크립트", 50), entry(4L, "자료구조", 10)), 2);
+		assertEquals(2, small.suggest("자", 10).size());
+		assertEquals(3, small.size());
+	}
+
+	/**
+	 * 일치하지 않거나 비어 있는 검색어는 빈 목록을 반환하는지 확인합니다.
+	 */
+	@Test
+	void noMatch() {
+		assertTrue(INDEX.suggest("파이썬", 10).isEmpty());
+		assertTrue(INDEX.suggest("자바스크립트 심화", 10).isEmpty());
+		assertTrue(INDEX.suggest("  ", 10).isEmpty());
+		assertTrue(INDEX.suggest(null, 10).isEmpty());
+		assertTrue(TagAutocompleteIndex.EMPTY.suggest("자", 10).isEmpty());
+	}
+}
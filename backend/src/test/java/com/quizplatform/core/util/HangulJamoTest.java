@@ -0,0 +1,84 @@
+package com.quizplatform.core.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 한글 자모 분해 유틸리티 테스트
+ * 
+ * @author 채기훈
+ * @since JDK 21 eclipse temurin 21.0.6
+ */
+class HangulJamoTest {
+
+	/**
+	 * 완성형 음절이 초성/중성/종성 자모로 분해되는지 확인합니다.
+	 */
+	@Test
+	void decomposeSyllables() {
+		assertEquals("ㅈㅏㅂㅏ", HangulJamo.decompose("자바"));
+		assertEquals("ㅎㅏㄴㄱㅡㄹ", HangulJamo.decompose("한글"));
+	}
+
+	/**
+	 * 복합 모음과 겹받침이 입력 순서대로 나뉘는지 확인합니다.
+	 */
+	@Test
+	void decomposeSplitsCompoundJamo() {
+		assertEquals("ㄱㅗㅏ", HangulJamo.decompose("과"));
+		assertEquals("ㅇㅡㅣ", HangulJamo.decompose("의"));
+		assertEquals("ㄷㅏㄹㄱ", HangulJamo.decompose("닭"));
+		assertEquals("ㄱㅏㅂㅅ", HangulJamo.decompose("값"));
+		// 낱자로 입력된 복합 자모도 같은 방식으로 분해
+		assertEquals("ㅗㅏㄹㄱ", HangulJamo.decompose("ㅘㄺ"));
+	}
+
+	/**
+	 * 입력 중인 글자가 완성된 단어 분해 결과의 접두어가 되는지 확인합니다.
+	 */
+	@Test
+	void typingInProgressIsPrefix() {
+		String word = HangulJamo.decompose("닭갈비");
+		for (String typing : new String[]{"ㄷ", "다", "달", "닭", "닭ㄱ", "닭가", "닭갈"}) {
+			assertTrue(word.startsWith(HangulJamo.decompose(typing)), typing);
+		}
+
+		String compoundVowel = HangulJamo.decompose("관리");
+		for (String typing : new String[]{"고", "과", "관", "관ㄹ", "관리"}) {
+			assertTrue(compoundVowel.startsWith(HangulJamo.decompose(typing)), typing);
+		}
+	}
+
+	/**
+	 * 한글이 아닌 문자는 소문자로 그대로 남는지 확인합니다.
+	 */
+	@Test
+	void nonHangulIsLowercased() {
+		assertEquals("java 8", HangulJamo.decompose("Java 8"));
+		assertEquals("springㅂㅜㅌㅡ", HangulJamo.decompose("Spring부트"));
+	}
+
+	/**
+	 * 초성 추출 결과를 확인합니다.
+	 */
+	@Test
+	void initials() {
+		assertEquals("ㅈㅂ ㄱㅊ", HangulJamo.initials("자바 기초"));
+		assertEquals("spring ㅂㅌ", HangulJamo.initials("Spring 부트"));
+		assertEquals("ㄲㅉ", HangulJamo.initials("깜짝"));
+	}
+
+	/**
+	 * 완성형 음절 포함 여부를 확인합니다. (낱자 자모는 음절이 아님)
+	 */
+	@Test
+	void containsSyllable() {
+		assertTrue(HangulJamo.containsSyllable("java 자바"));
+		assertFalse(HangulJamo.containsSyllable("ㅈㅂ"));
+		assertFalse(HangulJamo.containsSyllable("java"));
+		assertFalse(HangulJamo.containsSyllable(""));
+	}
+}